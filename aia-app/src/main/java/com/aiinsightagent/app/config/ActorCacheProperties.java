@@ -0,0 +1,40 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = ActorCacheProperties.PROPERTY_PREFIX)
+public class ActorCacheProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.cache.actor";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static ActorCacheProperties instance = new ActorCacheProperties();
+
+	/**
+	 * 접근 주체 캐시 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 최대 캐시 항목 수
+	 */
+	private long maximumSize = 10000;
+
+	/**
+	 * 캐시 항목 유지 시간 (저장 시점 기준)
+	 */
+	private Duration ttl = Duration.ofHours(1);
+}
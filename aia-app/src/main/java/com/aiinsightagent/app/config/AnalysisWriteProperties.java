@@ -0,0 +1,50 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = AnalysisWriteProperties.PROPERTY_PREFIX)
+public class AnalysisWriteProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.persistence.write";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static AnalysisWriteProperties instance = new AnalysisWriteProperties();
+
+	/**
+	 * 여러 요청의 분석 결과 저장을 한 트랜잭션/JDBC 배치로 묶을지 여부 (false 면 요청 스레드에서 바로 저장)
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 저장 대기열 최대 크기 (가득 차면 요청 스레드에서 바로 저장)
+	 */
+	private int queueCapacity = 1000;
+
+	/**
+	 * 한 트랜잭션에 묶는 최대 요청 수
+	 */
+	private int batchSize = 50;
+
+	/**
+	 * 요청 스레드가 저장 완료를 기다리는 최대 시간
+	 */
+	private Duration writeTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * 저장 스레드가 이미 가져간 요청의 커밋을 writeTimeout 이후 추가로 기다리는 최대 시간 (초과 시 취소하고 오류)
+	 */
+	private Duration commitTimeout = Duration.ofSeconds(30);
+}
@@ -0,0 +1,87 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = CallbackProperties.PROPERTY_PREFIX)
+public class CallbackProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.callback";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static CallbackProperties instance = new CallbackProperties();
+
+	/**
+	 * 콜백 전송 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 전송 스레드 수 (동시 전송 수)
+	 */
+	private int workerCount = 4;
+
+	/**
+	 * 전송 대기열 최대 크기
+	 */
+	private int queueCapacity = 100;
+
+	/**
+	 * 최대 전송 시도 횟수
+	 */
+	private int maxAttempts = 5;
+
+	/**
+	 * 첫 재시도 대기 시간 (이후 시도마다 2배씩 증가)
+	 */
+	private Duration initialBackoff = Duration.ofSeconds(2);
+
+	/**
+	 * 최대 재시도 대기 시간
+	 */
+	private Duration maxBackoff = Duration.ofMinutes(5);
+
+	/**
+	 * 전송 선점 유지 시간 (인스턴스 중단 시 이후 재전송 대상이 됨)
+	 */
+	private Duration leaseDuration = Duration.ofSeconds(60);
+
+	/**
+	 * Outbox 폴링 주기 (ms)
+	 */
+	private long pollIntervalMs = 5000;
+
+	/**
+	 * 연결 타임아웃
+	 */
+	private Duration connectTimeout = Duration.ofSeconds(3);
+
+	/**
+	 * 읽기 타임아웃
+	 */
+	private Duration readTimeout = Duration.ofSeconds(10);
+
+	/**
+	 * 콜백 허용 호스트 목록 (비어 있으면 모든 호스트 허용, '.example.com' 형식은 하위 도메인 허용)
+	 */
+	private List<String> allowedHosts = new ArrayList<>();
+
+	/**
+	 * 루프백/링크 로컬/사설 대역 주소로의 콜백 허용 여부 (내부 서버 호출 방지를 위해 기본 차단)
+	 */
+	private boolean allowPrivateAddresses = false;
+}
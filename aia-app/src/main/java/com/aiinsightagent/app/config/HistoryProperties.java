@@ -0,0 +1,38 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = HistoryProperties.PROPERTY_PREFIX)
+public class HistoryProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.history";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static HistoryProperties instance = new HistoryProperties();
+
+	/**
+	 * size 미지정 시 페이지당 원본 데이터 수
+	 */
+	private int defaultPageSize = 100;
+
+	/**
+	 * 페이지당 최대 원본 데이터 수 (초과 요청은 이 값으로 제한)
+	 */
+	private int maxPageSize = 1000;
+
+	/**
+	 * NDJSON 스트리밍 시 한 번에 조회할 원본 데이터 수
+	 */
+	private int streamChunkSize = 500;
+}
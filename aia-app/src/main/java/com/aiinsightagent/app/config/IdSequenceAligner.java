@@ -0,0 +1,54 @@
+package com.aiinsightagent.app.config;
+
+import com.aiinsightagent.app.entity.IdSequence;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키 시퀀스 정렬
+ * - IDENTITY 키로 적재된 기존 테이블에 시퀀스가 새로 생성되면 1 부터 시작해 기존 키와 충돌하므로,
+ *   기동 시(스키마 갱신 이후, 요청 수신 이전) 시퀀스가 최대 키 이후의 블록을 내주도록 재시작
+ * - pooled 옵티마이저는 시퀀스 값 v 에 대해 (v - ALLOCATION_SIZE, v] 구간을 사용하므로 v >= 최대 키 + ALLOCATION_SIZE 여야 안전
+ * - 값 확인에 시퀀스 한 블록을 소모하지만 키 공백만 생길 뿐 중복은 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceAligner implements SmartInitializingSingleton {
+	private final JdbcTemplate jdbcTemplate;
+	// 스키마 갱신(ddl-auto)이 끝난 뒤 실행되도록 의존
+	private final EntityManagerFactory entityManagerFactory;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		for (IdSequence sequence : IdSequence.values()) {
+			align(sequence);
+		}
+	}
+
+	/**
+	 * @return 시퀀스를 재시작했으면 true
+	 */
+	public boolean align(IdSequence sequence) {
+		Long maxId = jdbcTemplate.queryForObject(
+				"select coalesce(max(" + sequence.getIdColumn() + "), 0) from " + sequence.getTableName(), Long.class);
+		if (maxId == null || maxId == 0) {
+			return false;
+		}
+
+		Long next = jdbcTemplate.queryForObject("select next value for " + sequence.getSequenceName(), Long.class);
+		long safeNext = maxId + IdSequence.ALLOCATION_SIZE;
+		if (next != null && next >= safeNext) {
+			return false;
+		}
+
+		jdbcTemplate.execute("alter sequence " + sequence.getSequenceName() + " restart with " + safeNext);
+		log.info("Id sequence realigned: sequence={}, maxId={}, next={}, restartWith={}",
+				sequence.getSequenceName(), maxId, next, safeNext);
+		return true;
+	}
+}
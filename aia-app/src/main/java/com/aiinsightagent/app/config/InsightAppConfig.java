@@ -0,0 +1,14 @@
+package com.aiinsightagent.app.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({CallbackProperties.class, ResultReuseProperties.class,
+		TokenUsageLedgerProperties.class, TokenQuotaProperties.class, AnalysisWriteProperties.class,
+		ActorCacheProperties.class, PreparedContextCacheProperties.class,
+		HistoryProperties.class, PayloadCompressionProperties.class})
+public class InsightAppConfig {
+}
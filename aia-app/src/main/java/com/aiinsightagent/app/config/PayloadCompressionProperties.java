@@ -0,0 +1,53 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = PayloadCompressionProperties.PROPERTY_PREFIX)
+public class PayloadCompressionProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.persistence.compression";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static PayloadCompressionProperties instance = new PayloadCompressionProperties();
+
+	/**
+	 * 페이로드 압축 저장 여부 (false 면 헤더만 붙여 원문 저장, 읽기는 항상 모든 형식 지원)
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * Deflate 압축 레벨 (1: 가장 빠름 ~ 9: 가장 작음)
+	 */
+	private int level = 1;
+
+	/**
+	 * 이 크기(바이트) 미만의 페이로드는 압축하지 않음
+	 */
+	private int minSize = 256;
+
+	/**
+	 * 기존 평문 행을 압축 컬럼으로 옮기는 백그라운드 마이그레이션 사용 여부
+	 */
+	private boolean migrationEnabled = true;
+
+	/**
+	 * 마이그레이션 1회 처리 행 수 (테이블별)
+	 */
+	private int migrationBatchSize = 200;
+
+	/**
+	 * 마이그레이션 실행 주기 (밀리초)
+	 */
+	private long migrationIntervalMs = 1000;
+}
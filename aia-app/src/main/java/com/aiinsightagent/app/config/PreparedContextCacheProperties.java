@@ -0,0 +1,55 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = PreparedContextCacheProperties.PROPERTY_PREFIX)
+public class PreparedContextCacheProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.cache.prepared-context";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static PreparedContextCacheProperties instance = new PreparedContextCacheProperties();
+
+	/**
+	 * 사전 컨텍스트 프롬프트 텍스트 캐시 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 최대 캐시 항목 수
+	 */
+	private long maximumSize = 10000;
+
+	/**
+	 * 캐시 항목 유지 시간 (저장 시점 기준)
+	 */
+	private Duration ttl = Duration.ofMinutes(30);
+
+	/**
+	 * 다른 인스턴스의 변경 반영 여부 (캐시된 항목의 버전을 주기적으로 DB 와 비교)
+	 */
+	private boolean syncEnabled = false;
+
+	/**
+	 * 버전 비교 주기 (밀리초)
+	 */
+	private long syncIntervalMs = 5000;
+
+	/**
+	 * 버전 비교 1회 조회당 주체 수
+	 */
+	private int syncChunkSize = 500;
+}
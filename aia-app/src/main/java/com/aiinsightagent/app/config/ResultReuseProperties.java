@@ -0,0 +1,35 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = ResultReuseProperties.PROPERTY_PREFIX)
+public class ResultReuseProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.cache.result";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static ResultReuseProperties instance = new ResultReuseProperties();
+
+	/**
+	 * 저장된 분석 결과 재사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 재사용 가능한 결과의 최대 경과 시간
+	 */
+	private Duration freshness = Duration.ofHours(1);
+}
@@ -0,0 +1,64 @@
+package com.aiinsightagent.app.config;
+
+import com.aiinsightagent.app.enums.ActorType;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = TokenQuotaProperties.PROPERTY_PREFIX)
+public class TokenQuotaProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.usage.quota";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static TokenQuotaProperties instance = new TokenQuotaProperties();
+
+	/**
+	 * 토큰 쿼터 적용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 주체별 일일 토큰 한도 기본값 (0 이하면 무제한)
+	 */
+	private long dailyTokens = 0;
+
+	/**
+	 * 주체 유형별 일일 토큰 한도 (기본값보다 우선)
+	 */
+	private Map<ActorType, Long> actorTypes = new EnumMap<>(ActorType.class);
+
+	/**
+	 * 주체 키별 일일 토큰 한도 (유형별 한도보다 우선)
+	 */
+	private Map<String, Long> actors = new HashMap<>();
+
+	/**
+	 * 저장된 사용량과 메모리 카운터 동기화 주기 (ms)
+	 */
+	private long reconcileIntervalMs = 60000;
+
+	/**
+	 * 주체에 적용할 일일 한도 (주체 키 > 유형 > 기본값)
+	 */
+	public long getDailyLimit(String actorKey, ActorType actorType) {
+		Long limit = actors.get(actorKey);
+		if (limit == null && actorType != null) {
+			limit = actorTypes.get(actorType);
+		}
+		return limit != null ? limit : dailyTokens;
+	}
+}
@@ -0,0 +1,43 @@
+package com.aiinsightagent.app.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = TokenUsageLedgerProperties.PROPERTY_PREFIX)
+public class TokenUsageLedgerProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.usage.ledger";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static TokenUsageLedgerProperties instance = new TokenUsageLedgerProperties();
+
+	/**
+	 * 토큰 원장 기록 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 쓰기 버퍼 최대 크기 (가득 차면 새 기록은 버리고 메트릭으로 집계)
+	 */
+	private int bufferCapacity = 10000;
+
+	/**
+	 * JDBC 배치 크기
+	 */
+	private int batchSize = 500;
+
+	/**
+	 * 버퍼 적재 주기 (ms)
+	 */
+	private long flushIntervalMs = 1000;
+}
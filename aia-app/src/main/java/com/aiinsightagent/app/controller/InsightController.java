@@ -2,19 +2,27 @@ package com.aiinsightagent.app.controller;
 
 
 import com.aiinsightagent.app.service.InsightService;
+import com.aiinsightagent.core.model.InsightHistoryQuery;
 import com.aiinsightagent.core.model.InsightHistoryResponse;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.InsightResultHistoryResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
 
 @Slf4j
 @Tag(name = InsightController.TAG, description = "데이터 분석 요청 API")
@@ -32,10 +40,62 @@ public class InsightController {
 		return insightService.requestInsight(data);
 	}
 
-	@Operation(summary = "Data Analysis - Get History")
+	@Operation(summary = "Data Analysis - Get History (최신순, nextCursor 로 다음 페이지 조회)")
 	@GetMapping("analysis/history")
-	public InsightHistoryResponse getHistory(@RequestParam String userId) {
-		return insightService.getHistory(userId);
+	public InsightHistoryResponse getHistory(
+			@RequestParam String userId,
+			@RequestParam(required = false) String purpose,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return insightService.getHistory(InsightHistoryQuery.builder()
+				.userId(userId)
+				.purpose(purpose)
+				.from(from)
+				.to(to)
+				.cursor(cursor)
+				.size(size)
+				.build());
+	}
+
+	@Operation(summary = "Data Analysis - Get History with Results (원본 입력 + 분석 결과, nextCursor 로 다음 페이지 조회)")
+	@GetMapping("analysis/history/results")
+	public InsightResultHistoryResponse getHistoryWithResults(
+			@RequestParam String userId,
+			@RequestParam(required = false) String purpose,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size) {
+		return insightService.getHistoryWithResults(InsightHistoryQuery.builder()
+				.userId(userId)
+				.purpose(purpose)
+				.from(from)
+				.to(to)
+				.cursor(cursor)
+				.size(size)
+				.build());
+	}
+
+	@Operation(summary = "Data Analysis - Stream History (NDJSON, 한 줄에 InsightRecord 하나)")
+	@GetMapping(value = "analysis/history/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamHistory(
+			@RequestParam String userId,
+			@RequestParam(required = false) String purpose,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+			@RequestParam(required = false) String cursor) {
+		StreamingResponseBody body = insightService.streamHistory(InsightHistoryQuery.builder()
+				.userId(userId)
+				.purpose(purpose)
+				.from(from)
+				.to(to)
+				.cursor(cursor)
+				.build());
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(body);
 	}
 
 	@Operation(summary = "[테스트용] 단건(DataKey 기준) Data Analysis")
@@ -0,0 +1,36 @@
+package com.aiinsightagent.app.controller;
+
+import com.aiinsightagent.app.enums.UsageRollupType;
+import com.aiinsightagent.app.service.TokenUsageLedgerService;
+import com.aiinsightagent.core.model.TokenUsageRollup;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = UsageController.TAG, description = "토큰 사용량 조회 API")
+@RequiredArgsConstructor
+@RestController
+@RequestMapping(UsageController.PATH)
+public class UsageController {
+	public static final String TAG = "Token Usage API";
+	public static final String PATH = "/api/v1/usage";
+
+	private final TokenUsageLedgerService ledgerService;
+
+	@Operation(summary = "토큰 사용량 집계 (일별/주체별/키별)")
+	@GetMapping("rollup")
+	public List<TokenUsageRollup> rollup(
+			@RequestParam(defaultValue = "DAY") UsageRollupType groupBy,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+			@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+		return ledgerService.rollup(groupBy, from, to);
+	}
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.Getter;
 
@@ -19,7 +20,8 @@ import java.time.LocalDateTime;
 @Table(name = "actor")
 public class Actor {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "actor_seq")
+	@SequenceGenerator(name = "actor_seq", sequenceName = "actor_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long actorId;
 
 	@Column(nullable = false, unique = true)
@@ -51,4 +53,15 @@ public class Actor {
 	public static Actor create(String actorKey) {
 		return new Actor(actorKey, ActorType.DEVICE, ActorStatus.ACTIVE);
 	}
+
+	/**
+	 * 이미 저장된 주체 (DB 조회 없이 알고 있는 값으로 만든 분리 상태 인스턴스 - 연관관계/조회 조건에는 ID 만 사용됨)
+	 */
+	public static Actor of(Long actorId, String actorKey, ActorType actorType, ActorStatus status,
+						   LocalDateTime regDate) {
+		Actor actor = new Actor(actorKey, actorType, status);
+		actor.actorId = actorId;
+		actor.regDate = regDate;
+		return actor;
+	}
 }
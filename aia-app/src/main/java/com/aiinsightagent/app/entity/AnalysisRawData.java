@@ -2,27 +2,39 @@ package com.aiinsightagent.app.entity;
 
 import com.aiinsightagent.app.enums.InputType;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Getter
 @Entity
-@Table(name = "analysis_row_data")
+@Table(name = "analysis_row_data", indexes = {
+		@Index(name = "idx_analysis_row_data_payload_hash", columnList = "actor_id, purpose, payloadHash"),
+		@Index(name = "idx_analysis_row_data_actor_reg_date", columnList = "actor_id, regDate, inputId")
+})
 public class AnalysisRawData {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_row_data_seq")
+	@SequenceGenerator(name = "analysis_row_data_seq", sequenceName = "analysis_row_data_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long inputId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -36,21 +48,105 @@ public class AnalysisRawData {
 	@Column(nullable = false)
 	private String purpose;
 
-	@Lob
-	@Column(nullable = false, columnDefinition = "LONGTEXT")
+	/**
+	 * 내용 주소 저장 도입 전 원본 페이로드 (코덱 헤더 + 압축 바이너리), 신규 행은 payload_blob 참조
+	 * (PayloadCompressionMigrator 가 payload_blob 으로 옮긴 뒤 null)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Convert(converter = CompressedPayloadConverter.class)
+	@Column(name = "raw_payload_data", columnDefinition = "LONGBLOB")
 	private String rawPayload;
 
+	/**
+	 * 압축 저장 도입 전 평문 페이로드 (PayloadCompressionMigrator 가 payload_blob 으로 옮긴 뒤 null)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Lob
+	@Column(name = "raw_payload", columnDefinition = "LONGTEXT")
+	private String legacyRawPayload;
+
+	/**
+	 * 정규화된 요청 지문 (SHA-256 hex) - 동일 요청 조회용
+	 */
+	@Column(length = 64)
+	private String payloadHash;
+
+	/**
+	 * 분석에 사용한 사전 컨텍스트 SHA-256 (hex) - 컨텍스트가 바뀐 뒤 이전 결과를 재사용하지 않도록 조회 조건에 포함
+	 */
+	@Column(length = 64)
+	private String contextHash;
+
+	/**
+	 * 원본 페이로드 SHA-256 (hex) - payload_blob 키
+	 */
+	@Column(name = "content_hash", length = 64)
+	private String contentHash;
+
+	/**
+	 * 참조 페이로드 (페이로드는 원본 데이터보다 먼저 JDBC 로 저장하므로 FK 제약 없음)
+	 */
+	@Getter(AccessLevel.NONE)
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "content_hash", insertable = false, updatable = false,
+			foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+	private PayloadBlob payloadBlob;
+
+	/**
+	 * 저장 전 원본 페이로드 (PayloadBlobService 가 payload_blob 에 기록)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Transient
+	private String pendingPayload;
+
 	@Column(nullable = false)
 	private LocalDateTime regDate;
 
+	public String getRawPayload() {
+		if (pendingPayload != null) {
+			return pendingPayload;
+		}
+		if (contentHash != null && payloadBlob != null) {
+			return payloadBlob.getPayload();
+		}
+		return rawPayload != null ? rawPayload : legacyRawPayload;
+	}
+
 	protected AnalysisRawData() {
 	}
 
+	/**
+	 * 저장된 페이로드 연결 (같은 영속성 컨텍스트에서 다시 조회해도 참조가 비어 있지 않도록)
+	 */
+	public void linkPayloadBlob(PayloadBlob payloadBlob) {
+		this.payloadBlob = payloadBlob;
+	}
+
 	public AnalysisRawData(Actor actor, InputType inputType, String purpose, String rawPayload) {
 		this.actor = actor;
 		this.inputType = inputType;
 		this.purpose = purpose;
-		this.rawPayload = rawPayload;
-		this.regDate = LocalDateTime.now();
+		this.pendingPayload = rawPayload;
+		this.contentHash = rawPayload != null ? PayloadBlob.hash(rawPayload) : null;
+		// DB(datetime(6)) 정밀도로 맞춰 저장 전후 값이 같도록 함 (이력 키셋 커서 비교용)
+		this.regDate = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+
+	public AnalysisRawData(Actor actor, InputType inputType, String purpose, String rawPayload, String payloadHash) {
+		this(actor, inputType, purpose, rawPayload);
+		this.payloadHash = payloadHash;
+	}
+
+	public AnalysisRawData(Actor actor, InputType inputType, String purpose, String rawPayload, String payloadHash,
+						   String contextHash) {
+		this(actor, inputType, purpose, rawPayload, payloadHash);
+		this.contextHash = contextHash;
+	}
+
+	/**
+	 * 사전 컨텍스트 지문 (컨텍스트가 없으면 빈 문자열의 해시 - 도입 전 행(null)과 구분)
+	 */
+	public static String contextHash(String contextText) {
+		return PayloadBlob.hash(contextText != null ? contextText : "");
 	}
 }
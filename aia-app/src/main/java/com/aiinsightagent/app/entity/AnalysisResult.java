@@ -3,6 +3,7 @@ package com.aiinsightagent.app.entity;
 import com.aiinsightagent.app.enums.AnalysisStatus;
 import com.aiinsightagent.app.enums.AnalysisType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -13,7 +14,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -24,7 +27,8 @@ import java.util.UUID;
 @Table(name = "analysis_result")
 public class AnalysisResult {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "analysis_result_seq")
+	@SequenceGenerator(name = "analysis_result_seq", sequenceName = "analysis_result_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long resultId;
 
 	@Column(nullable = false, unique = true)
@@ -43,10 +47,22 @@ public class AnalysisResult {
 
 	private String analysisVersion;
 
-	@Lob
-	@Column(nullable = false, columnDefinition = "LONGTEXT")
+	/**
+	 * 분석 결과 (코덱 헤더 + 압축 바이너리)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Convert(converter = CompressedPayloadConverter.class)
+	@Column(name = "result_payload_data", columnDefinition = "LONGBLOB")
 	private String resultPayload;
 
+	/**
+	 * 압축 저장 도입 전 평문 결과 (PayloadCompressionMigrator 가 resultPayload 로 옮긴 뒤 null)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Lob
+	@Column(name = "result_payload", columnDefinition = "LONGTEXT")
+	private String legacyResultPayload;
+
 	@Enumerated(EnumType.STRING)
 	@Column(nullable = false)
 	private AnalysisStatus status;
@@ -54,6 +70,10 @@ public class AnalysisResult {
 	@Column(nullable = false)
 	private LocalDateTime regDate;
 
+	public String getResultPayload() {
+		return resultPayload != null ? resultPayload : legacyResultPayload;
+	}
+
 	protected AnalysisResult() {
 	}
 
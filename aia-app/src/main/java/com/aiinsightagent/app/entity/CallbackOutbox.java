@@ -0,0 +1,94 @@
+package com.aiinsightagent.app.entity;
+
+import com.aiinsightagent.app.enums.CallbackStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 분석 완료 콜백 전송 대기열 (Outbox)
+ */
+@Getter
+@Entity
+@Table(name = "callback_outbox", indexes = {
+		@Index(name = "idx_callback_outbox_status_next", columnList = "status, nextAttemptAt")
+})
+public class CallbackOutbox {
+	private static final int MAX_ERROR_LENGTH = 1000;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long outboxId;
+
+	@Column(nullable = false)
+	private UUID requestId;
+
+	@Column(nullable = false, length = 2048)
+	private String callbackUrl;
+
+	@Lob
+	@Column(nullable = false, columnDefinition = "LONGTEXT")
+	private String payload;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private CallbackStatus status;
+
+	@Column(nullable = false)
+	private int attemptCount;
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = MAX_ERROR_LENGTH)
+	private String lastError;
+
+	@Column(nullable = false)
+	private LocalDateTime regDate;
+
+	private LocalDateTime modDate;
+
+	protected CallbackOutbox() {
+	}
+
+	public CallbackOutbox(UUID requestId, String callbackUrl, String payload) {
+		this.requestId = requestId;
+		this.callbackUrl = callbackUrl;
+		this.payload = payload;
+		this.status = CallbackStatus.PENDING;
+		this.attemptCount = 0;
+		this.regDate = LocalDateTime.now();
+		this.nextAttemptAt = this.regDate;
+	}
+
+	public void markDelivered() {
+		this.attemptCount++;
+		this.status = CallbackStatus.DELIVERED;
+		this.lastError = null;
+		this.modDate = LocalDateTime.now();
+	}
+
+	/**
+	 * 전송 실패 기록 - 최대 시도 횟수 초과 시 FAILED, 그 외에는 nextAttemptAt 이후 재시도
+	 */
+	public void markFailed(String error, int maxAttempts, LocalDateTime nextAttemptAt) {
+		this.attemptCount++;
+		this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+				? error.substring(0, MAX_ERROR_LENGTH)
+				: error;
+		this.status = attemptCount >= maxAttempts ? CallbackStatus.FAILED : CallbackStatus.PENDING;
+		this.nextAttemptAt = nextAttemptAt;
+		this.modDate = LocalDateTime.now();
+	}
+}
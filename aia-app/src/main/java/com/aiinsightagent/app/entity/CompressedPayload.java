@@ -0,0 +1,28 @@
+package com.aiinsightagent.app.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 압축 저장 페이로드 컬럼
+ * - legacyColumn: 압축 도입 전 평문 LONGTEXT 컬럼 (마이그레이션 후 null)
+ * - dataColumn: 코덱 헤더가 붙은 LONGBLOB 컬럼 (CompressedPayloadConverter)
+ * - hashColumn: 내용 주소 저장(payload_blob) 참조 컬럼, 있으면 행별 압축 컬럼 대신 payload_blob 으로 이전
+ */
+@Getter
+@AllArgsConstructor
+public enum CompressedPayload {
+	ANALYSIS_RAW_DATA("analysis_row_data", "input_id", "raw_payload", "raw_payload_data", "content_hash"),
+	ANALYSIS_RESULT("analysis_result", "result_id", "result_payload", "result_payload_data", null),
+	PREPARED_CONTEXT("prepared_context", "context_id", "context_payload", "context_payload_data", null);
+
+	private final String tableName;
+	private final String idColumn;
+	private final String legacyColumn;
+	private final String dataColumn;
+	private final String hashColumn;
+
+	public boolean isContentAddressed() {
+		return hashColumn != null;
+	}
+}
@@ -0,0 +1,28 @@
+package com.aiinsightagent.app.entity;
+
+import com.aiinsightagent.app.util.PayloadCodec;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * 페이로드 문자열 <-> 코덱 헤더가 붙은 바이너리 (PayloadCodec)
+ * - Hibernate 가 스프링 빈 컨테이너로 생성하므로 코덱을 주입받음
+ */
+@Converter
+public class CompressedPayloadConverter implements AttributeConverter<String, byte[]> {
+	private final PayloadCodec codec;
+
+	public CompressedPayloadConverter(PayloadCodec codec) {
+		this.codec = codec;
+	}
+
+	@Override
+	public byte[] convertToDatabaseColumn(String attribute) {
+		return codec.encode(attribute);
+	}
+
+	@Override
+	public String convertToEntityAttribute(byte[] dbData) {
+		return codec.decode(dbData);
+	}
+}
@@ -0,0 +1,29 @@
+package com.aiinsightagent.app.entity;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 엔티티 키 시퀀스
+ * - pooled 옵티마이저가 ALLOCATION_SIZE 만큼 키를 한 번에 확보하므로 INSERT 마다 키 조회가 필요 없고 JDBC 배치로 묶을 수 있음
+ *   (IDENTITY 키는 INSERT 를 즉시 실행해야 해서 배치 불가)
+ * - IDENTITY 로 적재된 기존 행과 키가 겹치지 않도록 기동 시 IdSequenceAligner 가 시퀀스를 최대 키 이후로 맞춤
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public enum IdSequence {
+	ACTOR("actor_seq", "actor", "actor_id"),
+	ANALYSIS_RAW_DATA("analysis_row_data_seq", "analysis_row_data", "input_id"),
+	ANALYSIS_RESULT("analysis_result_seq", "analysis_result", "result_id"),
+	PREPARED_CONTEXT("prepared_context_seq", "prepared_context", "context_id");
+
+	/**
+	 * 시퀀스 증가폭 = 한 번에 확보하는 키 수 (hibernate.jdbc.batch_size 와 동일하게 유지)
+	 */
+	public static final int ALLOCATION_SIZE = 50;
+
+	private final String sequenceName;
+	private final String tableName;
+	private final String idColumn;
+}
@@ -0,0 +1,42 @@
+package com.aiinsightagent.app.entity;
+
+import com.google.common.hash.Hashing;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 페이로드 저장소
+ * - 키는 페이로드 원문의 SHA-256 (hex), 같은 페이로드는 한 번만 저장 (PayloadBlobService 가 JDBC 로 INSERT)
+ */
+@Getter
+@Entity
+@Table(name = "payload_blob")
+public class PayloadBlob {
+	@Id
+	@Column(length = 64)
+	private String contentHash;
+
+	/**
+	 * 페이로드 원문 (코덱 헤더 + 압축 바이너리)
+	 */
+	@Convert(converter = CompressedPayloadConverter.class)
+	@Column(name = "payload_data", columnDefinition = "LONGBLOB", nullable = false)
+	private String payload;
+
+	@Column(nullable = false)
+	private LocalDateTime regDate;
+
+	protected PayloadBlob() {
+	}
+
+	public static String hash(String payload) {
+		return Hashing.sha256().hashString(payload, StandardCharsets.UTF_8).toString();
+	}
+}
@@ -2,6 +2,7 @@ package com.aiinsightagent.app.entity;
 
 import com.aiinsightagent.app.enums.ConfidenceLevel;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,7 +13,9 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import lombok.AccessLevel;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -22,7 +25,8 @@ import java.time.LocalDateTime;
 @Table(name = "prepared_context")
 public class PreparedContext {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prepared_context_seq")
+	@SequenceGenerator(name = "prepared_context_seq", sequenceName = "prepared_context_seq", allocationSize = IdSequence.ALLOCATION_SIZE)
 	private Long contextId;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -36,10 +40,22 @@ public class PreparedContext {
 	@Column(nullable = false)
 	private String contextScope;
 
-	@Lob
-	@Column(nullable = false, columnDefinition = "LONGTEXT")
+	/**
+	 * 컨텍스트 본문 (코덱 헤더 + 압축 바이너리)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Convert(converter = CompressedPayloadConverter.class)
+	@Column(name = "context_payload_data", columnDefinition = "LONGBLOB")
 	private String contextPayload;
 
+	/**
+	 * 압축 저장 도입 전 평문 본문 (PayloadCompressionMigrator 가 contextPayload 로 옮긴 뒤 null)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Lob
+	@Column(name = "context_payload", columnDefinition = "LONGTEXT")
+	private String legacyContextPayload;
+
 	@Enumerated(EnumType.STRING)
 	private ConfidenceLevel confidenceLevel;
 
@@ -51,6 +67,16 @@ public class PreparedContext {
 
 	private LocalDateTime modDate;
 
+	/**
+	 * 변경 버전 (수정 시 증가, 인스턴스 간 캐시 무효화 판별용)
+	 */
+	@Column(nullable = false)
+	private long version;
+
+	public String getContextPayload() {
+		return contextPayload != null ? contextPayload : legacyContextPayload;
+	}
+
 	protected PreparedContext() {
 	}
 
@@ -65,11 +91,14 @@ public class PreparedContext {
 	}
 
 	public String asPromptText() {
-		return contextPayload;
+		return getContextPayload();
 	}
 
 	public void update(String category, String data) {
 		this.contextType = category;
 		this.contextPayload = data;
+		this.legacyContextPayload = null;
+		this.modDate = LocalDateTime.now();
+		this.version++;
 	}
 }
@@ -0,0 +1,76 @@
+package com.aiinsightagent.app.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Gemini 호출별 토큰 사용 원장
+ * - 요청 경로에서 분리된 쓰기 버퍼가 JDBC 배치로 적재 (TokenUsageLedgerService)
+ */
+@Getter
+@Entity
+@Table(name = "token_usage_ledger", indexes = {
+		@Index(name = "idx_token_usage_ledger_date", columnList = "usageDate"),
+		@Index(name = "idx_token_usage_ledger_actor_date", columnList = "actorKey, usageDate"),
+		@Index(name = "idx_token_usage_ledger_model_date", columnList = "modelId, usageDate")
+})
+public class TokenUsageLedger {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long ledgerId;
+
+	@Column(length = 64)
+	private String traceId;
+
+	private String actorKey;
+
+	private String purpose;
+
+	@Column(length = 64)
+	private String profile;
+
+	@Column(nullable = false, length = 64)
+	private String modelId;
+
+	@Column(length = 128)
+	private String modelName;
+
+	@Column(nullable = false)
+	private int promptTokens;
+
+	@Column(nullable = false)
+	private int completionTokens;
+
+	@Column(nullable = false)
+	private int thoughtsTokens;
+
+	@Column(nullable = false)
+	private int totalTokens;
+
+	@Column(nullable = false)
+	private long waitTimeMs;
+
+	@Column(nullable = false)
+	private long apiTimeMs;
+
+	/**
+	 * 일별 집계 기준일
+	 */
+	@Column(nullable = false)
+	private LocalDate usageDate;
+
+	@Column(nullable = false)
+	private LocalDateTime regDate;
+
+	protected TokenUsageLedger() {
+	}
+}
@@ -1,5 +1,5 @@
 package com.aiinsightagent.app.enums;
 
 public enum AnalysisStatus {
-	SUCCESS, FAILED
-}
\ No newline at end of file
+	SUCCESS, PARTIAL, FAILED
+}
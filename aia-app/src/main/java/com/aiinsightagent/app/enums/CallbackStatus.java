@@ -0,0 +1,5 @@
+package com.aiinsightagent.app.enums;
+
+public enum CallbackStatus {
+	PENDING, IN_PROGRESS, DELIVERED, FAILED
+}
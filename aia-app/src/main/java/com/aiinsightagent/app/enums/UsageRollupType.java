@@ -0,0 +1,19 @@
+package com.aiinsightagent.app.enums;
+
+/**
+ * 토큰 사용량 집계 기준
+ */
+public enum UsageRollupType {
+	/**
+	 * 일별
+	 */
+	DAY,
+	/**
+	 * 요청 주체별
+	 */
+	ACTOR,
+	/**
+	 * 모델 설정(API 키)별
+	 */
+	KEY
+}
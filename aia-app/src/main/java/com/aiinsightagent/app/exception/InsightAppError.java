@@ -21,11 +21,21 @@ public enum InsightAppError
 	EMPTY_CONTEXT(InsightAppError.CODE_PREFIX + "01-06", "Empty or Null, Context.", HttpStatus.BAD_REQUEST),
 	EMPTY_CONTEXT_CATEGORY(InsightAppError.CODE_PREFIX + "01-07", "Empty or Null, Context Category.", HttpStatus.BAD_REQUEST),
 	EMPTY_CONTEXT_DATA(InsightAppError.CODE_PREFIX + "01-08", "Empty or Null, Context data.", HttpStatus.BAD_REQUEST),
+	INVALID_CALLBACK_URL(InsightAppError.CODE_PREFIX + "01-09", "Callback URL must be an absolute http(s) URL.", HttpStatus.BAD_REQUEST),
+	INVALID_HISTORY_CURSOR(InsightAppError.CODE_PREFIX + "01-10", "Invalid history cursor.", HttpStatus.BAD_REQUEST),
+	INVALID_HISTORY_RANGE(InsightAppError.CODE_PREFIX + "01-11", "History 'from' must not be after 'to'.", HttpStatus.BAD_REQUEST),
+	CALLBACK_URL_NOT_ALLOWED(InsightAppError.CODE_PREFIX + "01-12", "Callback URL host is not allowed.", HttpStatus.BAD_REQUEST),
 
 	INTERNAL_SERVER_ERROR(InsightAppError.CODE_PREFIX + "02-00", "Internal Server Error", HttpStatus.INTERNAL_SERVER_ERROR),
 	FAIL_SERIALIZE_INSIGHT_DETAIL(InsightAppError.CODE_PREFIX + "02-01", "Failed to serialize InsightDetail", HttpStatus.INTERNAL_SERVER_ERROR),
 	FAIL_JSON_PARSING_RAW_DATA(InsightError.CODE_PREFIX + "02-02", "Failed to parse rawData", HttpStatus.INTERNAL_SERVER_ERROR),
-	FAIL_JSON_SERIALIZATION(InsightError.CODE_PREFIX + "02-03", "Failed to serialize userPrompts to JSON", HttpStatus.INTERNAL_SERVER_ERROR);
+	FAIL_JSON_SERIALIZATION(InsightError.CODE_PREFIX + "02-03", "Failed to serialize userPrompts to JSON", HttpStatus.INTERNAL_SERVER_ERROR),
+	FAIL_SERIALIZE_INSIGHT_RESPONSE(InsightAppError.CODE_PREFIX + "02-04", "Failed to serialize InsightResponse", HttpStatus.INTERNAL_SERVER_ERROR),
+	FAIL_DESERIALIZE_INSIGHT_DETAIL(InsightAppError.CODE_PREFIX + "02-05", "Failed to deserialize stored InsightDetail", HttpStatus.INTERNAL_SERVER_ERROR),
+	FAIL_PERSIST_ANALYSIS(InsightAppError.CODE_PREFIX + "02-06", "Failed to persist analysis result", HttpStatus.INTERNAL_SERVER_ERROR),
+	FAIL_DECODE_PAYLOAD(InsightAppError.CODE_PREFIX + "02-07", "Failed to decode stored payload", HttpStatus.INTERNAL_SERVER_ERROR),
+
+	TOKEN_QUOTA_EXCEEDED(InsightAppError.CODE_PREFIX + "03-00", "Daily token quota exceeded.", HttpStatus.TOO_MANY_REQUESTS);
 
 	public static final String CODE_PREFIX = "AIAA-";
 
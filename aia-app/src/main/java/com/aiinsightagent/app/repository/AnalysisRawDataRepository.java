@@ -2,13 +2,108 @@ package com.aiinsightagent.app.repository;
 
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.enums.AnalysisStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
 
 @Repository
 public interface AnalysisRawDataRepository
 		extends JpaRepository<AnalysisRawData, Long> {
-	List<AnalysisRawData> findAllByActor(Actor actor);
-}
\ No newline at end of file
+	/**
+	 * 주체별 이력 키셋 페이지 (regDate, inputId 내림차순, idx_analysis_row_data_actor_reg_date 사용)
+	 * - 조건이 null 이면 해당 필터 미적용, cursorDate/cursorId 는 이전 페이지 마지막 행
+	 * - 참조 페이로드는 함께 조회 (행마다 지연 로딩하지 않도록)
+	 */
+	@Query("""
+			select r from AnalysisRawData r
+			left join fetch r.payloadBlob
+			where r.actor = :actor
+			  and (:purpose is null or r.purpose = :purpose)
+			  and (:from is null or r.regDate >= :from)
+			  and (:to is null or r.regDate < :to)
+			  and (:cursorDate is null or r.regDate < :cursorDate
+			       or (r.regDate = :cursorDate and r.inputId < :cursorId))
+			order by r.regDate desc, r.inputId desc
+			""")
+	List<AnalysisRawData> findHistory(@Param("actor") Actor actor,
+									  @Param("purpose") String purpose,
+									  @Param("from") LocalDateTime from,
+									  @Param("to") LocalDateTime to,
+									  @Param("cursorDate") LocalDateTime cursorDate,
+									  @Param("cursorId") Long cursorId,
+									  Limit limit);
+
+	/**
+	 * 원본 입력 + 분석 결과 이력 키셋 페이지 (findHistory 와 같은 조건/정렬)
+	 * - 엔티티 대신 한 번의 조인 조회로 필요한 컬럼만 반환 -> 지연 연관 접근에 의한 N+1 없음
+	 * - 원본 입력 1건당 분석 결과는 최대 1건 (같은 트랜잭션에서 함께 저장)
+	 */
+	@Query("""
+			select i.inputId as inputId, i.purpose as purpose, i.regDate as regDate,
+			       b.payload as blobPayload, i.rawPayload as rawPayload, i.legacyRawPayload as legacyRawPayload,
+			       r.requestId as requestId, r.analysisVersion as analysisVersion, r.status as status,
+			       r.resultPayload as resultPayload, r.legacyResultPayload as legacyResultPayload
+			from AnalysisRawData i
+			left join i.payloadBlob b
+			left join AnalysisResult r on r.analysisInput = i
+			where i.actor = :actor
+			  and (:purpose is null or i.purpose = :purpose)
+			  and (:from is null or i.regDate >= :from)
+			  and (:to is null or i.regDate < :to)
+			  and (:cursorDate is null or i.regDate < :cursorDate
+			       or (i.regDate = :cursorDate and i.inputId < :cursorId))
+			order by i.regDate desc, i.inputId desc
+			""")
+	List<HistoryWithResult> findHistoryWithResults(@Param("actor") Actor actor,
+												   @Param("purpose") String purpose,
+												   @Param("from") LocalDateTime from,
+												   @Param("to") LocalDateTime to,
+												   @Param("cursorDate") LocalDateTime cursorDate,
+												   @Param("cursorId") Long cursorId,
+												   Limit limit);
+
+	interface HistoryWithResult {
+		Long getInputId();
+
+		String getPurpose();
+
+		LocalDateTime getRegDate();
+
+		String getBlobPayload();
+
+		String getRawPayload();
+
+		String getLegacyRawPayload();
+
+		UUID getRequestId();
+
+		String getAnalysisVersion();
+
+		AnalysisStatus getStatus();
+
+		String getResultPayload();
+
+		String getLegacyResultPayload();
+
+		/**
+		 * 참조 페이로드 우선, 내용 주소 저장 도입 전 행은 압축 컬럼, 마이그레이션 전 행은 평문 컬럼
+		 */
+		default String rawPayloadText() {
+			if (getBlobPayload() != null) {
+				return getBlobPayload();
+			}
+			return getRawPayload() != null ? getRawPayload() : getLegacyRawPayload();
+		}
+
+		default String resultPayloadText() {
+			return getResultPayload() != null ? getResultPayload() : getLegacyResultPayload();
+		}
+	}
+}
@@ -1,10 +1,40 @@
 package com.aiinsightagent.app.repository;
 
+import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.enums.AnalysisStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface AnalysisResultRepository
 		extends JpaRepository<AnalysisResult, Long> {
-}
\ No newline at end of file
+
+	/**
+	 * 같은 요청 지문/사전 컨텍스트의 최근 결과 조회 (analysis_row_data의 payload_hash 인덱스 사용)
+	 */
+	@Query("""
+			select r from AnalysisResult r
+			join r.analysisInput i
+			where i.actor = :actor
+			  and i.purpose = :purpose
+			  and i.payloadHash = :payloadHash
+			  and i.contextHash = :contextHash
+			  and r.status = :status
+			  and r.regDate >= :since
+			order by r.regDate desc
+			""")
+	List<AnalysisResult> findRecentByPayloadHash(@Param("actor") Actor actor,
+												 @Param("purpose") String purpose,
+												 @Param("payloadHash") String payloadHash,
+												 @Param("contextHash") String contextHash,
+												 @Param("status") AnalysisStatus status,
+												 @Param("since") LocalDateTime since,
+												 Pageable pageable);
+}
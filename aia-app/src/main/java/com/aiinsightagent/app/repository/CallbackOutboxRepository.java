@@ -0,0 +1,35 @@
+package com.aiinsightagent.app.repository;
+
+import com.aiinsightagent.app.entity.CallbackOutbox;
+import com.aiinsightagent.app.enums.CallbackStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CallbackOutboxRepository
+		extends JpaRepository<CallbackOutbox, Long> {
+	List<CallbackOutbox> findByStatusInAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+			Collection<CallbackStatus> statuses, LocalDateTime now, Pageable pageable);
+
+	/**
+	 * 전송 대상 선점 - 다른 인스턴스/폴링 주기가 이미 가져간 경우 0 반환
+	 */
+	@Transactional
+	@Modifying(clearAutomatically = true)
+	@Query("update CallbackOutbox o set o.status = :inProgress, o.nextAttemptAt = :leaseUntil "
+			+ "where o.outboxId = :outboxId and o.status in :claimable and o.nextAttemptAt <= :now")
+	int claim(@Param("outboxId") Long outboxId,
+			  @Param("claimable") Collection<CallbackStatus> claimable,
+			  @Param("inProgress") CallbackStatus inProgress,
+			  @Param("now") LocalDateTime now,
+			  @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -0,0 +1,13 @@
+package com.aiinsightagent.app.repository;
+
+import com.aiinsightagent.app.entity.PayloadBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 페이로드 저장은 PayloadBlobService 의 JDBC 문장으로 처리, 여기서는 조회/참조만 사용
+ */
+@Repository
+public interface PayloadBlobRepository
+		extends JpaRepository<PayloadBlob, String> {
+}
@@ -3,12 +3,31 @@ package com.aiinsightagent.app.repository;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.PreparedContext;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface PreparedContextRepository
 		extends JpaRepository<PreparedContext, Long> {
 	Optional<PreparedContext> findByActor(Actor actor);
+
+	/**
+	 * 주체별 컨텍스트 키/버전 (본문 LONGTEXT 는 읽지 않음)
+	 */
+	@Query("select c.actor.actorId as actorId, c.contextId as contextId, c.version as version "
+			+ "from PreparedContext c where c.actor.actorId in :actorIds")
+	List<ContextVersion> findVersionsByActorIds(@Param("actorIds") Collection<Long> actorIds);
+
+	interface ContextVersion {
+		Long getActorId();
+
+		Long getContextId();
+
+		long getVersion();
+	}
 }
\ No newline at end of file
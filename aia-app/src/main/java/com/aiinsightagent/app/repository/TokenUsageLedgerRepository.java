@@ -0,0 +1,58 @@
+package com.aiinsightagent.app.repository;
+
+import com.aiinsightagent.app.entity.TokenUsageLedger;
+import com.aiinsightagent.core.model.TokenUsageRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TokenUsageLedgerRepository
+		extends JpaRepository<TokenUsageLedger, Long> {
+
+	/**
+	 * 일별 사용량 (usageDate 인덱스 범위 조회)
+	 */
+	@Query("""
+			select new com.aiinsightagent.core.model.TokenUsageRollup(
+			  str(l.usageDate), count(l), sum(l.promptTokens), sum(l.completionTokens),
+			  sum(l.thoughtsTokens), sum(l.totalTokens), avg(l.apiTimeMs))
+			from TokenUsageLedger l
+			where l.usageDate between :from and :to
+			group by l.usageDate
+			order by l.usageDate
+			""")
+	List<TokenUsageRollup> rollupByDay(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	/**
+	 * 요청 주체별 사용량 (사용량 많은 순, 주체 없이 호출된 건은 groupKey null)
+	 */
+	@Query("""
+			select new com.aiinsightagent.core.model.TokenUsageRollup(
+			  l.actorKey, count(l), sum(l.promptTokens), sum(l.completionTokens),
+			  sum(l.thoughtsTokens), sum(l.totalTokens), avg(l.apiTimeMs))
+			from TokenUsageLedger l
+			where l.usageDate between :from and :to
+			group by l.actorKey
+			order by sum(l.totalTokens) desc
+			""")
+	List<TokenUsageRollup> rollupByActor(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+	/**
+	 * 모델 설정(API 키)별 사용량 (사용량 많은 순)
+	 */
+	@Query("""
+			select new com.aiinsightagent.core.model.TokenUsageRollup(
+			  l.modelId, count(l), sum(l.promptTokens), sum(l.completionTokens),
+			  sum(l.thoughtsTokens), sum(l.totalTokens), avg(l.apiTimeMs))
+			from TokenUsageLedger l
+			where l.usageDate between :from and :to
+			group by l.modelId
+			order by sum(l.totalTokens) desc
+			""")
+	List<TokenUsageRollup> rollupByKey(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
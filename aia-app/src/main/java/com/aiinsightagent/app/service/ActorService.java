@@ -1,28 +1,190 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.ActorCacheProperties;
 import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.enums.ActorStatus;
+import com.aiinsightagent.app.enums.ActorType;
 import com.aiinsightagent.app.repository.ActorRepository;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * 접근 주체 서비스
+ * - actorKey -> 주체 스냅샷(불변) 캐시: 캐시 적중 시 DB 조회 없음 (주체는 수정/삭제되지 않으므로 TTL 은 안전장치)
+ *   요청마다 스냅샷으로 새 인스턴스를 만들어 반환 (엔티티 인스턴스를 스레드 간에 공유하지 않음)
+ * - 신규 주체는 INSERT ... ON DUPLICATE KEY UPDATE 단일 문장으로 생성하고 생성 키로 ID 를 받음 (재조회 없음)
+ *   최초 요청이 동시에 들어와도 먼저 저장된 행의 ID 사용, actorKey 중복 외의 오류는 그대로 예외로 전달
+ * - 캐시는 커밋 이후에만 채움 (롤백된 주체가 캐시에 남지 않도록)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ActorService {
+	public static final String CACHE_METRIC_NAME = "aia.actor.cache";
+
+	/**
+	 * 신규 행이면 발급한 시퀀스 값, actorKey 가 이미 있으면 기존 actor_id 를 LAST_INSERT_ID 로 남김
+	 * (MariaDB 는 두 경우 모두 OK 패킷의 insert id 로 생성 키를 반환)
+	 */
+	static final String UPSERT_SQL = """
+			insert into actor (actor_id, actor_key, actor_type, status, reg_date)
+			values (last_insert_id(next value for actor_seq), ?, ?, ?, ?)
+			on duplicate key update actor_id = last_insert_id(actor_id)
+			""";
+
+	static final String LAST_INSERT_ID_SQL = "select last_insert_id()";
+
+	private static final String[] KEY_COLUMNS = {"actor_id"};
+
 	private final ActorRepository actorRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final ActorCacheProperties cacheProperties;
+	private final Cache<String, CachedActor> cache;
+
+	public ActorService(ActorRepository actorRepository,
+						JdbcTemplate jdbcTemplate,
+						ActorCacheProperties cacheProperties,
+						MeterRegistry meterRegistry) {
+		this.actorRepository = actorRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.cacheProperties = cacheProperties;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfterWrite(cacheProperties.getTtl())
+				.recordStats()
+				.build();
+
+		GuavaCacheMetrics.monitor(meterRegistry, cache, CACHE_METRIC_NAME);
 
+		log.info("ActorService initialized: cacheEnabled={}, maximumSize={}, ttl={}",
+				cacheProperties.isEnabled(), cacheProperties.getMaximumSize(), cacheProperties.getTtl());
+	}
+
+	@Transactional
 	public Actor getOrCreate(String actorKey) {
-		return actorRepository.findByActorKey(actorKey)
-				.orElseGet(() -> actorRepository.save(
-						Actor.create(actorKey)
-				));
+		Actor cached = getCached(actorKey);
+		if (cached != null) {
+			return cached;
+		}
+
+		Actor actor = actorRepository.findByActorKey(actorKey)
+				.orElseGet(() -> upsert(actorKey));
+		cacheAfterCommit(actor);
+		return actor;
 	}
 
 	public Actor get(String actorKey) {
-		return actorRepository.findByActorKey(actorKey)
+		Actor cached = getCached(actorKey);
+		if (cached != null) {
+			return cached;
+		}
+
+		Actor actor = actorRepository.findByActorKey(actorKey)
 				.orElseThrow(() -> new InsightException(InsightError.NOT_FOUND_ACTOR));
+		cacheAfterCommit(actor);
+		return actor;
+	}
+
+	public CacheStats cacheStats() {
+		return cache.stats();
+	}
+
+	/**
+	 * 없으면 INSERT, 이미 있으면 기존 ID 를 생성 키로 받음 (저장한 값을 알고 있으므로 재조회 없음)
+	 * - 생성 키를 돌려주지 않는 드라이버(H2 의 중복 키 경로)만 같은 커넥션에서 LAST_INSERT_ID 를 한 번 더 조회
+	 * - 경합에서 진 쪽은 먼저 저장된 행과 등록 시각만 다를 수 있음 (유형/상태는 생성 기본값으로 동일)
+	 */
+	private Actor upsert(String actorKey) {
+		Actor actor = Actor.create(actorKey);
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.update(connection -> {
+			PreparedStatement ps = connection.prepareStatement(UPSERT_SQL, KEY_COLUMNS);
+			ps.setString(1, actorKey);
+			ps.setString(2, actor.getActorType().name());
+			ps.setString(3, actor.getStatus().name());
+			ps.setTimestamp(4, Timestamp.valueOf(actor.getRegDate()));
+			return ps;
+		}, keyHolder);
+
+		Number key = keyHolder.getKey();
+		Long actorId = key != null ? Long.valueOf(key.longValue())
+				: jdbcTemplate.queryForObject(LAST_INSERT_ID_SQL, Long.class);
+		if (actorId == null || actorId == 0) {
+			throw new InsightException(InsightError.NOT_FOUND_ACTOR);
+		}
+
+		return Actor.of(actorId, actorKey, actor.getActorType(), actor.getStatus(), actor.getRegDate());
+	}
+
+	private Actor getCached(String actorKey) {
+		if (!cacheProperties.isEnabled() || actorKey == null) {
+			return null;
+		}
+
+		CachedActor cached = cache.getIfPresent(actorKey);
+		return cached != null ? cached.toActor() : null;
+	}
+
+	private void cacheAfterCommit(Actor actor) {
+		if (!cacheProperties.isEnabled() || actor.getActorKey() == null || actor.getActorId() == null) {
+			return;
+		}
+
+		CachedActor snapshot = CachedActor.of(actor);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					cache.put(snapshot.actorKey, snapshot);
+				}
+			});
+		} else {
+			cache.put(snapshot.actorKey, snapshot);
+		}
+	}
+
+	/**
+	 * 캐시 항목 (주체 값의 불변 스냅샷)
+	 */
+	private static final class CachedActor {
+		private final Long actorId;
+		private final String actorKey;
+		private final ActorType actorType;
+		private final ActorStatus status;
+		private final LocalDateTime regDate;
+
+		private CachedActor(Long actorId, String actorKey, ActorType actorType, ActorStatus status,
+							LocalDateTime regDate) {
+			this.actorId = actorId;
+			this.actorKey = actorKey;
+			this.actorType = actorType;
+			this.status = status;
+			this.regDate = regDate;
+		}
+
+		private static CachedActor of(Actor actor) {
+			return new CachedActor(actor.getActorId(), actor.getActorKey(), actor.getActorType(), actor.getStatus(),
+					actor.getRegDate());
+		}
+
+		private Actor toActor() {
+			return Actor.of(actorId, actorKey, actorType, status, regDate);
+		}
 	}
-}
\ No newline at end of file
+}
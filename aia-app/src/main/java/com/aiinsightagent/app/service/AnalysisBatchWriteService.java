@@ -0,0 +1,347 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.AnalysisWriteProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.repository.AnalysisResultRepository;
+import com.aiinsightagent.core.model.InsightRequest;
+import com.aiinsightagent.core.model.InsightResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 결과 그룹 커밋 저장 서비스
+ * - 요청 스레드는 원본/결과 엔티티를 대기열에 넣고 커밋될 때까지 대기 (응답 전에 저장 완료 보장)
+ * - 전용 스레드가 직전 커밋 동안 쌓인 요청을 최대 batchSize 개씩 한 트랜잭션으로 저장
+ *   -> 시퀀스 키 + hibernate.jdbc.batch_size 로 여러 요청의 INSERT 가 JDBC 배치 하나로 묶임
+ * - 배치 저장이 실패하면 요청별 트랜잭션으로 나눠 재시도해 원인이 된 요청만 실패 처리
+ * - 비활성화, 대기열 포화, 호출 스레드에 트랜잭션이 진행 중이면 요청 스레드에서 바로 저장 (진행 중인 트랜잭션에 참여)
+ * - 대기 시간 초과 시 아직 저장 스레드가 가져가지 않은 요청은 취소(저장/콜백 없음), 이미 저장 중이면 commitTimeout 까지 더 기다림
+ *   -> 그래도 커밋되지 않으면 취소하고 오류 (저장 스레드는 커밋 직전에 취소된 요청이 있으면 롤백)
+ *   -> 오류를 받은 클라이언트의 분석이 뒤늦게 저장되거나 재시도로 중복 저장되지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnalysisBatchWriteService {
+	public static final String BATCH_SIZE_METRIC_NAME = "aia.analysis.write.batch.size";
+	public static final String PENDING_METRIC_NAME = "aia.analysis.write.pending";
+
+	private static final long POLL_TIMEOUT_MS = 200;
+
+	private final AnalysisRawDataService rawDataService;
+	private final AnalysisResultService resultService;
+	private final AnalysisRawDataRepository rawDataRepository;
+	private final AnalysisResultRepository resultRepository;
+	private final PayloadBlobService payloadBlobService;
+	private final CallbackDeliveryService callbackService;
+	private final TransactionTemplate transactionTemplate;
+	private final AnalysisWriteProperties writeProperties;
+	private final MeterRegistry meterRegistry;
+
+	private BlockingQueue<PendingWrite> queue;
+	private DistributionSummary batchSizeSummary;
+	private Thread writerThread;
+	private volatile boolean running;
+
+	@PostConstruct
+	public void init() {
+		queue = new ArrayBlockingQueue<>(writeProperties.getQueueCapacity());
+		batchSizeSummary = DistributionSummary.builder(BATCH_SIZE_METRIC_NAME)
+				.description("Analysis requests persisted per transaction")
+				.register(meterRegistry);
+		meterRegistry.gauge(PENDING_METRIC_NAME, queue, BlockingQueue::size);
+
+		running = true;
+		writerThread = new Thread(this::runWriter, "analysis-batch-writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+
+		log.info("AnalysisBatchWriteService initialized: enabled={}, queueCapacity={}, batchSize={}",
+				writeProperties.isEnabled(), writeProperties.getQueueCapacity(), writeProperties.getBatchSize());
+	}
+
+	/**
+	 * 원본 데이터 + 분석 결과 저장 및 콜백 등록 (콜백은 커밋 이후 전송)
+	 *
+	 * @param contextText 분석에 사용한 사전 컨텍스트 (없으면 null, 결과 재사용 판별용)
+	 * @return 저장된 분석 결과
+	 */
+	public AnalysisResult write(Actor actor, InsightRequest data, String contextText, InsightResponse response,
+								String analysisVersion) {
+		PendingWrite write = new PendingWrite(actor, data, contextText, response, analysisVersion);
+		// 직렬화 실패는 대기열에 넣기 전에 요청 스레드에서 바로 드러나도록 엔티티를 미리 생성
+		prepare(write);
+
+		if (!writeProperties.isEnabled() || !running
+				|| TransactionSynchronizationManager.isActualTransactionActive()
+				|| !queue.offer(write)) {
+			return transactionTemplate.execute(status -> {
+				persist(List.of(write));
+				return write.result;
+			});
+		}
+
+		return await(write);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		running = false;
+		try {
+			writerThread.join(writeProperties.getWriteTimeout().toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		// 종료 직전에 들어온 요청까지 저장
+		List<PendingWrite> remaining = new ArrayList<>();
+		queue.drainTo(remaining);
+		if (!remaining.isEmpty()) {
+			flush(remaining);
+		}
+		log.info("AnalysisBatchWriteService stopped: remaining={}", remaining.size());
+	}
+
+	private void runWriter() {
+		int batchSize = Math.max(1, writeProperties.getBatchSize());
+		List<PendingWrite> batch = new ArrayList<>(batchSize);
+
+		while (running || !queue.isEmpty()) {
+			try {
+				PendingWrite first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				// 직전 커밋 동안 쌓인 요청을 함께 저장 (별도 대기 없이 부하에 비례해 배치가 커짐)
+				queue.drainTo(batch, batchSize - 1);
+				flush(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void flush(List<PendingWrite> batch) {
+		// 대기 시간 초과로 취소된 요청 제외
+		batch.removeIf(write -> !write.claim());
+		if (batch.isEmpty()) {
+			return;
+		}
+
+		try {
+			transactionTemplate.execute(status -> {
+				persist(batch);
+				beginCommit(batch);
+				return null;
+			});
+			batchSizeSummary.record(batch.size());
+			batch.forEach(write -> write.future.complete(write.result));
+		} catch (Exception e) {
+			if (batch.size() == 1) {
+				batch.get(0).future.completeExceptionally(e);
+				return;
+			}
+
+			log.warn("Analysis batch write failed, retrying individually: size={}, error={}", batch.size(), e.getMessage());
+			for (PendingWrite write : batch) {
+				retry(write);
+			}
+		}
+	}
+
+	private void retry(PendingWrite write) {
+		// 배치 롤백 사이에 대기 시간 초과로 취소된 요청 제외
+		if (!write.claim()) {
+			return;
+		}
+
+		try {
+			// 롤백된 엔티티는 키가 할당된 상태라 새로 생성
+			prepare(write);
+			transactionTemplate.execute(status -> {
+				persist(List.of(write));
+				beginCommit(List.of(write));
+				return null;
+			});
+			batchSizeSummary.record(1);
+			write.future.complete(write.result);
+		} catch (Exception e) {
+			write.future.completeExceptionally(e);
+		}
+	}
+
+	private void prepare(PendingWrite write) {
+		write.rawData = rawDataService.create(write.actor, write.data.getPurpose(), write.data.getUserPrompt(),
+				write.contextText);
+		write.result = resultService.create(write.actor, write.rawData, write.response, write.analysisVersion);
+	}
+
+	private void persist(List<PendingWrite> writes) {
+		List<AnalysisRawData> rawData = new ArrayList<>(writes.size());
+		List<AnalysisResult> results = new ArrayList<>(writes.size());
+		for (PendingWrite write : writes) {
+			rawData.add(write.rawData);
+			results.add(write.result);
+		}
+		// 이미 저장된 페이로드는 다시 쓰지 않음
+		payloadBlobService.store(rawData);
+		rawDataRepository.saveAll(rawData);
+		resultRepository.saveAll(results);
+
+		// 콜백 아웃박스는 IDENTITY 키라 즉시 INSERT 되므로 원본/결과 배치 뒤에 등록
+		for (PendingWrite write : writes) {
+			if (write.data.getCallbackUrl() != null) {
+				callbackService.register(write.result, write.response, write.data.getCallbackUrl());
+			}
+		}
+	}
+
+	/**
+	 * 커밋 직전 취소 여부 확인 - 취소된 요청이 있으면 예외로 트랜잭션을 롤백 (나머지 요청은 요청별 재시도)
+	 */
+	private static void beginCommit(List<PendingWrite> writes) {
+		for (PendingWrite write : writes) {
+			if (!write.beginCommit()) {
+				throw new CancellationException("Analysis write cancelled before commit: purpose=" + write.data.getPurpose());
+			}
+		}
+	}
+
+	private AnalysisResult await(PendingWrite write) {
+		try {
+			return write.future.get(writeProperties.getWriteTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			if (write.cancel()) {
+				throw new InsightAppException(InsightAppError.FAIL_PERSIST_ANALYSIS, e);
+			}
+			// 이미 저장 중이면 커밋/실패 결과를 그대로 전달
+			log.warn("Analysis write exceeded timeout while persisting, awaiting commit: purpose={}", write.data.getPurpose());
+			return awaitClaimed(write);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			if (!write.cancel()) {
+				log.warn("Analysis write interrupted while persisting: purpose={}", write.data.getPurpose());
+			}
+			throw new InsightAppException(InsightAppError.FAIL_PERSIST_ANALYSIS, e);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private AnalysisResult awaitClaimed(PendingWrite write) {
+		try {
+			return write.future.get(writeProperties.getCommitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			if (write.abandon()) {
+				log.warn("Analysis write cancelled after commit timeout: purpose={}", write.data.getPurpose());
+			} else if (write.future.isDone()) {
+				// 시간 초과 직후 커밋 완료
+				return awaitClaimed(write);
+			} else {
+				log.warn("Analysis write timed out while committing: purpose={}", write.data.getPurpose());
+			}
+			throw new InsightAppException(InsightAppError.FAIL_PERSIST_ANALYSIS, e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			write.abandon();
+			throw new InsightAppException(InsightAppError.FAIL_PERSIST_ANALYSIS, e);
+		} catch (ExecutionException e) {
+			throw unwrap(e);
+		}
+	}
+
+	private static RuntimeException unwrap(ExecutionException e) {
+		if (e.getCause() instanceof RuntimeException cause) {
+			return cause;
+		}
+		return new InsightAppException(InsightAppError.FAIL_PERSIST_ANALYSIS, e.getCause());
+	}
+
+	/**
+	 * 저장 대기 요청
+	 * - state: QUEUED -> CLAIMED (저장 스레드가 가져감) -> COMMITTING (커밋 직전)
+	 *   QUEUED/CLAIMED -> CANCELLED (대기 시간 초과), 배치 롤백 후 재시도 시 COMMITTING -> CLAIMED
+	 */
+	private static final class PendingWrite {
+		private static final int QUEUED = 0;
+		private static final int CLAIMED = 1;
+		private static final int CANCELLED = 2;
+		private static final int COMMITTING = 3;
+
+		private final Actor actor;
+		private final InsightRequest data;
+		private final String contextText;
+		private final InsightResponse response;
+		private final String analysisVersion;
+		private final CompletableFuture<AnalysisResult> future = new CompletableFuture<>();
+		private final AtomicInteger state = new AtomicInteger(QUEUED);
+
+		private AnalysisRawData rawData;
+		private AnalysisResult result;
+
+		private PendingWrite(Actor actor, InsightRequest data, String contextText, InsightResponse response,
+							 String analysisVersion) {
+			this.actor = actor;
+			this.data = data;
+			this.contextText = contextText;
+			this.response = response;
+			this.analysisVersion = analysisVersion;
+		}
+
+		/**
+		 * @return 저장해도 되면 true (취소된 요청은 false)
+		 */
+		private boolean claim() {
+			return state.compareAndSet(QUEUED, CLAIMED) || state.compareAndSet(COMMITTING, CLAIMED)
+					|| state.get() == CLAIMED;
+		}
+
+		/**
+		 * @return 커밋해도 되면 true (저장 중 취소된 요청은 false)
+		 */
+		private boolean beginCommit() {
+			return state.compareAndSet(CLAIMED, COMMITTING);
+		}
+
+		/**
+		 * @return 저장 스레드가 가져가기 전이라 취소했으면 true
+		 */
+		private boolean cancel() {
+			return state.compareAndSet(QUEUED, CANCELLED);
+		}
+
+		/**
+		 * @return 저장 중(커밋 전)이라 취소했으면 true
+		 */
+		private boolean abandon() {
+			return state.compareAndSet(CLAIMED, CANCELLED);
+		}
+	}
+}
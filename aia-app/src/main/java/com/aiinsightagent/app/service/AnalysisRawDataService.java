@@ -1,22 +1,33 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.HistoryProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisRawData;
 import com.aiinsightagent.app.enums.InputType;
 import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
 import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.util.HistoryCursor;
+import com.aiinsightagent.app.util.InsightResultSerializer;
 import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightHistoryItem;
+import com.aiinsightagent.core.model.InsightHistoryQuery;
 import com.aiinsightagent.core.model.InsightHistoryResponse;
 import com.aiinsightagent.core.model.InsightRecord;
+import com.aiinsightagent.core.model.InsightResultHistoryResponse;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.util.RequestFingerprinter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,47 +37,175 @@ import java.util.stream.Collectors;
 public class AnalysisRawDataService {
 	private final ObjectMapper objectMapper;
 	private final AnalysisRawDataRepository rawDataRepository;
+	private final PayloadBlobService payloadBlobService;
+	private final RequestFingerprinter fingerprinter;
+	private final HistoryProperties historyProperties;
+	private final InsightResultSerializer resultSerializer;
 
 	public AnalysisRawData save(Actor actor, String purpose, List<UserPrompt> userPrompt) {
-		String jsonPayload = convertToJson(userPrompt);
+		AnalysisRawData rawData = create(actor, purpose, userPrompt, null);
+		payloadBlobService.store(List.of(rawData));
+		return rawDataRepository.save(rawData);
+	}
 
-		AnalysisRawData rawData = new AnalysisRawData(actor, InputType.JSON, purpose, jsonPayload);
+	/**
+	 * 저장 전 원본 데이터 엔티티 생성 (배치 저장용)
+	 *
+	 * @param contextText 분석에 사용한 사전 컨텍스트 (없으면 null)
+	 */
+	public AnalysisRawData create(Actor actor, String purpose, List<UserPrompt> userPrompt, String contextText) {
+		String jsonPayload = convertToJson(userPrompt);
+		String payloadHash = fingerprinter.fingerprint(purpose, userPrompt);
 
-		return rawDataRepository.save(rawData);
+		return new AnalysisRawData(actor, InputType.JSON, purpose, jsonPayload, payloadHash,
+				AnalysisRawData.contextHash(contextText));
 	}
 
-	public InsightHistoryResponse getUserPromtListByActor(Actor actor) {
-		// 1. AnalysisRawData 리스트 조회
-		List<AnalysisRawData> analysisRawDatas = rawDataRepository.findAllByActor(actor);
-
-		// 3. InsightRecord 리스트로 변환
-		List<InsightRecord> insightRecords = analysisRawDatas.stream()
-				.flatMap(data -> parseUserPrompts(data.getRawPayload()).stream()
-						.map(userPrompt -> InsightRecord.builder()
-								.inputId(data.getInputId())
-								.regDate(data.getRegDate())
-								.userPrompt(userPrompt)
-								.build()))
+	/**
+	 * 이력 한 페이지 조회 (size + 1 건을 읽어 다음 페이지 여부 판단, count 쿼리 없음)
+	 */
+	public InsightHistoryResponse getUserPromtListByActor(Actor actor, InsightHistoryQuery query) {
+		HistoryCursor cursor = HistoryCursor.decode(query.getCursor());
+		int size = pageSize(query.getSize());
+
+		// 1. AnalysisRawData 키셋 페이지 조회
+		List<AnalysisRawData> rows = findHistory(actor, query, cursor, size + 1);
+		boolean hasNext = rows.size() > size;
+		List<AnalysisRawData> page = hasNext ? rows.subList(0, size) : rows;
+
+		// 2. InsightRecord 리스트로 변환
+		List<InsightRecord> insightRecords = page.stream()
+				.flatMap(data -> toRecords(data).stream())
 				.collect(Collectors.toList());
 
 		return InsightHistoryResponse.builder()
 				.resultCode(HttpStatus.OK.value())
 				.resultMsg(HttpStatus.OK.getReasonPhrase())
 				.insightRecords(insightRecords)
+				.nextCursor(hasNext ? HistoryCursor.of(page.get(page.size() - 1)).encode() : null)
 				.build();
 	}
 
-	private List<UserPrompt> parseUserPrompts(String rawPayload) {
-		try {
-			// JSON 데이터 로깅
-			log.info("Parsing rawPayload: {}", rawPayload);
+	/**
+	 * 이력 NDJSON 스트리밍 - streamChunkSize 단위 키셋 조회로 읽는 즉시 한 줄씩 기록
+	 * - 커서/기간 검증은 응답 시작 전에 수행, 조회마다 커넥션을 반환하므로 긴 스트림도 커넥션을 점유하지 않음
+	 */
+	public StreamingResponseBody streamUserPrompts(Actor actor, InsightHistoryQuery query) {
+		HistoryCursor start = HistoryCursor.decode(query.getCursor());
+		toRange(query);
+		int chunkSize = Math.max(1, historyProperties.getStreamChunkSize());
+
+		return out -> {
+			HistoryCursor cursor = start;
+			List<AnalysisRawData> rows;
+			do {
+				rows = findHistory(actor, query, cursor, chunkSize);
+				for (AnalysisRawData data : rows) {
+					for (InsightRecord record : toRecords(data)) {
+						out.write(objectMapper.writeValueAsBytes(record));
+						out.write('\n');
+					}
+				}
+				out.flush();
 
+				if (!rows.isEmpty()) {
+					cursor = HistoryCursor.of(rows.get(rows.size() - 1));
+				}
+			} while (rows.size() == chunkSize);
+		};
+	}
+
+	/**
+	 * 원본 입력 + 분석 결과 이력 한 페이지 조회 (단일 조인 조회)
+	 * - 결과 JSON 은 응답에 포함되는 행만 InsightDetail 로 역직렬화
+	 */
+	public InsightResultHistoryResponse getHistoryWithResults(Actor actor, InsightHistoryQuery query) {
+		HistoryCursor cursor = HistoryCursor.decode(query.getCursor());
+		int size = pageSize(query.getSize());
+		LocalDateTime[] range = toRange(query);
+
+		// 1. 원본 입력 + 결과 키셋 페이지 조회
+		List<AnalysisRawDataRepository.HistoryWithResult> rows = rawDataRepository.findHistoryWithResults(
+				actor, query.getPurpose(), range[0], range[1],
+				cursor != null ? cursor.getRegDate() : null,
+				cursor != null ? cursor.getInputId() : null,
+				Limit.of(size + 1));
+		boolean hasNext = rows.size() > size;
+		List<AnalysisRawDataRepository.HistoryWithResult> page = hasNext ? rows.subList(0, size) : rows;
+
+		// 2. 응답할 행만 역직렬화
+		List<InsightHistoryItem> historyItems = page.stream()
+				.map(this::toHistoryItem)
+				.collect(Collectors.toList());
+
+		AnalysisRawDataRepository.HistoryWithResult last = hasNext ? page.get(page.size() - 1) : null;
+		return InsightResultHistoryResponse.builder()
+				.resultCode(HttpStatus.OK.value())
+				.resultMsg(HttpStatus.OK.getReasonPhrase())
+				.historyItems(historyItems)
+				.nextCursor(last != null ? HistoryCursor.of(last.getRegDate(), last.getInputId()).encode() : null)
+				.build();
+	}
+
+	private InsightHistoryItem toHistoryItem(AnalysisRawDataRepository.HistoryWithResult row) {
+		return InsightHistoryItem.builder()
+				.inputId(row.getInputId())
+				.purpose(row.getPurpose())
+				.regDate(row.getRegDate())
+				.userPrompt(parseUserPrompts(row.getInputId(), row.rawPayloadText()))
+				.requestId(row.getRequestId())
+				.analysisVersion(row.getAnalysisVersion())
+				.status(row.getStatus() != null ? row.getStatus().name() : null)
+				.insight(row.resultPayloadText() != null ? resultSerializer.deserialize(row.resultPayloadText()) : null)
+				.build();
+	}
+
+	private List<AnalysisRawData> findHistory(Actor actor, InsightHistoryQuery query, HistoryCursor cursor, int limit) {
+		LocalDateTime[] range = toRange(query);
+		return rawDataRepository.findHistory(actor, query.getPurpose(), range[0], range[1],
+				cursor != null ? cursor.getRegDate() : null,
+				cursor != null ? cursor.getInputId() : null,
+				Limit.of(limit));
+	}
+
+	/**
+	 * 조회 기간 [from 00:00, to + 1일 00:00)
+	 */
+	private LocalDateTime[] toRange(InsightHistoryQuery query) {
+		if (query.getFrom() != null && query.getTo() != null && query.getFrom().isAfter(query.getTo())) {
+			throw new InsightAppException(InsightAppError.INVALID_HISTORY_RANGE);
+		}
+		return new LocalDateTime[]{
+				query.getFrom() != null ? query.getFrom().atStartOfDay() : null,
+				query.getTo() != null ? query.getTo().plusDays(1).atStartOfDay() : null
+		};
+	}
+
+	private int pageSize(Integer size) {
+		if (size == null || size <= 0) {
+			return historyProperties.getDefaultPageSize();
+		}
+		return Math.min(size, historyProperties.getMaxPageSize());
+	}
+
+	private List<InsightRecord> toRecords(AnalysisRawData data) {
+		return parseUserPrompts(data.getInputId(), data.getRawPayload()).stream()
+				.map(userPrompt -> InsightRecord.builder()
+						.inputId(data.getInputId())
+						.regDate(data.getRegDate())
+						.userPrompt(userPrompt)
+						.build())
+				.collect(Collectors.toList());
+	}
+
+	private List<UserPrompt> parseUserPrompts(Long inputId, String rawPayload) {
+		try {
 			return objectMapper.readValue(
 					rawPayload,
 					new TypeReference<List<UserPrompt>>() {}
 			);
 		} catch (JsonProcessingException e) {
-			log.error("JSON parsing failed. Raw data: {}", rawPayload, e);
+			log.error("JSON parsing failed. inputId={}", inputId, e);
 			throw new InsightException(InsightAppError.FAIL_JSON_PARSING_RAW_DATA);
 		}
 	}
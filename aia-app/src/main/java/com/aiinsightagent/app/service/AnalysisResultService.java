@@ -1,5 +1,6 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.ResultReuseProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisRawData;
 import com.aiinsightagent.app.entity.AnalysisResult;
@@ -8,28 +9,76 @@ import com.aiinsightagent.app.enums.AnalysisType;
 import com.aiinsightagent.app.repository.AnalysisResultRepository;
 import com.aiinsightagent.app.util.InsightResultSerializer;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.util.RequestFingerprinter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AnalysisResultService {
 	private final AnalysisResultRepository resultRepository;
 	private final InsightResultSerializer serializer;
+	private final RequestFingerprinter fingerprinter;
+	private final ResultReuseProperties reuseProperties;
 
 	public AnalysisResult save(Actor actor, AnalysisRawData rawData, InsightResponse result, String analysisVersion) {
+		return resultRepository.save(create(actor, rawData, result, analysisVersion));
+	}
+
+	/**
+	 * 저장 전 분석 결과 엔티티 생성 (배치 저장용)
+	 */
+	public AnalysisResult create(Actor actor, AnalysisRawData rawData, InsightResponse result, String analysisVersion) {
 		String resultPayload = serializer.serialize(result.getInsight());
-		AnalysisResult analysisResult = new AnalysisResult(
+		return new AnalysisResult(
 				actor,
 				rawData,
 				AnalysisType.STYLE,
-				AnalysisStatus.SUCCESS,
+				// 잘린 응답을 복구한 부분 결과는 재사용 대상에서 제외되도록 별도 상태로 저장
+				result.isPartial() ? AnalysisStatus.PARTIAL : AnalysisStatus.SUCCESS,
 				resultPayload,
 				analysisVersion
 		);
+	}
+
+	/**
+	 * 재사용 가능한 최근 결과 조회
+	 * - 같은 사용자/목적/요청 지문이며, 유효 시간 이내에 성공한 결과
+	 * - 사용자별 전처리 컨텍스트가 프롬프트에 포함되므로 다른 사용자의 결과는 재사용하지 않음
+	 * - 같은 사전 컨텍스트로 분석한 결과만 재사용 (컨텍스트 생성/수정/삭제 후에는 새로 분석)
+	 *
+	 * @param contextText 이번 분석에 사용할 사전 컨텍스트 (없으면 null)
+	 */
+	public Optional<AnalysisResult> findReusable(Actor actor, String purpose, List<UserPrompt> userPrompt,
+												 String contextText) {
+		if (!reuseProperties.isEnabled()) {
+			return Optional.empty();
+		}
+
+		String payloadHash = fingerprinter.fingerprint(purpose, userPrompt);
+		LocalDateTime since = LocalDateTime.now().minus(reuseProperties.getFreshness());
+
+		return resultRepository.findRecentByPayloadHash(
+						actor, purpose, payloadHash, AnalysisRawData.contextHash(contextText), AnalysisStatus.SUCCESS, since,
+						PageRequest.of(0, 1))
+				.stream()
+				.findFirst();
+	}
 
-		return resultRepository.save(analysisResult);
+	public InsightResponse toResponse(AnalysisResult analysisResult) {
+		return InsightResponse.builder()
+				.resultCode(HttpStatus.OK.value())
+				.resultMsg(HttpStatus.OK.getReasonPhrase())
+				.insight(serializer.deserialize(analysisResult.getResultPayload()))
+				.build();
 	}
-}
\ No newline at end of file
+}
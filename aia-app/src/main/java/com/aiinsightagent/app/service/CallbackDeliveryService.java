@@ -0,0 +1,296 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.CallbackProperties;
+import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.entity.CallbackOutbox;
+import com.aiinsightagent.app.enums.CallbackStatus;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.CallbackOutboxRepository;
+import com.aiinsightagent.app.util.InsightResultSerializer;
+import com.aiinsightagent.core.model.InsightResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.client.RestClient;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분석 완료 콜백 전송 서비스
+ * - 결과 저장과 같은 트랜잭션에서 Outbox에 기록하고, 커밋 이후 전용 스레드 풀에서 전송
+ * - 선점(claim)은 전송 스레드에서 자체 트랜잭션으로 수행 (afterCommit 시점에는 이미 커밋된 트랜잭션에 참여하게 되므로 DB 작업 없음)
+ * - 실패 시 지수 백오프로 재시도하며, 재시작 후에도 폴링으로 미전송 건을 이어서 처리
+ * - 콜백 URL 은 요청 접수 시와 전송 직전에 허용 호스트/주소 확인 (내부 서버로의 요청 위조 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CallbackDeliveryService {
+	public static final String REQUEST_ID_HEADER = "X-AIA-Request-Id";
+
+	private static final Set<CallbackStatus> CLAIMABLE = Set.of(CallbackStatus.PENDING, CallbackStatus.IN_PROGRESS);
+
+	private final CallbackOutboxRepository outboxRepository;
+	private final InsightResultSerializer serializer;
+	private final CallbackProperties callbackProperties;
+
+	private ThreadPoolExecutor deliveryExecutor;
+	private RestClient restClient;
+
+	@PostConstruct
+	public void init() {
+		deliveryExecutor = new ThreadPoolExecutor(
+				callbackProperties.getWorkerCount(),
+				callbackProperties.getWorkerCount(),
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(callbackProperties.getQueueCapacity()),
+				new CallbackThreadFactory()
+		);
+
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(callbackProperties.getConnectTimeout());
+		requestFactory.setReadTimeout(callbackProperties.getReadTimeout());
+		restClient = RestClient.builder()
+				.requestFactory(requestFactory)
+				.build();
+
+		log.info("CallbackDeliveryService initialized: workers={}, queueCapacity={}, maxAttempts={}",
+				callbackProperties.getWorkerCount(), callbackProperties.getQueueCapacity(),
+				callbackProperties.getMaxAttempts());
+	}
+
+	/**
+	 * 콜백 URL 허용 여부 확인 - 허용 호스트 목록에 없거나 루프백/링크 로컬/사설 대역으로 해석되면 거절
+	 */
+	public void verifyCallbackUrl(String callbackUrl) {
+		if (callbackUrl == null) {
+			return;
+		}
+
+		String host;
+		try {
+			host = URI.create(callbackUrl).getHost();
+		} catch (IllegalArgumentException e) {
+			throw new InsightAppException(InsightAppError.CALLBACK_URL_NOT_ALLOWED, e);
+		}
+		if (host == null || !isAllowedHost(host)) {
+			throw new InsightAppException(InsightAppError.CALLBACK_URL_NOT_ALLOWED);
+		}
+		if (callbackProperties.isAllowPrivateAddresses()) {
+			return;
+		}
+
+		try {
+			for (InetAddress address : InetAddress.getAllByName(host)) {
+				if (isPrivateAddress(address)) {
+					throw new InsightAppException(InsightAppError.CALLBACK_URL_NOT_ALLOWED);
+				}
+			}
+		} catch (UnknownHostException e) {
+			throw new InsightAppException(InsightAppError.CALLBACK_URL_NOT_ALLOWED, e);
+		}
+	}
+
+	/**
+	 * 콜백 전송 등록 - 현재 트랜잭션이 커밋된 이후 전송 시작
+	 */
+	public CallbackOutbox register(AnalysisResult result, InsightResponse response, String callbackUrl) {
+		CallbackOutbox outbox = outboxRepository.save(
+				new CallbackOutbox(result.getRequestId(), callbackUrl, serializer.serializeResponse(response)));
+
+		if (!callbackProperties.isEnabled()) {
+			return outbox;
+		}
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					dispatch(outbox.getOutboxId());
+				}
+			});
+		} else {
+			dispatch(outbox.getOutboxId());
+		}
+
+		return outbox;
+	}
+
+	/**
+	 * 재시도 시각이 도래한 전송 건 처리 (재시작 이전 미전송 건 포함)
+	 */
+	@Scheduled(fixedDelayString = "${" + CallbackProperties.PROPERTY_PREFIX + ".poll-interval-ms:5000}")
+	public void pollDue() {
+		if (!callbackProperties.isEnabled()) {
+			return;
+		}
+
+		int capacity = deliveryExecutor.getQueue().remainingCapacity();
+		if (capacity == 0) {
+			return;
+		}
+
+		List<CallbackOutbox> due = outboxRepository.findByStatusInAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				CLAIMABLE, LocalDateTime.now(), PageRequest.of(0, capacity));
+
+		due.forEach(outbox -> dispatch(outbox.getOutboxId()));
+	}
+
+	private void dispatch(Long outboxId) {
+		try {
+			deliveryExecutor.execute(() -> claimAndDeliver(outboxId));
+		} catch (RejectedExecutionException e) {
+			// 선점 전이므로 다음 폴링에서 다시 처리됨
+			log.warn("Callback delivery queue is full, outboxId={} deferred", outboxId);
+		}
+	}
+
+	/**
+	 * 선점 후 전송 - 다른 인스턴스/폴링 주기가 이미 가져간 건은 건너뜀
+	 */
+	void claimAndDeliver(Long outboxId) {
+		LocalDateTime now = LocalDateTime.now();
+		int claimed = outboxRepository.claim(outboxId, CLAIMABLE, CallbackStatus.IN_PROGRESS,
+				now, now.plus(callbackProperties.getLeaseDuration()));
+		if (claimed == 0) {
+			return;
+		}
+
+		deliver(outboxId);
+	}
+
+	void deliver(Long outboxId) {
+		CallbackOutbox outbox = outboxRepository.findById(outboxId).orElse(null);
+		if (outbox == null || outbox.getStatus() != CallbackStatus.IN_PROGRESS) {
+			return;
+		}
+
+		try {
+			verifyCallbackUrl(outbox.getCallbackUrl());
+		} catch (InsightAppException e) {
+			// 접수 이후 DNS 가 내부 주소로 바뀐 경우 - 재시도하지 않음
+			outbox.markFailed(e.getMessage(), outbox.getAttemptCount() + 1, LocalDateTime.now());
+			log.error("Callback URL not allowed, delivery abandoned: requestId={}", outbox.getRequestId());
+			outboxRepository.save(outbox);
+			return;
+		}
+
+		try {
+			restClient.post()
+					.uri(outbox.getCallbackUrl())
+					.contentType(MediaType.APPLICATION_JSON)
+					.header(REQUEST_ID_HEADER, outbox.getRequestId().toString())
+					.body(outbox.getPayload())
+					.retrieve()
+					.toBodilessEntity();
+
+			outbox.markDelivered();
+			log.info("Callback delivered: requestId={}, attempts={}", outbox.getRequestId(), outbox.getAttemptCount());
+		} catch (Exception e) {
+			Duration backoff = backoff(outbox.getAttemptCount() + 1);
+			outbox.markFailed(e.getMessage(), callbackProperties.getMaxAttempts(), LocalDateTime.now().plus(backoff));
+
+			if (outbox.getStatus() == CallbackStatus.FAILED) {
+				log.error("Callback delivery failed permanently: requestId={}, attempts={}, error={}",
+						outbox.getRequestId(), outbox.getAttemptCount(), e.getMessage());
+			} else {
+				log.warn("Callback delivery failed: requestId={}, attempts={}, retryIn={}ms, error={}",
+						outbox.getRequestId(), outbox.getAttemptCount(), backoff.toMillis(), e.getMessage());
+			}
+		}
+
+		outboxRepository.save(outbox);
+	}
+
+	/**
+	 * n번째 실패 이후 대기 시간 (initialBackoff * 2^(n-1), 최대 maxBackoff)
+	 */
+	Duration backoff(int attempt) {
+		Duration initial = callbackProperties.getInitialBackoff();
+		Duration max = callbackProperties.getMaxBackoff();
+		int shift = Math.min(Math.max(attempt - 1, 0), 30);
+		Duration delay = initial.multipliedBy(1L << shift);
+		return delay.compareTo(max) > 0 ? max : delay;
+	}
+
+	private boolean isAllowedHost(String host) {
+		List<String> allowedHosts = callbackProperties.getAllowedHosts();
+		if (allowedHosts == null || allowedHosts.isEmpty()) {
+			return true;
+		}
+
+		String normalized = host.toLowerCase(Locale.ROOT);
+		for (String allowed : allowedHosts) {
+			String pattern = allowed.toLowerCase(Locale.ROOT);
+			if (pattern.startsWith(".") ? normalized.endsWith(pattern) : normalized.equals(pattern)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 루프백, 링크 로컬(169.254/16, 클라우드 메타데이터 포함), 사설(10/8, 172.16/12, 192.168/16),
+	 * 와일드카드, 멀티캐스트, IPv6 고유 로컬(fc00::/7), 공유 주소(100.64/10)
+	 */
+	private static boolean isPrivateAddress(InetAddress address) {
+		if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+				|| address.isAnyLocalAddress() || address.isMulticastAddress()) {
+			return true;
+		}
+
+		byte[] bytes = address.getAddress();
+		if (address instanceof Inet6Address) {
+			return (bytes[0] & 0xfe) == 0xfc;
+		}
+		return (bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		deliveryExecutor.shutdown();
+		try {
+			if (!deliveryExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+				deliveryExecutor.shutdownNow();
+			}
+		} catch (InterruptedException e) {
+			deliveryExecutor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static class CallbackThreadFactory implements ThreadFactory {
+		private final AtomicInteger counter = new AtomicInteger();
+
+		@Override
+		public Thread newThread(@NonNull Runnable r) {
+			Thread thread = new Thread(r, "callback-delivery-" + counter.getAndIncrement());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -1,18 +1,22 @@
 package com.aiinsightagent.app.service;
 
 import com.aiinsightagent.app.entity.Actor;
-import com.aiinsightagent.app.entity.AnalysisRawData;
-import com.aiinsightagent.app.entity.PreparedContext;
+import com.aiinsightagent.app.entity.AnalysisResult;
 import com.aiinsightagent.app.util.InsightRequestValidator;
 import com.aiinsightagent.core.context.GeminiContext;
 import com.aiinsightagent.core.facade.InsightFacade;
+import com.aiinsightagent.core.model.InsightHistoryQuery;
 import com.aiinsightagent.core.model.InsightHistoryResponse;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.InsightResultHistoryResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -23,6 +27,10 @@ public class InsightService {
 	private final AnalysisRawDataService rawDataService;
 	private final AnalysisResultService resultService;
 	private final PreparedContextService contextService;
+	private final CallbackDeliveryService callbackService;
+	private final TokenQuotaService quotaService;
+	private final AnalysisBatchWriteService batchWriteService;
+	private final TransactionTemplate transactionTemplate;
 
 	public InsightResponse requestInsight(String purpose, String prompt) {
 		log.info("answer called with purpose: {}, prompt: {}", purpose, prompt);
@@ -30,7 +38,13 @@ public class InsightService {
 		return insightFacade.answer(purpose, prompt);
 	}
 
-	@Transactional
+	/**
+	 * 분석 요청 처리 - Gemini 대기 동안 DB 커넥션을 점유하지 않도록 짧은 트랜잭션 2개로 분리
+	 * 1) 접수 트랜잭션: 주체 조회/저장, 전처리 데이터 조회, 결과 재사용
+	 * 2) 분석 요청 (트랜잭션 없음) - 응답 캐시에 없을 때만 토큰 쿼터 확인 (캐시 적중은 토큰을 쓰지 않으므로 허용)
+	 * 3) 저장: 원본 + 결과 저장 및 콜백 등록 - 동시 요청과 묶어 한 트랜잭션/JDBC 배치로 그룹 커밋 (콜백은 커밋 이후 전송)
+	 * - 원본은 분석 성공 후에 결과와 함께 저장하므로 2) 실패 시 남는 데이터 없음
+	 */
 	public InsightResponse requestInsight(InsightRequest data) {
 		log.info("analysis called with purpose: {}, userPrompts: {}"
 				, data.getPurpose(), data.getUserPrompt());
@@ -38,24 +52,23 @@ public class InsightService {
 		try {
 			// 1. 요청 데이터 검증
 			InsightRequestValidator.validate(data);
+			if (data.getCallbackUrl() != null) {
+				callbackService.verifyCallbackUrl(data.getCallbackUrl());
+			}
 
-			// 2. 접근 주체 조회 및 저장
-			Actor actor = actorService.getOrCreate(data.getUserId());
-
-			// 3. 원본 데이터 저장
-			AnalysisRawData rawData = rawDataService.save(actor, data.getPurpose(), data.getUserPrompt());
+			// 2. 접수 (짧은 트랜잭션)
+			Admission admission = transactionTemplate.execute(status -> admit(data));
+			if (admission.reused != null) {
+				return admission.reused;
+			}
 
-			// 4. 전처리 데이터 조회
-			String contextText = contextService.findByActorKey(actor)
-					.map(PreparedContext::asPromptText)
-					.orElse(null);
+			// 3. 분석 요청 (트랜잭션 밖에서 대기, 초과 시 큐 제출 없이 거절)
+			InsightResponse response = insightFacade.analysis(data, admission.contextText,
+					() -> quotaService.checkAdmission(admission.actor));
 
-			// 5. 분석 요청
-			InsightResponse response = insightFacade.analysis(data, contextText);
-
-			// 6. 결과 저장
-			String analysisVersion = GeminiContext.getAnalysisVersion();
-			resultService.save(actor, rawData, response, analysisVersion);
+			// 4. 원본/결과 저장 및 콜백 등록 (그룹 커밋, 콜백은 커밋 이후 전송)
+			batchWriteService.write(admission.actor, data, admission.contextText, response,
+					GeminiContext.getAnalysisVersion());
 
 			return response;
 		} finally {
@@ -64,9 +77,73 @@ public class InsightService {
 		}
 	}
 
-	public InsightHistoryResponse getHistory(String userId) {
-		Actor actor = actorService.get(userId);
+	private Admission admit(InsightRequest data) {
+		// 접근 주체 조회 및 저장
+		Actor actor = actorService.getOrCreate(data.getUserId());
+		GeminiContext.setActorKey(actor.getActorKey());
+
+		// 전처리 데이터 조회
+		String contextText = contextService.findPromptText(actor).orElse(null);
+
+		// 같은 전처리 데이터로 분석한 최근 동일 요청 결과 재사용 (Gemini 호출 및 신규 저장 생략)
+		if (!data.isBypassCache()) {
+			Optional<AnalysisResult> reusable = resultService.findReusable(
+					actor, data.getPurpose(), data.getUserPrompt(), contextText);
+			if (reusable.isPresent()) {
+				return Admission.reused(reuse(reusable.get(), data));
+			}
+		}
+
+		return new Admission(actor, contextText, null);
+	}
+
+	private InsightResponse reuse(AnalysisResult result, InsightRequest data) {
+		log.info("Reusing stored analysis result: requestId={}, regDate={}", result.getRequestId(), result.getRegDate());
+
+		InsightResponse response = resultService.toResponse(result);
+		if (data.getCallbackUrl() != null) {
+			callbackService.register(result, response, data.getCallbackUrl());
+		}
+		return response;
+	}
+
+	public InsightHistoryResponse getHistory(InsightHistoryQuery query) {
+		Actor actor = actorService.get(query.getUserId());
 
-		return rawDataService.getUserPromtListByActor(actor);
+		return rawDataService.getUserPromtListByActor(actor, query);
+	}
+
+	public InsightResultHistoryResponse getHistoryWithResults(InsightHistoryQuery query) {
+		Actor actor = actorService.get(query.getUserId());
+
+		return rawDataService.getHistoryWithResults(actor, query);
+	}
+
+	/**
+	 * 이력 NDJSON 스트리밍 (주체/커서 검증은 응답 시작 전에 수행)
+	 */
+	public StreamingResponseBody streamHistory(InsightHistoryQuery query) {
+		Actor actor = actorService.get(query.getUserId());
+
+		return rawDataService.streamUserPrompts(actor, query);
+	}
+
+	/**
+	 * 접수 트랜잭션 결과 (reused 가 있으면 분석 생략)
+	 */
+	private static final class Admission {
+		private final Actor actor;
+		private final String contextText;
+		private final InsightResponse reused;
+
+		private Admission(Actor actor, String contextText, InsightResponse reused) {
+			this.actor = actor;
+			this.contextText = contextText;
+			this.reused = reused;
+		}
+
+		private static Admission reused(InsightResponse response) {
+			return new Admission(null, null, response);
+		}
 	}
 }
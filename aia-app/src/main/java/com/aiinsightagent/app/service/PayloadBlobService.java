@@ -0,0 +1,124 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.repository.PayloadBlobRepository;
+import com.aiinsightagent.app.util.PayloadCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 원본 페이로드 내용 주소 저장 서비스
+ * - 같은 페이로드(SHA-256)는 payload_blob 에 한 번만 저장하고 원본 데이터는 해시로 참조
+ * - 저장 전 키 조회로 이미 있는 페이로드는 본문을 보내지 않음, 없는 것만 INSERT
+ *   (동시 INSERT 경합은 ON DUPLICATE KEY 로 무시 - 같은 해시는 같은 본문)
+ * - 원본 데이터 삭제 경로가 없어 페이로드는 삭제하지 않음 (참조 수 관리 없음)
+ */
+@Slf4j
+@Service
+public class PayloadBlobService {
+	public static final String WRITE_METRIC_NAME = "aia.payload.blob.writes";
+
+	static final String INSERT_SQL = """
+			insert into payload_blob (content_hash, payload_data, reg_date)
+			values (?, ?, ?)
+			on duplicate key update content_hash = content_hash
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PayloadBlobRepository blobRepository;
+	private final PayloadCodec codec;
+	private final Counter dedupCounter;
+	private final Counter insertCounter;
+
+	public PayloadBlobService(JdbcTemplate jdbcTemplate,
+							  PayloadBlobRepository blobRepository,
+							  PayloadCodec codec,
+							  MeterRegistry meterRegistry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.blobRepository = blobRepository;
+		this.codec = codec;
+		this.dedupCounter = Counter.builder(WRITE_METRIC_NAME)
+				.description("Raw payloads written to payload_blob")
+				.tag("result", "dedup")
+				.register(meterRegistry);
+		this.insertCounter = Counter.builder(WRITE_METRIC_NAME)
+				.description("Raw payloads written to payload_blob")
+				.tag("result", "insert")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 원본 데이터가 참조하는 페이로드 저장 (이미 있으면 생략) 후 원본 데이터에 연결
+	 */
+	public void store(List<AnalysisRawData> rawData) {
+		Map<String, String> payloads = new TreeMap<>();
+		for (AnalysisRawData data : rawData) {
+			if (data.getContentHash() != null) {
+				payloads.putIfAbsent(data.getContentHash(), data.getRawPayload());
+			}
+		}
+		if (payloads.isEmpty()) {
+			return;
+		}
+
+		storePayloads(payloads);
+		for (AnalysisRawData data : rawData) {
+			if (data.getContentHash() != null) {
+				data.linkPayloadBlob(blobRepository.getReferenceById(data.getContentHash()));
+			}
+		}
+	}
+
+	/**
+	 * 해시 -> 페이로드 저장 (없는 해시만 INSERT)
+	 *
+	 * @return 새로 저장한 페이로드 수
+	 */
+	public int storePayloads(Map<String, String> payloads) {
+		if (payloads.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> existing = findExisting(payloads.keySet());
+		List<Map.Entry<String, String>> missing = new ArrayList<>();
+		for (Map.Entry<String, String> payload : payloads.entrySet()) {
+			if (!existing.contains(payload.getKey())) {
+				missing.add(payload);
+			}
+		}
+		dedupCounter.increment(existing.size());
+		if (missing.isEmpty()) {
+			return 0;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.batchUpdate(INSERT_SQL, missing, missing.size(), (ps, payload) -> {
+			ps.setString(1, payload.getKey());
+			ps.setBytes(2, codec.encode(payload.getValue()));
+			ps.setTimestamp(3, now);
+		});
+		insertCounter.increment(missing.size());
+		log.debug("Payload blobs stored: distinct={}, inserted={}", payloads.size(), missing.size());
+		return missing.size();
+	}
+
+	private Set<String> findExisting(Set<String> contentHashes) {
+		String placeholders = String.join(", ", Collections.nCopies(contentHashes.size(), "?"));
+		return new HashSet<>(jdbcTemplate.queryForList(
+				"select content_hash from payload_blob where content_hash in (" + placeholders + ")",
+				String.class, contentHashes.toArray()));
+	}
+}
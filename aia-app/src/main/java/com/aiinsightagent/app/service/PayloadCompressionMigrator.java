@@ -0,0 +1,201 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.PayloadCompressionProperties;
+import com.aiinsightagent.app.entity.CompressedPayload;
+import com.aiinsightagent.app.entity.PayloadBlob;
+import com.aiinsightagent.app.util.PayloadCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 평문 페이로드 -> 압축 저장 마이그레이션
+ * - 기동 시(스키마 갱신 이후) 기존 평문 컬럼의 NOT NULL 제약 해제 (신규 행은 평문 컬럼을 쓰지 않음)
+ * - 주기적으로 테이블별 batchSize 행씩 키 순서로 읽어 옮기고 기존 컬럼은 null 로 비움
+ *   - 분석 결과/컨텍스트: 행별 압축 컬럼으로 이전
+ *   - 원본 데이터: 평문/행별 압축 컬럼 모두 payload_blob 으로 이전해 해시 참조 (기존 행도 중복 제거)
+ * - 아직 옮기지 않은 행만 갱신하므로 그 사이 애플리케이션이 새 값을 저장했다면 덮어쓰지 않음
+ * - 신규 행은 기존 컬럼을 쓰지 않으므로 한 번 끝난 테이블은 재기동 전까지 다시 확인하지 않음
+ *   -> 모든 인스턴스에서 완료 로그를 확인한 뒤 원본 데이터의 평문/행별 압축 컬럼과 엔티티의 읽기 대체 경로 제거
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PayloadCompressionMigrator implements SmartInitializingSingleton {
+	public static final String MIGRATED_METRIC_NAME = "aia.payload.compression.migrated";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final PayloadCodec codec;
+	private final PayloadBlobService payloadBlobService;
+	private final PayloadCompressionProperties properties;
+	private final MeterRegistry meterRegistry;
+	// 스키마 갱신(ddl-auto)이 끝난 뒤 실행되도록 의존
+	private final EntityManagerFactory entityManagerFactory;
+
+	/**
+	 * 테이블별 마지막으로 처리한 키
+	 */
+	private final Map<CompressedPayload, Long> watermarks = new ConcurrentHashMap<>();
+	private final Set<CompressedPayload> completed = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		for (CompressedPayload payload : CompressedPayload.values()) {
+			relaxLegacyColumn(payload);
+		}
+	}
+
+	/**
+	 * @return NOT NULL 제약을 해제했으면 true
+	 */
+	public boolean relaxLegacyColumn(CompressedPayload payload) {
+		Boolean nullable = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			DatabaseMetaData metaData = connection.getMetaData();
+			try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null,
+					payload.getTableName(), payload.getLegacyColumn())) {
+				return !columns.next() || !"NO".equalsIgnoreCase(columns.getString("IS_NULLABLE"));
+			}
+		});
+		if (Boolean.TRUE.equals(nullable)) {
+			return false;
+		}
+
+		jdbcTemplate.execute("alter table " + payload.getTableName()
+				+ " modify " + payload.getLegacyColumn() + " longtext null");
+		log.info("Legacy payload column relaxed to nullable: table={}, column={}",
+				payload.getTableName(), payload.getLegacyColumn());
+		return true;
+	}
+
+	@Scheduled(fixedDelayString = "${" + PayloadCompressionProperties.PROPERTY_PREFIX + ".migration-interval-ms:1000}")
+	public void migrate() {
+		if (!properties.isMigrationEnabled()) {
+			return;
+		}
+
+		for (CompressedPayload payload : CompressedPayload.values()) {
+			if (completed.contains(payload)) {
+				continue;
+			}
+			try {
+				migrateBatch(payload);
+			} catch (Exception e) {
+				log.warn("Payload compression migration failed: table={}, error={}", payload.getTableName(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * @return 옮긴 행 수
+	 */
+	public int migrateBatch(CompressedPayload payload) {
+		long lastId = watermarks.getOrDefault(payload, 0L);
+		if (payload.isContentAddressed()) {
+			return migrateToBlobs(payload, lastId);
+		}
+
+		List<LegacyRow> rows = jdbcTemplate.query(
+				"select " + payload.getIdColumn() + ", " + payload.getLegacyColumn()
+						+ " from " + payload.getTableName()
+						+ " where " + payload.getIdColumn() + " > ? and " + payload.getLegacyColumn() + " is not null"
+						+ " order by " + payload.getIdColumn() + " limit ?",
+				(rs, rowNum) -> new LegacyRow(rs.getLong(1), rs.getString(2)),
+				lastId, Math.max(1, properties.getMigrationBatchSize()));
+		if (rows.isEmpty()) {
+			if (completed.add(payload)) {
+				log.info("Payload compression migration completed: table={}", payload.getTableName());
+			}
+			return 0;
+		}
+
+		jdbcTemplate.batchUpdate(
+				"update " + payload.getTableName()
+						+ " set " + payload.getDataColumn() + " = ?, " + payload.getLegacyColumn() + " = null"
+						+ " where " + payload.getIdColumn() + " = ? and " + payload.getLegacyColumn() + " is not null",
+				rows, rows.size(), (ps, row) -> {
+					ps.setBytes(1, codec.encode(row.payload));
+					ps.setLong(2, row.id);
+				});
+
+		return migrated(payload, rows);
+	}
+
+	/**
+	 * 평문 또는 행별 압축 페이로드를 payload_blob 으로 옮기고 해시 참조로 변경
+	 */
+	private int migrateToBlobs(CompressedPayload payload, long lastId) {
+		List<LegacyRow> rows = jdbcTemplate.query(
+				"select " + payload.getIdColumn() + ", " + payload.getLegacyColumn() + ", " + payload.getDataColumn()
+						+ " from " + payload.getTableName()
+						+ " where " + payload.getIdColumn() + " > ? and " + payload.getHashColumn() + " is null"
+						+ " and (" + payload.getLegacyColumn() + " is not null or " + payload.getDataColumn() + " is not null)"
+						+ " order by " + payload.getIdColumn() + " limit ?",
+				(rs, rowNum) -> {
+					String legacy = rs.getString(2);
+					return new LegacyRow(rs.getLong(1), legacy != null ? legacy : codec.decode(rs.getBytes(3)));
+				},
+				lastId, Math.max(1, properties.getMigrationBatchSize()));
+		if (rows.isEmpty()) {
+			if (completed.add(payload)) {
+				log.info("Payload compression migration completed: table={}", payload.getTableName());
+			}
+			return 0;
+		}
+
+		// 페이로드를 먼저 저장한 뒤 참조로 변경 (중간에 실패해도 참조 없는 페이로드만 남음)
+		Map<String, String> payloads = new TreeMap<>();
+		for (LegacyRow row : rows) {
+			row.contentHash = PayloadBlob.hash(row.payload);
+			payloads.putIfAbsent(row.contentHash, row.payload);
+		}
+		payloadBlobService.storePayloads(payloads);
+
+		jdbcTemplate.batchUpdate(
+				"update " + payload.getTableName()
+						+ " set " + payload.getHashColumn() + " = ?, " + payload.getLegacyColumn() + " = null, "
+						+ payload.getDataColumn() + " = null"
+						+ " where " + payload.getIdColumn() + " = ? and " + payload.getHashColumn() + " is null",
+				rows, rows.size(), (ps, row) -> {
+					ps.setString(1, row.contentHash);
+					ps.setLong(2, row.id);
+				});
+		return migrated(payload, rows);
+	}
+
+	private int migrated(CompressedPayload payload, List<LegacyRow> rows) {
+		watermarks.put(payload, rows.get(rows.size() - 1).id);
+		Counter.builder(MIGRATED_METRIC_NAME)
+				.tag("table", payload.getTableName())
+				.register(meterRegistry)
+				.increment(rows.size());
+		log.debug("Payload compression migrated: table={}, rows={}, lastId={}",
+				payload.getTableName(), rows.size(), rows.get(rows.size() - 1).id);
+		return rows.size();
+	}
+
+	private static final class LegacyRow {
+		private final long id;
+		private final String payload;
+		private String contentHash;
+
+		private LegacyRow(long id, String payload) {
+			this.id = id;
+			this.payload = payload;
+		}
+	}
+}
@@ -1,28 +1,86 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.PreparedContextCacheProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.PreparedContext;
 import com.aiinsightagent.app.repository.PreparedContextRepository;
 import com.aiinsightagent.app.util.InsightRequestValidator;
 import com.aiinsightagent.app.util.ParserUtils;
+import com.aiinsightagent.core.cache.GeminiContextCache;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.model.Context;
 import com.aiinsightagent.core.model.ContextResponse;
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 사전 컨텍스트 서비스
+ * - actorId -> 프롬프트 텍스트 캐시: 분석 요청마다 LONGTEXT 본문을 읽지 않도록 함 (컨텍스트가 없는 주체도 캐시)
+ * - 생성/수정/삭제 시 즉시 + 커밋 이후 한 번 더 무효화 (커밋 전에 다른 요청이 이전 값을 다시 적재하는 경우 대비)
+ * - 무효화마다 주체별 세대 번호를 남기고, 적재는 조회 시작 이후 무효화가 없을 때만 반영
+ *   (무효화 전에 이전 행을 읽은 요청이 무효화 뒤에 캐시에 다시 넣지 못하도록 같은 키의 compute 안에서 비교)
+ * - syncEnabled 시 캐시된 항목의 (contextId, version) 을 주기적으로 DB 와 비교해 다른 인스턴스의 변경 반영
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PreparedContextService {
+	public static final String CACHE_METRIC_NAME = "aia.prepared.context.cache";
+
     private final PreparedContextRepository contextRepository;
 	private final ParserUtils parserUtils;
+	private final GeminiContextCache contextCache;
+	private final PreparedContextCacheProperties cacheProperties;
+	private final Cache<Long, CachedContext> promptCache;
+	/**
+	 * 주체별 마지막 무효화 세대 (캐시 유지 시간보다 오래된 적재는 없으므로 같은 시간 후 만료)
+	 */
+	private final Cache<Long, Long> invalidatedGenerations;
+	private final AtomicLong generation = new AtomicLong();
+
+	public PreparedContextService(PreparedContextRepository contextRepository,
+								  ParserUtils parserUtils,
+								  GeminiContextCache contextCache,
+								  PreparedContextCacheProperties cacheProperties,
+								  MeterRegistry meterRegistry) {
+		this.contextRepository = contextRepository;
+		this.parserUtils = parserUtils;
+		this.contextCache = contextCache;
+		this.cacheProperties = cacheProperties;
+		this.promptCache = CacheBuilder.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfterWrite(cacheProperties.getTtl())
+				.recordStats()
+				.build();
+		this.invalidatedGenerations = CacheBuilder.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfterWrite(cacheProperties.getTtl())
+				.build();
+
+		GuavaCacheMetrics.monitor(meterRegistry, promptCache, CACHE_METRIC_NAME);
+
+		log.info("PreparedContextService initialized: cacheEnabled={}, maximumSize={}, ttl={}, syncEnabled={}",
+				cacheProperties.isEnabled(), cacheProperties.getMaximumSize(), cacheProperties.getTtl(),
+				cacheProperties.isSyncEnabled());
+	}
 
 	private PreparedContext getEntity(Actor actor) {
 		return contextRepository.findByActor(actor)
@@ -33,6 +91,69 @@ public class PreparedContextService {
         return contextRepository.findByActor(actor);
     }
 
+	/**
+	 * 분석 프롬프트에 넣을 컨텍스트 텍스트 (캐시 적중 시 DB 조회 없음)
+	 */
+	public Optional<String> findPromptText(Actor actor) {
+		Long actorId = actor.getActorId();
+		if (!cacheProperties.isEnabled() || actorId == null) {
+			return contextRepository.findByActor(actor).map(PreparedContext::asPromptText);
+		}
+
+		CachedContext cached = promptCache.getIfPresent(actorId);
+		if (cached == null) {
+			long loadGeneration = generation.incrementAndGet();
+			CachedContext loaded = contextRepository.findByActor(actor)
+					.map(CachedContext::of)
+					.orElse(CachedContext.ABSENT);
+			putIfNotInvalidated(actorId, loaded, loadGeneration);
+			cached = loaded;
+		}
+		return Optional.ofNullable(cached.promptText);
+	}
+
+	public CacheStats cacheStats() {
+		return promptCache.stats();
+	}
+
+	/**
+	 * 캐시된 항목의 컨텍스트 키/버전을 DB 와 비교해 다른 인스턴스에서 변경된 항목 제거
+	 *
+	 * @return 제거한 항목 수
+	 */
+	@Scheduled(fixedDelayString = "${" + PreparedContextCacheProperties.PROPERTY_PREFIX + ".sync-interval-ms:5000}")
+	public int syncVersions() {
+		if (!cacheProperties.isEnabled() || !cacheProperties.isSyncEnabled()) {
+			return 0;
+		}
+
+		int invalidated = 0;
+		try {
+			List<Long> actorIds = new ArrayList<>(promptCache.asMap().keySet());
+			for (List<Long> chunk : Lists.partition(actorIds, Math.max(1, cacheProperties.getSyncChunkSize()))) {
+				Map<Long, PreparedContextRepository.ContextVersion> current = new HashMap<>();
+				for (PreparedContextRepository.ContextVersion version : contextRepository.findVersionsByActorIds(chunk)) {
+					current.put(version.getActorId(), version);
+				}
+
+				for (Long actorId : chunk) {
+					CachedContext cached = promptCache.getIfPresent(actorId);
+					if (cached != null && !cached.matches(current.get(actorId))) {
+						invalidate(actorId);
+						invalidated++;
+					}
+				}
+			}
+		} catch (Exception e) {
+			log.warn("Prepared context cache sync failed: {}", e.getMessage());
+		}
+
+		if (invalidated > 0) {
+			log.debug("Prepared context cache synced: invalidated={}", invalidated);
+		}
+		return invalidated;
+	}
+
     @Transactional
     public ContextResponse create(Actor actor, Context context) {
         // 1. context 조회 및 중복 검증
@@ -47,6 +168,9 @@ public class PreparedContextService {
 
 		contextRepository.save(preparedContext);
 
+		// 3. 컨텍스트 없음으로 캐시된 항목 제거
+		invalidatePromptText(actor);
+
         return ContextResponse.builder()
                 .resultCode(HttpStatus.OK.value())
                 .resultMsg(HttpStatus.OK.getReasonPhrase())
@@ -84,6 +208,10 @@ public class PreparedContextService {
 
         contextRepository.save(preparedContext);
 
+        // 3. 이전 컨텍스트로 생성된 Gemini 컨텍스트 캐시 / 프롬프트 텍스트 캐시 제거
+        contextCache.invalidate(actor.getActorKey());
+		invalidatePromptText(actor);
+
         return ContextResponse.builder()
                 .resultCode(HttpStatus.OK.value())
                 .resultMsg(HttpStatus.OK.getReasonPhrase())
@@ -99,9 +227,78 @@ public class PreparedContextService {
         // 2. PreparedContext 삭제
         contextRepository.deleteById(preparedContext.getContextId());
 
+        // 3. Gemini 컨텍스트 캐시 / 프롬프트 텍스트 캐시 제거
+        contextCache.invalidate(actor.getActorKey());
+		invalidatePromptText(actor);
+
         return ContextResponse.builder()
                 .resultCode(HttpStatus.OK.value())
                 .resultMsg(HttpStatus.OK.getReasonPhrase())
                 .build();
     }
-}
\ No newline at end of file
+
+	private void invalidatePromptText(Actor actor) {
+		Long actorId = actor.getActorId();
+		if (actorId == null) {
+			return;
+		}
+
+		invalidate(actorId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					invalidate(actorId);
+				}
+			});
+		}
+	}
+
+	/**
+	 * 항목 제거 + 무효화 세대 기록 (같은 키의 적재와 직렬화)
+	 */
+	private void invalidate(Long actorId) {
+		promptCache.asMap().compute(actorId, (key, current) -> {
+			invalidatedGenerations.put(key, generation.incrementAndGet());
+			return null;
+		});
+	}
+
+	/**
+	 * 조회 시작(loadGeneration) 이후 무효화되지 않았을 때만 적재 (그사이 무효화됐으면 기존 상태 유지)
+	 */
+	private void putIfNotInvalidated(Long actorId, CachedContext loaded, long loadGeneration) {
+		promptCache.asMap().compute(actorId, (key, current) -> {
+			Long invalidatedAt = invalidatedGenerations.getIfPresent(key);
+			return invalidatedAt != null && invalidatedAt > loadGeneration ? current : loaded;
+		});
+	}
+
+	/**
+	 * 캐시 항목 (promptText 가 null 이면 컨텍스트 없음)
+	 */
+	private static final class CachedContext {
+		private static final CachedContext ABSENT = new CachedContext(null, 0, null);
+
+		private final Long contextId;
+		private final long version;
+		private final String promptText;
+
+		private CachedContext(Long contextId, long version, String promptText) {
+			this.contextId = contextId;
+			this.version = version;
+			this.promptText = promptText;
+		}
+
+		private static CachedContext of(PreparedContext context) {
+			return new CachedContext(context.getContextId(), context.getVersion(), context.asPromptText());
+		}
+
+		private boolean matches(PreparedContextRepository.ContextVersion current) {
+			if (current == null) {
+				return contextId == null;
+			}
+			return current.getContextId().equals(contextId) && current.getVersion() == version;
+		}
+	}
+}
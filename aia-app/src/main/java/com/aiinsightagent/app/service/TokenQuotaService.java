@@ -0,0 +1,132 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.TokenQuotaProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.TokenUsageLedgerRepository;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.model.TokenUsageRollup;
+import com.aiinsightagent.core.queue.TokenUsageRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 주체별 일일 토큰 쿼터 서비스
+ * - 워커가 전달한 토큰 사용 기록으로 메모리 카운터를 즉시 증가 (TokenUsageRecorder)
+ * - 요청 접수 시 메모리 카운터만으로 한도 초과 여부 판단 (큐 제출 전 거절, DB 조회 없음)
+ * - 주기적으로 저장된 당일 사용량(토큰 원장)과 비교해 큰 값으로 맞춤 (재시작/다중 인스턴스 사용량 반영)
+ * - 접수 시점에는 아직 사용량을 알 수 없으므로 동시에 접수된 요청만큼 한도를 넘을 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenQuotaService implements TokenUsageRecorder {
+	public static final String REJECTED_METRIC_NAME = "aia.token.quota.rejected";
+
+	private final TokenQuotaProperties quotaProperties;
+	private final TokenUsageLedgerRepository ledgerRepository;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicReference<DailyUsage> dailyUsage = new AtomicReference<>(new DailyUsage(LocalDate.now()));
+
+	@Override
+	public void record(TokenUsageRecord record) {
+		if (!quotaProperties.isEnabled() || record.getActorKey() == null) {
+			return;
+		}
+
+		today().counter(record.getActorKey()).addAndGet(record.getTotalTokens());
+	}
+
+	/**
+	 * 요청 접수 전 쿼터 확인 - 당일 사용량이 한도 이상이면 TOKEN_QUOTA_EXCEEDED
+	 */
+	public void checkAdmission(Actor actor) {
+		if (!quotaProperties.isEnabled()) {
+			return;
+		}
+
+		long limit = quotaProperties.getDailyLimit(actor.getActorKey(), actor.getActorType());
+		if (limit <= 0) {
+			return;
+		}
+
+		long used = getUsedTokens(actor.getActorKey());
+		if (used >= limit) {
+			meterRegistry.counter(REJECTED_METRIC_NAME, "actorType", String.valueOf(actor.getActorType())).increment();
+			log.warn("Token quota exceeded: actorKey={}, actorType={}, used={}, limit={}",
+					actor.getActorKey(), actor.getActorType(), used, limit);
+			throw new InsightAppException(InsightAppError.TOKEN_QUOTA_EXCEEDED,
+					String.format("Daily token quota exceeded (used=%d, limit=%d)", used, limit));
+		}
+	}
+
+	/**
+	 * 당일 누적 사용 토큰 (메모리 카운터 기준)
+	 */
+	public long getUsedTokens(String actorKey) {
+		AtomicLong counter = today().counters.get(actorKey);
+		return counter != null ? counter.get() : 0;
+	}
+
+	/**
+	 * 저장된 당일 사용량과 동기화 - 아직 적재되지 않은 메모리 사용량을 잃지 않도록 큰 값 유지
+	 */
+	@Scheduled(fixedDelayString = "${" + TokenQuotaProperties.PROPERTY_PREFIX + ".reconcile-interval-ms:60000}")
+	public void reconcile() {
+		if (!quotaProperties.isEnabled()) {
+			return;
+		}
+
+		try {
+			DailyUsage usage = today();
+			for (TokenUsageRollup rollup : ledgerRepository.rollupByActor(usage.date, usage.date)) {
+				if (rollup.getGroupKey() == null || rollup.getTotalTokens() == null) {
+					continue;
+				}
+				usage.counter(rollup.getGroupKey()).accumulateAndGet(rollup.getTotalTokens(), Math::max);
+			}
+		} catch (Exception e) {
+			log.warn("Token quota reconcile failed: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 날짜가 바뀌면 카운터를 새로 시작
+	 */
+	private DailyUsage today() {
+		LocalDate now = LocalDate.now();
+		DailyUsage current = dailyUsage.get();
+		while (!current.date.equals(now)) {
+			DailyUsage next = new DailyUsage(now);
+			if (dailyUsage.compareAndSet(current, next)) {
+				return next;
+			}
+			current = dailyUsage.get();
+		}
+		return current;
+	}
+
+	private static class DailyUsage {
+		private final LocalDate date;
+		private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+		private DailyUsage(LocalDate date) {
+			this.date = date;
+		}
+
+		private AtomicLong counter(String actorKey) {
+			return counters.computeIfAbsent(actorKey, key -> new AtomicLong());
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.TokenUsageLedgerProperties;
+import com.aiinsightagent.app.enums.UsageRollupType;
+import com.aiinsightagent.app.repository.TokenUsageLedgerRepository;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.model.TokenUsageRollup;
+import com.aiinsightagent.core.queue.TokenUsageRecorder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 토큰 사용 원장 서비스
+ * - 워커가 전달한 기록을 메모리 버퍼에만 담고 즉시 반환 (요청 경로에서 DB 쓰기 없음)
+ * - 주기적으로 버퍼를 비우며 JDBC 배치 INSERT 로 적재 (IDENTITY 키라 JPA 배치 대신 JdbcTemplate 사용)
+ * - 버퍼가 가득 차거나 적재에 실패한 기록은 버리고 aia.token.ledger.dropped 로 집계
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenUsageLedgerService implements TokenUsageRecorder {
+	public static final String DROPPED_METRIC_NAME = "aia.token.ledger.dropped";
+	public static final String PENDING_METRIC_NAME = "aia.token.ledger.pending";
+
+	static final String INSERT_SQL = """
+			insert into token_usage_ledger
+			(trace_id, actor_key, purpose, profile, model_id, model_name,
+			 prompt_tokens, completion_tokens, thoughts_tokens, total_tokens,
+			 wait_time_ms, api_time_ms, usage_date, reg_date)
+			values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+	private final TokenUsageLedgerRepository ledgerRepository;
+	private final TokenUsageLedgerProperties ledgerProperties;
+	private final MeterRegistry meterRegistry;
+
+	private BlockingQueue<TokenUsageRecord> buffer;
+	private Counter droppedCounter;
+
+	@PostConstruct
+	public void init() {
+		buffer = new ArrayBlockingQueue<>(ledgerProperties.getBufferCapacity());
+		droppedCounter = Counter.builder(DROPPED_METRIC_NAME)
+				.description("Token usage records dropped before being persisted")
+				.register(meterRegistry);
+		meterRegistry.gauge(PENDING_METRIC_NAME, buffer, BlockingQueue::size);
+
+		log.info("TokenUsageLedgerService initialized: enabled={}, bufferCapacity={}, batchSize={}",
+				ledgerProperties.isEnabled(), ledgerProperties.getBufferCapacity(), ledgerProperties.getBatchSize());
+	}
+
+	/**
+	 * 워커 스레드에서 호출 - 버퍼에 넣기만 하고 반환
+	 */
+	@Override
+	public void record(TokenUsageRecord record) {
+		if (!ledgerProperties.isEnabled()) {
+			return;
+		}
+
+		if (!buffer.offer(record)) {
+			droppedCounter.increment();
+			log.warn("Token usage ledger buffer is full, record dropped: traceId={}", record.getTraceId());
+		}
+	}
+
+	/**
+	 * 버퍼에 쌓인 기록을 batchSize 단위 JDBC 배치로 적재 (버퍼가 빌 때까지 반복)
+	 *
+	 * @return 적재한 기록 수
+	 */
+	@Scheduled(fixedDelayString = "${" + TokenUsageLedgerProperties.PROPERTY_PREFIX + ".flush-interval-ms:1000}")
+	public synchronized int flush() {
+		int batchSize = Math.max(1, ledgerProperties.getBatchSize());
+		List<TokenUsageRecord> batch = new ArrayList<>(Math.min(batchSize, buffer.size()));
+		int flushed = 0;
+
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			try {
+				jdbcTemplate.batchUpdate(INSERT_SQL, batch, batchSize, TokenUsageLedgerService::bind);
+				flushed += batch.size();
+			} catch (Exception e) {
+				droppedCounter.increment(batch.size());
+				log.error("Failed to persist token usage ledger batch: size={}, error={}", batch.size(), e.getMessage());
+			}
+			batch.clear();
+		}
+
+		if (flushed > 0) {
+			log.debug("Token usage ledger flushed: count={}", flushed);
+		}
+		return flushed;
+	}
+
+	@Transactional(readOnly = true)
+	public List<TokenUsageRollup> rollup(UsageRollupType type, LocalDate from, LocalDate to) {
+		return switch (type) {
+			case DAY -> ledgerRepository.rollupByDay(from, to);
+			case ACTOR -> ledgerRepository.rollupByActor(from, to);
+			case KEY -> ledgerRepository.rollupByKey(from, to);
+		};
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		int flushed = flush();
+		log.info("TokenUsageLedgerService stopped: flushed={}", flushed);
+	}
+
+	private static void bind(PreparedStatement ps, TokenUsageRecord record) throws SQLException {
+		ps.setString(1, record.getTraceId());
+		ps.setString(2, record.getActorKey());
+		ps.setString(3, record.getPurpose());
+		ps.setString(4, record.getProfile());
+		ps.setString(5, record.getModelId());
+		ps.setString(6, record.getModelName());
+		ps.setInt(7, record.getPromptTokens());
+		ps.setInt(8, record.getCompletionTokens());
+		ps.setInt(9, record.getThoughtsTokens());
+		ps.setInt(10, record.getTotalTokens());
+		ps.setLong(11, record.getWaitTimeMs());
+		ps.setLong(12, record.getApiTimeMs());
+		ps.setObject(13, record.getCreatedAt().toLocalDate());
+		ps.setTimestamp(14, Timestamp.valueOf(record.getCreatedAt()));
+	}
+}
@@ -0,0 +1,62 @@
+package com.aiinsightagent.app.util;
+
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 이력 키셋 커서 - 마지막으로 반환한 원본 데이터의 (regDate, inputId)
+ * - 클라이언트에는 불투명한 base64url 문자열로 전달
+ */
+@Getter
+public class HistoryCursor {
+	private static final String DELIMITER = "|";
+
+	private final LocalDateTime regDate;
+	private final Long inputId;
+
+	private HistoryCursor(LocalDateTime regDate, Long inputId) {
+		this.regDate = regDate;
+		this.inputId = inputId;
+	}
+
+	public static HistoryCursor of(AnalysisRawData rawData) {
+		return of(rawData.getRegDate(), rawData.getInputId());
+	}
+
+	public static HistoryCursor of(LocalDateTime regDate, Long inputId) {
+		return new HistoryCursor(regDate, inputId);
+	}
+
+	/**
+	 * @return 커서가 비어 있으면 null
+	 */
+	public static HistoryCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int index = decoded.lastIndexOf(DELIMITER);
+			if (index < 0) {
+				throw new InsightAppException(InsightAppError.INVALID_HISTORY_CURSOR);
+			}
+			return new HistoryCursor(LocalDateTime.parse(decoded.substring(0, index)),
+					Long.parseLong(decoded.substring(index + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InsightAppException(InsightAppError.INVALID_HISTORY_CURSOR);
+		}
+	}
+
+	public String encode() {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((regDate + DELIMITER + inputId).getBytes(StandardCharsets.UTF_8));
+	}
+}
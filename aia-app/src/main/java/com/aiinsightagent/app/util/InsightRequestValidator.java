@@ -10,6 +10,7 @@ import com.aiinsightagent.core.model.prompt.UserPrompt;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.util.CollectionUtils;
 
+import java.net.URI;
 import java.util.Map;
 
 public class InsightRequestValidator {
@@ -24,6 +25,7 @@ public class InsightRequestValidator {
 		validatePurpose(request.getPurpose());
 		validateDataKey(request);
 		validateDataFields(request);
+		validateCallbackUrl(request.getCallbackUrl());
 	}
 
 	public static void validate(Actor actor, Context context) {
@@ -67,6 +69,21 @@ public class InsightRequestValidator {
 		}
 	}
 
+	public static void validateCallbackUrl(String callbackUrl) {
+		if (callbackUrl == null) return;
+
+		try {
+			URI uri = URI.create(callbackUrl);
+			String scheme = uri.getScheme();
+			if (uri.getHost() == null
+					|| !("http".equalsIgnoreCase(scheme) || "https".equalsIgnoreCase(scheme))) {
+				throw new InsightAppException(InsightAppError.INVALID_CALLBACK_URL);
+			}
+		} catch (IllegalArgumentException e) {
+			throw new InsightAppException(InsightAppError.INVALID_CALLBACK_URL);
+		}
+	}
+
 	public static void validateContext(Context context) {
 		if (context != null) {
 			String category = context.getCategory();
@@ -3,6 +3,7 @@ package com.aiinsightagent.app.util;
 import com.aiinsightagent.app.exception.InsightAppError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.stereotype.Component;
 
@@ -22,4 +23,20 @@ public class InsightResultSerializer {
 			throw new InsightException(InsightAppError.FAIL_SERIALIZE_INSIGHT_DETAIL);
 		}
 	}
+
+	public InsightDetail deserialize(String resultPayload) {
+		try {
+			return objectMapper.readValue(resultPayload, InsightDetail.class);
+		} catch (Exception e) {
+			throw new InsightException(InsightAppError.FAIL_DESERIALIZE_INSIGHT_DETAIL);
+		}
+	}
+
+	public String serializeResponse(InsightResponse response) {
+		try {
+			return objectMapper.writeValueAsString(response);
+		} catch (Exception e) {
+			throw new InsightException(InsightAppError.FAIL_SERIALIZE_INSIGHT_RESPONSE);
+		}
+	}
 }
\ No newline at end of file
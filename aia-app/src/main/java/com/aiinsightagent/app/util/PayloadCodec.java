@@ -0,0 +1,161 @@
+package com.aiinsightagent.app.util;
+
+import com.aiinsightagent.app.config.PayloadCompressionProperties;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 페이로드 저장 코덱
+ * - 형식: [0x00 0xA1][코덱 1B][사전 1B][원문 길이 4B][본문]
+ * - 코덱: NONE(원문), DEFLATE(raw deflate + 사전) - 작은 페이로드나 압축 이득이 없으면 NONE
+ * - 사전: 저장 페이로드의 JSON 구조(필드명/열거값)로 구성한 preset dictionary, 헤더의 사전 번호로 선택
+ *   -> 기존 행 복원을 위해 등록된 사전 파일은 수정하지 않고 새 번호로 추가
+ * - 헤더가 없는 값은 압축 도입 전 평문(UTF-8)으로 읽음
+ */
+@Component
+public class PayloadCodec {
+	static final byte MAGIC_0 = 0x00;
+	static final byte MAGIC_1 = (byte) 0xA1;
+	static final int HEADER_LENGTH = 8;
+
+	static final byte CODEC_NONE = 0;
+	static final byte CODEC_DEFLATE = 1;
+
+	static final byte DICTIONARY_NONE = 0;
+	static final byte DICTIONARY_V1 = 1;
+
+	private static final Map<Byte, byte[]> DICTIONARIES = Map.of(
+			DICTIONARY_V1, loadDictionary("compression/payload-dictionary-v1.txt"));
+
+	private final PayloadCompressionProperties properties;
+
+	public PayloadCodec(PayloadCompressionProperties properties) {
+		this.properties = properties;
+	}
+
+	public byte[] encode(String text) {
+		if (text == null) {
+			return null;
+		}
+
+		byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+		if (properties.isEnabled() && plain.length >= properties.getMinSize()) {
+			byte[] compressed = deflate(plain, DICTIONARIES.get(DICTIONARY_V1));
+			if (compressed.length < plain.length) {
+				return withHeader(CODEC_DEFLATE, DICTIONARY_V1, plain.length, compressed);
+			}
+		}
+		return withHeader(CODEC_NONE, DICTIONARY_NONE, plain.length, plain);
+	}
+
+	public String decode(byte[] data) {
+		if (data == null) {
+			return null;
+		}
+		if (!hasHeader(data)) {
+			return new String(data, StandardCharsets.UTF_8);
+		}
+
+		byte codec = data[2];
+		int length = ByteBuffer.wrap(data, 4, 4).getInt();
+		return switch (codec) {
+			case CODEC_NONE -> new String(data, HEADER_LENGTH, data.length - HEADER_LENGTH, StandardCharsets.UTF_8);
+			case CODEC_DEFLATE -> new String(inflate(data, dictionary(data[3]), length), StandardCharsets.UTF_8);
+			default -> throw new InsightAppException(InsightAppError.FAIL_DECODE_PAYLOAD);
+		};
+	}
+
+	public static boolean hasHeader(byte[] data) {
+		return data.length >= HEADER_LENGTH && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+	}
+
+	private byte[] deflate(byte[] plain, byte[] dictionary) {
+		Deflater deflater = new Deflater(properties.getLevel(), true);
+		try {
+			deflater.setDictionary(dictionary);
+			deflater.setInput(plain);
+			deflater.finish();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, plain.length / 4));
+			byte[] buffer = new byte[8192];
+			while (!deflater.finished()) {
+				out.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return out.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private byte[] inflate(byte[] data, byte[] dictionary, int length) {
+		Inflater inflater = new Inflater(true);
+		try {
+			if (dictionary != null) {
+				inflater.setDictionary(dictionary);
+			}
+			inflater.setInput(data, HEADER_LENGTH, data.length - HEADER_LENGTH);
+
+			byte[] plain = new byte[length];
+			int offset = 0;
+			while (offset < length) {
+				int inflated = inflater.inflate(plain, offset, length - offset);
+				if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+					break;
+				}
+				offset += inflated;
+			}
+			if (offset != length) {
+				throw new InsightAppException(InsightAppError.FAIL_DECODE_PAYLOAD);
+			}
+			return plain;
+		} catch (DataFormatException e) {
+			throw new InsightAppException(InsightAppError.FAIL_DECODE_PAYLOAD, e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	private static byte[] dictionary(byte dictionaryId) {
+		if (dictionaryId == DICTIONARY_NONE) {
+			return null;
+		}
+
+		byte[] dictionary = DICTIONARIES.get(dictionaryId);
+		if (dictionary == null) {
+			throw new InsightAppException(InsightAppError.FAIL_DECODE_PAYLOAD);
+		}
+		return dictionary;
+	}
+
+	private static byte[] withHeader(byte codec, byte dictionaryId, int length, byte[] body) {
+		return ByteBuffer.allocate(HEADER_LENGTH + body.length)
+				.put(MAGIC_0)
+				.put(MAGIC_1)
+				.put(codec)
+				.put(dictionaryId)
+				.putInt(length)
+				.put(body)
+				.array();
+	}
+
+	private static byte[] loadDictionary(String path) {
+		try (InputStream in = new ClassPathResource(path).getInputStream()) {
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException("Failed to load payload dictionary: " + path, e);
+		}
+	}
+}
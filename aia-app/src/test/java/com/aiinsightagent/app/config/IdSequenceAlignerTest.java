@@ -0,0 +1,67 @@
+package com.aiinsightagent.app.config;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.entity.IdSequence;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("IdSequenceAligner 테스트")
+class IdSequenceAlignerTest {
+	private static final long LEGACY_MAX_ID = 1_000_000L;
+
+	@Autowired
+	private IdSequenceAligner aligner;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from actor where actor_id = ?", LEGACY_MAX_ID);
+	}
+
+	@Test
+	@DisplayName("IDENTITY 로 적재된 기존 최대 키보다 시퀀스가 뒤처지면 다음 블록이 최대 키 이후가 되도록 재시작")
+	void align_restartsSequenceAfterLegacyMaxId() {
+		// given - IDENTITY 시절 적재된 큰 키
+		jdbcTemplate.update("insert into actor (actor_id, actor_key, actor_type, status, reg_date) "
+				+ "values (?, 'legacy-user', 'DEVICE', 'ACTIVE', current_timestamp)", LEGACY_MAX_ID);
+
+		// when
+		boolean realigned = aligner.align(IdSequence.ACTOR);
+
+		// then - pooled 옵티마이저가 사용하는 블록 (next - ALLOCATION_SIZE, next] 이 기존 키와 겹치지 않음
+		assertThat(realigned).isTrue();
+		Long next = jdbcTemplate.queryForObject("select next value for actor_seq", Long.class);
+		assertThat(next - IdSequence.ALLOCATION_SIZE + 1).isGreaterThan(LEGACY_MAX_ID);
+
+		// 이미 정렬된 시퀀스는 그대로 둠
+		assertThat(aligner.align(IdSequence.ACTOR)).isFalse();
+	}
+}
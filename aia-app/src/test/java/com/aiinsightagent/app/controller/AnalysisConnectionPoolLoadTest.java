@@ -0,0 +1,168 @@
+package com.aiinsightagent.app.controller;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.repository.ActorRepository;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.repository.AnalysisResultRepository;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.model.InsightRequest;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.aiinsightagent.core.queue.GeminiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import com.google.genai.types.GenerateContentResponse;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 커넥션 풀보다 많은 분석 요청이 동시에 Gemini 응답을 기다릴 수 있는지 확인하는 부하 테스트
+ * - 풀 크기 2, 커넥션 대기 제한 1초에서 8개 요청이 모두 동시에 분석 단계에 진입해야 함
+ * - 분석 호출을 트랜잭션 안에서 하면 풀 크기만큼만 진입하고 나머지는 커넥션 대기 시간 초과로 실패
+ */
+@SpringBootTest(classes = TestApplication.class, properties = {
+		"spring.datasource.hikari.maximum-pool-size=2",
+		"spring.datasource.hikari.connection-timeout=1000"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("분석 요청 커넥션 풀 부하 테스트")
+class AnalysisConnectionPoolLoadTest {
+	private static final int CONCURRENT_REQUESTS = 8;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private ActorRepository actorRepository;
+
+	@Autowired
+	private AnalysisRawDataRepository rawDataRepository;
+
+	@Autowired
+	private AnalysisResultRepository analysisResultRepository;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	@AfterEach
+	void tearDown() {
+		analysisResultRepository.deleteAll();
+		rawDataRepository.deleteAll();
+		actorRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("풀 크기(2)보다 많은 8개 분석이 동시에 Gemini 응답을 대기하고 모두 성공")
+	void concurrentAnalyses_exceedPoolSize() throws Exception {
+		// given
+		assertThat(((HikariDataSource) dataSource).getMaximumPoolSize()).isEqualTo(2);
+
+		GenerateContentResponse mockResponse = mock(GenerateContentResponse.class);
+		when(mockResponse.text()).thenReturn("{\"summary\":\"ok\",\"issueCategories\":[],"
+				+ "\"rootCauseInsights\":[],\"recommendedActions\":[],\"priorityScore\":10}");
+		GeminiResponse geminiResponse = new GeminiResponse(mockResponse, "m00", "gemini-2.5-flash");
+
+		CountDownLatch allWaiting = new CountDownLatch(CONCURRENT_REQUESTS);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		when(geminiChatAdapter.getResponse(anyString(), any())).thenAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			allWaiting.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+				return geminiResponse;
+			} finally {
+				inFlight.decrementAndGet();
+			}
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+		List<Future<Integer>> statuses = new ArrayList<>();
+
+		// when
+		try {
+			for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+				String body = objectMapper.writeValueAsString(request("load-user-" + i));
+				statuses.add(executor.submit(() -> mockMvc.perform(post("/api/v1/analysis")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(body))
+						.andReturn().getResponse().getStatus()));
+			}
+
+			boolean concurrent = allWaiting.await(10, TimeUnit.SECONDS);
+			release.countDown();
+
+			// then
+			assertThat(concurrent).isTrue();
+			for (Future<Integer> status : statuses) {
+				assertThat(status.get(20, TimeUnit.SECONDS)).isEqualTo(200);
+			}
+		} finally {
+			release.countDown();
+			executor.shutdownNow();
+		}
+
+		assertThat(maxInFlight.get()).isEqualTo(CONCURRENT_REQUESTS);
+		assertThat(analysisResultRepository.count()).isEqualTo(CONCURRENT_REQUESTS);
+
+		System.out.printf("%n=== 커넥션 풀 부하 테스트 ===%npoolSize=2, 동시 분석=%d, 최대 동시 대기=%d%n",
+				CONCURRENT_REQUESTS, maxInFlight.get());
+	}
+
+	private InsightRequest request(String userId) {
+		return InsightRequest.builder()
+				.userId(userId)
+				.purpose("load_test_analysis")
+				.userPrompt(List.of(UserPrompt.builder()
+						.dataKey("session_1")
+						.data(Map.of("distance", "5km", "pace", "5:30"))
+						.build()))
+				.bypassCache(true)
+				.build();
+	}
+}
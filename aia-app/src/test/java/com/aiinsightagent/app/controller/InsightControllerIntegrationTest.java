@@ -10,17 +10,27 @@ import com.google.genai.errors.ClientException;
 import com.google.genai.types.GenerateContentResponse;
 import com.google.genai.types.GenerateContentResponseUsageMetadata;
 import java.util.Optional;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.aiinsightagent.app.config.ResultReuseProperties;
 import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.exception.InsightAppError;
 import com.aiinsightagent.app.entity.PreparedContext;
 import com.aiinsightagent.app.repository.ActorRepository;
 import com.aiinsightagent.app.repository.AnalysisResultRepository;
 import com.aiinsightagent.app.repository.PreparedContextRepository;
+import com.aiinsightagent.app.service.PreparedContextService;
+import com.aiinsightagent.core.model.Context;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -30,13 +40,16 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -65,6 +78,15 @@ class InsightControllerIntegrationTest {
 	@Autowired
 	private AnalysisResultRepository analysisResultRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PreparedContextService preparedContextService;
+
+	@Autowired
+	private ResultReuseProperties resultReuseProperties;
+
 	@MockitoBean
 	private Client geminiClient;
 
@@ -97,7 +119,7 @@ class InsightControllerIntegrationTest {
 		when(mockUsage.totalTokenCount()).thenReturn(Optional.of(150));
 		when(mockResponse.usageMetadata()).thenReturn(Optional.of(mockUsage));
 		GeminiResponse geminiResponse = new GeminiResponse(mockResponse, "m01", "gemini-2.5-flash");
-		when(geminiChatAdapter.getResponse(anyString())).thenReturn(geminiResponse);
+		when(geminiChatAdapter.getResponse(anyString(), any())).thenReturn(geminiResponse);
 
 		// 테스트 데이터 초기화
 		analysisResultRepository.deleteAll();
@@ -534,12 +556,196 @@ class InsightControllerIntegrationTest {
 					.andExpect(jsonPath("$.resultCode").value(200))
 					.andExpect(jsonPath("$.insightRecords.length()").value(2));
 		}
+
+		@Test
+		@DisplayName("성공: size 단위 키셋 페이지 조회 (nextCursor 로 다음 페이지)")
+		void getHistory_Paged_FollowsNextCursor() throws Exception {
+			// given - 목적이 다른 분석 요청 3건
+			for (int i = 0; i < 3; i++) {
+				requestAnalysis("page_purpose_" + i);
+			}
+
+			// when & then - 첫 페이지는 최신 2건 + 커서
+			String firstPage = mockMvc.perform(get("/api/v1/analysis/history")
+							.param("userId", "test-user")
+							.param("size", "2"))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.insightRecords.length()").value(2))
+					.andExpect(jsonPath("$.insightRecords[0].userPrompt.dataKey").value("page_purpose_2"))
+					.andExpect(jsonPath("$.nextCursor").isNotEmpty())
+					.andReturn().getResponse().getContentAsString();
+			String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+			// 두 번째 페이지는 남은 1건, 커서 없음
+			mockMvc.perform(get("/api/v1/analysis/history")
+							.param("userId", "test-user")
+							.param("size", "2")
+							.param("cursor", nextCursor))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.insightRecords.length()").value(1))
+					.andExpect(jsonPath("$.insightRecords[0].userPrompt.dataKey").value("page_purpose_0"))
+					.andExpect(jsonPath("$.nextCursor").doesNotExist());
+		}
+
+		@Test
+		@DisplayName("성공: 목적/기간 필터 조회")
+		void getHistory_PurposeAndDateFilter_Success() throws Exception {
+			// given
+			requestAnalysis("filter_purpose_a");
+			requestAnalysis("filter_purpose_b");
+			String today = LocalDate.now().toString();
+
+			// when & then
+			mockMvc.perform(get("/api/v1/analysis/history")
+							.param("userId", "test-user")
+							.param("purpose", "filter_purpose_b")
+							.param("from", today)
+							.param("to", today))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.insightRecords.length()").value(1))
+					.andExpect(jsonPath("$.insightRecords[0].userPrompt.dataKey").value("filter_purpose_b"));
+
+			mockMvc.perform(get("/api/v1/analysis/history")
+							.param("userId", "test-user")
+							.param("to", LocalDate.now().minusDays(1).toString()))
+					.andExpect(status().isOk())
+					.andExpect(jsonPath("$.insightRecords.length()").value(0));
+		}
+
+		@Test
+		@DisplayName("실패: 잘못된 커서")
+		void getHistory_InvalidCursor_Returns400() throws Exception {
+			// given
+			requestAnalysis("cursor_purpose");
+
+			// when & then
+			mockMvc.perform(get("/api/v1/analysis/history")
+							.param("userId", "test-user")
+							.param("cursor", "not-a-cursor"))
+					.andExpect(status().isBadRequest())
+					.andExpect(jsonPath("$.code").value(InsightAppError.INVALID_HISTORY_CURSOR.getCode()));
+		}
+
+		@Test
+		@DisplayName("성공: NDJSON 스트리밍 응답")
+		void streamHistory_ReturnsNdjson() throws Exception {
+			// given - 스트리밍은 별도 스레드에서 조회하므로 이력이 없는 사용자로 응답 형식만 확인
+			actorRepository.save(Actor.create("stream-user"));
+
+			// when
+			MvcResult result = mockMvc.perform(get("/api/v1/analysis/history/stream")
+							.param("userId", "stream-user"))
+					.andExpect(request().asyncStarted())
+					.andReturn();
+
+			// then
+			mockMvc.perform(asyncDispatch(result))
+					.andExpect(status().isOk())
+					.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+					.andExpect(content().string(""));
+		}
+
+		@Test
+		@DisplayName("실패: NDJSON 스트리밍 - 존재하지 않는 사용자는 스트림 시작 전 오류")
+		void streamHistory_NonExistentUser_ThrowsException() throws Exception {
+			// when & then
+			mockMvc.perform(get("/api/v1/analysis/history/stream")
+							.param("userId", "non-existent-user"))
+					.andExpect(status().isBadRequest())
+					.andExpect(jsonPath("$.code").exists());
+		}
+
+		@Test
+		@DisplayName("성공: 원본 입력 + 분석 결과 이력을 행 수와 무관하게 고정된 쿼리 수로 조회")
+		void getHistoryWithResults_SingleProjectionQuery() throws Exception {
+			// given
+			for (int i = 0; i < 3; i++) {
+				requestAnalysis("result_purpose_" + i);
+			}
+			entityManager.flush();
+			entityManager.clear();
+			Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+			statistics.setStatisticsEnabled(true);
+			statistics.clear();
+
+			// when & then
+			try {
+				mockMvc.perform(get("/api/v1/analysis/history/results")
+								.param("userId", "test-user")
+								.param("size", "2"))
+						.andExpect(status().isOk())
+						.andExpect(jsonPath("$.historyItems.length()").value(2))
+						.andExpect(jsonPath("$.historyItems[0].purpose").value("result_purpose_2"))
+						.andExpect(jsonPath("$.historyItems[0].userPrompt[0].dataKey").value("result_purpose_2"))
+						.andExpect(jsonPath("$.historyItems[0].requestId").isNotEmpty())
+						.andExpect(jsonPath("$.historyItems[0].status").value("SUCCESS"))
+						.andExpect(jsonPath("$.historyItems[0].insight.summary").isNotEmpty())
+						.andExpect(jsonPath("$.nextCursor").isNotEmpty());
+
+				// 주체 조회 1회 + 이력 조회 1회
+				assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+				assertThat(statistics.getEntityLoadCount()).isLessThanOrEqualTo(1);
+			} finally {
+				statistics.setStatisticsEnabled(false);
+			}
+		}
+
+		private void requestAnalysis(String purpose) throws Exception {
+			InsightRequest request = InsightRequest.builder()
+					.userId("test-user")
+					.purpose(purpose)
+					.userPrompt(List.of(UserPrompt.builder()
+							.dataKey(purpose)
+							.data(Map.of("request", purpose))
+							.build()))
+					.build();
+
+			mockMvc.perform(post("/api/v1/analysis")
+							.contentType(MediaType.APPLICATION_JSON)
+							.content(objectMapper.writeValueAsString(request)))
+					.andExpect(status().isOk());
+		}
 	}
 
 	@Nested
 	@DisplayName("전체 워크플로우 통합 시나리오")
 	class IntegrationScenarioTest {
 
+		@Test
+		@DisplayName("시나리오: 분석 -> 동일 요청 재사용 -> 전처리 데이터 수정 -> 동일 요청은 새로 분석")
+		void contextUpdate_ThenSameRequest_Reanalyzes() throws Exception {
+			resultReuseProperties.setEnabled(true);
+			try {
+				String requestBody = objectMapper.writeValueAsString(insightRequest);
+
+				// 1. 첫 분석 후 동일 요청은 저장된 결과 재사용
+				for (int i = 0; i < 2; i++) {
+					mockMvc.perform(post("/api/v1/analysis")
+									.contentType(MediaType.APPLICATION_JSON)
+									.content(requestBody))
+							.andExpect(status().isOk());
+				}
+				verify(geminiChatAdapter, times(1)).getResponse(anyString(), any());
+
+				// 2. 전처리 데이터 수정
+				Actor actor = actorRepository.findByActorKey("test-user").orElseThrow();
+				preparedContextService.update(actor, Context.builder()
+						.userId("test-user")
+						.category("running_history")
+						.data(Map.of("averagePace", "5:30", "totalDistance", "150km"))
+						.build());
+
+				// 3. 같은 요청이라도 이전 컨텍스트로 분석한 결과는 재사용하지 않음
+				mockMvc.perform(post("/api/v1/analysis")
+								.contentType(MediaType.APPLICATION_JSON)
+								.content(requestBody))
+						.andExpect(status().isOk());
+				verify(geminiChatAdapter, times(2)).getResponse(anyString(), any());
+			} finally {
+				resultReuseProperties.setEnabled(false);
+			}
+		}
+
 		@Test
 		@DisplayName("시나리오: 분석 요청 -> 이력 조회")
 		void analysisAndHistory_Workflow() throws Exception {
@@ -877,7 +1083,7 @@ class InsightControllerIntegrationTest {
 		@DisplayName("실패: Gemini API Rate Limit 초과 시 429 반환 (POST /api/v1/analysis)")
 		void analysis_RateLimitExceeded_Returns429() throws Exception {
 			// given
-			when(geminiChatAdapter.getResponse(anyString()))
+			when(geminiChatAdapter.getResponse(anyString(), any()))
 					.thenThrow(new ClientException(429, "Resource has been exhausted", "RATE_LIMIT_EXCEEDED"));
 
 			String requestBody = objectMapper.writeValueAsString(insightRequest);
@@ -897,7 +1103,7 @@ class InsightControllerIntegrationTest {
 		@DisplayName("실패: Gemini API Rate Limit 초과 시 429 반환 (GET /api/v1/answer)")
 		void answer_RateLimitExceeded_Returns429() throws Exception {
 			// given
-			when(geminiChatAdapter.getResponse(anyString()))
+			when(geminiChatAdapter.getResponse(anyString(), any()))
 					.thenThrow(new ClientException(429, "Resource has been exhausted", "RATE_LIMIT_EXCEEDED"));
 
 			// when & then
@@ -931,7 +1137,7 @@ class InsightControllerIntegrationTest {
 			when(mockResponse.usageMetadata()).thenReturn(Optional.of(mockUsage));
 			GeminiResponse geminiResp = new GeminiResponse(mockResponse, "m01", "gemini-2.5-flash");
 
-			when(geminiChatAdapter.getResponse(anyString()))
+			when(geminiChatAdapter.getResponse(anyString(), any()))
 					.thenReturn(geminiResp)  // 첫 번째 호출: 성공
 					.thenThrow(new ClientException(429, "Resource has been exhausted", "RATE_LIMIT_EXCEEDED"));  // 두 번째 호출: Rate Limit
 
@@ -957,7 +1163,7 @@ class InsightControllerIntegrationTest {
 		void analysis_RateLimitMessage_ContainsDetails() throws Exception {
 			// given
 			String rateLimitMessage = "Quota exceeded for quota metric 'Generate Content API requests per minute'";
-			when(geminiChatAdapter.getResponse(anyString()))
+			when(geminiChatAdapter.getResponse(anyString(), any()))
 					.thenThrow(new ClientException(429, rateLimitMessage, "RATE_LIMIT_EXCEEDED"));
 
 			String requestBody = objectMapper.writeValueAsString(insightRequest);
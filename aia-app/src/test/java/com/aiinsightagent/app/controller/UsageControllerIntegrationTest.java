@@ -0,0 +1,136 @@
+package com.aiinsightagent.app.controller;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.repository.TokenUsageLedgerRepository;
+import com.aiinsightagent.app.service.TokenUsageLedgerService;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(classes = TestApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("UsageController 통합 테스트")
+class UsageControllerIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private TokenUsageLedgerService ledgerService;
+
+	@Autowired
+	private TokenUsageLedgerRepository ledgerRepository;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	@BeforeEach
+	void setUp() {
+		ledgerRepository.deleteAll();
+
+		LocalDateTime day1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+		LocalDateTime day2 = LocalDateTime.of(2026, 10, 2, 9, 0);
+		ledgerService.record(record("user-1", "m00", 100, 20, day1));
+		ledgerService.record(record("user-1", "m01", 200, 40, day1));
+		ledgerService.record(record("user-2", "m00", 50, 10, day2));
+		ledgerService.record(record(null, "m00", 10, 5, day2));
+		ledgerService.flush();
+	}
+
+	private TokenUsageRecord record(String actorKey, String modelId, int prompt, int completion, LocalDateTime at) {
+		return TokenUsageRecord.builder()
+				.traceId("trace")
+				.actorKey(actorKey)
+				.purpose("running_style_analysis")
+				.profile("default")
+				.modelId(modelId)
+				.modelName("gemini-2.5-flash")
+				.promptTokens(prompt)
+				.completionTokens(completion)
+				.totalTokens(prompt + completion)
+				.waitTimeMs(5)
+				.apiTimeMs(100)
+				.createdAt(at)
+				.build();
+	}
+
+	@Test
+	@DisplayName("배치 적재된 원장이 JPA 로 조회됨")
+	void flush_persistsLedgerRows() {
+		assertThat(ledgerRepository.count()).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/usage/rollup - 일별 집계")
+	void rollup_byDay() throws Exception {
+		mockMvc.perform(get(UsageController.PATH + "/rollup")
+						.param("groupBy", "DAY")
+						.param("from", "2026-10-01")
+						.param("to", "2026-10-31"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[0].groupKey").value("2026-10-01"))
+				.andExpect(jsonPath("$[0].requestCount").value(2))
+				.andExpect(jsonPath("$[0].totalTokens").value(360))
+				.andExpect(jsonPath("$[1].groupKey").value("2026-10-02"))
+				.andExpect(jsonPath("$[1].promptTokens").value(60));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/usage/rollup - 주체별 집계 (사용량 많은 순)")
+	void rollup_byActor() throws Exception {
+		mockMvc.perform(get(UsageController.PATH + "/rollup")
+						.param("groupBy", "ACTOR")
+						.param("from", "2026-10-01")
+						.param("to", "2026-10-31"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(3))
+				.andExpect(jsonPath("$[0].groupKey").value("user-1"))
+				.andExpect(jsonPath("$[0].totalTokens").value(360))
+				.andExpect(jsonPath("$[1].groupKey").value("user-2"));
+	}
+
+	@Test
+	@DisplayName("GET /api/v1/usage/rollup - 키별 집계, 기간 밖 기록 제외")
+	void rollup_byKey() throws Exception {
+		mockMvc.perform(get(UsageController.PATH + "/rollup")
+						.param("groupBy", "KEY")
+						.param("from", "2026-10-02")
+						.param("to", "2026-10-02"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(1))
+				.andExpect(jsonPath("$[0].groupKey").value("m00"))
+				.andExpect(jsonPath("$[0].requestCount").value(2))
+				.andExpect(jsonPath("$[0].totalTokens").value(75))
+				.andExpect(jsonPath("$[0].avgApiTimeMs").value(100.0));
+	}
+}
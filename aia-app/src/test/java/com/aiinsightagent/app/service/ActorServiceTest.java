@@ -1,17 +1,27 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.ActorCacheProperties;
 import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.enums.ActorStatus;
+import com.aiinsightagent.app.enums.ActorType;
 import com.aiinsightagent.app.repository.ActorRepository;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,7 +37,11 @@ class ActorServiceTest {
 	@Mock
 	private ActorRepository actorRepository;
 
-	@InjectMocks
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	private ActorCacheProperties cacheProperties;
+	private SimpleMeterRegistry meterRegistry;
 	private ActorService actorService;
 
 	private String actorKey;
@@ -36,7 +50,12 @@ class ActorServiceTest {
 	@BeforeEach
 	void setUp() {
 		actorKey = "test-actor-key";
-		actor = Actor.create(actorKey);
+		actor = actor(actorKey, 1L);
+
+		cacheProperties = new ActorCacheProperties() {
+		};
+		meterRegistry = new SimpleMeterRegistry();
+		actorService = new ActorService(actorRepository, jdbcTemplate, cacheProperties, meterRegistry);
 	}
 
 	@Test
@@ -56,21 +75,113 @@ class ActorServiceTest {
 	}
 
 	@Test
-	@DisplayName("getOrCreate - Actor가 존재하지 않는 경우 생성")
+	@DisplayName("getOrCreate - Actor가 존재하지 않는 경우 생성 키로 ID를 받아 재조회 없이 반환")
 	void getOrCreate_WhenActorNotExists_CreatesNewActor() {
 		// given
 		given(actorRepository.findByActorKey(actorKey))
 				.willReturn(Optional.empty());
-		given(actorRepository.save(any(Actor.class)))
-				.willReturn(actor);
+		givenUpsertReturnsKey(1L);
 
 		// when
 		Actor result = actorService.getOrCreate(actorKey);
 
 		// then
-		assertThat(result).isNotNull();
+		assertThat(result.getActorId()).isEqualTo(1L);
+		assertThat(result.getActorKey()).isEqualTo(actorKey);
+		assertThat(result.getActorType()).isEqualTo(ActorType.DEVICE);
+		assertThat(result.getStatus()).isEqualTo(ActorStatus.ACTIVE);
+		verify(actorRepository, times(1)).findByActorKey(actorKey);
+		verify(jdbcTemplate, never()).queryForObject(ActorService.LAST_INSERT_ID_SQL, Long.class);
+		verify(actorRepository, never()).findById(any());
+		verify(actorRepository, never()).save(any(Actor.class));
+	}
+
+	@Test
+	@DisplayName("getOrCreate - 동시 요청이 먼저 생성한 경우 유니크 제약 예외 없이 저장된 ID 사용")
+	void getOrCreate_WhenConcurrentlyCreated_ReturnsWinner() {
+		// given - 중복 키 경로에서 생성 키를 돌려주지 않는 드라이버는 LAST_INSERT_ID 로 기존 ID 조회
+		given(actorRepository.findByActorKey(actorKey))
+				.willReturn(Optional.empty());
+		given(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+				.willReturn(0);
+		given(jdbcTemplate.queryForObject(ActorService.LAST_INSERT_ID_SQL, Long.class))
+				.willReturn(51L);
+
+		// when
+		Actor result = actorService.getOrCreate(actorKey);
+
+		// then
+		assertThat(result.getActorId()).isEqualTo(51L);
+		assertThat(result.getActorKey()).isEqualTo(actorKey);
+		verify(actorRepository, never()).findById(any());
+		verify(actorRepository, never()).save(any(Actor.class));
+	}
+
+	@Test
+	@DisplayName("getOrCreate - 캐시에 있는 Actor는 DB 조회 없이 스냅샷으로 새 인스턴스 반환")
+	void getOrCreate_WhenCached_SkipsQuery() {
+		// given
+		given(actorRepository.findByActorKey(actorKey))
+				.willReturn(Optional.of(actor));
+		actorService.getOrCreate(actorKey);
+
+		// when
+		Actor first = actorService.getOrCreate(actorKey);
+		Actor second = actorService.getOrCreate(actorKey);
+
+		// then - 호출마다 별도 인스턴스 (엔티티 인스턴스를 공유하지 않음)
+		assertThat(first).isNotSameAs(actor).isNotSameAs(second);
+		assertThat(first.getActorId()).isEqualTo(actor.getActorId());
+		assertThat(first.getActorKey()).isEqualTo(actorKey);
+		assertThat(first.getActorType()).isEqualTo(actor.getActorType());
+		assertThat(first.getRegDate()).isEqualTo(actor.getRegDate());
 		verify(actorRepository, times(1)).findByActorKey(actorKey);
-		verify(actorRepository, times(1)).save(any(Actor.class));
+		verifyNoMoreInteractions(actorRepository);
+		verifyNoInteractions(jdbcTemplate);
+		assertThat(actorService.cacheStats().hitCount()).isEqualTo(2);
+		assertThat(meterRegistry.get("cache.gets").tag("cache", ActorService.CACHE_METRIC_NAME).tag("result", "hit")
+				.functionCounter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("getOrCreate - 트랜잭션 안에서 조회한 Actor는 커밋 이후에만 캐시")
+	void getOrCreate_InTransaction_CachesAfterCommit() {
+		// given
+		given(actorRepository.findByActorKey(actorKey))
+				.willReturn(Optional.of(actor));
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			actorService.getOrCreate(actorKey);
+			// 커밋 전 - 아직 캐시되지 않음
+			actorService.getOrCreate(actorKey);
+			verify(actorRepository, times(2)).findByActorKey(actorKey);
+
+			// when - 커밋
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		// then
+		assertThat(actorService.getOrCreate(actorKey).getActorId()).isEqualTo(actor.getActorId());
+		verify(actorRepository, times(2)).findByActorKey(actorKey);
+	}
+
+	@Test
+	@DisplayName("getOrCreate - 캐시 미사용 설정이면 매번 DB 조회")
+	void getOrCreate_CacheDisabled_AlwaysQueries() {
+		// given
+		cacheProperties.setEnabled(false);
+		given(actorRepository.findByActorKey(actorKey))
+				.willReturn(Optional.of(actor));
+
+		// when
+		actorService.getOrCreate(actorKey);
+		actorService.getOrCreate(actorKey);
+
+		// then
+		verify(actorRepository, times(2)).findByActorKey(actorKey);
 	}
 
 	@Test
@@ -123,14 +234,26 @@ class ActorServiceTest {
 		String nullActorKey = null;
 		given(actorRepository.findByActorKey(nullActorKey))
 				.willReturn(Optional.empty());
-		given(actorRepository.save(any(Actor.class)))
-				.willReturn(Actor.create(nullActorKey));
+		givenUpsertReturnsKey(1L);
 
 		// when
 		Actor result = actorService.getOrCreate(nullActorKey);
 
-		// then
+		// then - null 키는 캐시하지 않음
 		assertThat(result).isNotNull();
-		verify(actorRepository, times(1)).save(any(Actor.class));
+		verify(jdbcTemplate, times(1)).update(any(PreparedStatementCreator.class), any(KeyHolder.class));
+		assertThat(actorService.cacheStats().requestCount()).isZero();
+	}
+
+	private void givenUpsertReturnsKey(Long actorId) {
+		given(jdbcTemplate.update(any(PreparedStatementCreator.class), any(KeyHolder.class)))
+				.willAnswer(invocation -> {
+					invocation.<KeyHolder>getArgument(1).getKeyList().add(Map.of("actor_id", actorId));
+					return 1;
+				});
+	}
+
+	private static Actor actor(String actorKey, Long actorId) {
+		return Actor.of(actorId, actorKey, ActorType.DEVICE, ActorStatus.ACTIVE, LocalDateTime.now());
 	}
-}
\ No newline at end of file
+}
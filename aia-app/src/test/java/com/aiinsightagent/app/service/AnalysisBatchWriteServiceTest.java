@@ -0,0 +1,347 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.AnalysisWriteProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.enums.AnalysisStatus;
+import com.aiinsightagent.app.enums.AnalysisType;
+import com.aiinsightagent.app.enums.InputType;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.repository.AnalysisResultRepository;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightRequest;
+import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AnalysisBatchWriteService 테스트")
+class AnalysisBatchWriteServiceTest {
+
+	@Mock
+	private AnalysisRawDataService rawDataService;
+
+	@Mock
+	private AnalysisResultService resultService;
+
+	@Mock
+	private AnalysisRawDataRepository rawDataRepository;
+
+	@Mock
+	private AnalysisResultRepository resultRepository;
+
+	@Mock
+	private PayloadBlobService payloadBlobService;
+
+	@Mock
+	private CallbackDeliveryService callbackService;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
+	private AnalysisWriteProperties writeProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private AnalysisBatchWriteService writeService;
+	private Actor actor;
+
+	private final List<Integer> savedBatchSizes = Collections.synchronizedList(new ArrayList<>());
+	private final List<String> savingThreads = Collections.synchronizedList(new ArrayList<>());
+
+	@BeforeEach
+	void setUp() {
+		actor = Actor.create("test-user");
+		writeProperties = new AnalysisWriteProperties() {
+		};
+		meterRegistry = new SimpleMeterRegistry();
+
+		lenient().when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		lenient().when(rawDataService.create(any(), anyString(), any(), any()))
+				.thenAnswer(invocation -> new AnalysisRawData(invocation.getArgument(0), InputType.JSON,
+						invocation.getArgument(1), "[]"));
+		lenient().when(resultService.create(any(), any(), any(), any()))
+				.thenAnswer(invocation -> new AnalysisResult(invocation.getArgument(0), invocation.getArgument(1),
+						AnalysisType.STYLE, AnalysisStatus.SUCCESS, "{}", invocation.getArgument(3)));
+		lenient().when(rawDataRepository.saveAll(anyList()))
+				.thenAnswer(invocation -> {
+					List<AnalysisRawData> rawData = invocation.getArgument(0);
+					savedBatchSizes.add(rawData.size());
+					savingThreads.add(Thread.currentThread().getName());
+					return rawData;
+				});
+
+		writeService = new AnalysisBatchWriteService(rawDataService, resultService, rawDataRepository, resultRepository,
+				payloadBlobService, callbackService, transactionTemplate, writeProperties, meterRegistry);
+		writeService.init();
+	}
+
+	@AfterEach
+	void tearDown() {
+		writeService.shutdown();
+	}
+
+	private InsightRequest request(String purpose, String callbackUrl) {
+		return InsightRequest.builder()
+				.userId("test-user")
+				.purpose(purpose)
+				.userPrompt(List.of(UserPrompt.builder()
+						.dataKey("A0398D47")
+						.data(Map.of("duration", "3556"))
+						.build()))
+				.callbackUrl(callbackUrl)
+				.build();
+	}
+
+	private InsightResponse response() {
+		return InsightResponse.builder()
+				.resultCode(200)
+				.resultMsg("Success")
+				.insight(InsightDetail.builder().summary("summary").build())
+				.build();
+	}
+
+	@Test
+	@DisplayName("write - 원본/결과를 저장하고 콜백 URL 이 있으면 같은 트랜잭션에서 콜백 등록")
+	void write_persistsRawDataResultAndCallback() {
+		// given
+		InsightResponse response = response();
+
+		// when
+		AnalysisResult result = writeService.write(actor, request("running_style_analysis", "https://partner.example.com/hooks"),
+				null, response, "gemini-2.5-flash#00");
+
+		// then
+		assertThat(result.getAnalysisVersion()).isEqualTo("gemini-2.5-flash#00");
+		assertThat(result.getAnalysisInput().getPurpose()).isEqualTo("running_style_analysis");
+		verify(payloadBlobService).store(List.of(result.getAnalysisInput()));
+		verify(rawDataRepository).saveAll(List.of(result.getAnalysisInput()));
+		verify(resultRepository).saveAll(List.of(result));
+		verify(callbackService).register(result, response, "https://partner.example.com/hooks");
+		verify(transactionTemplate, times(1)).execute(any());
+	}
+
+	@Test
+	@DisplayName("write - 비활성화 시 요청 스레드에서 바로 저장")
+	void write_disabled_persistsInCallerThread() {
+		// given
+		writeProperties.setEnabled(false);
+
+		// when
+		writeService.write(actor, request("running_style_analysis", null), null, response(), "v1");
+
+		// then
+		assertThat(savingThreads).containsExactly(Thread.currentThread().getName());
+		verifyNoInteractions(callbackService);
+	}
+
+	@Test
+	@DisplayName("write - 호출 스레드에 트랜잭션이 진행 중이면 그 트랜잭션 안에서 저장")
+	void write_activeTransaction_persistsInCallerTransaction() {
+		// given
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+		try {
+			// when
+			writeService.write(actor, request("running_style_analysis", null), null, response(), "v1");
+		} finally {
+			TransactionSynchronizationManager.setActualTransactionActive(false);
+		}
+
+		// then
+		assertThat(savingThreads).containsExactly(Thread.currentThread().getName());
+	}
+
+	@Test
+	@DisplayName("write - 직전 커밋 동안 쌓인 동시 요청은 한 트랜잭션으로 묶어 저장")
+	void write_concurrentRequests_groupedIntoOneTransaction() throws Exception {
+		// given - 첫 배치 저장을 붙잡아 두는 동안 요청을 쌓음
+		CountDownLatch firstSaveEntered = new CountDownLatch(1);
+		CountDownLatch releaseFirstSave = new CountDownLatch(1);
+		blockFirstSave(firstSaveEntered, releaseFirstSave);
+
+		ExecutorService executor = Executors.newFixedThreadPool(6);
+		try {
+			List<CompletableFuture<AnalysisResult>> futures = new ArrayList<>();
+			futures.add(submit(executor, "first"));
+			assertThat(firstSaveEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+			for (int i = 0; i < 5; i++) {
+				futures.add(submit(executor, "queued-" + i));
+			}
+			awaitPending(5);
+
+			// when
+			releaseFirstSave.countDown();
+
+			// then
+			for (CompletableFuture<AnalysisResult> future : futures) {
+				assertThat(future.get(5, TimeUnit.SECONDS)).isNotNull();
+			}
+			assertThat(savedBatchSizes).containsExactly(1, 5);
+			assertThat(savingThreads).containsOnly("analysis-batch-writer");
+			assertThat(meterRegistry.get(AnalysisBatchWriteService.BATCH_SIZE_METRIC_NAME).summary().max())
+					.isEqualTo(5);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("write - 배치 저장 실패 시 요청별로 재시도해 원인이 된 요청만 실패")
+	void write_batchFailure_retriesIndividually() throws Exception {
+		// given
+		CountDownLatch firstSaveEntered = new CountDownLatch(1);
+		CountDownLatch releaseFirstSave = new CountDownLatch(1);
+		blockFirstSave(firstSaveEntered, releaseFirstSave);
+		when(resultRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<AnalysisResult> results = invocation.getArgument(0);
+			if (results.stream().anyMatch(result -> "bad".equals(result.getAnalysisInput().getPurpose()))) {
+				throw new IllegalStateException("constraint violation");
+			}
+			return results;
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			CompletableFuture<AnalysisResult> first = submit(executor, "first");
+			assertThat(firstSaveEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+			CompletableFuture<AnalysisResult> good1 = submit(executor, "good-1");
+			CompletableFuture<AnalysisResult> bad = submit(executor, "bad");
+			CompletableFuture<AnalysisResult> good2 = submit(executor, "good-2");
+			awaitPending(3);
+
+			// when
+			releaseFirstSave.countDown();
+
+			// then
+			assertThat(first.get(5, TimeUnit.SECONDS)).isNotNull();
+			assertThat(good1.get(5, TimeUnit.SECONDS).getAnalysisInput().getPurpose()).isEqualTo("good-1");
+			assertThat(good2.get(5, TimeUnit.SECONDS).getAnalysisInput().getPurpose()).isEqualTo("good-2");
+			assertThatThrownBy(() -> bad.get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(IllegalStateException.class)
+					.hasMessageContaining("constraint violation");
+			// 첫 요청 1건 + 실패한 배치 3건 + 개별 재시도 1건씩
+			assertThat(savedBatchSizes).containsExactly(1, 3, 1, 1, 1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("write - 저장 스레드가 가져가기 전에 대기 시간이 지나면 취소되어 저장/콜백 없음, 저장 중인 요청은 커밋까지 대기")
+	void write_timeoutBeforeClaim_cancelsPendingWrite() throws Exception {
+		// given - 첫 배치 저장을 대기 시간보다 오래 붙잡아 둠
+		writeProperties.setWriteTimeout(Duration.ofMillis(200));
+		CountDownLatch firstSaveEntered = new CountDownLatch(1);
+		CountDownLatch releaseFirstSave = new CountDownLatch(1);
+		blockFirstSave(firstSaveEntered, releaseFirstSave);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			CompletableFuture<AnalysisResult> first = submit(executor, "first");
+			assertThat(firstSaveEntered.await(5, TimeUnit.SECONDS)).isTrue();
+			CompletableFuture<AnalysisResult> late = CompletableFuture.supplyAsync(() -> writeService.write(actor,
+					request("late", "https://partner.example.com/hooks"), null, response(), "v1"), executor);
+
+			// when - 대기 중인 요청은 시간 초과로 실패한 뒤 첫 배치 해제
+			assertThatThrownBy(() -> late.get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(InsightAppException.class);
+			releaseFirstSave.countDown();
+
+			// then - 저장 중이던 요청은 시간이 지나도 커밋 결과를 받고, 취소된 요청은 저장되지 않음
+			assertThat(first.get(5, TimeUnit.SECONDS).getAnalysisInput().getPurpose()).isEqualTo("first");
+			writeService.shutdown();
+			assertThat(savedBatchSizes).containsExactly(1);
+			verify(rawDataRepository, times(1)).saveAll(anyList());
+			verifyNoInteractions(callbackService);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("write - 저장 중인 요청이 커밋 대기 시간까지 끝나지 않으면 취소되어 오류, 저장 스레드는 커밋하지 않고 롤백")
+	void write_commitTimeout_cancelsClaimedWrite() throws Exception {
+		// given - 저장 스레드가 첫 배치 저장에서 멈춤
+		writeProperties.setWriteTimeout(Duration.ofMillis(100));
+		writeProperties.setCommitTimeout(Duration.ofMillis(200));
+		CountDownLatch firstSaveEntered = new CountDownLatch(1);
+		CountDownLatch releaseFirstSave = new CountDownLatch(1);
+		blockFirstSave(firstSaveEntered, releaseFirstSave);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CompletableFuture<AnalysisResult> stalled = CompletableFuture.supplyAsync(() -> writeService.write(actor,
+					request("stalled", "https://partner.example.com/hooks"), null, response(), "v1"), executor);
+			assertThat(firstSaveEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+			// when - 요청 스레드는 무한정 기다리지 않고 실패
+			assertThatThrownBy(() -> stalled.get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(InsightAppException.class);
+			releaseFirstSave.countDown();
+
+			// then - 저장 스레드가 풀려도 취소된 요청은 커밋되지 않음 (트랜잭션 롤백)
+			writeService.shutdown();
+			assertThat(savedBatchSizes).containsExactly(1);
+			assertThat(meterRegistry.get(AnalysisBatchWriteService.BATCH_SIZE_METRIC_NAME).summary().count()).isZero();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void blockFirstSave(CountDownLatch entered, CountDownLatch release) {
+		doAnswer(invocation -> {
+			List<AnalysisRawData> rawData = invocation.getArgument(0);
+			savedBatchSizes.add(rawData.size());
+			savingThreads.add(Thread.currentThread().getName());
+			if (entered.getCount() > 0) {
+				entered.countDown();
+				release.await(5, TimeUnit.SECONDS);
+			}
+			return rawData;
+		}).when(rawDataRepository).saveAll(anyList());
+	}
+
+	private void awaitPending(int expected) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (meterRegistry.get(AnalysisBatchWriteService.PENDING_METRIC_NAME).gauge().value() < expected) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private CompletableFuture<AnalysisResult> submit(ExecutorService executor, String purpose) {
+		return CompletableFuture.supplyAsync(
+				() -> writeService.write(actor, request(purpose, null), null, response(), "v1"), executor);
+	}
+}
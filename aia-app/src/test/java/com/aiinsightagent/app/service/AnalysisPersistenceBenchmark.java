@@ -0,0 +1,208 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.config.AnalysisWriteProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.repository.ActorRepository;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.repository.AnalysisResultRepository;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightRequest;
+import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.IssueCategory;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 분석 결과 저장 처리량 비교 (요청별 트랜잭션 vs 그룹 커밋 + JDBC 배치)
+ * - 기본 test 에서 제외되며 benchmark 태스크로 실행 (기본 H2 메모리 DB)
+ * - MariaDB 대상 실행 예:
+ *   gradle :aia-app:benchmark --tests '*AnalysisPersistenceBenchmark'
+ *     -Dspring.datasource.url=jdbc:mariadb://localhost:3306/analysis_platform?rewriteBatchedStatements=true
+ *     -Dspring.datasource.driver-class-name=org.mariadb.jdbc.Driver
+ *     -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MariaDBDialect
+ */
+@Tag("benchmark")
+@SpringBootTest(classes = TestApplication.class, properties = {
+		"spring.jpa.show-sql=false",
+		"logging.level.org.hibernate.SQL=INFO",
+		"logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+		"logging.level.com.aiinsightagent=INFO"
+})
+@ActiveProfiles("test")
+class AnalysisPersistenceBenchmark {
+	private static final int THREADS = 32;
+	private static final int WARMUP_PER_THREAD = 20;
+	private static final int MEASURE_PER_THREAD = 100;
+
+	@Autowired
+	private ActorService actorService;
+
+	@Autowired
+	private AnalysisRawDataService rawDataService;
+
+	@Autowired
+	private AnalysisResultService resultService;
+
+	@Autowired
+	private AnalysisBatchWriteService batchWriteService;
+
+	@Autowired
+	private AnalysisWriteProperties writeProperties;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private ActorRepository actorRepository;
+
+	@Autowired
+	private AnalysisRawDataRepository rawDataRepository;
+
+	@Autowired
+	private AnalysisResultRepository resultRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	@AfterEach
+	void tearDown() {
+		writeProperties.setEnabled(true);
+		resultRepository.deleteAllInBatch();
+		rawDataRepository.deleteAllInBatch();
+		actorRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("동시 요청 저장 처리량 - 요청별 트랜잭션 vs 그룹 커밋")
+	void compareThroughput() throws Exception {
+		List<Actor> actors = new ArrayList<>();
+		for (int i = 0; i < THREADS; i++) {
+			actors.add(actorService.getOrCreate("bench-user-" + i));
+		}
+		InsightRequest request = sampleRequest();
+		InsightResponse response = sampleResponse();
+
+		// 기존 방식 - 요청마다 원본/결과를 각자 트랜잭션으로 저장
+		Write perRequest = actor -> transactionTemplate.execute(status -> {
+			resultService.save(actor, rawDataService.save(actor, request.getPurpose(), request.getUserPrompt()),
+					response, "bench");
+			return null;
+		});
+		Write groupCommit = actor -> batchWriteService.write(actor, request, null, response, "bench");
+
+		run(actors, perRequest, WARMUP_PER_THREAD);
+		run(actors, groupCommit, WARMUP_PER_THREAD);
+
+		long before = resultRepository.count();
+		double perRequestRps = run(actors, perRequest, MEASURE_PER_THREAD);
+
+		DistributionSummary batchSizes = meterRegistry.get(AnalysisBatchWriteService.BATCH_SIZE_METRIC_NAME).summary();
+		long batchesBefore = batchSizes.count();
+		double totalBefore = batchSizes.totalAmount();
+		double groupCommitRps = run(actors, groupCommit, MEASURE_PER_THREAD);
+		double avgBatch = (batchSizes.totalAmount() - totalBefore) / (batchSizes.count() - batchesBefore);
+
+		System.out.printf("%8s | %16s | %16s | %10s%n", "threads", "per-request rps", "group-commit rps", "avg batch");
+		System.out.printf("%8d | %16.0f | %16.0f | %10.1f%n", THREADS, perRequestRps, groupCommitRps, avgBatch);
+
+		assertEquals(before + 2L * THREADS * MEASURE_PER_THREAD, resultRepository.count());
+		assertTrue(avgBatch > 1);
+	}
+
+	/**
+	 * @return 초당 저장 요청 수
+	 */
+	private double run(List<Actor> actors, Write write, int perThread) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(actors.size());
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Actor actor : actors) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					for (int i = 0; i < perThread; i++) {
+						write.run(actor);
+					}
+					return null;
+				}));
+			}
+
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get();
+			}
+			long elapsed = System.nanoTime() - begin;
+			return actors.size() * perThread / (elapsed / 1_000_000_000.0);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static InsightRequest sampleRequest() {
+		List<UserPrompt> prompts = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			prompts.add(UserPrompt.builder()
+					.dataKey("session-" + i)
+					.data(Map.of("duration", String.valueOf(1800 + i), "heartRate", "152.4", "distance", "6.01"))
+					.build());
+		}
+		return InsightRequest.builder()
+				.userId("bench-user")
+				.purpose("running_style_analysis")
+				.userPrompt(prompts)
+				.build();
+	}
+
+	private static InsightResponse sampleResponse() {
+		return InsightResponse.builder()
+				.resultCode(200)
+				.resultMsg("Success")
+				.insight(new InsightDetail("주간 러닝 요약 - 후반 페이스 저하 반복",
+						List.of(new IssueCategory("페이스", "후반 구간 페이스 급감", "HIGH")),
+						List.of("수면 부족과 누적 피로"), List.of("존2 강도 유지"), 72))
+				.build();
+	}
+
+	@FunctionalInterface
+	private interface Write {
+		void run(Actor actor) throws Exception;
+	}
+}
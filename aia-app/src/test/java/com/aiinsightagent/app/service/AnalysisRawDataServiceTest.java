@@ -1,14 +1,25 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.HistoryProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.PayloadBlob;
+import com.aiinsightagent.app.enums.AnalysisStatus;
 import com.aiinsightagent.app.enums.InputType;
 import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
 import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.util.HistoryCursor;
+import com.aiinsightagent.app.util.InsightResultSerializer;
 import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightHistoryItem;
+import com.aiinsightagent.core.model.InsightHistoryQuery;
 import com.aiinsightagent.core.model.InsightHistoryResponse;
 import com.aiinsightagent.core.model.InsightRecord;
+import com.aiinsightagent.core.model.InsightResultHistoryResponse;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.util.RequestFingerprinter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,12 +27,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -42,7 +57,16 @@ class AnalysisRawDataServiceTest {
 	@Mock
 	private AnalysisRawDataRepository rawDataRepository;
 
-	@InjectMocks
+	@Mock
+	private PayloadBlobService payloadBlobService;
+
+	@Mock
+	private RequestFingerprinter fingerprinter;
+
+	@Mock
+	private InsightResultSerializer resultSerializer;
+
+	private HistoryProperties historyProperties;
 	private AnalysisRawDataService analysisRawDataService;
 
 	private Actor actor;
@@ -53,6 +77,11 @@ class AnalysisRawDataServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		historyProperties = new HistoryProperties() {
+		};
+		analysisRawDataService = new AnalysisRawDataService(objectMapper, rawDataRepository, payloadBlobService, fingerprinter,
+				historyProperties, resultSerializer);
+
 		// Actor 생성
 		actor = Actor.create("test-user-actor");
 		ReflectionTestUtils.setField(actor, "actorId", 1L);
@@ -148,6 +177,45 @@ class AnalysisRawDataServiceTest {
 		verify(rawDataRepository, times(1)).save(any(AnalysisRawData.class));
 	}
 
+	@Test
+	@DisplayName("save - 정규화된 요청 지문을 payloadHash로 저장")
+	void save_StoresPayloadHash() throws JsonProcessingException {
+		// given
+		given(objectMapper.writeValueAsString(runningDataPrompts))
+				.willReturn(runningDataJsonPayload);
+		given(fingerprinter.fingerprint(purpose, runningDataPrompts))
+				.willReturn("a".repeat(64));
+		given(rawDataRepository.save(any(AnalysisRawData.class)))
+				.willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		AnalysisRawData result = analysisRawDataService.save(actor, purpose, runningDataPrompts);
+
+		// then
+		assertThat(result.getPayloadHash()).isEqualTo("a".repeat(64));
+		assertThat(result.getPurpose()).isEqualTo(purpose);
+	}
+
+	@Test
+	@DisplayName("save - 원본 페이로드는 내용 해시로 payload_blob 에 저장한 뒤 원본 데이터 저장")
+	void save_RetainsPayloadBlobBeforeSave() throws JsonProcessingException {
+		// given
+		given(objectMapper.writeValueAsString(runningDataPrompts))
+				.willReturn(runningDataJsonPayload);
+		given(rawDataRepository.save(any(AnalysisRawData.class)))
+				.willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		AnalysisRawData result = analysisRawDataService.save(actor, purpose, runningDataPrompts);
+
+		// then
+		assertThat(result.getContentHash()).isEqualTo(PayloadBlob.hash(runningDataJsonPayload));
+		assertThat(result.getRawPayload()).isEqualTo(runningDataJsonPayload);
+		InOrder inOrder = inOrder(payloadBlobService, rawDataRepository);
+		inOrder.verify(payloadBlobService).store(List.of(result));
+		inOrder.verify(rawDataRepository).save(result);
+	}
+
 	@Test
 	@DisplayName("save - 10개의 러닝 데이터 저장")
 	void save_With10RunningRecords_Success() throws JsonProcessingException {
@@ -193,13 +261,13 @@ class AnalysisRawDataServiceTest {
 		// given
 		List<AnalysisRawData> rawDataList = Arrays.asList(analysisRawData);
 
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(rawDataList);
-		given(objectMapper.readValue(anyString(), any(TypeReference.class)))
+		given(objectMapper.readValue(anyString(), userPromptsType()))
 				.willReturn(runningDataPrompts);
 
 		// when
-		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor);
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build());
 
 		// then
 		assertThat(response).isNotNull();
@@ -218,8 +286,8 @@ class AnalysisRawDataServiceTest {
 				.containsEntry("distance", "9.95")
 				.containsEntry("stepCount", "10114");
 
-		verify(rawDataRepository, times(1)).findAllByActor(actor);
-		verify(objectMapper, times(1)).readValue(anyString(), any(TypeReference.class));
+		verify(rawDataRepository, times(1)).findHistory(eq(actor), any(), any(), any(), any(), any(), any());
+		verify(objectMapper, times(1)).readValue(anyString(), userPromptsType());
 	}
 
 	@Test
@@ -240,13 +308,13 @@ class AnalysisRawDataServiceTest {
 
 		List<AnalysisRawData> rawDataList = Arrays.asList(session1, session2, session3);
 
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(rawDataList);
-		given(objectMapper.readValue(anyString(), any(TypeReference.class)))
+		given(objectMapper.readValue(anyString(), userPromptsType()))
 				.willReturn(runningDataPrompts);
 
 		// when
-		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor);
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build());
 
 		// then
 		assertThat(response).isNotNull();
@@ -267,27 +335,27 @@ class AnalysisRawDataServiceTest {
 		assertThat(session2Count).isEqualTo(5);
 		assertThat(session3Count).isEqualTo(5);
 
-		verify(rawDataRepository, times(1)).findAllByActor(actor);
-		verify(objectMapper, times(3)).readValue(anyString(), any(TypeReference.class));
+		verify(rawDataRepository, times(1)).findHistory(eq(actor), any(), any(), any(), any(), any(), any());
+		verify(objectMapper, times(3)).readValue(anyString(), userPromptsType());
 	}
 
 	@Test
 	@DisplayName("getUserPromtListByActor - Actor에 러닝 데이터가 없을 때 빈 리스트 반환")
 	void getUserPromtListByActor_NoRunningData_ReturnsEmptyList() throws JsonProcessingException {
 		// given
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(Collections.emptyList());
 
 		// when
-		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor);
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build());
 
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getResultCode()).isEqualTo(HttpStatus.OK.value());
 		assertThat(response.getInsightRecords()).isEmpty();
 
-		verify(rawDataRepository, times(1)).findAllByActor(actor);
-		verify(objectMapper, never()).readValue(anyString(), any(TypeReference.class));
+		verify(rawDataRepository, times(1)).findHistory(eq(actor), any(), any(), any(), any(), any(), any());
+		verify(objectMapper, never()).readValue(anyString(), userPromptsType());
 	}
 
 	@Test
@@ -296,19 +364,19 @@ class AnalysisRawDataServiceTest {
 		// given
 		List<AnalysisRawData> rawDataList = Arrays.asList(analysisRawData);
 
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(rawDataList);
-		given(objectMapper.readValue(anyString(), any(TypeReference.class)))
+		given(objectMapper.readValue(anyString(), userPromptsType()))
 				.willThrow(new JsonProcessingException("Parsing error") {});
 
 		// when & then
-		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor))
+		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build()))
 				.isInstanceOf(InsightException.class)
 				.extracting(e -> ((InsightException) e).getError())
 				.isEqualTo(InsightAppError.FAIL_JSON_PARSING_RAW_DATA);
 
-		verify(rawDataRepository, times(1)).findAllByActor(actor);
-		verify(objectMapper, times(1)).readValue(anyString(), any(TypeReference.class));
+		verify(rawDataRepository, times(1)).findHistory(eq(actor), any(), any(), any(), any(), any(), any());
+		verify(objectMapper, times(1)).readValue(anyString(), userPromptsType());
 	}
 
 	@Test
@@ -322,13 +390,13 @@ class AnalysisRawDataServiceTest {
 
 		List<AnalysisRawData> rawDataList = Arrays.asList(corruptedData);
 
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(rawDataList);
-		given(objectMapper.readValue(eq(corruptedJson), any(TypeReference.class)))
+		given(objectMapper.readValue(eq(corruptedJson), userPromptsType()))
 				.willThrow(new JsonProcessingException("Unexpected end of JSON") {});
 
 		// when & then
-		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor))
+		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build()))
 				.isInstanceOf(InsightException.class)
 				.extracting(e -> ((InsightException) e).getError())
 				.isEqualTo(InsightAppError.FAIL_JSON_PARSING_RAW_DATA);
@@ -355,13 +423,13 @@ class AnalysisRawDataServiceTest {
 
 		List<AnalysisRawData> rawDataList = Arrays.asList(analysisRawData);
 
-		given(rawDataRepository.findAllByActor(actor))
+		given(findHistory())
 				.willReturn(rawDataList);
-		given(objectMapper.readValue(anyString(), any(TypeReference.class)))
+		given(objectMapper.readValue(anyString(), userPromptsType()))
 				.willReturn(variousDistancePrompts);
 
 		// when
-		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor);
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor, historyQuery().build());
 
 		// then
 		assertThat(response).isNotNull();
@@ -400,6 +468,227 @@ class AnalysisRawDataServiceTest {
 		verify(rawDataRepository, times(1)).save(any(AnalysisRawData.class));
 	}
 
+	@Test
+	@DisplayName("getUserPromtListByActor - size 보다 많으면 마지막 행 기준 nextCursor 반환")
+	void getUserPromtListByActor_MoreThanPageSize_ReturnsNextCursor() throws JsonProcessingException {
+		// given
+		List<AnalysisRawData> rows = rawDataRows(3);
+		given(findHistory()).willReturn(rows);
+		given(objectMapper.readValue(anyString(), userPromptsType()))
+				.willReturn(List.of(runningDataPrompts.get(0)));
+
+		// when
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor,
+				historyQuery().size(2).build());
+
+		// then - size + 1 건 조회, 초과분은 응답에서 제외하고 파싱하지 않음
+		assertThat(response.getInsightRecords()).extracting(InsightRecord::getInputId).containsExactly(13L, 12L);
+		HistoryCursor next = HistoryCursor.decode(response.getNextCursor());
+		assertThat(next.getInputId()).isEqualTo(12L);
+		assertThat(next.getRegDate()).isEqualTo(rows.get(1).getRegDate());
+		verify(rawDataRepository).findHistory(actor, null, null, null, null, null, Limit.of(3));
+		verify(objectMapper, times(2)).readValue(anyString(), userPromptsType());
+	}
+
+	@Test
+	@DisplayName("getUserPromtListByActor - 마지막 페이지면 nextCursor 없음")
+	void getUserPromtListByActor_LastPage_NoNextCursor() throws JsonProcessingException {
+		// given
+		given(findHistory()).willReturn(rawDataRows(2));
+		given(objectMapper.readValue(anyString(), userPromptsType()))
+				.willReturn(List.of(runningDataPrompts.get(0)));
+
+		// when
+		InsightHistoryResponse response = analysisRawDataService.getUserPromtListByActor(actor,
+				historyQuery().size(2).build());
+
+		// then
+		assertThat(response.getInsightRecords()).hasSize(2);
+		assertThat(response.getNextCursor()).isNull();
+	}
+
+	@Test
+	@DisplayName("getUserPromtListByActor - 커서/목적/기간 필터를 키셋 조회 조건으로 전달")
+	void getUserPromtListByActor_WithCursorAndFilters_PassesKeysetConditions() {
+		// given
+		AnalysisRawData last = rawDataRows(1).get(0);
+		String cursor = HistoryCursor.of(last).encode();
+		given(findHistory()).willReturn(Collections.emptyList());
+
+		// when
+		analysisRawDataService.getUserPromtListByActor(actor, historyQuery()
+				.purpose("running_style_analysis")
+				.from(LocalDate.of(2025, 1, 1))
+				.to(LocalDate.of(2025, 1, 31))
+				.cursor(cursor)
+				.build());
+
+		// then - 종료일은 다음 날 0시 미만으로 포함
+		verify(rawDataRepository).findHistory(actor, "running_style_analysis",
+				LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0),
+				last.getRegDate(), last.getInputId(), Limit.of(historyProperties.getDefaultPageSize() + 1));
+	}
+
+	@Test
+	@DisplayName("getUserPromtListByActor - 최대 페이지 크기로 제한")
+	void getUserPromtListByActor_SizeOverMax_Clamped() {
+		// given
+		historyProperties.setMaxPageSize(50);
+		given(findHistory()).willReturn(Collections.emptyList());
+
+		// when
+		analysisRawDataService.getUserPromtListByActor(actor, historyQuery().size(10000).build());
+
+		// then
+		verify(rawDataRepository).findHistory(actor, null, null, null, null, null, Limit.of(51));
+	}
+
+	@Test
+	@DisplayName("getUserPromtListByActor - 잘못된 커서/기간이면 조회 없이 예외")
+	void getUserPromtListByActor_InvalidCursorOrRange_Throws() {
+		// when & then
+		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor,
+				historyQuery().cursor("not-a-cursor").build()))
+				.isInstanceOf(InsightAppException.class)
+				.extracting(e -> ((InsightAppException) e).getError())
+				.isEqualTo(InsightAppError.INVALID_HISTORY_CURSOR);
+		assertThatThrownBy(() -> analysisRawDataService.getUserPromtListByActor(actor, historyQuery()
+				.from(LocalDate.of(2025, 2, 1))
+				.to(LocalDate.of(2025, 1, 1))
+				.build()))
+				.isInstanceOf(InsightAppException.class)
+				.extracting(e -> ((InsightAppException) e).getError())
+				.isEqualTo(InsightAppError.INVALID_HISTORY_RANGE);
+
+		verifyNoInteractions(rawDataRepository);
+	}
+
+	@Test
+	@DisplayName("streamUserPrompts - 청크 단위 키셋 조회로 읽는 즉시 한 줄씩 기록")
+	void streamUserPrompts_WritesNdjsonChunkByChunk() throws Exception {
+		// given
+		historyProperties.setStreamChunkSize(2);
+		List<AnalysisRawData> rows = rawDataRows(3);
+		given(findHistory())
+				.willReturn(rows.subList(0, 2))
+				.willReturn(rows.subList(2, 3));
+		given(objectMapper.readValue(anyString(), userPromptsType()))
+				.willReturn(List.of(runningDataPrompts.get(0), runningDataPrompts.get(1)));
+		given(objectMapper.writeValueAsBytes(any(InsightRecord.class)))
+				.willAnswer(invocation -> ("{\"inputId\":" + invocation.<InsightRecord>getArgument(0).getInputId() + "}")
+						.getBytes(StandardCharsets.UTF_8));
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		analysisRawDataService.streamUserPrompts(actor, historyQuery().build()).writeTo(out);
+
+		// then - 두 번째 청크가 청크 크기보다 작으면 종료
+		assertThat(out.toString(StandardCharsets.UTF_8).split("\n")).containsExactly(
+				"{\"inputId\":13}", "{\"inputId\":13}",
+				"{\"inputId\":12}", "{\"inputId\":12}",
+				"{\"inputId\":11}", "{\"inputId\":11}");
+		verify(rawDataRepository).findHistory(actor, null, null, null, null, null, Limit.of(2));
+		verify(rawDataRepository).findHistory(actor, null, null, null,
+				rows.get(1).getRegDate(), 12L, Limit.of(2));
+	}
+
+	@Test
+	@DisplayName("getHistoryWithResults - 응답에 포함되는 행의 결과만 역직렬화")
+	void getHistoryWithResults_DeserializesReturnedRowsOnly() throws JsonProcessingException {
+		// given
+		LocalDateTime regDate = LocalDateTime.of(2025, 1, 10, 9, 0);
+		UUID requestId = UUID.randomUUID();
+		InsightDetail detail = InsightDetail.builder().summary("후반 페이스 저하").build();
+		List<AnalysisRawDataRepository.HistoryWithResult> rows = List.of(
+				historyRow(12L, regDate.plusMinutes(2), requestId, "{\"summary\":\"12\"}"),
+				historyRow(11L, regDate.plusMinutes(1), UUID.randomUUID(), "{\"summary\":\"11\"}"));
+		given(rawDataRepository.findHistoryWithResults(eq(actor), any(), any(), any(), any(), any(), any()))
+				.willReturn(rows);
+		given(objectMapper.readValue(anyString(), userPromptsType()))
+				.willReturn(runningDataPrompts);
+		given(resultSerializer.deserialize("{\"summary\":\"12\"}")).willReturn(detail);
+
+		// when
+		InsightResultHistoryResponse response = analysisRawDataService.getHistoryWithResults(actor,
+				historyQuery().size(1).build());
+
+		// then
+		assertThat(response.getHistoryItems()).hasSize(1);
+		InsightHistoryItem item = response.getHistoryItems().get(0);
+		assertThat(item.getInputId()).isEqualTo(12L);
+		assertThat(item.getRequestId()).isEqualTo(requestId);
+		assertThat(item.getStatus()).isEqualTo("SUCCESS");
+		assertThat(item.getUserPrompt()).hasSize(5);
+		assertThat(item.getInsight()).isSameAs(detail);
+		assertThat(HistoryCursor.decode(response.getNextCursor()).getInputId()).isEqualTo(12L);
+
+		verify(rawDataRepository).findHistoryWithResults(actor, null, null, null, null, null, Limit.of(2));
+		verify(resultSerializer, times(1)).deserialize(anyString());
+		verify(objectMapper, times(1)).readValue(anyString(), userPromptsType());
+	}
+
+	@Test
+	@DisplayName("getHistoryWithResults - 결과가 없는 원본 입력은 결과 항목 null")
+	void getHistoryWithResults_WithoutResult_ReturnsInputOnly() throws JsonProcessingException {
+		// given
+		List<AnalysisRawDataRepository.HistoryWithResult> rows = List.of(historyRow(11L, LocalDateTime.now(), null, null));
+		given(rawDataRepository.findHistoryWithResults(eq(actor), any(), any(), any(), any(), any(), any()))
+				.willReturn(rows);
+		given(objectMapper.readValue(anyString(), userPromptsType()))
+				.willReturn(runningDataPrompts);
+
+		// when
+		InsightResultHistoryResponse response = analysisRawDataService.getHistoryWithResults(actor,
+				historyQuery().build());
+
+		// then
+		InsightHistoryItem item = response.getHistoryItems().get(0);
+		assertThat(item.getRequestId()).isNull();
+		assertThat(item.getStatus()).isNull();
+		assertThat(item.getInsight()).isNull();
+		assertThat(response.getNextCursor()).isNull();
+		verifyNoInteractions(resultSerializer);
+	}
+
+	private AnalysisRawDataRepository.HistoryWithResult historyRow(Long inputId, LocalDateTime regDate,
+																   UUID requestId, String resultPayload) {
+		AnalysisRawDataRepository.HistoryWithResult row = mock(AnalysisRawDataRepository.HistoryWithResult.class);
+		lenient().when(row.getInputId()).thenReturn(inputId);
+		lenient().when(row.getPurpose()).thenReturn(purpose);
+		lenient().when(row.getRegDate()).thenReturn(regDate);
+		lenient().when(row.getRawPayload()).thenReturn(runningDataJsonPayload);
+		lenient().when(row.getRequestId()).thenReturn(requestId);
+		lenient().when(row.getAnalysisVersion()).thenReturn(requestId != null ? "gemini-2.5-flash#00" : null);
+		lenient().when(row.getStatus()).thenReturn(requestId != null ? AnalysisStatus.SUCCESS : null);
+		lenient().when(row.getResultPayload()).thenReturn(resultPayload);
+		lenient().when(row.rawPayloadText()).thenCallRealMethod();
+		lenient().when(row.resultPayloadText()).thenCallRealMethod();
+		return row;
+	}
+
+	private List<AnalysisRawData> findHistory() {
+		return rawDataRepository.findHistory(eq(actor), any(), any(), any(), any(), any(), any());
+	}
+
+	private InsightHistoryQuery.InsightHistoryQueryBuilder historyQuery() {
+		return InsightHistoryQuery.builder().userId(actor.getActorKey());
+	}
+
+	/**
+	 * 최신순 원본 데이터 (inputId 10 + count ... 11)
+	 */
+	private List<AnalysisRawData> rawDataRows(int count) {
+		LocalDateTime base = LocalDateTime.of(2025, 1, 10, 9, 0);
+		List<AnalysisRawData> rows = new ArrayList<>();
+		for (int i = count; i >= 1; i--) {
+			AnalysisRawData row = new AnalysisRawData(actor, InputType.JSON, purpose, runningDataJsonPayload);
+			ReflectionTestUtils.setField(row, "inputId", 10L + i);
+			ReflectionTestUtils.setField(row, "regDate", base.plusMinutes(i));
+			rows.add(row);
+		}
+		return rows;
+	}
+
 	// Helper methods for creating test data
 	private List<UserPrompt> createTenRunningDataPrompts() {
 		return Arrays.asList(
@@ -438,4 +727,11 @@ class AnalysisRawDataServiceTest {
 				"{\"dataKey\":\"E6B5B900-87D1-4DFA-A087-4630762D6B67\",\"data\":{\"duration\":\"1708\",\"heartRate\":\"176.57\",\"distance\":\"5.01\",\"stepCount\":\"5064\"}}" +
 				"]";
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 원본 데이터 역직렬화 타입 매처 (raw TypeReference 매처의 unchecked 경고 방지)
+	 */
+	private static TypeReference<List<UserPrompt>> userPromptsType() {
+		return any();
+	}
+}
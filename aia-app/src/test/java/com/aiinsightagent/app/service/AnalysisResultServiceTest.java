@@ -1,5 +1,6 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.ResultReuseProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.AnalysisRawData;
 import com.aiinsightagent.app.entity.AnalysisResult;
@@ -10,6 +11,8 @@ import com.aiinsightagent.app.repository.AnalysisResultRepository;
 import com.aiinsightagent.app.util.InsightResultSerializer;
 import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.util.RequestFingerprinter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,14 +20,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -38,6 +47,13 @@ class AnalysisResultServiceTest {
 	@Mock
 	private InsightResultSerializer serializer;
 
+	@Mock
+	private RequestFingerprinter fingerprinter;
+
+	@Spy
+	private ResultReuseProperties reuseProperties = new ResultReuseProperties() {
+	};
+
 	@InjectMocks
 	private AnalysisResultService analysisResultService;
 
@@ -125,6 +141,30 @@ class AnalysisResultServiceTest {
 		verify(resultRepository, times(1)).save(any(AnalysisResult.class));
 	}
 
+	@Test
+	@DisplayName("save - 잘린 응답을 복구한 부분 결과는 PARTIAL 상태로 저장")
+	void save_PartialResponse_SavedAsPartial() {
+		// given
+		ArgumentCaptor<AnalysisResult> captor = ArgumentCaptor.forClass(AnalysisResult.class);
+		InsightResponse partialResponse = InsightResponse.builder()
+				.resultCode(200)
+				.resultMsg("Success")
+				.insight(insightDetail)
+				.partial(true)
+				.build();
+
+		given(serializer.serialize(insightDetail))
+				.willReturn(serializedResult);
+		given(resultRepository.save(captor.capture()))
+				.willReturn(analysisResult);
+
+		// when
+		analysisResultService.save(actor, analysisRawData, partialResponse, "gemini-2.5-flash#00");
+
+		// then
+		assertThat(captor.getValue().getStatus()).isEqualTo(AnalysisStatus.PARTIAL);
+	}
+
 	@Test
 	@DisplayName("save - ArgumentCaptor로 저장되는 AnalysisResult 검증")
 	void save_VerifyAnalysisResultWithArgumentCaptor() {
@@ -450,4 +490,80 @@ class AnalysisResultServiceTest {
 		verify(serializer, times(1)).serialize(insightDetail);
 		verify(resultRepository, times(1)).save(any(AnalysisResult.class));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("findReusable - 유효 시간 이내의 같은 요청 지문 결과 반환")
+	void findReusable_ReturnsRecentResult() {
+		// given
+		List<UserPrompt> userPrompts = List.of(UserPrompt.builder().dataKey("k1").build());
+		ArgumentCaptor<LocalDateTime> sinceCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+		reuseProperties.setFreshness(Duration.ofMinutes(30));
+
+		given(fingerprinter.fingerprint("running_style_analysis", userPrompts))
+				.willReturn("hash");
+		given(resultRepository.findRecentByPayloadHash(eq(actor), eq("running_style_analysis"), eq("hash"),
+				eq(AnalysisRawData.contextHash("context")), eq(AnalysisStatus.SUCCESS), sinceCaptor.capture(),
+				any(Pageable.class)))
+				.willReturn(List.of(analysisResult));
+
+		// when
+		Optional<AnalysisResult> result = analysisResultService.findReusable(actor, "running_style_analysis", userPrompts,
+				"context");
+
+		// then
+		assertThat(result).contains(analysisResult);
+		assertThat(sinceCaptor.getValue())
+				.isBetween(LocalDateTime.now().minusMinutes(31), LocalDateTime.now().minusMinutes(29));
+	}
+
+	@Test
+	@DisplayName("findReusable - 재사용 미사용 설정 시 조회하지 않음")
+	void findReusable_Disabled_ReturnsEmpty() {
+		// given
+		reuseProperties.setEnabled(false);
+
+		// when
+		Optional<AnalysisResult> result = analysisResultService.findReusable(actor, "running_style_analysis", List.of(),
+				null);
+
+		// then
+		assertThat(result).isEmpty();
+		verifyNoInteractions(resultRepository, fingerprinter);
+	}
+
+	@Test
+	@DisplayName("findReusable - 사전 컨텍스트가 바뀌면 다른 컨텍스트 지문으로 조회")
+	void findReusable_ContextChanged_UsesNewContextHash() {
+		// given
+		List<UserPrompt> userPrompts = List.of(UserPrompt.builder().dataKey("k1").build());
+		ArgumentCaptor<String> contextHashCaptor = ArgumentCaptor.forClass(String.class);
+		given(fingerprinter.fingerprint("running_style_analysis", userPrompts))
+				.willReturn("hash");
+		given(resultRepository.findRecentByPayloadHash(eq(actor), eq("running_style_analysis"), eq("hash"),
+				contextHashCaptor.capture(), eq(AnalysisStatus.SUCCESS), any(LocalDateTime.class), any(Pageable.class)))
+				.willReturn(List.of());
+
+		// when
+		analysisResultService.findReusable(actor, "running_style_analysis", userPrompts, "context-v1");
+		analysisResultService.findReusable(actor, "running_style_analysis", userPrompts, "context-v2");
+		analysisResultService.findReusable(actor, "running_style_analysis", userPrompts, null);
+
+		// then
+		assertThat(contextHashCaptor.getAllValues()).doesNotHaveDuplicates().doesNotContainNull();
+	}
+
+	@Test
+	@DisplayName("toResponse - 저장된 결과를 InsightResponse로 변환")
+	void toResponse_DeserializesStoredPayload() {
+		// given
+		given(serializer.deserialize(serializedResult))
+				.willReturn(insightDetail);
+
+		// when
+		InsightResponse response = analysisResultService.toResponse(analysisResult);
+
+		// then
+		assertThat(response.getResultCode()).isEqualTo(200);
+		assertThat(response.getInsight()).isSameAs(insightDetail);
+	}
+}
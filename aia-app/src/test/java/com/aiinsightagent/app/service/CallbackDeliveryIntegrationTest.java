@@ -0,0 +1,123 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.entity.CallbackOutbox;
+import com.aiinsightagent.app.enums.AnalysisStatus;
+import com.aiinsightagent.app.enums.AnalysisType;
+import com.aiinsightagent.app.enums.CallbackStatus;
+import com.aiinsightagent.app.enums.InputType;
+import com.aiinsightagent.app.repository.CallbackOutboxRepository;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 트랜잭션 커밋 이후 즉시 전송 경로 검증 (폴링은 테스트 동안 실행되지 않도록 주기를 늘림)
+ */
+@SpringBootTest(classes = TestApplication.class, properties = {
+		"aiinsight.callback.poll-interval-ms=600000",
+		// 로컬 수신 서버(루프백)로 전송
+		"aiinsight.callback.allow-private-addresses=true"
+})
+@ActiveProfiles("test")
+@DisplayName("CallbackDeliveryService 통합 테스트")
+class CallbackDeliveryIntegrationTest {
+
+	@Autowired
+	private CallbackDeliveryService callbackService;
+
+	@Autowired
+	private CallbackOutboxRepository outboxRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	private HttpServer stubReceiver;
+	private CountDownLatch received;
+	private String callbackUrl;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		received = new CountDownLatch(1);
+		stubReceiver = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubReceiver.createContext("/callback", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			exchange.sendResponseHeaders(200, -1);
+			exchange.close();
+			received.countDown();
+		});
+		stubReceiver.start();
+		callbackUrl = "http://127.0.0.1:" + stubReceiver.getAddress().getPort() + "/callback";
+	}
+
+	@AfterEach
+	void tearDown() {
+		stubReceiver.stop(0);
+		outboxRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("register - 트랜잭션 안에서 등록하면 커밋 이후 폴링 없이 선점/전송하고 DELIVERED 처리")
+	void register_inTransaction_deliveredAfterCommit() throws Exception {
+		// given
+		Actor actor = Actor.create("callback-user");
+		AnalysisRawData rawData = new AnalysisRawData(actor, InputType.JSON, "running_style_analysis", "[]");
+		AnalysisResult result = new AnalysisResult(actor, rawData, AnalysisType.STYLE, AnalysisStatus.SUCCESS,
+				"{}", "gemini-2.5-flash[m00]");
+		InsightResponse response = InsightResponse.builder()
+				.resultCode(200)
+				.resultMsg("OK")
+				.insight(InsightDetail.builder().summary("요약").build())
+				.build();
+
+		// when
+		CallbackOutbox outbox = transactionTemplate.execute(status ->
+				callbackService.register(result, response, callbackUrl));
+
+		// then
+		assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		CallbackStatus status;
+		while ((status = outboxRepository.findById(outbox.getOutboxId()).orElseThrow().getStatus())
+				!= CallbackStatus.DELIVERED) {
+			assertThat(System.nanoTime()).isLessThan(deadline);
+			Thread.sleep(10);
+		}
+		assertThat(status).isEqualTo(CallbackStatus.DELIVERED);
+	}
+}
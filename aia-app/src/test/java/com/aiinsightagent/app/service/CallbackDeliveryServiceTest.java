@@ -0,0 +1,296 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.CallbackProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.AnalysisResult;
+import com.aiinsightagent.app.entity.CallbackOutbox;
+import com.aiinsightagent.app.enums.AnalysisStatus;
+import com.aiinsightagent.app.enums.AnalysisType;
+import com.aiinsightagent.app.enums.CallbackStatus;
+import com.aiinsightagent.app.enums.InputType;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.CallbackOutboxRepository;
+import com.aiinsightagent.app.util.InsightResultSerializer;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CallbackDeliveryService 테스트")
+class CallbackDeliveryServiceTest {
+
+	@Mock
+	private CallbackOutboxRepository outboxRepository;
+
+	private CallbackDeliveryService callbackService;
+	private CallbackProperties callbackProperties;
+
+	private HttpServer stubReceiver;
+	private final AtomicInteger responseStatus = new AtomicInteger(200);
+	private final List<String> receivedBodies = new CopyOnWriteArrayList<>();
+	private final List<String> receivedRequestIds = new CopyOnWriteArrayList<>();
+	private CountDownLatch received;
+	private String callbackUrl;
+
+	private AnalysisResult analysisResult;
+	private InsightResponse insightResponse;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		// 로컬 콜백 수신 서버
+		received = new CountDownLatch(1);
+		stubReceiver = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		stubReceiver.createContext("/callback", exchange -> {
+			receivedBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+			receivedRequestIds.add(exchange.getRequestHeaders().getFirst(CallbackDeliveryService.REQUEST_ID_HEADER));
+			exchange.sendResponseHeaders(responseStatus.get(), -1);
+			exchange.close();
+			received.countDown();
+		});
+		stubReceiver.start();
+		callbackUrl = "http://127.0.0.1:" + stubReceiver.getAddress().getPort() + "/callback";
+
+		callbackProperties = new CallbackProperties() {
+		};
+		callbackProperties.setWorkerCount(2);
+		callbackProperties.setQueueCapacity(10);
+		callbackProperties.setMaxAttempts(3);
+		callbackProperties.setInitialBackoff(Duration.ofSeconds(2));
+		callbackProperties.setMaxBackoff(Duration.ofSeconds(10));
+		// 로컬 수신 서버(루프백)로 전송
+		callbackProperties.setAllowPrivateAddresses(true);
+
+		callbackService = new CallbackDeliveryService(
+				outboxRepository, new InsightResultSerializer(new ObjectMapper()), callbackProperties);
+		callbackService.init();
+
+		Actor actor = Actor.create("test-user");
+		AnalysisRawData rawData = new AnalysisRawData(actor, InputType.JSON, "running_style_analysis", "[]");
+		analysisResult = new AnalysisResult(actor, rawData, AnalysisType.STYLE, AnalysisStatus.SUCCESS,
+				"{}", "gemini-2.5-flash[m00]");
+
+		insightResponse = InsightResponse.builder()
+				.resultCode(200)
+				.resultMsg("OK")
+				.insight(InsightDetail.builder().summary("요약").priorityScore(70).build())
+				.build();
+	}
+
+	@AfterEach
+	void tearDown() {
+		callbackService.shutdown();
+		stubReceiver.stop(0);
+	}
+
+	private CallbackOutbox inProgressOutbox(long outboxId) {
+		CallbackOutbox outbox = new CallbackOutbox(analysisResult.getRequestId(), callbackUrl, "{\"resultCode\":200}");
+		ReflectionTestUtils.setField(outbox, "outboxId", outboxId);
+		ReflectionTestUtils.setField(outbox, "status", CallbackStatus.IN_PROGRESS);
+		given(outboxRepository.findById(outboxId)).willReturn(Optional.of(outbox));
+		return outbox;
+	}
+
+	@Test
+	@DisplayName("register - 트랜잭션 밖에서 등록 시 즉시 전송하고 DELIVERED 처리")
+	void register_deliversInsightResponse() throws Exception {
+		// given
+		AtomicReference<CallbackOutbox> stored = new AtomicReference<>();
+		given(outboxRepository.save(any(CallbackOutbox.class))).willAnswer(invocation -> {
+			CallbackOutbox saved = invocation.getArgument(0);
+			if (saved.getOutboxId() == null) {
+				ReflectionTestUtils.setField(saved, "outboxId", 1L);
+			}
+			stored.set(saved);
+			return saved;
+		});
+		given(outboxRepository.findById(1L)).willAnswer(invocation -> Optional.ofNullable(stored.get()));
+		given(outboxRepository.claim(eq(1L), anyCollection(), eq(CallbackStatus.IN_PROGRESS), any(), any()))
+				.willAnswer(invocation -> {
+					ReflectionTestUtils.setField(stored.get(), "status", CallbackStatus.IN_PROGRESS);
+					return 1;
+				});
+
+		// when
+		CallbackOutbox outbox = callbackService.register(analysisResult, insightResponse, callbackUrl);
+
+		// then
+		assertThat(received.await(5, TimeUnit.SECONDS)).isTrue();
+		verify(outboxRepository, timeout(5000).times(2)).save(any(CallbackOutbox.class));
+
+		assertThat(receivedBodies).hasSize(1);
+		assertThat(receivedBodies.get(0)).contains("\"summary\":\"요약\"").contains("\"priorityScore\":70");
+		assertThat(receivedRequestIds).containsExactly(analysisResult.getRequestId().toString());
+		assertThat(outbox.getStatus()).isEqualTo(CallbackStatus.DELIVERED);
+		assertThat(outbox.getAttemptCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("dispatch - 다른 인스턴스가 선점한 건은 전송하지 않음")
+	void pollDue_alreadyClaimed_skipsDelivery() {
+		// given
+		CallbackOutbox outbox = new CallbackOutbox(analysisResult.getRequestId(), callbackUrl, "{}");
+		ReflectionTestUtils.setField(outbox, "outboxId", 7L);
+		given(outboxRepository.findByStatusInAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+				anyCollection(), any(LocalDateTime.class), any(Pageable.class)))
+				.willReturn(List.of(outbox));
+		given(outboxRepository.claim(eq(7L), anyCollection(), eq(CallbackStatus.IN_PROGRESS), any(), any()))
+				.willReturn(0);
+
+		// when
+		callbackService.pollDue();
+
+		// then
+		verify(outboxRepository, timeout(5000)).claim(eq(7L), anyCollection(), eq(CallbackStatus.IN_PROGRESS), any(), any());
+		verify(outboxRepository, never()).findById(anyLong());
+		assertThat(receivedBodies).isEmpty();
+	}
+
+	@Test
+	@DisplayName("deliver - 수신 서버 오류 시 백오프 후 재시도 대기 상태로 전환")
+	void deliver_serverError_schedulesRetry() {
+		// given
+		responseStatus.set(500);
+		CallbackOutbox outbox = inProgressOutbox(2L);
+		LocalDateTime before = LocalDateTime.now();
+
+		// when
+		callbackService.deliver(2L);
+
+		// then
+		assertThat(receivedBodies).hasSize(1);
+		assertThat(outbox.getStatus()).isEqualTo(CallbackStatus.PENDING);
+		assertThat(outbox.getAttemptCount()).isEqualTo(1);
+		assertThat(outbox.getLastError()).isNotBlank();
+		assertThat(outbox.getNextAttemptAt()).isAfterOrEqualTo(before.plusSeconds(2));
+		verify(outboxRepository).save(outbox);
+	}
+
+	@Test
+	@DisplayName("deliver - 최대 시도 횟수 도달 시 FAILED 처리")
+	void deliver_maxAttemptsReached_marksFailed() {
+		// given
+		responseStatus.set(503);
+		CallbackOutbox outbox = inProgressOutbox(3L);
+		ReflectionTestUtils.setField(outbox, "attemptCount", 2);
+
+		// when
+		callbackService.deliver(3L);
+
+		// then
+		assertThat(outbox.getStatus()).isEqualTo(CallbackStatus.FAILED);
+		assertThat(outbox.getAttemptCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("deliver - 수신 서버 연결 불가 시에도 재시도 대기 상태로 전환")
+	void deliver_unreachableReceiver_schedulesRetry() {
+		// given
+		CallbackOutbox outbox = inProgressOutbox(4L);
+		stubReceiver.stop(0);
+
+		// when
+		callbackService.deliver(4L);
+
+		// then
+		assertThat(outbox.getStatus()).isEqualTo(CallbackStatus.PENDING);
+		assertThat(outbox.getAttemptCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("verifyCallbackUrl - 루프백/링크 로컬/사설 대역 주소는 거절, 공인 주소는 허용")
+	void verifyCallbackUrl_privateAddresses_rejected() {
+		// given
+		callbackProperties.setAllowPrivateAddresses(false);
+
+		// when & then
+		for (String url : List.of("http://127.0.0.1:8080/cb", "http://169.254.169.254/latest/meta-data",
+				"http://10.0.0.5/cb", "http://172.16.0.1/cb", "http://192.168.1.1/cb", "http://100.64.0.1/cb",
+				"http://0.0.0.0/cb", "http://[::1]/cb", "http://[fd00::1]/cb", "http://[fe80::1]/cb")) {
+			assertThatThrownBy(() -> callbackService.verifyCallbackUrl(url))
+					.as(url)
+					.isInstanceOf(InsightAppException.class)
+					.extracting("error")
+					.isEqualTo(InsightAppError.CALLBACK_URL_NOT_ALLOWED);
+		}
+		assertThatCode(() -> callbackService.verifyCallbackUrl("https://8.8.8.8/cb")).doesNotThrowAnyException();
+		assertThatCode(() -> callbackService.verifyCallbackUrl(null)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("verifyCallbackUrl - 허용 호스트 목록이 있으면 목록의 호스트/하위 도메인만 허용")
+	void verifyCallbackUrl_allowedHosts_restrictsHosts() {
+		// given
+		callbackProperties.setAllowedHosts(List.of("hooks.partner.com", ".example.com"));
+
+		// when & then
+		assertThatCode(() -> callbackService.verifyCallbackUrl("https://HOOKS.partner.com/cb")).doesNotThrowAnyException();
+		assertThatCode(() -> callbackService.verifyCallbackUrl("https://api.example.com/cb")).doesNotThrowAnyException();
+		assertThatThrownBy(() -> callbackService.verifyCallbackUrl("https://evil.partner.com/cb"))
+				.isInstanceOf(InsightAppException.class);
+		assertThatThrownBy(() -> callbackService.verifyCallbackUrl("https://example.com.evil.io/cb"))
+				.isInstanceOf(InsightAppException.class);
+	}
+
+	@Test
+	@DisplayName("deliver - 전송 시점에 허용되지 않는 주소면 전송하지 않고 FAILED 처리")
+	void deliver_callbackUrlNotAllowed_marksFailedWithoutSending() {
+		// given
+		callbackProperties.setAllowPrivateAddresses(false);
+		CallbackOutbox outbox = inProgressOutbox(5L);
+
+		// when
+		callbackService.deliver(5L);
+
+		// then
+		assertThat(receivedBodies).isEmpty();
+		assertThat(outbox.getStatus()).isEqualTo(CallbackStatus.FAILED);
+		verify(outboxRepository).save(outbox);
+	}
+
+	@Test
+	@DisplayName("backoff - 시도마다 2배 증가하고 최대값으로 제한")
+	void backoff_exponentialAndCapped() {
+		assertThat(callbackService.backoff(1)).isEqualTo(Duration.ofSeconds(2));
+		assertThat(callbackService.backoff(2)).isEqualTo(Duration.ofSeconds(4));
+		assertThat(callbackService.backoff(3)).isEqualTo(Duration.ofSeconds(8));
+		assertThat(callbackService.backoff(4)).isEqualTo(Duration.ofSeconds(10));
+		assertThat(callbackService.backoff(100)).isEqualTo(Duration.ofSeconds(10));
+	}
+}
@@ -7,11 +7,14 @@ import com.aiinsightagent.app.entity.PreparedContext;
 import com.aiinsightagent.app.enums.AnalysisStatus;
 import com.aiinsightagent.app.enums.AnalysisType;
 import com.aiinsightagent.app.enums.InputType;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
 import com.aiinsightagent.app.util.InsightRequestValidator;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.facade.InsightFacade;
 import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.InsightHistoryQuery;
 import com.aiinsightagent.core.model.InsightHistoryResponse;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.InsightResponse;
@@ -20,12 +23,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -56,6 +62,18 @@ class InsightServiceTest {
 	@Mock
 	private PreparedContextService contextService;
 
+	@Mock
+	private CallbackDeliveryService callbackService;
+
+	@Mock
+	private TokenQuotaService quotaService;
+
+	@Mock
+	private AnalysisBatchWriteService batchWriteService;
+
+	@Mock
+	private TransactionTemplate transactionTemplate;
+
 	@InjectMocks
 	private InsightService insightService;
 
@@ -69,6 +87,10 @@ class InsightServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		// 트랜잭션 템플릿은 콜백을 그대로 실행
+		lenient().when(transactionTemplate.execute(any()))
+				.thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
 		// Actor 생성
 		actor = Actor.create("test-user");
 		ReflectionTestUtils.setField(actor, "actorId", 1L);
@@ -181,13 +203,12 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
-					.willReturn(Optional.of(preparedContext));
-			given(insightFacade.analysis(insightRequest, preparedContext.asPromptText()))
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.of(preparedContext.asPromptText()));
+			given(insightFacade.analysis(eq(insightRequest), eq(preparedContext.asPromptText()), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString()))
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), eq(preparedContext.asPromptText()),
+					eq(insightResponse), anyString()))
 					.willReturn(analysisResult);
 
 			// when
@@ -201,10 +222,10 @@ class InsightServiceTest {
 			// 검증: 모든 단계가 순서대로 실행되었는지
 			mockedValidator.verify(() -> InsightRequestValidator.validate(insightRequest), times(1));
 			verify(actorService, times(1)).getOrCreate("test-user");
-			verify(rawDataService, times(1)).save(actor, "running_style_analysis", userPrompts);
-			verify(contextService, times(1)).findByActorKey(actor);
-			verify(insightFacade, times(1)).analysis(insightRequest, preparedContext.asPromptText());
-			verify(resultService, times(1)).save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString());
+			verify(contextService, times(1)).findPromptText(actor);
+			verify(insightFacade, times(1)).analysis(eq(insightRequest), eq(preparedContext.asPromptText()), any());
+			verify(batchWriteService, times(1)).write(eq(actor), eq(insightRequest), eq(preparedContext.asPromptText()),
+					eq(insightResponse), anyString());
 		}
 	}
 
@@ -220,13 +241,11 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
+			given(contextService.findPromptText(actor))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(insightRequest, null))
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString()))
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
 					.willReturn(analysisResult);
 
 			// when
@@ -235,8 +254,8 @@ class InsightServiceTest {
 			// then
 			assertThat(response).isNotNull();
 
-			verify(contextService, times(1)).findByActorKey(actor);
-			verify(insightFacade, times(1)).analysis(insightRequest, null);
+			verify(contextService, times(1)).findPromptText(actor);
+			verify(insightFacade, times(1)).analysis(eq(insightRequest), isNull(), any());
 		}
 	}
 
@@ -282,13 +301,11 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("new-user"))
 					.willReturn(newActor);
-			given(rawDataService.save(newActor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(newActor))
+			given(contextService.findPromptText(newActor))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(newUserRequest, null))
+			given(insightFacade.analysis(eq(newUserRequest), isNull(), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(eq(newActor), eq(analysisRawData), eq(insightResponse), anyString()))
+			given(batchWriteService.write(eq(newActor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
 					.willReturn(analysisResult);
 
 			// when
@@ -300,7 +317,7 @@ class InsightServiceTest {
 	}
 
 	@Test
-	@DisplayName("requestInsight(InsightRequest) - 원본 데이터 저장 확인")
+	@DisplayName("requestInsight(InsightRequest) - 원본 데이터는 분석 이후 결과와 함께 저장")
 	void requestInsight_SavesRawData() {
 		// given
 		try (MockedStatic<InsightRequestValidator> mockedValidator =
@@ -311,13 +328,11 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
+			given(contextService.findPromptText(actor))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(any(InsightRequest.class), any()))
+			given(insightFacade.analysis(any(InsightRequest.class), any(), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(any(Actor.class), any(AnalysisRawData.class),
+			given(batchWriteService.write(any(Actor.class), any(InsightRequest.class), any(),
 					any(InsightResponse.class), anyString()))
 					.willReturn(analysisResult);
 
@@ -325,7 +340,8 @@ class InsightServiceTest {
 			insightService.requestInsight(insightRequest);
 
 			// then
-			verify(rawDataService, times(1)).save(actor, "running_style_analysis", userPrompts);
+			verify(batchWriteService, times(1)).write(eq(actor), eq(insightRequest), any(), eq(insightResponse), anyString());
+			verify(rawDataService, never()).save(any(), any(), any());
 		}
 	}
 
@@ -341,20 +357,19 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
+			given(contextService.findPromptText(actor))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(insightRequest, null))
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString()))
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
 					.willReturn(analysisResult);
 
 			// when
 			insightService.requestInsight(insightRequest);
 
 			// then
-			verify(resultService, times(1)).save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString());
+			verify(batchWriteService, times(1)).write(eq(actor), eq(insightRequest), any(), eq(insightResponse), anyString());
+			verify(resultService, never()).save(any(), any(), any(), any());
 		}
 	}
 
@@ -372,20 +387,195 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
-					.willReturn(Optional.of(preparedContext));
-			given(insightFacade.analysis(insightRequest, expectedContextText))
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.of(preparedContext.asPromptText()));
+			given(insightFacade.analysis(eq(insightRequest), eq(expectedContextText), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(eq(actor), eq(analysisRawData), eq(insightResponse), anyString()))
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
 					.willReturn(analysisResult);
 
 			// when
 			insightService.requestInsight(insightRequest);
 
 			// then
-			verify(insightFacade, times(1)).analysis(insightRequest, expectedContextText);
+			verify(insightFacade, times(1)).analysis(eq(insightRequest), eq(expectedContextText), any());
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 콜백 URL이 있으면 결과 저장과 함께 콜백 등록 요청")
+	void requestInsight_WithCallbackUrl_RegistersCallback() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			String callbackUrl = "https://partner.example.com/hooks/aia";
+			InsightRequest callbackRequest = InsightRequest.builder()
+					.userId("test-user")
+					.purpose("running_style_analysis")
+					.userPrompt(userPrompts)
+					.callbackUrl(callbackUrl)
+					.build();
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.empty());
+			given(insightFacade.analysis(eq(callbackRequest), isNull(), any()))
+					.willReturn(insightResponse);
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
+					.willReturn(analysisResult);
+
+			// when
+			insightService.requestInsight(callbackRequest);
+
+			// then - 콜백은 결과와 같은 트랜잭션에서 등록되도록 저장 서비스에 요청째 전달
+			verify(batchWriteService, times(1)).write(eq(actor), eq(callbackRequest), any(), eq(insightResponse), anyString());
+			assertThat(callbackRequest.getCallbackUrl()).isEqualTo(callbackUrl);
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 허용되지 않은 콜백 URL이면 접수/분석 없이 거절")
+	void requestInsight_CallbackUrlNotAllowed_RejectsBeforeAdmission() {
+		// given
+		InsightRequest callbackRequest = InsightRequest.builder()
+				.userId("test-user")
+				.purpose("running_style_analysis")
+				.userPrompt(userPrompts)
+				.callbackUrl("http://169.254.169.254/latest/meta-data")
+				.build();
+		doThrow(new InsightAppException(InsightAppError.CALLBACK_URL_NOT_ALLOWED))
+				.when(callbackService).verifyCallbackUrl("http://169.254.169.254/latest/meta-data");
+
+		// when & then
+		assertThatThrownBy(() -> insightService.requestInsight(callbackRequest))
+				.isInstanceOf(InsightAppException.class)
+				.extracting("error")
+				.isEqualTo(InsightAppError.CALLBACK_URL_NOT_ALLOWED);
+		verifyNoInteractions(actorService, contextService, insightFacade, batchWriteService);
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 콜백 URL이 없으면 콜백 미등록")
+	void requestInsight_WithoutCallbackUrl_DoesNotRegisterCallback() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.empty());
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
+					.willReturn(insightResponse);
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
+					.willReturn(analysisResult);
+
+			// when
+			insightService.requestInsight(insightRequest);
+
+			// then
+			verifyNoInteractions(callbackService);
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 최근 동일 요청 결과가 있으면 분석/저장 없이 재사용")
+	void requestInsight_ReusableResult_SkipsAnalysis() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.of(preparedContext.asPromptText()));
+			given(resultService.findReusable(actor, "running_style_analysis", userPrompts, preparedContext.asPromptText()))
+					.willReturn(Optional.of(analysisResult));
+			given(resultService.toResponse(analysisResult))
+					.willReturn(insightResponse);
+
+			// when
+			InsightResponse result = insightService.requestInsight(insightRequest);
+
+			// then - 현재 전처리 데이터로 분석한 결과만 조회
+			assertThat(result).isSameAs(insightResponse);
+			verifyNoInteractions(insightFacade, rawDataService, batchWriteService);
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - bypassCache 요청은 저장된 결과를 조회하지 않음")
+	void requestInsight_BypassCache_SkipsReuseLookup() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			InsightRequest bypassRequest = InsightRequest.builder()
+					.userId("test-user")
+					.purpose("running_style_analysis")
+					.userPrompt(userPrompts)
+					.bypassCache(true)
+					.build();
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.empty());
+			given(insightFacade.analysis(eq(bypassRequest), isNull(), any()))
+					.willReturn(insightResponse);
+
+			// when
+			insightService.requestInsight(bypassRequest);
+
+			// then
+			verify(resultService, never()).findReusable(any(), any(), any(), any());
+			verify(insightFacade, times(1)).analysis(eq(bypassRequest), isNull(), any());
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 응답 캐시 미스에서 토큰 쿼터 초과 시 원본 저장 없이 거절")
+	void requestInsight_QuotaExceeded_RejectsBeforeAnalysis() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(resultService.findReusable(actor, "running_style_analysis", userPrompts, null))
+					.willReturn(Optional.empty());
+			doThrow(new InsightAppException(InsightAppError.TOKEN_QUOTA_EXCEEDED))
+					.when(quotaService).checkAdmission(actor);
+			// 응답 캐시 미스 - 파사드가 Gemini 호출 직전에 쿼터 확인 콜백 실행
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
+					.willAnswer(invocation -> {
+						invocation.<Runnable>getArgument(2).run();
+						return insightResponse;
+					});
+
+			// when & then
+			assertThatThrownBy(() -> insightService.requestInsight(insightRequest))
+					.isInstanceOf(InsightAppException.class);
+
+			verify(quotaService).checkAdmission(actor);
+			verifyNoInteractions(batchWriteService);
 		}
 	}
 
@@ -403,18 +593,18 @@ class InsightServiceTest {
 
 		given(actorService.get(userId))
 				.willReturn(actor);
-		given(rawDataService.getUserPromtListByActor(actor))
+		given(rawDataService.getUserPromtListByActor(eq(actor), any(InsightHistoryQuery.class)))
 				.willReturn(expectedResponse);
 
 		// when
-		InsightHistoryResponse response = insightService.getHistory(userId);
+		InsightHistoryResponse response = insightService.getHistory(InsightHistoryQuery.builder().userId(userId).build());
 
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getResultCode()).isEqualTo(HttpStatus.OK.value());
 
 		verify(actorService, times(1)).get(userId);
-		verify(rawDataService, times(1)).getUserPromtListByActor(actor);
+		verify(rawDataService, times(1)).getUserPromtListByActor(eq(actor), any(InsightHistoryQuery.class));
 	}
 
 	@Test
@@ -427,7 +617,7 @@ class InsightServiceTest {
 				.willThrow(new InsightException(InsightError.NOT_FOUND_ACTOR));
 
 		// when & then
-		assertThatThrownBy(() -> insightService.getHistory(userId))
+		assertThatThrownBy(() -> insightService.getHistory(InsightHistoryQuery.builder().userId(userId).build()))
 				.isInstanceOf(InsightException.class)
 				.hasMessageContaining(InsightError.NOT_FOUND_ACTOR.toString());
 
@@ -449,18 +639,18 @@ class InsightServiceTest {
 
 		given(actorService.get(userId))
 				.willReturn(actor);
-		given(rawDataService.getUserPromtListByActor(actor))
+		given(rawDataService.getUserPromtListByActor(eq(actor), any(InsightHistoryQuery.class)))
 				.willReturn(emptyResponse);
 
 		// when
-		InsightHistoryResponse response = insightService.getHistory(userId);
+		InsightHistoryResponse response = insightService.getHistory(InsightHistoryQuery.builder().userId(userId).build());
 
 		// then
 		assertThat(response).isNotNull();
 		assertThat(response.getInsightRecords()).isEmpty();
 
 		verify(actorService, times(1)).get(userId);
-		verify(rawDataService, times(1)).getUserPromtListByActor(actor);
+		verify(rawDataService, times(1)).getUserPromtListByActor(eq(actor), any(InsightHistoryQuery.class));
 	}
 
 	@Test
@@ -475,11 +665,9 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("test-user"))
 					.willReturn(actor);
-			given(rawDataService.save(actor, "running_style_analysis", userPrompts))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(actor))
+			given(contextService.findPromptText(actor))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(insightRequest, null))
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
 					.willThrow(new RuntimeException("Analysis failed"));
 
 			// when & then
@@ -487,8 +675,68 @@ class InsightServiceTest {
 					.isInstanceOf(RuntimeException.class)
 					.hasMessage("Analysis failed");
 
-			// 분석 실패 후 결과 저장은 호출되지 않아야 함
-			verify(resultService, never()).save(any(), any(), any(), any());
+			// 원본/결과는 분석 성공 후에만 저장되므로 남는 데이터 없음
+			verifyNoInteractions(batchWriteService);
+			verify(rawDataService, never()).save(any(), any(), any());
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 분석은 트랜잭션 밖, 접수 트랜잭션 이후 분석 결과 저장")
+	void requestInsight_AnalysisRunsOutsideTransactions() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.empty());
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
+					.willReturn(insightResponse);
+			given(batchWriteService.write(eq(actor), any(InsightRequest.class), any(), eq(insightResponse), anyString()))
+					.willReturn(analysisResult);
+
+			// when
+			insightService.requestInsight(insightRequest);
+
+			// then
+			InOrder inOrder = inOrder(transactionTemplate, insightFacade, batchWriteService);
+			inOrder.verify(transactionTemplate).execute(any());
+			inOrder.verify(insightFacade).analysis(eq(insightRequest), isNull(), any());
+			inOrder.verify(batchWriteService).write(eq(actor), eq(insightRequest), any(), eq(insightResponse), anyString());
+			verify(transactionTemplate, times(1)).execute(any());
+		}
+	}
+
+	@Test
+	@DisplayName("requestInsight(InsightRequest) - 결과 저장 실패 시 예외 전파")
+	void requestInsight_WriteFails_PropagatesException() {
+		// given
+		try (MockedStatic<InsightRequestValidator> mockedValidator =
+					 mockStatic(InsightRequestValidator.class)) {
+
+			mockedValidator.when(() -> InsightRequestValidator.validate(any(InsightRequest.class)))
+					.then(invocation -> null);
+
+			given(actorService.getOrCreate("test-user"))
+					.willReturn(actor);
+			given(contextService.findPromptText(actor))
+					.willReturn(Optional.empty());
+			given(insightFacade.analysis(eq(insightRequest), isNull(), any()))
+					.willReturn(insightResponse);
+			given(batchWriteService.write(any(), any(), any(), any(), any()))
+					.willThrow(new IllegalStateException("db down"));
+
+			// when & then
+			assertThatThrownBy(() -> insightService.requestInsight(insightRequest))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessage("db down");
+			verify(rawDataService, never()).save(any(), any(), any());
+			verifyNoInteractions(callbackService);
 		}
 	}
 
@@ -519,13 +767,11 @@ class InsightServiceTest {
 
 			given(actorService.getOrCreate("user-1")).willReturn(actor1);
 			given(actorService.getOrCreate("user-2")).willReturn(actor2);
-			given(rawDataService.save(any(Actor.class), anyString(), any()))
-					.willReturn(analysisRawData);
-			given(contextService.findByActorKey(any(Actor.class)))
+			given(contextService.findPromptText(any(Actor.class)))
 					.willReturn(Optional.empty());
-			given(insightFacade.analysis(any(InsightRequest.class), any()))
+			given(insightFacade.analysis(any(InsightRequest.class), any(), any()))
 					.willReturn(insightResponse);
-			given(resultService.save(any(), any(), any(), any()))
+			given(batchWriteService.write(any(), any(), any(), any(), any()))
 					.willReturn(analysisResult);
 
 			// when
@@ -535,7 +781,7 @@ class InsightServiceTest {
 			// then
 			verify(actorService, times(1)).getOrCreate("user-1");
 			verify(actorService, times(1)).getOrCreate("user-2");
-			verify(insightFacade, times(2)).analysis(any(InsightRequest.class), any());
+			verify(insightFacade, times(2)).analysis(any(InsightRequest.class), any(), any());
 		}
 	}
 }
\ No newline at end of file
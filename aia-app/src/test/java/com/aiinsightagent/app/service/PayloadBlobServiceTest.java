@@ -0,0 +1,157 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.PayloadBlob;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("PayloadBlobService 테스트")
+class PayloadBlobServiceTest {
+	private static final String PURPOSE = "payload_blob_test";
+
+	@Autowired
+	private PayloadBlobService payloadBlobService;
+
+	@Autowired
+	private AnalysisRawDataService rawDataService;
+
+	@Autowired
+	private ActorService actorService;
+
+	@Autowired
+	private AnalysisRawDataRepository rawDataRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	private Actor actor;
+
+	@BeforeEach
+	void setUp() {
+		actor = actorService.getOrCreate("payload-blob-user");
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from payload_blob where content_hash in "
+				+ "(select content_hash from analysis_row_data where purpose = ?)", PURPOSE);
+		jdbcTemplate.update("delete from analysis_row_data where purpose = ?", PURPOSE);
+	}
+
+	private static List<UserPrompt> sessions(String dataKey) {
+		return List.of(UserPrompt.builder()
+				.dataKey(dataKey)
+				.data(Map.of("duration", "3556", "heartRate", "152.4", "distance", "6.01"))
+				.build());
+	}
+
+	private AnalysisRawData save(List<UserPrompt> userPrompt) {
+		return transactionTemplate.execute(status -> rawDataService.save(actor, PURPOSE, userPrompt));
+	}
+
+	private Long blobCount(String contentHash) {
+		return jdbcTemplate.queryForObject(
+				"select count(*) from payload_blob where content_hash = ?", Long.class, contentHash);
+	}
+
+	private double writes(String result) {
+		return meterRegistry.get(PayloadBlobService.WRITE_METRIC_NAME).tag("result", result).counter().count();
+	}
+
+	@Test
+	@DisplayName("store - 같은 페이로드는 한 번만 저장, 원본 데이터는 해시 참조로 조회")
+	void store_samePayload_storedOnce() {
+		// given
+		double insertsBefore = writes("insert");
+		double dedupsBefore = writes("dedup");
+
+		// when - 기기가 같은 세션 묶음을 다시 전송
+		AnalysisRawData first = save(sessions("A0398D47"));
+		AnalysisRawData resent = save(sessions("A0398D47"));
+		AnalysisRawData other = save(sessions("B1122C33"));
+
+		// then
+		assertThat(resent.getContentHash()).isEqualTo(first.getContentHash());
+		assertThat(other.getContentHash()).isNotEqualTo(first.getContentHash());
+		assertThat(blobCount(first.getContentHash())).isEqualTo(1L);
+		assertThat(blobCount(other.getContentHash())).isEqualTo(1L);
+		assertThat(writes("insert") - insertsBefore).isEqualTo(2);
+		assertThat(writes("dedup") - dedupsBefore).isEqualTo(1);
+
+		// 원본 데이터 행에는 페이로드 본문을 저장하지 않음
+		Long inlinePayloads = jdbcTemplate.queryForObject(
+				"select count(*) from analysis_row_data where purpose = ? and raw_payload_data is not null",
+				Long.class, PURPOSE);
+		assertThat(inlinePayloads).isZero();
+
+		String reloaded = transactionTemplate.execute(status ->
+				rawDataRepository.findById(resent.getInputId()).orElseThrow().getRawPayload());
+		assertThat(reloaded).isEqualTo(first.getRawPayload()).contains("A0398D47");
+	}
+
+	@Test
+	@DisplayName("store - 한 배치 안의 중복 페이로드는 한 행으로 저장하고 모두 같은 페이로드에 연결")
+	void store_duplicatesInBatch_storedOnce() {
+		// given
+		AnalysisRawData rawData1 = rawDataService.create(actor, PURPOSE, sessions("C0001"), null);
+		AnalysisRawData rawData2 = rawDataService.create(actor, PURPOSE, sessions("C0001"), null);
+		AnalysisRawData rawData3 = rawDataService.create(actor, PURPOSE, sessions("C0001"), null);
+
+		// when
+		transactionTemplate.executeWithoutResult(status -> {
+			payloadBlobService.store(List.of(rawData1, rawData2, rawData3));
+			rawDataRepository.saveAll(List.of(rawData1, rawData2, rawData3));
+		});
+
+		// then
+		assertThat(blobCount(rawData1.getContentHash())).isEqualTo(1L);
+		assertThat(rawData1.getContentHash()).isEqualTo(PayloadBlob.hash(rawData1.getRawPayload()));
+		List<String> reloaded = transactionTemplate.execute(status -> rawDataRepository
+				.findAllById(List.of(rawData2.getInputId(), rawData3.getInputId())).stream()
+				.map(AnalysisRawData::getRawPayload)
+				.toList());
+		assertThat(reloaded).containsOnly(rawData1.getRawPayload());
+	}
+}
@@ -0,0 +1,171 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.TestApplication;
+import com.aiinsightagent.app.entity.AnalysisRawData;
+import com.aiinsightagent.app.entity.CompressedPayload;
+import com.aiinsightagent.app.entity.PayloadBlob;
+import com.aiinsightagent.app.repository.AnalysisRawDataRepository;
+import com.aiinsightagent.app.repository.PreparedContextRepository;
+import com.aiinsightagent.app.util.PayloadCodec;
+import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.google.genai.Client;
+import com.google.genai.Models;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = TestApplication.class)
+@ActiveProfiles("test")
+@DisplayName("PayloadCompressionMigrator 테스트")
+class PayloadCompressionMigratorTest {
+	private static final long LEGACY_CONTEXT_ID = 2_000_000L;
+	private static final long LEGACY_INPUT_ID = 2_000_000L;
+
+	@Autowired
+	private PayloadCompressionMigrator migrator;
+
+	@Autowired
+	private PreparedContextRepository contextRepository;
+
+	@Autowired
+	private AnalysisRawDataRepository rawDataRepository;
+
+	@Autowired
+	private PayloadCodec codec;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@MockitoBean
+	private Client geminiClient;
+
+	@MockitoBean
+	private Models geminiModels;
+
+	@MockitoBean
+	private GeminiQueueManager geminiQueueManager;
+
+	@MockitoBean
+	private GeminiChatAdapter geminiChatAdapter;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("delete from payload_blob where content_hash in "
+				+ "(select content_hash from analysis_row_data where input_id >= ?)", LEGACY_INPUT_ID);
+		jdbcTemplate.update("delete from analysis_row_data where input_id >= ?", LEGACY_INPUT_ID);
+		jdbcTemplate.update("delete from prepared_context where context_id >= ?", LEGACY_CONTEXT_ID);
+		jdbcTemplate.execute("alter table prepared_context modify context_payload longtext null");
+	}
+
+	private void insertLegacyContext(long contextId, String payload) {
+		jdbcTemplate.update("insert into prepared_context (context_id, actor_id, context_type, context_scope, "
+				+ "context_payload, confidence_level, is_active, reg_date, version) "
+				+ "values (?, 1, 'running', 'ACTOR', ?, 'MEDIUM', true, current_timestamp, 0)", contextId, payload);
+	}
+
+	@Test
+	@DisplayName("migrateBatch - 평문 행을 압축 컬럼으로 옮기고 평문 컬럼은 비움, 이전 전후 모두 같은 값으로 조회")
+	void migrateBatch_movesLegacyRowsToCompressedColumn() {
+		// given - 압축 도입 전 평문으로 저장된 행
+		String payload = "{\"goal\":\"10km 50분 이내\",\"injury\":\"왼쪽 무릎 통증 이력\",\"preferredPace\":\"5:30\"}".repeat(10);
+		insertLegacyContext(LEGACY_CONTEXT_ID, payload);
+		insertLegacyContext(LEGACY_CONTEXT_ID + 1, "평문 컨텍스트");
+		assertThat(contextRepository.findById(LEGACY_CONTEXT_ID).orElseThrow().getContextPayload()).isEqualTo(payload);
+
+		// when
+		int migrated = 0;
+		int batch;
+		while ((batch = migrator.migrateBatch(CompressedPayload.PREPARED_CONTEXT)) > 0) {
+			migrated += batch;
+		}
+
+		// then
+		assertThat(migrated).isGreaterThanOrEqualTo(2);
+		Long legacyRows = jdbcTemplate.queryForObject(
+				"select count(*) from prepared_context where context_id >= ? and context_payload is not null",
+				Long.class, LEGACY_CONTEXT_ID);
+		assertThat(legacyRows).isZero();
+
+		byte[] stored = jdbcTemplate.queryForObject(
+				"select context_payload_data from prepared_context where context_id = ?", byte[].class, LEGACY_CONTEXT_ID);
+		assertThat(PayloadCodec.hasHeader(stored)).isTrue();
+		assertThat(stored.length).isLessThan(payload.getBytes().length);
+
+		assertThat(contextRepository.findById(LEGACY_CONTEXT_ID).orElseThrow().getContextPayload()).isEqualTo(payload);
+		assertThat(contextRepository.findById(LEGACY_CONTEXT_ID + 1).orElseThrow().getContextPayload())
+				.isEqualTo("평문 컨텍스트");
+	}
+
+	private void insertLegacyRawData(long inputId, String legacyPayload, byte[] compressedPayload) {
+		jdbcTemplate.update("insert into analysis_row_data (input_id, actor_id, input_type, purpose, "
+				+ "raw_payload, raw_payload_data, reg_date) values (?, 1, 'JSON', 'running', ?, ?, current_timestamp)",
+				inputId, legacyPayload, compressedPayload);
+	}
+
+	private void migrateAll(CompressedPayload payload) {
+		while (migrator.migrateBatch(payload) > 0) {
+			// 남은 행이 없을 때까지 반복
+		}
+	}
+
+	@Test
+	@DisplayName("migrateBatch - 원본 데이터는 평문/행별 압축 페이로드 모두 payload_blob 으로 옮기고 같은 페이로드는 한 번만 저장")
+	void migrateBatch_rawData_movesPayloadsToBlobs() {
+		// given - 평문 2건(같은 페이로드) + 압축 컬럼 1건
+		String duplicated = "[{\"dataKey\":\"A0398D47\",\"data\":{\"duration\":\"3556\"}}]";
+		String compressed = "[{\"dataKey\":\"B1122C33\",\"data\":{\"duration\":\"1800\"}}]";
+		insertLegacyRawData(LEGACY_INPUT_ID, duplicated, null);
+		insertLegacyRawData(LEGACY_INPUT_ID + 1, duplicated, null);
+		insertLegacyRawData(LEGACY_INPUT_ID + 2, null, codec.encode(compressed));
+
+		// when
+		migrateAll(CompressedPayload.ANALYSIS_RAW_DATA);
+
+		// then - 기존 컬럼은 비우고 해시 참조만 남김
+		Long remaining = jdbcTemplate.queryForObject("select count(*) from analysis_row_data where input_id >= ? "
+				+ "and (content_hash is null or raw_payload is not null or raw_payload_data is not null)",
+				Long.class, LEGACY_INPUT_ID);
+		assertThat(remaining).isZero();
+		Long blobs = jdbcTemplate.queryForObject("select count(distinct content_hash) from analysis_row_data "
+				+ "where input_id >= ?", Long.class, LEGACY_INPUT_ID);
+		assertThat(blobs).isEqualTo(2L);
+		assertThat(jdbcTemplate.queryForObject("select count(*) from payload_blob where content_hash = ?",
+				Long.class, PayloadBlob.hash(duplicated))).isEqualTo(1L);
+
+		List<String> payloads = transactionTemplate.execute(status -> rawDataRepository
+				.findAllById(List.of(LEGACY_INPUT_ID, LEGACY_INPUT_ID + 1, LEGACY_INPUT_ID + 2)).stream()
+				.map(AnalysisRawData::getRawPayload)
+				.toList());
+		assertThat(payloads).containsExactlyInAnyOrder(duplicated, duplicated, compressed);
+	}
+
+	@Test
+	@DisplayName("relaxLegacyColumn - 기존 DB 의 NOT NULL 평문 컬럼은 nullable 로 변경하고, 이미 nullable 이면 그대로 둠")
+	void relaxLegacyColumn_dropsNotNullOnce() {
+		// given - 압축 도입 전 스키마 (평문 컬럼 NOT NULL)
+		insertLegacyContext(LEGACY_CONTEXT_ID, "평문 컨텍스트");
+		jdbcTemplate.update("delete from prepared_context where context_payload is null");
+		jdbcTemplate.execute("alter table prepared_context modify context_payload longtext not null");
+
+		// when
+		boolean relaxed = migrator.relaxLegacyColumn(CompressedPayload.PREPARED_CONTEXT);
+
+		// then
+		assertThat(relaxed).isTrue();
+		assertThat(migrator.relaxLegacyColumn(CompressedPayload.PREPARED_CONTEXT)).isFalse();
+	}
+}
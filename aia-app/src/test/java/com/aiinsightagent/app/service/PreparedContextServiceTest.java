@@ -1,5 +1,6 @@
 package com.aiinsightagent.app.service;
 
+import com.aiinsightagent.app.config.PreparedContextCacheProperties;
 import com.aiinsightagent.app.entity.Actor;
 import com.aiinsightagent.app.entity.PreparedContext;
 import com.aiinsightagent.app.enums.ConfidenceLevel;
@@ -7,24 +8,29 @@ import com.aiinsightagent.app.exception.InsightAppError;
 import com.aiinsightagent.app.exception.InsightAppException;
 import com.aiinsightagent.app.repository.PreparedContextRepository;
 import com.aiinsightagent.app.util.ParserUtils;
+import com.aiinsightagent.core.cache.GeminiContextCache;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.model.Context;
 import com.aiinsightagent.core.model.ContextResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -44,7 +50,11 @@ class PreparedContextServiceTest {
 	@Mock
 	private ParserUtils parserUtils;
 
-	@InjectMocks
+	@Mock
+	private GeminiContextCache contextCache;
+
+	private PreparedContextCacheProperties cacheProperties;
+	private SimpleMeterRegistry meterRegistry;
 	private PreparedContextService preparedContextService;
 
 	private Actor actor;
@@ -55,6 +65,13 @@ class PreparedContextServiceTest {
 
 	@BeforeEach
 	void setUp() {
+		cacheProperties = new PreparedContextCacheProperties() {
+		};
+		cacheProperties.setSyncEnabled(true);
+		meterRegistry = new SimpleMeterRegistry();
+		preparedContextService = new PreparedContextService(contextRepository, parserUtils, contextCache,
+				cacheProperties, meterRegistry);
+
 		// Actor 생성
 		actor = Actor.create("test-user-key");
 		ReflectionTestUtils.setField(actor, "actorId", 1L);
@@ -271,6 +288,7 @@ class PreparedContextServiceTest {
 
 		verify(contextRepository, times(1)).findByActor(actor);
 		verify(contextRepository, times(1)).save(existingContext);
+		verify(contextCache, times(1)).invalidate("test-user-key");
 	}
 
 	@Test
@@ -333,6 +351,7 @@ class PreparedContextServiceTest {
 
 		verify(contextRepository, times(1)).findByActor(actor);
 		verify(contextRepository, times(1)).deleteById(1L);
+		verify(contextCache, times(1)).invalidate("test-user-key");
 	}
 
 	@Test
@@ -349,6 +368,7 @@ class PreparedContextServiceTest {
 
 		verify(contextRepository, times(1)).findByActor(actor);
 		verify(contextRepository, never()).deleteById(any());
+		verifyNoInteractions(contextCache);
 	}
 
 	@Test
@@ -448,6 +468,7 @@ class PreparedContextServiceTest {
 		// then
 		verify(contextRepository, times(1)).findByActor(actor);
 		verify(contextRepository, times(1)).save(existingContext);
+		verify(contextCache, times(1)).invalidate("test-user-key");
 	}
 
 	@Test
@@ -475,4 +496,193 @@ class PreparedContextServiceTest {
 		verify(contextRepository, times(2)).findByActor(actor);
 		verify(contextRepository, times(1)).save(any(PreparedContext.class));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("findPromptText - 두 번째 조회부터 캐시 적중으로 DB 조회 없음")
+	void findPromptText_CachedAfterFirstLookup() {
+		// given
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.of(preparedContext));
+
+		// when
+		Optional<String> first = preparedContextService.findPromptText(actor);
+		Optional<String> second = preparedContextService.findPromptText(actor);
+
+		// then
+		assertThat(first).contains(contextDataJson);
+		assertThat(second).contains(contextDataJson);
+		verify(contextRepository, times(1)).findByActor(actor);
+		assertThat(meterRegistry.get("cache.gets")
+				.tag("cache", PreparedContextService.CACHE_METRIC_NAME)
+				.tag("result", "hit")
+				.functionCounter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("findPromptText - 컨텍스트가 없는 주체도 캐시하고 생성 시 무효화")
+	void findPromptText_AbsentCachedUntilCreate() {
+		// given
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.empty());
+		assertThat(preparedContextService.findPromptText(actor)).isEmpty();
+		assertThat(preparedContextService.findPromptText(actor)).isEmpty();
+
+		// when
+		preparedContextService.create(actor, context);
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.of(preparedContext));
+		Optional<String> result = preparedContextService.findPromptText(actor);
+
+		// then
+		assertThat(result).contains(contextDataJson);
+		// 캐시 적재 1회 + create 중복 검증 1회 + 무효화 후 재적재 1회
+		verify(contextRepository, times(3)).findByActor(actor);
+	}
+
+	@Test
+	@DisplayName("findPromptText - 수정/삭제 시 캐시 무효화")
+	void findPromptText_InvalidatedOnUpdateAndDelete() {
+		// given
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.of(preparedContext));
+		preparedContextService.findPromptText(actor);
+
+		// when
+		preparedContextService.update(actor, context);
+		preparedContext.update("running_history", "{\"averagePace\":\"5:30\"}");
+		Optional<String> afterUpdate = preparedContextService.findPromptText(actor);
+
+		preparedContextService.delete(actor);
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.empty());
+		Optional<String> afterDelete = preparedContextService.findPromptText(actor);
+
+		// then
+		assertThat(afterUpdate).contains("{\"averagePace\":\"5:30\"}");
+		assertThat(afterDelete).isEmpty();
+	}
+
+	@Test
+	@DisplayName("findPromptText - 조회 중 수정이 커밋되어 무효화되면 이전 값을 캐시에 넣지 않음")
+	void findPromptText_InvalidatedDuringLoad_DoesNotCacheStaleText() {
+		// given - 수정 전 행을 읽은 직후, 반환 전에 다른 요청의 수정이 커밋됨
+		String updatedJson = "{\"averagePace\":\"5:30\"}";
+		PreparedContext stale = contextWithId(actor, 1L);
+		given(parserUtils.toJson(any())).willReturn(updatedJson);
+		AtomicInteger lookups = new AtomicInteger();
+		given(contextRepository.findByActor(actor)).willAnswer(invocation -> {
+			if (lookups.incrementAndGet() == 1) {
+				TransactionSynchronizationManager.initSynchronization();
+				try {
+					preparedContextService.update(actor, context);
+					TransactionSynchronizationManager.getSynchronizations()
+							.forEach(TransactionSynchronization::afterCommit);
+				} finally {
+					TransactionSynchronizationManager.clearSynchronization();
+				}
+				return Optional.of(stale);
+			}
+			return Optional.of(preparedContext);
+		});
+
+		// when
+		Optional<String> racing = preparedContextService.findPromptText(actor);
+		Optional<String> next = preparedContextService.findPromptText(actor);
+
+		// then - 경합한 요청만 이전 값을 받고, 다음 요청은 DB 에서 수정된 값을 다시 읽음
+		assertThat(racing).contains(contextDataJson);
+		assertThat(next).contains(updatedJson);
+		// 경합 조회 1회 + update 내 조회 1회 + 재적재 1회
+		assertThat(lookups.get()).isEqualTo(3);
+		assertThat(preparedContextService.findPromptText(actor)).contains(updatedJson);
+		assertThat(lookups.get()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("findPromptText - 캐시 비활성화 시 매번 DB 조회")
+	void findPromptText_CacheDisabled_AlwaysQueries() {
+		// given
+		cacheProperties.setEnabled(false);
+		given(contextRepository.findByActor(actor))
+				.willReturn(Optional.of(preparedContext));
+
+		// when
+		preparedContextService.findPromptText(actor);
+		preparedContextService.findPromptText(actor);
+
+		// then
+		verify(contextRepository, times(2)).findByActor(actor);
+	}
+
+	@Test
+	@DisplayName("syncVersions - 다른 인스턴스에서 수정/삭제/생성된 항목만 무효화")
+	void syncVersions_InvalidatesChangedEntries() {
+		// given - 변경 없음(actor), 수정됨(updated), 삭제됨(deleted), 새로 생성됨(created)
+		Actor updated = actorWithId("updated-user", 2L);
+		Actor deleted = actorWithId("deleted-user", 3L);
+		Actor created = actorWithId("created-user", 4L);
+		given(contextRepository.findByActor(actor)).willReturn(Optional.of(preparedContext));
+		given(contextRepository.findByActor(updated)).willReturn(Optional.of(contextWithId(updated, 12L)));
+		given(contextRepository.findByActor(deleted)).willReturn(Optional.of(contextWithId(deleted, 13L)));
+		given(contextRepository.findByActor(created)).willReturn(Optional.empty());
+		List.of(actor, updated, deleted, created).forEach(preparedContextService::findPromptText);
+
+		given(contextRepository.findVersionsByActorIds(any()))
+				.willReturn(List.of(version(1L, 1L, 0), version(2L, 12L, 1), version(4L, 14L, 0)));
+
+		// when
+		int invalidated = preparedContextService.syncVersions();
+
+		// then
+		assertThat(invalidated).isEqualTo(3);
+		preparedContextService.findPromptText(actor);
+		verify(contextRepository, times(1)).findByActor(actor);
+		preparedContextService.findPromptText(updated);
+		verify(contextRepository, times(2)).findByActor(updated);
+	}
+
+	@Test
+	@DisplayName("syncVersions - 비활성화 시 DB 조회 없음")
+	void syncVersions_Disabled_NoQuery() {
+		// given
+		cacheProperties.setSyncEnabled(false);
+
+		// when
+		int invalidated = preparedContextService.syncVersions();
+
+		// then
+		assertThat(invalidated).isZero();
+		verify(contextRepository, never()).findVersionsByActorIds(any());
+	}
+
+	private Actor actorWithId(String actorKey, Long actorId) {
+		Actor other = Actor.create(actorKey);
+		ReflectionTestUtils.setField(other, "actorId", actorId);
+		return other;
+	}
+
+	private PreparedContext contextWithId(Actor owner, Long contextId) {
+		PreparedContext other = new PreparedContext(owner, "running_history", contextDataJson);
+		ReflectionTestUtils.setField(other, "contextId", contextId);
+		return other;
+	}
+
+	private PreparedContextRepository.ContextVersion version(Long actorId, Long contextId, long version) {
+		return new PreparedContextRepository.ContextVersion() {
+			@Override
+			public Long getActorId() {
+				return actorId;
+			}
+
+			@Override
+			public Long getContextId() {
+				return contextId;
+			}
+
+			@Override
+			public long getVersion() {
+				return version;
+			}
+		};
+	}
+}
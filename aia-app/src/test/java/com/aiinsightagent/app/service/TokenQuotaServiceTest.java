@@ -0,0 +1,139 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.TokenQuotaProperties;
+import com.aiinsightagent.app.entity.Actor;
+import com.aiinsightagent.app.enums.ActorStatus;
+import com.aiinsightagent.app.enums.ActorType;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import com.aiinsightagent.app.repository.TokenUsageLedgerRepository;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.model.TokenUsageRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenQuotaService 테스트")
+class TokenQuotaServiceTest {
+
+	@Mock
+	private TokenUsageLedgerRepository ledgerRepository;
+
+	private TokenQuotaProperties quotaProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private TokenQuotaService quotaService;
+
+	private Actor device;
+	private Actor service;
+
+	@BeforeEach
+	void setUp() {
+		quotaProperties = new TokenQuotaProperties() {
+		};
+		quotaProperties.setActorTypes(Map.of(ActorType.DEVICE, 1000L));
+		meterRegistry = new SimpleMeterRegistry();
+		quotaService = new TokenQuotaService(quotaProperties, ledgerRepository, meterRegistry);
+
+		device = Actor.create("device-1");
+		service = new Actor("service-1", ActorType.SERVICE, ActorStatus.ACTIVE);
+	}
+
+	private TokenUsageRecord usage(String actorKey, int totalTokens) {
+		return TokenUsageRecord.builder()
+				.actorKey(actorKey)
+				.modelId("m00")
+				.totalTokens(totalTokens)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	@Test
+	@DisplayName("checkAdmission - 유형별 한도에 도달하면 TOKEN_QUOTA_EXCEEDED 로 거절")
+	void checkAdmission_typeLimitReached_rejected() {
+		// given
+		quotaService.record(usage("device-1", 600));
+		quotaService.record(usage("device-1", 400));
+
+		// when & then
+		assertThatThrownBy(() -> quotaService.checkAdmission(device))
+				.isInstanceOf(InsightAppException.class)
+				.satisfies(e -> assertThat(((InsightAppException) e).getError()).isEqualTo(InsightAppError.TOKEN_QUOTA_EXCEEDED));
+		assertThat(meterRegistry.get(TokenQuotaService.REJECTED_METRIC_NAME)
+				.tags("actorType", "DEVICE").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("checkAdmission - 한도 미만이거나 한도가 없는 유형은 통과")
+	void checkAdmission_underLimitOrUnlimited_admitted() {
+		// given
+		quotaService.record(usage("device-1", 999));
+		quotaService.record(usage("service-1", 1_000_000));
+
+		// when & then
+		assertThatCode(() -> quotaService.checkAdmission(device)).doesNotThrowAnyException();
+		assertThatCode(() -> quotaService.checkAdmission(service)).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("checkAdmission - 주체 키별 한도가 유형별 한도보다 우선")
+	void checkAdmission_actorOverride_takesPrecedence() {
+		// given
+		quotaProperties.setActors(Map.of("device-1", 5000L));
+		quotaProperties.setDailyTokens(100);
+		quotaService.record(usage("device-1", 2000));
+		quotaService.record(usage("service-1", 100));
+
+		// when & then
+		assertThatCode(() -> quotaService.checkAdmission(device)).doesNotThrowAnyException();
+		assertThatThrownBy(() -> quotaService.checkAdmission(service))
+				.isInstanceOf(InsightAppException.class);
+	}
+
+	@Test
+	@DisplayName("reconcile - 저장된 당일 사용량과 메모리 카운터 중 큰 값 유지")
+	void reconcile_keepsMaxOfPersistedAndInMemory() {
+		// given
+		LocalDate today = LocalDate.now();
+		quotaService.record(usage("device-1", 300));
+		quotaService.record(usage("device-2", 900));
+		given(ledgerRepository.rollupByActor(today, today)).willReturn(Arrays.asList(
+				new TokenUsageRollup("device-1", 3L, 0L, 0L, 0L, 800L, 0.0),
+				new TokenUsageRollup("device-2", 1L, 0L, 0L, 0L, 500L, 0.0),
+				new TokenUsageRollup(null, 1L, 0L, 0L, 0L, 70L, 0.0)));
+
+		// when
+		quotaService.reconcile();
+
+		// then
+		assertThat(quotaService.getUsedTokens("device-1")).isEqualTo(800);
+		assertThat(quotaService.getUsedTokens("device-2")).isEqualTo(900);
+	}
+
+	@Test
+	@DisplayName("record/checkAdmission - 비활성화 시 집계/거절하지 않음, 주체 없는 기록은 무시")
+	void disabled_orNoActor_ignored() {
+		// given
+		quotaService.record(usage(null, 5000));
+		quotaProperties.setEnabled(false);
+		quotaService.record(usage("device-1", 5000));
+
+		// when & then
+		assertThatCode(() -> quotaService.checkAdmission(device)).doesNotThrowAnyException();
+		assertThat(quotaService.getUsedTokens("device-1")).isZero();
+	}
+}
@@ -0,0 +1,166 @@
+package com.aiinsightagent.app.service;
+
+import com.aiinsightagent.app.config.TokenUsageLedgerProperties;
+import com.aiinsightagent.app.enums.UsageRollupType;
+import com.aiinsightagent.app.repository.TokenUsageLedgerRepository;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenUsageLedgerService 테스트")
+class TokenUsageLedgerServiceTest {
+
+	@Mock
+	private JdbcTemplate jdbcTemplate;
+
+	@Mock
+	private TokenUsageLedgerRepository ledgerRepository;
+
+	private TokenUsageLedgerProperties ledgerProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private TokenUsageLedgerService ledgerService;
+
+	@BeforeEach
+	void setUp() {
+		ledgerProperties = new TokenUsageLedgerProperties() {
+		};
+		ledgerProperties.setBufferCapacity(5);
+		ledgerProperties.setBatchSize(2);
+		meterRegistry = new SimpleMeterRegistry();
+
+		ledgerService = new TokenUsageLedgerService(jdbcTemplate, ledgerRepository, ledgerProperties, meterRegistry);
+		ledgerService.init();
+	}
+
+	private TokenUsageRecord record(String traceId) {
+		return TokenUsageRecord.builder()
+				.traceId(traceId)
+				.actorKey("user-1")
+				.purpose("running_style_analysis")
+				.modelId("m00")
+				.promptTokens(100)
+				.completionTokens(20)
+				.totalTokens(120)
+				.createdAt(LocalDateTime.now())
+				.build();
+	}
+
+	@Test
+	@DisplayName("flush - 버퍼에 쌓인 기록을 배치 크기 단위로 나눠 적재")
+	@SuppressWarnings("unchecked")
+	void flush_drainsBufferInBatches() {
+		// given
+		List<List<TokenUsageRecord>> batches = new ArrayList<>();
+		when(jdbcTemplate.batchUpdate(eq(TokenUsageLedgerService.INSERT_SQL), anyCollection(), eq(2),
+				any(ParameterizedPreparedStatementSetter.class)))
+				.thenAnswer(invocation -> {
+					batches.add(new ArrayList<>((Collection<TokenUsageRecord>) invocation.getArgument(1)));
+					return new int[0][];
+				});
+
+		ledgerService.record(record("t1"));
+		ledgerService.record(record("t2"));
+		ledgerService.record(record("t3"));
+
+		// when
+		int flushed = ledgerService.flush();
+
+		// then
+		assertThat(flushed).isEqualTo(3);
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(0)).extracting(TokenUsageRecord::getTraceId).containsExactly("t1", "t2");
+		assertThat(batches.get(1)).extracting(TokenUsageRecord::getTraceId).containsExactly("t3");
+		assertThat(ledgerService.flush()).isZero();
+	}
+
+	@Test
+	@DisplayName("record - 버퍼가 가득 차면 DB 접근 없이 버리고 dropped 메트릭 증가")
+	void record_bufferFull_dropsAndCounts() {
+		// when
+		for (int i = 0; i < 7; i++) {
+			ledgerService.record(record("t" + i));
+		}
+
+		// then
+		verifyNoInteractions(jdbcTemplate);
+		assertThat(meterRegistry.get(TokenUsageLedgerService.DROPPED_METRIC_NAME).counter().count()).isEqualTo(2.0);
+		assertThat(meterRegistry.get(TokenUsageLedgerService.PENDING_METRIC_NAME).gauge().value()).isEqualTo(5.0);
+	}
+
+	@Test
+	@DisplayName("flush - 배치 적재 실패 시 해당 배치만 버리고 나머지는 계속 적재")
+	@SuppressWarnings("unchecked")
+	void flush_batchFailure_dropsFailedBatchOnly() {
+		// given
+		when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+				.thenThrow(new DataAccessResourceFailureException("db down"))
+				.thenReturn(new int[0][]);
+
+		ledgerService.record(record("t1"));
+		ledgerService.record(record("t2"));
+		ledgerService.record(record("t3"));
+
+		// when
+		int flushed = ledgerService.flush();
+
+		// then
+		assertThat(flushed).isEqualTo(1);
+		assertThat(meterRegistry.get(TokenUsageLedgerService.DROPPED_METRIC_NAME).counter().count()).isEqualTo(2.0);
+	}
+
+	@Test
+	@DisplayName("record - 비활성화 시 기록하지 않음")
+	void record_disabled_ignored() {
+		// given
+		ledgerProperties.setEnabled(false);
+
+		// when
+		ledgerService.record(record("t1"));
+
+		// then
+		assertThat(ledgerService.flush()).isZero();
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	@DisplayName("rollup - 집계 기준별 쿼리 선택")
+	void rollup_delegatesByType() {
+		// given
+		LocalDate from = LocalDate.of(2026, 10, 1);
+		LocalDate to = LocalDate.of(2026, 10, 31);
+
+		// when
+		ledgerService.rollup(UsageRollupType.DAY, from, to);
+		ledgerService.rollup(UsageRollupType.ACTOR, from, to);
+		ledgerService.rollup(UsageRollupType.KEY, from, to);
+
+		// then
+		verify(ledgerRepository).rollupByDay(from, to);
+		verify(ledgerRepository).rollupByActor(from, to);
+		verify(ledgerRepository).rollupByKey(from, to);
+	}
+}
@@ -517,6 +517,37 @@ class InsightRequestValidatorTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("validateCallbackUrl 메서드")
+	class ValidateCallbackUrlTest {
+
+		@Test
+		@DisplayName("콜백 URL이 없는 경우 예외 없음")
+		void validateCallbackUrl_Null_NoException() {
+			assertThatCode(() -> InsightRequestValidator.validateCallbackUrl(null))
+					.doesNotThrowAnyException();
+		}
+
+		@Test
+		@DisplayName("http(s) 절대 URL인 경우 예외 없음")
+		void validateCallbackUrl_HttpUrl_NoException() {
+			assertThatCode(() -> InsightRequestValidator.validateCallbackUrl("https://partner.example.com/hooks/aia"))
+					.doesNotThrowAnyException();
+			assertThatCode(() -> InsightRequestValidator.validateCallbackUrl("http://10.0.0.5:8080/callback"))
+					.doesNotThrowAnyException();
+		}
+
+		@Test
+		@DisplayName("http(s)가 아니거나 상대 경로인 경우 예외 발생")
+		void validateCallbackUrl_InvalidUrl_ThrowsException() {
+			for (String url : new String[]{"ftp://example.com/file", "/relative/path", "not a url", "file:///etc/passwd"}) {
+				assertThatThrownBy(() -> InsightRequestValidator.validateCallbackUrl(url))
+						.isInstanceOf(InsightAppException.class)
+						.hasMessageContaining(InsightAppError.INVALID_CALLBACK_URL.toString());
+			}
+		}
+	}
+
 	// Helper method
 	private Map<String, String> createRunningData(String duration, String heartRate,
 												  String distance, String stepCount) {
@@ -380,4 +380,19 @@ class InsightResultSerializerTest {
 		assertThat(result).contains("null");
 		verify(objectMapper, times(1)).writeValueAsString(insightDetail);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("deserialize - 역직렬화 실패 시 InsightException 발생")
+	void deserialize_InvalidPayload_ThrowsInsightException() throws JsonProcessingException {
+		// given
+		given(objectMapper.readValue("not-json", InsightDetail.class))
+				.willThrow(new JsonProcessingException("invalid") {
+				});
+
+		// when & then
+		assertThatThrownBy(() -> serializer.deserialize("not-json"))
+				.isInstanceOf(InsightException.class)
+				.extracting(e -> ((InsightException) e).getError())
+				.isEqualTo(InsightAppError.FAIL_DESERIALIZE_INSIGHT_DETAIL);
+	}
+}
@@ -0,0 +1,121 @@
+package com.aiinsightagent.app.util;
+
+import com.aiinsightagent.app.config.PayloadCompressionProperties;
+import com.aiinsightagent.app.exception.InsightAppError;
+import com.aiinsightagent.app.exception.InsightAppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("PayloadCodec 테스트")
+class PayloadCodecTest {
+
+	private PayloadCompressionProperties properties;
+	private PayloadCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		properties = new PayloadCompressionProperties() {
+		};
+		codec = new PayloadCodec(properties);
+	}
+
+	private static String userPromptPayload(int count) {
+		StringBuilder payload = new StringBuilder("[");
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				payload.append(',');
+			}
+			payload.append("{\"dataKey\":\"session-").append(i)
+					.append("\",\"data\":{\"duration\":\"").append(1800 + i)
+					.append("\",\"heartRate\":\"152.4\",\"distance\":\"6.01\",\"memo\":\"후반 페이스 저하\"}}");
+		}
+		return payload.append(']').toString();
+	}
+
+	@Test
+	@DisplayName("encode/decode - 최소 크기 이상 페이로드는 DEFLATE 로 압축 후 원문 복원")
+	void encode_largePayload_deflateRoundTrip() {
+		// given
+		String payload = userPromptPayload(20);
+
+		// when
+		byte[] encoded = codec.encode(payload);
+
+		// then
+		assertThat(PayloadCodec.hasHeader(encoded)).isTrue();
+		assertThat(encoded[2]).isEqualTo(PayloadCodec.CODEC_DEFLATE);
+		assertThat(encoded[3]).isEqualTo(PayloadCodec.DICTIONARY_V1);
+		assertThat(encoded.length).isLessThan(payload.getBytes(StandardCharsets.UTF_8).length / 3);
+		assertThat(codec.decode(encoded)).isEqualTo(payload);
+	}
+
+	@Test
+	@DisplayName("encode - 최소 크기 미만 페이로드는 압축하지 않고 헤더만 붙여 저장")
+	void encode_smallPayload_storedAsIs() {
+		// given
+		String payload = "{\"summary\":\"요약\"}";
+
+		// when
+		byte[] encoded = codec.encode(payload);
+
+		// then
+		assertThat(encoded[2]).isEqualTo(PayloadCodec.CODEC_NONE);
+		assertThat(encoded).hasSize(PayloadCodec.HEADER_LENGTH + payload.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(codec.decode(encoded)).isEqualTo(payload);
+	}
+
+	@Test
+	@DisplayName("encode - 비활성화 시 압축하지 않고, 비활성화 이전 압축 값도 그대로 복원")
+	void encode_disabled_storedAsIs() {
+		// given
+		String payload = userPromptPayload(20);
+		byte[] compressed = codec.encode(payload);
+		properties.setEnabled(false);
+
+		// when
+		byte[] encoded = codec.encode(payload);
+
+		// then
+		assertThat(encoded[2]).isEqualTo(PayloadCodec.CODEC_NONE);
+		assertThat(codec.decode(encoded)).isEqualTo(payload);
+		assertThat(codec.decode(compressed)).isEqualTo(payload);
+	}
+
+	@Test
+	@DisplayName("decode - 헤더가 없는 값은 압축 도입 전 평문으로 읽음")
+	void decode_withoutHeader_readsPlainText() {
+		// given
+		byte[] legacy = "[{\"dataKey\":\"A0398D47\"}]".getBytes(StandardCharsets.UTF_8);
+
+		// when & then
+		assertThat(codec.decode(legacy)).isEqualTo("[{\"dataKey\":\"A0398D47\"}]");
+		assertThat(codec.decode(null)).isNull();
+		assertThat(codec.encode(null)).isNull();
+	}
+
+	@Test
+	@DisplayName("decode - 알 수 없는 코덱이나 사전이면 FAIL_DECODE_PAYLOAD 예외")
+	void decode_unknownCodec_throwsException() {
+		// given
+		byte[] unknownCodec = codec.encode(userPromptPayload(20));
+		unknownCodec[2] = 9;
+		byte[] unknownDictionary = codec.encode(userPromptPayload(20));
+		unknownDictionary[3] = 9;
+
+		// when & then
+		assertThatThrownBy(() -> codec.decode(unknownCodec))
+				.isInstanceOf(InsightAppException.class)
+				.extracting(e -> ((InsightAppException) e).getError())
+				.isEqualTo(InsightAppError.FAIL_DECODE_PAYLOAD);
+		assertThatThrownBy(() -> codec.decode(unknownDictionary))
+				.isInstanceOf(InsightAppException.class)
+				.extracting(e -> ((InsightAppException) e).getError())
+				.isEqualTo(InsightAppError.FAIL_DECODE_PAYLOAD);
+	}
+}
@@ -4,6 +4,7 @@ import com.aiinsightagent.core.context.GeminiContext;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.queue.GeminiQueueManager;
+import com.aiinsightagent.core.queue.GeminiRequestOptions;
 import com.aiinsightagent.core.queue.GeminiResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,8 +28,51 @@ public class GeminiChatAdapter {
 	 * @return GeminiResponse
 	 */
 	public GeminiResponse getResponse(String prompt) {
+		return waitFor(() -> queueManager.submitAndWait(prompt));
+	}
+
+	/**
+	 * 동기식 Gemini Chat 응답 생성 (프리픽스/목적 등 옵션 적용)
+	 *
+	 * @param prompt  전체 프롬프트 (캐시 미사용 시 전송)
+	 * @param options 컨텍스트 캐시 프리픽스, 요청 목적 (생성 프로필 선택 기준)
+	 * @return GeminiResponse
+	 */
+	public GeminiResponse getResponse(String prompt, GeminiRequestOptions options) {
+		return waitFor(() -> queueManager.submitAndWait(prompt, options));
+	}
+
+	/**
+	 * 비동기 요청 결과 대기 (동기 호출과 동일한 타임아웃/예외 변환 적용)
+	 *
+	 * @param future getResponseAsync 결과
+	 * @return GeminiResponse
+	 */
+	public GeminiResponse await(CompletableFuture<GeminiResponse> future) {
+		return waitFor(() -> queueManager.await(future));
+	}
+
+	/**
+	 * 비동기 요청 결과를 공통 마감 시각까지 대기 (여러 요청을 합쳐 요청 타임아웃 한 번 안에서 기다림)
+	 *
+	 * @param future   getResponseAsync 결과
+	 * @param deadline deadline() 으로 구한 마감 시각
+	 * @return GeminiResponse
+	 */
+	public GeminiResponse await(CompletableFuture<GeminiResponse> future, long deadline) {
+		return waitFor(() -> queueManager.await(future, deadline));
+	}
+
+	/**
+	 * 지금부터 요청 타임아웃이 지나는 마감 시각
+	 */
+	public long deadline() {
+		return queueManager.deadline();
+	}
+
+	private GeminiResponse waitFor(QueueCall call) {
 		try {
-			GeminiResponse response = queueManager.submitAndWait(prompt);
+			GeminiResponse response = call.get();
 			GeminiContext.setModelInfo(response.getModelId(), response.getModelName());
 			return response;
 		} catch (TimeoutException e) {
@@ -60,4 +104,20 @@ public class GeminiChatAdapter {
 	public CompletableFuture<GeminiResponse> getResponseAsync(String prompt) {
 		return queueManager.submit(prompt);
 	}
+
+	/**
+	 * 비동기식 Gemini Chat 응답 생성 (프리픽스/목적 등 옵션 적용)
+	 *
+	 * @param prompt  전체 프롬프트
+	 * @param options 컨텍스트 캐시 프리픽스, 요청 목적
+	 * @return CompletableFuture
+	 */
+	public CompletableFuture<GeminiResponse> getResponseAsync(String prompt, GeminiRequestOptions options) {
+		return queueManager.submit(prompt, options);
+	}
+
+	@FunctionalInterface
+	private interface QueueCall {
+		GeminiResponse get() throws ExecutionException, InterruptedException, TimeoutException;
+	}
 }
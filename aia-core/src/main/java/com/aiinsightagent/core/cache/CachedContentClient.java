@@ -0,0 +1,13 @@
+package com.aiinsightagent.core.cache;
+
+import java.time.Duration;
+
+/**
+ * Gemini 캐시 콘텐츠(cachedContents) API 호출 - API 키별 인스턴스
+ */
+public interface CachedContentClient {
+	/**
+	 * 시스템 지시문을 캐시 콘텐츠로 생성하고 리소스 이름(cachedContents/...) 반환
+	 */
+	String create(String model, String systemInstruction, Duration ttl);
+}
@@ -0,0 +1,16 @@
+package com.aiinsightagent.core.cache;
+
+import com.aiinsightagent.core.model.InsightDetail;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 캐시 항목 - 파싱된 분석 결과와 응답을 생성한 모델 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class CachedInsight {
+	private final InsightDetail insight;
+	private final String modelId;
+	private final String modelName;
+}
@@ -0,0 +1,29 @@
+package com.aiinsightagent.core.cache;
+
+import com.google.genai.Caches;
+import com.google.genai.types.CachedContent;
+import com.google.genai.types.Content;
+import com.google.genai.types.CreateCachedContentConfig;
+import com.google.genai.types.Part;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * SDK Caches 기반 CachedContentClient
+ */
+@RequiredArgsConstructor
+public class GeminiCachedContentClient implements CachedContentClient {
+	private final Caches caches;
+
+	@Override
+	public String create(String model, String systemInstruction, Duration ttl) {
+		CachedContent cachedContent = caches.create(model, CreateCachedContentConfig.builder()
+				.systemInstruction(Content.fromParts(Part.fromText(systemInstruction)))
+				.ttl(ttl)
+				.build());
+
+		return cachedContent.name()
+				.orElseThrow(() -> new IllegalStateException("Cached content name is missing"));
+	}
+}
@@ -0,0 +1,176 @@
+package com.aiinsightagent.core.cache;
+
+import com.aiinsightagent.core.config.ContextCacheProperties;
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.Striped;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Gemini 컨텍스트 캐시(cachedContents) 관리
+ * - API 키(모델 설정)별, 프리픽스 키(시스템 공용/사용자별)별로 캐시 콘텐츠를 생성하고 재사용
+ * - 프리픽스 내용이 바뀌었거나 만료가 가까우면 재생성
+ * - 항목 수 상한 + Gemini 측 TTL 과 같은 시간 후 로컬 항목 만료 (원격 캐시와 같은 수명)
+ * - 교체/무효화 시 원격 캐시는 삭제하지 않고 TTL 로 만료 (다른 워커에서 진행 중인 호출이 참조할 수 있음)
+ * - 생성 실패 시 failureBackoff 동안 같은 프리픽스는 생성을 다시 시도하지 않음
+ */
+@Slf4j
+@Component
+public class GeminiContextCache {
+	private static final int LOCK_STRIPES = 64;
+
+	private final ContextCacheProperties cacheProperties;
+	private final Map<String, CachedContentClient> clients = new HashMap<>();
+	private final Cache<String, Entry> entries;
+	private final Striped<Lock> locks = Striped.lock(LOCK_STRIPES);
+
+	public GeminiContextCache(ContextCacheProperties cacheProperties,
+							  GeminiProperties geminiProperties,
+							  List<CachedContentClient> geminiCachedContentClients) {
+		this.cacheProperties = cacheProperties;
+		this.entries = CacheBuilder.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfterWrite(cacheProperties.getTtl())
+				.build();
+
+		// geminiModelsList 와 동일하게 유효한 모델 설정 순서로 매핑
+		List<GeminiProperties.ModelConfig> validModels = geminiProperties.getValidModels();
+		for (int i = 0; i < Math.min(validModels.size(), geminiCachedContentClients.size()); i++) {
+			clients.put(validModels.get(i).getId(), geminiCachedContentClients.get(i));
+		}
+
+		log.info("GeminiContextCache initialized: enabled={}, ttl={}, minPrefixLength={}, maximumSize={}, failureBackoff={}",
+				cacheProperties.isEnabled(), cacheProperties.getTtl(), cacheProperties.getMinPrefixLength(),
+				cacheProperties.getMaximumSize(), cacheProperties.getFailureBackoff());
+	}
+
+	/**
+	 * 캐시 콘텐츠 이름 조회 (없으면 생성) - 캐시를 사용할 수 없으면 null
+	 */
+	public String resolve(GeminiProperties.ModelConfig modelConfig, PromptPrefix prefix) {
+		if (!cacheProperties.isEnabled() || prefix == null
+				|| prefix.getPrefix().length() < cacheProperties.getMinPrefixLength()) {
+			return null;
+		}
+
+		CachedContentClient client = clients.get(modelConfig.getId());
+		if (client == null) {
+			return null;
+		}
+
+		String key = entryKey(modelConfig.getId(), prefix.getKey());
+		String prefixHash = Hashing.sha256().hashString(prefix.getPrefix(), StandardCharsets.UTF_8).toString();
+
+		Entry entry = entries.getIfPresent(key);
+		if (entry != null && entry.isUsable(prefixHash, refreshDeadline())) {
+			return entry.name;
+		}
+
+		// 같은 키의 생성 요청은 한 번만 수행
+		Lock lock = locks.get(key);
+		lock.lock();
+		try {
+			entry = entries.getIfPresent(key);
+			if (entry != null && entry.isUsable(prefixHash, refreshDeadline())) {
+				return entry.name;
+			}
+			if (entry != null && entry.isBackingOff(prefixHash, Instant.now())) {
+				return null;
+			}
+
+			return create(client, modelConfig, prefix, key, prefixHash);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * 캐시 콘텐츠 사용 실패 시 (Gemini 측 만료/삭제) 해당 항목 제거
+	 * - 그사이 다른 워커가 새로 만든 항목은 유지 (실패한 캐시 이름과 같을 때만 제거)
+	 */
+	public void evict(GeminiProperties.ModelConfig modelConfig, PromptPrefix prefix, String cachedContent) {
+		String key = entryKey(modelConfig.getId(), prefix.getKey());
+		Entry entry = entries.getIfPresent(key);
+		if (entry != null && cachedContent != null && cachedContent.equals(entry.name)) {
+			entries.asMap().remove(key, entry);
+		}
+	}
+
+	/**
+	 * 사용자 컨텍스트 변경/삭제 시 모든 API 키의 해당 사용자 항목 제거
+	 */
+	public void invalidate(String userId) {
+		String suffix = "|" + PromptPrefix.actorKey(userId);
+		entries.asMap().keySet().removeIf(key -> key.endsWith(suffix));
+	}
+
+	public int size() {
+		entries.cleanUp();
+		return (int) entries.size();
+	}
+
+	private String create(CachedContentClient client, GeminiProperties.ModelConfig modelConfig, PromptPrefix prefix,
+						  String key, String prefixHash) {
+		try {
+			String name = client.create(modelConfig.getName(), prefix.getPrefix(), cacheProperties.getTtl());
+			entries.put(key, Entry.created(name, prefixHash, Instant.now().plus(cacheProperties.getTtl())));
+			log.debug("Context cache created: modelId={}, key={}, name={}", modelConfig.getId(), prefix.getKey(), name);
+			return name;
+		} catch (Exception e) {
+			entries.put(key, Entry.failed(prefixHash, Instant.now().plus(cacheProperties.getFailureBackoff())));
+			log.warn("Context cache creation failed, sending full prompt: modelId={}, key={}, backoff={}, error={}",
+					modelConfig.getId(), prefix.getKey(), cacheProperties.getFailureBackoff(), e.getMessage());
+			return null;
+		}
+	}
+
+	private Instant refreshDeadline() {
+		return Instant.now().plus(cacheProperties.getRefreshMargin());
+	}
+
+	private static String entryKey(String modelId, String prefixKey) {
+		return modelId + "|" + prefixKey;
+	}
+
+	/**
+	 * 캐시 항목 (name 이 null 이면 생성 실패, until 까지 재시도 보류)
+	 */
+	private static final class Entry {
+		private final String name;
+		private final String prefixHash;
+		private final Instant until;
+
+		private Entry(String name, String prefixHash, Instant until) {
+			this.name = name;
+			this.prefixHash = prefixHash;
+			this.until = until;
+		}
+
+		private static Entry created(String name, String prefixHash, Instant expiresAt) {
+			return new Entry(name, prefixHash, expiresAt);
+		}
+
+		private static Entry failed(String prefixHash, Instant retryAt) {
+			return new Entry(null, prefixHash, retryAt);
+		}
+
+		private boolean isUsable(String prefixHash, Instant deadline) {
+			return name != null && prefixHash.equals(this.prefixHash) && until.isAfter(deadline);
+		}
+
+		private boolean isBackingOff(String prefixHash, Instant now) {
+			return name == null && prefixHash.equals(this.prefixHash) && until.isAfter(now);
+		}
+	}
+}
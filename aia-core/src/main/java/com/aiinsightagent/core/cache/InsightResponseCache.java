@@ -0,0 +1,115 @@
+package com.aiinsightagent.core.cache;
+
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.config.ResponseCacheProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * 요청 지문 기준 분석 결과 캐시
+ * - 키: 시스템 프롬프트/컨텍스트/요청 지문 + 모델별로 목적에 적용되는 생성 프로필의 SHA-256
+ * - 값: 원본 SDK 응답 대신 파싱된 InsightDetail만 보관
+ */
+@Slf4j
+@Component
+public class InsightResponseCache {
+	public static final String METRIC_NAME = "aia.insight.response.cache";
+
+	private final GeminiProperties geminiProperties;
+	private final ResponseCacheProperties cacheProperties;
+	private final Cache<String, CachedInsight> cache;
+
+	public InsightResponseCache(GeminiProperties geminiProperties,
+								ResponseCacheProperties cacheProperties,
+								MeterRegistry meterRegistry) {
+		this.geminiProperties = geminiProperties;
+		this.cacheProperties = cacheProperties;
+		this.cache = CacheBuilder.newBuilder()
+				.maximumSize(cacheProperties.getMaximumSize())
+				.expireAfterWrite(cacheProperties.getTtl())
+				.recordStats()
+				.build();
+
+		GuavaCacheMetrics.monitor(meterRegistry, cache, METRIC_NAME);
+
+		log.info("InsightResponseCache initialized: enabled={}, maximumSize={}, ttl={}",
+				cacheProperties.isEnabled(), cacheProperties.getMaximumSize(), cacheProperties.getTtl());
+	}
+
+	/**
+	 * 캐시 키 생성 - 구성 요소가 같아도 목적에 적용되는 모델/생성 프로필이 다르면 다른 키
+	 * - 요청을 처리할 워커(모델)는 미리 알 수 없으므로 유효한 모델 전체의 병합된 프로필을 포함
+	 *
+	 * @param purpose 분석 목적 (생성 프로필 선택 기준)
+	 */
+	public String keyOf(String purpose, String... parts) {
+		Hasher hasher = Hashing.sha256().newHasher();
+		for (String part : parts) {
+			putPart(hasher, part);
+		}
+
+		String profileName = geminiProperties.getProfileName(purpose);
+		for (GeminiProperties.ModelConfig model : geminiProperties.getValidModels()) {
+			putPart(hasher, model.getName());
+			putProfile(hasher, geminiProperties.resolveProfile(profileName, model));
+		}
+		// 유효한 모델이 없어도 설정 변경이 키에 반영되도록 공용 프로필 포함
+		putProfile(hasher, geminiProperties.resolveProfile(profileName, null));
+
+		return hasher.hash().toString();
+	}
+
+	private static void putProfile(Hasher hasher, GeminiProperties.GenerationProfile profile) {
+		putPart(hasher, Objects.toString(profile.getTemperature(), null));
+		putPart(hasher, Objects.toString(profile.getMaxOutputTokens(), null));
+		putPart(hasher, Objects.toString(profile.getThinkingBudget(), null));
+		putPart(hasher, profile.getResponseMimeType());
+	}
+
+	private static void putPart(Hasher hasher, String part) {
+		if (part == null) {
+			hasher.putInt(-1);
+		} else {
+			hasher.putInt(part.length()).putString(part, StandardCharsets.UTF_8);
+		}
+	}
+
+	/**
+	 * 캐시 조회 (미사용 설정 시 항상 null)
+	 */
+	public CachedInsight get(String key) {
+		if (!cacheProperties.isEnabled()) {
+			return null;
+		}
+		return cache.getIfPresent(key);
+	}
+
+	public void put(String key, CachedInsight cachedInsight) {
+		if (!cacheProperties.isEnabled() || cachedInsight.getInsight() == null) {
+			return;
+		}
+		cache.put(key, cachedInsight);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	public CacheStats stats() {
+		return cache.stats();
+	}
+
+	public long size() {
+		return cache.size();
+	}
+}
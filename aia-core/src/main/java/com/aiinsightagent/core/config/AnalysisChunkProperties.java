@@ -0,0 +1,43 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = AnalysisChunkProperties.PROPERTY_PREFIX)
+public class AnalysisChunkProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.analysis.chunk";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static AnalysisChunkProperties instance = new AnalysisChunkProperties();
+
+	/**
+	 * 대용량 입력 분할 분석 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 분할 분석을 시작하는 최소 항목 수
+	 */
+	private int minItems = 100;
+
+	/**
+	 * 청크당 항목 수
+	 */
+	private int chunkSize = 50;
+
+	/**
+	 * 요청당 최대 청크 수 (초과 시 청크 크기를 늘려 맞춤)
+	 */
+	private int maxChunks = 8;
+}
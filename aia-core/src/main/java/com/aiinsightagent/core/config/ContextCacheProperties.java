@@ -0,0 +1,55 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = ContextCacheProperties.PROPERTY_PREFIX)
+public class ContextCacheProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.cache.context";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static ContextCacheProperties instance = new ContextCacheProperties();
+
+	/**
+	 * Gemini 컨텍스트 캐시 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 캐시 유지 시간 (Gemini 측 TTL)
+	 */
+	private Duration ttl = Duration.ofMinutes(30);
+
+	/**
+	 * 만료 전 재생성 여유 시간 (요청 처리 중 만료 방지)
+	 */
+	private Duration refreshMargin = Duration.ofMinutes(1);
+
+	/**
+	 * 캐시 대상 최소 프리픽스 길이 (문자 수, Gemini 최소 캐시 토큰 수 미만이면 생성 실패)
+	 */
+	private int minPrefixLength = 4000;
+
+	/**
+	 * 로컬에서 추적하는 최대 캐시 콘텐츠 수 (모델 x 프리픽스 키)
+	 */
+	private long maximumSize = 10000;
+
+	/**
+	 * 생성 실패 후 같은 프리픽스의 재시도를 막는 시간 (그동안 전체 프롬프트로 호출)
+	 */
+	private Duration failureBackoff = Duration.ofMinutes(5);
+}
@@ -0,0 +1,28 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = FingerprintProperties.PROPERTY_PREFIX)
+public class FingerprintProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.fingerprint";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static FingerprintProperties instance = new FingerprintProperties();
+
+	/**
+	 * userPrompt 목록 순서 무시 여부 (순서만 다른 요청을 같은 요청으로 판단)
+	 */
+	private boolean orderInsensitive = false;
+}
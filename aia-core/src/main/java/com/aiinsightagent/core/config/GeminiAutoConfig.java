@@ -4,6 +4,8 @@ import org.springframework.boot.context.properties.EnableConfigurationProperties
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
-@EnableConfigurationProperties({GeminiProperties.class, RequestQueueProperties.class})
+@EnableConfigurationProperties({GeminiProperties.class, RequestQueueProperties.class, ResponseCacheProperties.class,
+		FingerprintProperties.class, ContextCacheProperties.class, PromptBudgetProperties.class,
+		AnalysisChunkProperties.class, PromptEncodingProperties.class})
 public class GeminiAutoConfig {
 }
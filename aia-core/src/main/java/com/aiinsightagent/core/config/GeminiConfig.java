@@ -1,5 +1,7 @@
 package com.aiinsightagent.core.config;
 
+import com.aiinsightagent.core.cache.CachedContentClient;
+import com.aiinsightagent.core.cache.GeminiCachedContentClient;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.google.genai.Client;
@@ -36,6 +38,16 @@ public class GeminiConfig {
 		return modelsList;
 	}
 
+	/**
+	 * 각 모델 설정별로 컨텍스트 캐시 클라이언트 생성 (유효한 모델 설정 순서)
+	 */
+	@Bean
+	public List<CachedContentClient> geminiCachedContentClients() {
+		return geminiProperties.getValidModels().stream()
+				.map(this::createCachedContentClient)
+				.toList();
+	}
+
 	/**
 	 * 모델 인스턴스 생성 및 API 키 유효성 검증
 	 */
@@ -68,6 +80,16 @@ public class GeminiConfig {
 				.models;
 	}
 
+	/**
+	 * CachedContentClient 인스턴스 생성
+	 */
+	protected CachedContentClient createCachedContentClient(GeminiProperties.ModelConfig modelConfig) {
+		return new GeminiCachedContentClient(Client.builder()
+				.apiKey(modelConfig.getApiKey())
+				.build()
+				.caches);
+	}
+
 	/**
 	 * API 키 유효성 검증 - 모델 목록 조회로 확인
 	 */
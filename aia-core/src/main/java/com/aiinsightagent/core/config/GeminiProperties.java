@@ -7,7 +7,9 @@ import lombok.NoArgsConstructor;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Data
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -18,6 +20,11 @@ public class GeminiProperties {
 	 */
 	public static final String PROPERTY_PREFIX = "spring.ai.gemini";
 
+	/**
+	 * 구조화 출력 응답 MIME 타입
+	 */
+	public static final String JSON_MIME_TYPE = "application/json";
+
 	/**
 	 * 설정 정보
 	 */
@@ -39,12 +46,105 @@ public class GeminiProperties {
 		private String name;
 		private String apiKey;
 
+		/**
+		 * 이 모델에만 적용할 생성 프로필 (이름이 같은 공용 프로필의 값을 덮어씀)
+		 */
+		private Map<String, GenerationProfile> profiles = new HashMap<>();
+
 		@Override
 		public String toString() {
 			return "ModelConfig(id=" + id + ", name=" + name + ", apiKey=****)";
 		}
 	}
 
+	/**
+	 * 생성 프로필 - 지정하지 않은 값은 공용 프로필, 전역 설정 순으로 대체
+	 */
+	@Data
+	@NoArgsConstructor
+	public static class GenerationProfile {
+		private Double temperature;
+		private Integer maxOutputTokens;
+
+		/**
+		 * 내부 사고(thinking) 토큰 예산 (0: 사용 안 함, -1: 모델이 자동 결정, 미지정: 모델 기본값)
+		 */
+		private Integer thinkingBudget;
+
+		/**
+		 * 응답 MIME 타입 (application/json 이면 InsightDetail 응답 스키마 적용)
+		 */
+		private String responseMimeType;
+
+		/**
+		 * 지정된 값은 유지하고 비어 있는 값만 base 로 채운 새 프로필
+		 */
+		public GenerationProfile withDefaults(GenerationProfile base) {
+			if (base == null) {
+				return this;
+			}
+
+			GenerationProfile merged = new GenerationProfile();
+			merged.setTemperature(temperature != null ? temperature : base.getTemperature());
+			merged.setMaxOutputTokens(maxOutputTokens != null ? maxOutputTokens : base.getMaxOutputTokens());
+			merged.setThinkingBudget(thinkingBudget != null ? thinkingBudget : base.getThinkingBudget());
+			merged.setResponseMimeType(responseMimeType != null ? responseMimeType : base.getResponseMimeType());
+			return merged;
+		}
+	}
+
+	/**
+	 * 기본 생성 프로필 이름 (목적별 매핑이 없을 때 사용)
+	 */
+	public static final String DEFAULT_PROFILE = "default";
+
+	/**
+	 * 공용 생성 프로필 (이름 → 프로필)
+	 */
+	private Map<String, GenerationProfile> profiles = new HashMap<>();
+
+	/**
+	 * 목적(purpose)별 생성 프로필 이름
+	 */
+	private Map<String, String> purposeProfiles = new HashMap<>();
+
+	/**
+	 * 목적에 매핑된 생성 프로필 이름 (매핑이 없으면 default)
+	 */
+	public String getProfileName(String purpose) {
+		return purpose == null ? DEFAULT_PROFILE : purposeProfiles.getOrDefault(purpose, DEFAULT_PROFILE);
+	}
+
+	/**
+	 * 생성 프로필 병합 (모델별 프로필 > 공용 프로필 > 전역 설정 순)
+	 * - 정의되지 않은 이름은 default 프로필로 대체
+	 * - 응답 MIME 타입은 시스템 프롬프트 선택과 같아야 하므로 모델별 프로필로 바꿀 수 없음
+	 *
+	 * @param modelConfig null 이면 공용 프로필과 전역 설정만 병합
+	 */
+	public GenerationProfile resolveProfile(String profileName, ModelConfig modelConfig) {
+		Map<String, GenerationProfile> own = modelConfig == null ? Map.of() : modelConfig.getProfiles();
+		String name = profiles.containsKey(profileName) || own.containsKey(profileName) ? profileName : DEFAULT_PROFILE;
+
+		GenerationProfile global = new GenerationProfile();
+		global.setTemperature(temperature > 0 ? temperature : null);
+		global.setMaxOutputTokens(maxOutputTokens);
+		global.setResponseMimeType(structuredOutput ? JSON_MIME_TYPE : null);
+
+		GenerationProfile shared = profiles.getOrDefault(name, new GenerationProfile()).withDefaults(global);
+		GenerationProfile merged = own.getOrDefault(name, new GenerationProfile()).withDefaults(shared);
+		merged.setResponseMimeType(shared.getResponseMimeType());
+		return merged;
+	}
+
+	/**
+	 * 목적에 매핑된 생성 프로필의 구조화 출력 사용 여부
+	 * - 스키마 설명이 빠진 시스템 프롬프트 선택과 워커의 응답 스키마 적용이 같은 기준을 사용
+	 */
+	public boolean isStructuredOutput(String purpose) {
+		return JSON_MIME_TYPE.equals(resolveProfile(getProfileName(purpose), null).getResponseMimeType());
+	}
+
 	/**
 	 * 유효한 모델 설정 목록 반환 (API 키가 비어있지 않은 것만)
 	 */
@@ -81,4 +181,24 @@ public class GeminiProperties {
 	 * 최대 출력 토큰 수 (응답 속도에 영향)
 	 */
 	private Integer maxOutputTokens;
+
+	/**
+	 * 구조화 출력 사용 여부 (responseSchema + application/json 응답 요청, 프롬프트 내 스키마 설명 생략)
+	 */
+	private boolean structuredOutput = true;
+
+	/**
+	 * 스트리밍 응답 사용 여부 (수신 중 점진 파싱, 잘못된 응답은 수신 도중 즉시 실패)
+	 */
+	private boolean streamResponse = false;
+
+	/**
+	 * 출력 토큰 한도로 잘린 응답 복구 여부 (잘린 JSON 을 닫아 부분 결과로 반환, 재호출하지 않음)
+	 */
+	private boolean repairTruncated = true;
+
+	/**
+	 * 출력 토큰 한도로 잘린 응답의 최대 이어 쓰기 횟수 (같은 키로 나머지만 추가 요청, 0이면 사용 안 함)
+	 */
+	private int maxContinuations = 2;
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = PromptBudgetProperties.PROPERTY_PREFIX)
+public class PromptBudgetProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.prompt.budget";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static PromptBudgetProperties instance = new PromptBudgetProperties();
+
+	/**
+	 * 입력 토큰 예산 적용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 기본 최대 입력 토큰 수 (추정치 기준)
+	 */
+	private int maxInputTokens = 30000;
+
+	/**
+	 * 목적(purpose)별 최대 입력 토큰 수
+	 */
+	private Map<String, Integer> purposes = new HashMap<>();
+
+	/**
+	 * 예산 초과 시 처리 방식
+	 */
+	private OverflowPolicy overflowPolicy = OverflowPolicy.REJECT;
+
+	public int getMaxInputTokens(String purpose) {
+		return purposes.getOrDefault(purpose, maxInputTokens);
+	}
+
+	/**
+	 * 예산 초과 처리 방식
+	 */
+	public enum OverflowPolicy {
+		/**
+		 * 요청 거절
+		 */
+		REJECT,
+		/**
+		 * 예산 안에 들어가는 앞쪽 항목만 사용
+		 */
+		TRUNCATE
+	}
+}
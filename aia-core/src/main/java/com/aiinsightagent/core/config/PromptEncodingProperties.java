@@ -0,0 +1,54 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = PromptEncodingProperties.PROPERTY_PREFIX)
+public class PromptEncodingProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.prompt.encoding";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static PromptEncodingProperties instance = new PromptEncodingProperties();
+
+	/**
+	 * 기본 유저 프롬프트 인코딩 방식
+	 */
+	private Format format = Format.KEY_VALUE;
+
+	/**
+	 * 목적(purpose)별 유저 프롬프트 인코딩 방식
+	 */
+	private Map<String, Format> purposes = new HashMap<>();
+
+	public Format getFormat(String purpose) {
+		return purpose == null ? format : purposes.getOrDefault(purpose, format);
+	}
+
+	/**
+	 * 유저 프롬프트 인코딩 방식
+	 */
+	public enum Format {
+		/**
+		 * 항목마다 #n 과 key=value 줄 반복
+		 */
+		KEY_VALUE,
+		/**
+		 * 모든 항목의 키가 같으면 헤더 한 줄 + 구분자 행 (키가 다르면 KEY_VALUE 로 대체)
+		 */
+		TABULAR
+	}
+}
@@ -0,0 +1,40 @@
+package com.aiinsightagent.core.config;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ConfigurationProperties(prefix = ResponseCacheProperties.PROPERTY_PREFIX)
+public class ResponseCacheProperties {
+	/**
+	 * 설정 타이틀
+	 */
+	public static final String PROPERTY_PREFIX = "aiinsight.cache.response";
+
+	/**
+	 * 설정 정보
+	 */
+	@Getter
+	private static ResponseCacheProperties instance = new ResponseCacheProperties();
+
+	/**
+	 * 응답 캐시 사용 여부
+	 */
+	private boolean enabled = true;
+
+	/**
+	 * 최대 캐시 항목 수
+	 */
+	private long maximumSize = 1000;
+
+	/**
+	 * 캐시 항목 유지 시간 (저장 시점 기준)
+	 */
+	private Duration ttl = Duration.ofMinutes(10);
+}
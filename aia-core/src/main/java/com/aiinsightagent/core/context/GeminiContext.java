@@ -6,6 +6,7 @@ package com.aiinsightagent.core.context;
 public class GeminiContext {
     private static final ThreadLocal<String> MODEL_ID = new ThreadLocal<>();
     private static final ThreadLocal<String> MODEL_NAME = new ThreadLocal<>();
+    private static final ThreadLocal<String> ACTOR_KEY = new ThreadLocal<>();
 
     private GeminiContext() {
     }
@@ -15,9 +16,21 @@ public class GeminiContext {
         MODEL_NAME.set(modelName);
     }
 
+    /**
+     * 요청 주체 설정 (큐 제출 시 요청에 담겨 토큰 원장에 기록됨)
+     */
+    public static void setActorKey(String actorKey) {
+        ACTOR_KEY.set(actorKey);
+    }
+
+    public static String getActorKey() {
+        return ACTOR_KEY.get();
+    }
+
     public static void clear() {
         MODEL_ID.remove();
         MODEL_NAME.remove();
+        ACTOR_KEY.remove();
     }
 
     /**
@@ -16,6 +16,7 @@ public enum InsightError
 	EXIST_ACTOR_PREPARED_CONTEXT(InsightError.CODE_PREFIX + "01-02", "Prepared context already exists for actor", HttpStatus.BAD_REQUEST),
 	EMPTY_ACTOR_PREPARED_CONTEXT(InsightError.CODE_PREFIX + "01-03", "No prepared context for actor", HttpStatus.BAD_REQUEST),
 	NOT_FOUND_ACTOR(InsightError.CODE_PREFIX + "01-03", "Actor not found", HttpStatus.BAD_REQUEST),
+	PROMPT_BUDGET_EXCEEDED(InsightError.CODE_PREFIX + "01-04", "Input exceeds the token budget for this purpose", HttpStatus.PAYLOAD_TOO_LARGE),
 
 
 	INTERNAL_SERVER_ERROR(InsightError.CODE_PREFIX + "02-00", "Internal Server Error", HttpStatus.INTERNAL_SERVER_ERROR),
@@ -1,15 +1,36 @@
 package com.aiinsightagent.core.facade;
 
 import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.cache.CachedInsight;
+import com.aiinsightagent.core.cache.InsightResponseCache;
+import com.aiinsightagent.core.config.AnalysisChunkProperties;
+import com.aiinsightagent.core.config.ContextCacheProperties;
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.context.GeminiContext;
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.parser.GeminiResponseParser;
+import com.aiinsightagent.core.queue.GeminiRequestOptions;
+import com.aiinsightagent.core.queue.GeminiResponse;
+import com.aiinsightagent.core.util.InsightMerger;
 import com.aiinsightagent.core.util.PromptComposer;
+import com.aiinsightagent.core.util.RequestFingerprinter;
+import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
 import com.aiinsightagent.core.model.prompt.SystemPrompt;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.model.prompt.UserPromptBlock;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -17,33 +38,228 @@ import org.springframework.stereotype.Component;
 public class InsightFacade {
 	private final GeminiChatAdapter geminiChatAdapter;
 	private final PromptComposer promptComposer;
+	private final InsightResponseCache responseCache;
+	private final RequestFingerprinter fingerprinter;
+	private final AnalysisChunkProperties chunkProperties;
+	private final GeminiProperties geminiProperties;
+	private final ContextCacheProperties contextCacheProperties;
 
 	public InsightResponse answer(String purpose, String userPrompt) {
 		String finalPrompt = promptComposer.getCombinedPrompt(
 				purpose,
-				SystemPrompt.SINGLE_ITEM,
+				SystemPrompt.singleItem(geminiProperties.isStructuredOutput(purpose)),
 				null,
 				userPrompt);
 
 		log.debug("Final Prompt: {}", finalPrompt);
 
-		return GeminiResponseParser.toInsightResponse(geminiChatAdapter.getResponse(finalPrompt));
+		return parse(geminiChatAdapter.getResponse(finalPrompt,
+				GeminiRequestOptions.builder().purpose(purpose).build()));
 	}
 
 	public InsightResponse analysis(InsightRequest request, String context) {
-		String combinedUserPrompt = promptComposer.getCombinedUserPrompts(request.getUserPrompt());
+		return analysis(request, context, () -> {
+		});
+	}
+
+	/**
+	 * @param onCacheMiss 응답 캐시에 없어 Gemini 를 호출하기 직전에 실행 (쿼터 확인 등, 예외를 던지면 요청 거절)
+	 */
+	public InsightResponse analysis(InsightRequest request, String context, Runnable onCacheMiss) {
+		// 정규화된 요청 지문으로 캐시 조회 (키 순서/숫자 표기만 다른 요청도 적중)
+		// 목적별 프로필이 구조화 출력을 쓰면 스키마 설명이 빠진 시스템 프롬프트 사용 (워커의 스키마 적용과 같은 기준)
+		String systemPrompt = SystemPrompt.multiItem(geminiProperties.isStructuredOutput(request.getPurpose()));
+		String cacheKey = responseCache.keyOf(request.getPurpose(), systemPrompt, context,
+				fingerprinter.fingerprint(request));
+		if (!request.isBypassCache()) {
+			CachedInsight cached = responseCache.get(cacheKey);
+			if (cached != null) {
+				log.debug("Response cache hit: key={}", cacheKey);
+				GeminiContext.setModelInfo(cached.getModelId(), cached.getModelName());
+				return toResponse(cached.getInsight());
+			}
+		}
+
+		onCacheMiss.run();
+
+		// 대용량 입력은 청크로 나눠 병렬 분석 후 병합
+		List<List<UserPrompt>> chunks = partition(request.getUserPrompt());
+		if (chunks.size() > 1) {
+			return analysisInChunks(request, systemPrompt, context, chunks, cacheKey);
+		}
+
+		// 입력 토큰 예산 초과 요청은 큐에 들어가기 전에 거절/축소
+		UserPromptBlock block = promptComposer.getUserPromptBlock(
+				request.getPurpose(),
+				systemPrompt,
+				context,
+				request.getUserPrompt(),
+				1
+		);
+		String combinedUserPrompt = block.getText();
 
 		log.debug("Combined User Prompt:\n str-length={}", combinedUserPrompt.length());
 
 		String finalPrompt = promptComposer.getCombinedPrompt(
 				request.getPurpose(),
-				SystemPrompt.MULTI_ITEM,
+				systemPrompt,
 				context,
 				combinedUserPrompt
 		);
 
 		log.debug("Final Prompt:\n str-length={} \n finalPrompt={}", finalPrompt.length(), finalPrompt);
 
-		return GeminiResponseParser.toInsightResponse(geminiChatAdapter.getResponse(finalPrompt));
+		GeminiResponse geminiResponse = geminiChatAdapter.getResponse(finalPrompt,
+				options(request, systemPrompt, context, combinedUserPrompt));
+		InsightResponse response = markOmitted(parse(geminiResponse), block.getOmittedItems());
+
+		// 새로 분석한 결과로 캐시 갱신 (bypass 요청 포함, 잘린 응답 복구/입력 축소로 얻은 부분 결과는 제외)
+		if (!response.isPartial()) {
+			responseCache.put(cacheKey,
+					new CachedInsight(response.getInsight(), geminiResponse.getModelId(), geminiResponse.getModelName()));
+		}
+
+		return response;
+	}
+
+	private InsightResponse analysisInChunks(InsightRequest request, String systemPrompt, String context,
+			List<List<UserPrompt>> chunks, String cacheKey) {
+		log.debug("Chunked analysis: items={}, chunks={}", request.getUserPrompt().size(), chunks.size());
+
+		// 모든 청크 프롬프트를 먼저 구성해 예산 초과 시 아무것도 큐에 넣지 않음
+		GeminiRequestOptions[] options = new GeminiRequestOptions[chunks.size()];
+		String[] finalPrompts = new String[chunks.size()];
+		int startIndex = 1;
+		int omittedItems = 0;
+		for (int i = 0; i < chunks.size(); i++) {
+			// 병합 결과가 원본 항목 순번을 가리키도록 청크마다 이어지는 순번 사용
+			UserPromptBlock block = promptComposer.getUserPromptBlock(
+					request.getPurpose(), systemPrompt, context, chunks.get(i), startIndex);
+			String combinedUserPrompt = block.getText();
+			startIndex += chunks.get(i).size();
+			omittedItems += block.getOmittedItems();
+			finalPrompts[i] = promptComposer.getCombinedPrompt(
+					request.getPurpose(), systemPrompt, context, combinedUserPrompt);
+			// 청크 간 프리픽스가 동일하므로 컨텍스트 캐시를 공유
+			options[i] = options(request, systemPrompt, context, combinedUserPrompt);
+		}
+
+		// 청크를 순서대로 기다려도 전체 대기가 요청 타임아웃 한 번을 넘지 않도록 공통 마감 시각 사용
+		long deadline = geminiChatAdapter.deadline();
+		List<CompletableFuture<GeminiResponse>> futures = new ArrayList<>(chunks.size());
+		for (int i = 0; i < chunks.size(); i++) {
+			futures.add(geminiChatAdapter.getResponseAsync(finalPrompts[i], options[i]));
+		}
+
+		// 청크 순서대로 수집해 병합 결과가 완료 순서에 좌우되지 않도록 함
+		List<InsightDetail> partials = new ArrayList<>(chunks.size());
+		GeminiResponse firstResponse = null;
+		boolean partial = omittedItems > 0;
+		try {
+			for (CompletableFuture<GeminiResponse> future : futures) {
+				GeminiResponse geminiResponse = geminiChatAdapter.await(future, deadline);
+				if (firstResponse == null) {
+					firstResponse = geminiResponse;
+				}
+				InsightResponse chunkResponse = parse(geminiResponse);
+				partial |= chunkResponse.isPartial();
+				partials.add(chunkResponse.getInsight());
+			}
+		} catch (RuntimeException e) {
+			// 한 청크라도 실패하면 전체 요청이 실패하므로 아직 처리되지 않은 나머지 청크는 호출하지 않도록 취소
+			futures.forEach(future -> future.cancel(false));
+			throw e;
+		}
+
+		InsightDetail merged = InsightMerger.merge(partials);
+		GeminiContext.setModelInfo(firstResponse.getModelId(), firstResponse.getModelName());
+		if (!partial) {
+			responseCache.put(cacheKey,
+					new CachedInsight(merged, firstResponse.getModelId(), firstResponse.getModelName()));
+		}
+
+		return InsightResponse.builder()
+				.resultCode(HttpStatus.OK.value())
+				.resultMsg(HttpStatus.OK.getReasonPhrase())
+				.insight(merged)
+				.partial(partial)
+				.omittedItems(omittedItems)
+				.build();
+	}
+
+	/**
+	 * 입력 토큰 예산으로 빠진 항목이 있으면 부분 결과로 표시 (응답 캐시/결과 재사용 대상에서 제외됨)
+	 */
+	private InsightResponse markOmitted(InsightResponse response, int omittedItems) {
+		if (omittedItems == 0) {
+			return response;
+		}
+
+		return InsightResponse.builder()
+				.resultCode(response.getResultCode())
+				.resultMsg(response.getResultMsg())
+				.insight(response.getInsight())
+				.partial(true)
+				.omittedItems(omittedItems)
+				.build();
+	}
+
+	/**
+	 * 요청 옵션 - 시스템 프롬프트/컨텍스트는 Gemini 컨텍스트 캐시 대상
+	 * - 캐시가 꺼져 있거나 prefix 가 최소 길이보다 짧으면 캐시를 쓰지 않으므로 prefix 를 만들지 않음
+	 */
+	private GeminiRequestOptions options(InsightRequest request, String systemPrompt, String context,
+			String combinedUserPrompt) {
+		GeminiRequestOptions.GeminiRequestOptionsBuilder builder = GeminiRequestOptions.builder()
+				.purpose(request.getPurpose());
+		int prefixLength = promptComposer.getPromptPrefixLength(systemPrompt, context);
+		if (contextCacheProperties.isEnabled() && prefixLength >= contextCacheProperties.getMinPrefixLength()) {
+			builder.prefix(promptComposer.getPromptPrefix(
+					PromptPrefix.keyOf(request.getUserId(), context),
+					request.getPurpose(),
+					systemPrompt,
+					context,
+					combinedUserPrompt));
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 응답 파싱 - 출력 토큰 한도로 잘린 응답은 설정에 따라 복구한 부분 결과로 대체
+	 */
+	private InsightResponse parse(GeminiResponse geminiResponse) {
+		try {
+			return GeminiResponseParser.toInsightResponse(geminiResponse);
+		} catch (InsightException e) {
+			if (!geminiProperties.isRepairTruncated() || e.getError() != InsightError.RESPONSE_TRUNCATED) {
+				throw e;
+			}
+
+			InsightResponse response = GeminiResponseParser.toPartialInsightResponse(geminiResponse);
+			log.warn("Truncated response repaired as partial result: modelId={}", geminiResponse.getModelId());
+			return response;
+		}
+	}
+
+	/**
+	 * 분할 분석 대상이면 청크 목록, 아니면 원본 하나만 담은 목록 반환
+	 */
+	List<List<UserPrompt>> partition(List<UserPrompt> userPrompts) {
+		int size = userPrompts.size();
+		if (!chunkProperties.isEnabled() || size == 0 || size < chunkProperties.getMinItems()) {
+			return List.of(userPrompts);
+		}
+
+		int maxChunks = Math.max(chunkProperties.getMaxChunks(), 1);
+		int chunkSize = Math.max(chunkProperties.getChunkSize(), (size + maxChunks - 1) / maxChunks);
+		return Lists.partition(userPrompts, chunkSize);
+	}
+
+	private InsightResponse toResponse(InsightDetail insight) {
+		return InsightResponse.builder()
+				.resultCode(HttpStatus.OK.value())
+				.resultMsg(HttpStatus.OK.getReasonPhrase())
+				.insight(insight)
+				.build();
 	}
-}
\ No newline at end of file
+}
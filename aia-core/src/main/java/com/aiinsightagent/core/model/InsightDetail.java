@@ -1,5 +1,7 @@
 package com.aiinsightagent.core.model;
 
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -13,8 +15,12 @@ import java.util.List;
 @AllArgsConstructor
 public class InsightDetail {
 	private String summary;
+	@ArraySchema(minItems = 1)
 	private List<IssueCategory> issueCategories;
+	@ArraySchema(minItems = 1)
 	private List<String> rootCauseInsights;
+	@ArraySchema(minItems = 1)
 	private List<String> recommendedActions;
+	@Schema(minimum = "1", maximum = "100")
 	private int priorityScore;
 }
@@ -0,0 +1,29 @@
+package com.aiinsightagent.core.model;
+
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 분석 이력 항목 - 원본 입력 1건과 그 분석 결과
+ */
+@Getter
+@Builder
+public class InsightHistoryItem {
+	private Long inputId;
+	private String purpose;
+	private LocalDateTime regDate;
+	private List<UserPrompt> userPrompt;
+
+	/**
+	 * 분석 결과 (결과가 없으면 아래 항목 모두 null)
+	 */
+	private UUID requestId;
+	private String analysisVersion;
+	private String status;
+	private InsightDetail insight;
+}
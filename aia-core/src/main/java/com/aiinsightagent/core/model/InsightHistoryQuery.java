@@ -0,0 +1,37 @@
+package com.aiinsightagent.core.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+@Builder
+public class InsightHistoryQuery {
+	private String userId;
+
+	/**
+	 * 분석 목적 필터 (선택)
+	 */
+	private String purpose;
+
+	/**
+	 * 조회 시작일 (포함, 선택)
+	 */
+	private LocalDate from;
+
+	/**
+	 * 조회 종료일 (포함, 선택)
+	 */
+	private LocalDate to;
+
+	/**
+	 * 이전 응답의 nextCursor (첫 페이지면 null)
+	 */
+	private String cursor;
+
+	/**
+	 * 페이지당 원본 데이터 수 (선택)
+	 */
+	private Integer size;
+}
@@ -11,4 +11,9 @@ public class InsightHistoryResponse {
 	private int resultCode;
 	private String resultMsg;
 	private List<InsightRecord> insightRecords;
+
+	/**
+	 * 다음 페이지 커서 (마지막 페이지면 null)
+	 */
+	private String nextCursor;
 }
\ No newline at end of file
@@ -19,4 +19,14 @@ public class InsightRequest {
 
 	@NotEmpty(message = "userPrompt must not be empty")
 	private List<UserPrompt> userPrompt;
+
+	/**
+	 * 분석 완료 시 결과를 전달받을 콜백 URL (선택)
+	 */
+	private String callbackUrl;
+
+	/**
+	 * 캐시/저장된 결과를 재사용하지 않고 새로 분석할지 여부
+	 */
+	private boolean bypassCache;
 }
\ No newline at end of file
@@ -9,4 +9,12 @@ public class InsightResponse {
 	private int resultCode;
 	private String resultMsg;
 	private InsightDetail insight;
-}
\ No newline at end of file
+	/**
+	 * 부분 결과 여부 - 출력 토큰 한도로 잘린 응답을 복구했거나 입력 토큰 예산으로 뒤쪽 입력 항목을 빼고 분석한 경우
+	 */
+	private boolean partial;
+	/**
+	 * 입력 토큰 예산(TRUNCATE)으로 분석에서 제외된 입력 항목 수 (0 이면 전체 항목 분석)
+	 */
+	private int omittedItems;
+}
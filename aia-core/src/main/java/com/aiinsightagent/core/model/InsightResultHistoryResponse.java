@@ -0,0 +1,19 @@
+package com.aiinsightagent.core.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class InsightResultHistoryResponse {
+	private int resultCode;
+	private String resultMsg;
+	private List<InsightHistoryItem> historyItems;
+
+	/**
+	 * 다음 페이지 커서 (마지막 페이지면 null)
+	 */
+	private String nextCursor;
+}
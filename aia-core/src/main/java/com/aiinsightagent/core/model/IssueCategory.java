@@ -1,5 +1,6 @@
 package com.aiinsightagent.core.model;
 
+import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,5 +13,6 @@ import lombok.NoArgsConstructor;
 public class IssueCategory {
 	private String category;
 	private String description;
-	private String severity;   // HIGH / MEDIUM / LOW
+	@Schema(allowableValues = {"HIGH", "MEDIUM", "LOW"})
+	private String severity;
 }
\ No newline at end of file
@@ -11,4 +11,12 @@ public class TokenUsage {
 	private final int promptTokens;
 	private final int completionTokens;
 	private final int totalTokens;
+	/**
+	 * 내부 사고(thinking) 토큰 수 (completion 에 포함되지 않음)
+	 */
+	private final int thoughtsTokens;
+
+	public TokenUsage(int promptTokens, int completionTokens, int totalTokens) {
+		this(promptTokens, completionTokens, totalTokens, 0);
+	}
 }
\ No newline at end of file
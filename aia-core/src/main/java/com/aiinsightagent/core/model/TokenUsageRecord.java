@@ -0,0 +1,39 @@
+package com.aiinsightagent.core.model;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Gemini 호출 1건의 토큰 사용 기록 (토큰 원장 저장 단위)
+ */
+@Getter
+@Builder
+public class TokenUsageRecord {
+	private final String traceId;
+	/**
+	 * 요청 주체 키 (주체 없이 호출된 경우 null)
+	 */
+	private final String actorKey;
+	private final String purpose;
+	private final String profile;
+	/**
+	 * 호출에 사용한 모델 설정 id (API 키 단위)
+	 */
+	private final String modelId;
+	private final String modelName;
+	private final int promptTokens;
+	private final int completionTokens;
+	private final int thoughtsTokens;
+	private final int totalTokens;
+	/**
+	 * 큐 대기 시간 (ms)
+	 */
+	private final long waitTimeMs;
+	/**
+	 * API 호출 시간 (이어 쓰기 호출 포함, ms)
+	 */
+	private final long apiTimeMs;
+	private final LocalDateTime createdAt;
+}
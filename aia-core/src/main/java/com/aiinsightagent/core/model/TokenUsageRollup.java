@@ -0,0 +1,22 @@
+package com.aiinsightagent.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 사용량 집계 행 (groupKey: 일자, 주체 키 또는 모델 설정 id)
+ */
+@Getter
+@AllArgsConstructor
+public class TokenUsageRollup {
+	private String groupKey;
+	private Long requestCount;
+	private Long promptTokens;
+	private Long completionTokens;
+	private Long thoughtsTokens;
+	private Long totalTokens;
+	/**
+	 * 평균 API 호출 시간 (ms)
+	 */
+	private Double avgApiTimeMs;
+}
@@ -1,10 +1,12 @@
 package com.aiinsightagent.core.model.prompt;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class FinalPrompt {
 	private String purpose;
 	private String systemPrompt;
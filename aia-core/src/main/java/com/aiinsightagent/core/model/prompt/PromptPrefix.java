@@ -0,0 +1,34 @@
+package com.aiinsightagent.core.model.prompt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gemini 컨텍스트 캐시 대상 프롬프트 분리 정보
+ * - prefix: 요청 간 변하지 않는 시스템 프롬프트 (+ 사용자 전처리 컨텍스트)
+ * - body: 캐시 사용 시 prefix 대신 전송할 나머지 프롬프트
+ */
+@Getter
+@RequiredArgsConstructor
+public class PromptPrefix {
+	private static final String SYSTEM_KEY = "system";
+	private static final String ACTOR_KEY_PREFIX = "actor:";
+
+	private final String key;
+	private final String prefix;
+	private final String body;
+
+	/**
+	 * 캐시 식별 키 - 컨텍스트가 있으면 사용자별, 없으면 시스템 프롬프트 공용
+	 */
+	public static String keyOf(String userId, String context) {
+		if (context == null || context.isBlank() || userId == null) {
+			return SYSTEM_KEY;
+		}
+		return actorKey(userId);
+	}
+
+	public static String actorKey(String userId) {
+		return ACTOR_KEY_PREFIX + userId;
+	}
+}
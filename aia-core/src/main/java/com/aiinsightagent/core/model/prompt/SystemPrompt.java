@@ -30,7 +30,38 @@ public class SystemPrompt {
             """;
 
 
+    /**
+     * 구조화 출력(responseSchema) 사용 시 - 스키마는 요청 설정으로 전달하므로 규칙만 포함
+     */
+    public static final String STRUCTURED_COMMENT = """
+            규칙:
+            - 한국어
+            - 모든 필드 필수
+            - 배열은 최소 1개 이상
+            """;
+
     public static final String SINGLE_ITEM = COMMON_COMMENT + ",단일항목,간결히";
 
     public static final String MULTI_ITEM = COMMON_COMMENT + ",복수항목,각항목별구조화";
+
+    public static final String STRUCTURED_SINGLE_ITEM = STRUCTURED_COMMENT + ",단일항목,간결히";
+
+    public static final String STRUCTURED_MULTI_ITEM = STRUCTURED_COMMENT + ",복수항목,각항목별구조화";
+
+    /**
+     * 출력 토큰 한도로 중단된 응답의 이어 쓰기 요청 (직전 모델 턴 바로 뒤에 붙일 나머지만 요청)
+     */
+    public static final String CONTINUATION = """
+            직전 응답이 출력 길이 제한으로 중단됨.
+            중단된 위치의 바로 다음 문자부터 이어서 출력할 것.
+            이미 출력한 내용 반복, 코드블록, 설명 문구 금지.
+            """;
+
+    public static String singleItem(boolean structuredOutput) {
+        return structuredOutput ? STRUCTURED_SINGLE_ITEM : SINGLE_ITEM;
+    }
+
+    public static String multiItem(boolean structuredOutput) {
+        return structuredOutput ? STRUCTURED_MULTI_ITEM : MULTI_ITEM;
+    }
 }
\ No newline at end of file
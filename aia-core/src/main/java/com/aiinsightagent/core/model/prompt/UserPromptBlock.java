@@ -0,0 +1,26 @@
+package com.aiinsightagent.core.model.prompt;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입력 토큰 예산을 적용해 결합한 유저 프롬프트와 실제로 포함된 항목 수
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPromptBlock {
+	private final String text;
+	private final int includedItems;
+	private final int totalItems;
+
+	/**
+	 * TRUNCATE 정책으로 뒤쪽 항목 일부가 빠졌는지 여부
+	 */
+	public boolean isTruncated() {
+		return includedItems < totalItems;
+	}
+
+	public int getOmittedItems() {
+		return totalItems - includedItems;
+	}
+}
@@ -4,6 +4,7 @@ import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
 import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.preprocess.JsonSpan;
 import com.aiinsightagent.core.preprocess.LlmJsonPreprocessor;
 import com.aiinsightagent.core.queue.GeminiResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -13,6 +14,7 @@ import com.google.genai.types.GenerateContentResponse;
 import org.springframework.http.HttpStatus;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,68 +30,115 @@ public class GeminiResponseParser {
 		// 응답 절단 여부 확인
 		checkResponseTruncation(response);
 
+		// 스트리밍 수신 중 이미 파싱된 결과
+		if (geminiResponse.getInsight() != null) {
+			return toInsightResponse(geminiResponse.getInsight());
+		}
+
 		String raw = response.text();
-		String pureJson = LlmJsonPreprocessor.extractPureJson(raw);
-		if (pureJson == null || pureJson.isBlank()) {
+		if (raw == null || raw.isBlank()) {
 			throw new InsightException(InsightError.EMPTY_GEMINI_RESPONSE);
 		}
 
+		// 한 번의 스캔으로 JSON 구간과 괄호 균형(절단 여부)을 함께 확인
+		JsonSpan span = LlmJsonPreprocessor.scan(raw);
+		if (span.isTruncated()) {
+			throw new InsightException(InsightError.RESPONSE_TRUNCATED);
+		}
+		if (span.isEmpty()) {
+			throw new InsightException(InsightError.FAIL_JSON_PARSING);
+		}
+
 		InsightDetail insightDetail;
-		try {
-			insightDetail = objectMapper.readValue(pureJson, InsightDetail.class);
+		try (Reader reader = span.reader()) {
+			insightDetail = objectMapper.readValue(reader, InsightDetail.class);
 		} catch (IOException e) {
-			// JSON 파싱 실패 시 응답 절단 가능성 재확인
-			if (isLikelyTruncated(raw)) {
-				throw new InsightException(InsightError.RESPONSE_TRUNCATED, e);
-			}
 			throw new InsightException(InsightError.FAIL_JSON_PARSING, e);
 		}
 
+		return toInsightResponse(insightDetail);
+	}
+
+	/**
+	 * 출력 토큰 한도로 잘린 응답을 복구해 부분 결과로 변환 (재호출 없이 사용 가능한 내용 보존)
+	 * - 열린 문자열/배열/객체를 닫고 미완성 마지막 요소는 버린 뒤 파싱
+	 * - 살릴 내용이 전혀 없으면 RESPONSE_TRUNCATED
+	 */
+	public static InsightResponse toPartialInsightResponse(GeminiResponse geminiResponse) {
+		String raw = geminiResponse.getResponse().text();
+		if (raw == null || raw.isBlank()) {
+			throw new InsightException(InsightError.EMPTY_GEMINI_RESPONSE);
+		}
+
+		String repaired = LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan(raw));
+		if (repaired == null) {
+			throw new InsightException(InsightError.FAIL_JSON_PARSING);
+		}
+
+		InsightDetail insightDetail;
+		try {
+			insightDetail = objectMapper.readValue(repaired, InsightDetail.class);
+		} catch (IOException e) {
+			throw new InsightException(InsightError.RESPONSE_TRUNCATED, e);
+		}
+
+		if (isBlank(insightDetail)) {
+			throw new InsightException(InsightError.RESPONSE_TRUNCATED);
+		}
+
 		return InsightResponse.builder()
 				.resultCode(HttpStatus.OK.value())
 				.resultMsg(HttpStatus.OK.getReasonPhrase())
 				.insight(insightDetail)
+				.partial(true)
 				.build();
 	}
 
+	private static InsightResponse toInsightResponse(InsightDetail insightDetail) {
+		return InsightResponse.builder()
+				.resultCode(HttpStatus.OK.value())
+				.resultMsg(HttpStatus.OK.getReasonPhrase())
+				.insight(insightDetail)
+				.build();
+	}
+
+	private static boolean isBlank(InsightDetail insightDetail) {
+		return (insightDetail.getSummary() == null || insightDetail.getSummary().isBlank())
+				&& isEmpty(insightDetail.getIssueCategories())
+				&& isEmpty(insightDetail.getRootCauseInsights())
+				&& isEmpty(insightDetail.getRecommendedActions());
+	}
+
+	private static boolean isEmpty(List<?> values) {
+		return values == null || values.isEmpty();
+	}
+
 	/**
 	 * Gemini API의 finishReason을 확인하여 응답 절단 여부 검사
 	 */
 	private static void checkResponseTruncation(GenerateContentResponse response) {
+		if (isTruncated(response)) {
+			throw new InsightException(InsightError.RESPONSE_TRUNCATED);
+		}
+	}
+
+	/**
+	 * finishReason 이 출력 토큰 한도(MAX_TOKENS/LENGTH)로 끝났는지 여부
+	 */
+	public static boolean isTruncated(GenerateContentResponse response) {
 		Optional<List<Candidate>> candidatesOpt = response.candidates();
 		if (candidatesOpt.isEmpty() || candidatesOpt.get().isEmpty()) {
-			return;
+			return false;
 		}
 
 		Candidate candidate = candidatesOpt.get().get(0);
 		Optional<FinishReason> finishReasonOpt = candidate.finishReason();
 
 		if (finishReasonOpt.isPresent()) {
-			FinishReason finishReason = finishReasonOpt.get();
-			String reasonStr = finishReason.toString();
+			String reasonStr = finishReasonOpt.get().toString();
 			// MAX_TOKENS로 끝난 경우 응답이 잘린 것
-			if (reasonStr.contains("MAX_TOKENS") || reasonStr.contains("LENGTH")) {
-				throw new InsightException(InsightError.RESPONSE_TRUNCATED);
-			}
-		}
-	}
-
-	/**
-	 * JSON 구조가 불완전한지 휴리스틱 검사
-	 */
-	private static boolean isLikelyTruncated(String raw) {
-		if (raw == null || raw.isBlank()) {
-			return false;
+			return reasonStr.contains("MAX_TOKENS") || reasonStr.contains("LENGTH");
 		}
-
-		String trimmed = raw.trim();
-
-		// JSON이 열려있지만 닫히지 않은 경우
-		long openBraces = trimmed.chars().filter(ch -> ch == '{').count();
-		long closeBraces = trimmed.chars().filter(ch -> ch == '}').count();
-		long openBrackets = trimmed.chars().filter(ch -> ch == '[').count();
-		long closeBrackets = trimmed.chars().filter(ch -> ch == ']').count();
-
-		return openBraces > closeBraces || openBrackets > closeBrackets;
+		return false;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,266 @@
+package com.aiinsightagent.core.parser;
+
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.IssueCategory;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 응답 조각을 받는 즉시 파싱하는 InsightDetail 점진 파서 (Jackson non-blocking parser 기반)
+ * - 첫 '{' 이전 텍스트(코드블록 시작 등)와 루트 객체 종료 이후 텍스트는 무시
+ * - 잘못된 JSON 은 해당 조각을 받는 시점에 FAIL_JSON_PARSING 으로 즉시 실패
+ * - 스트림 종료 시 루트 객체가 닫히지 않았으면 RESPONSE_TRUNCATED
+ * - 한 응답당 하나씩 생성해서 사용 (스레드 안전하지 않음)
+ */
+public class StreamingInsightParser {
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private static final String SUMMARY = "summary";
+	private static final String ISSUE_CATEGORIES = "issueCategories";
+	private static final String ROOT_CAUSE_INSIGHTS = "rootCauseInsights";
+	private static final String RECOMMENDED_ACTIONS = "recommendedActions";
+	private static final String PRIORITY_SCORE = "priorityScore";
+
+	private final JsonParser parser;
+	private final ByteArrayFeeder feeder;
+
+	private boolean rootStarted;
+	private boolean rootClosed;
+	private boolean receivedText;
+	private char pendingHighSurrogate;
+	private int depth;
+	private String rootField;
+	private String categoryField;
+
+	private String summary;
+	private List<IssueCategory> issueCategories;
+	private List<String> rootCauseInsights;
+	private List<String> recommendedActions;
+	private int priorityScore;
+
+	private String category;
+	private String description;
+	private String severity;
+
+	public StreamingInsightParser() {
+		try {
+			this.parser = JSON_FACTORY.createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new InsightException(InsightError.INTERNAL_SERVER_ERROR, e);
+		}
+		this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+	}
+
+	/**
+	 * 스트리밍 응답 조각 입력 - 지금까지 받은 입력으로 만들 수 있는 토큰까지 즉시 처리
+	 */
+	public void feed(CharSequence chunk) {
+		if (chunk == null || chunk.isEmpty() || rootClosed) {
+			return;
+		}
+
+		int start = 0;
+		if (!rootStarted) {
+			start = indexOfRootStart(chunk);
+			if (start < 0) {
+				return;
+			}
+			rootStarted = true;
+		}
+
+		feedBytes(encode(chunk, start));
+		drain();
+	}
+
+	/**
+	 * 스트림 종료 - 완성된 InsightDetail 반환
+	 */
+	public InsightDetail finish() {
+		if (!rootStarted) {
+			throw new InsightException(receivedText ? InsightError.FAIL_JSON_PARSING : InsightError.EMPTY_GEMINI_RESPONSE);
+		}
+
+		if (!rootClosed) {
+			feeder.endOfInput();
+			throw new InsightException(InsightError.RESPONSE_TRUNCATED);
+		}
+
+		return snapshot();
+	}
+
+	/**
+	 * 지금까지 파싱된 필드로 구성한 InsightDetail (미완성일 수 있음)
+	 */
+	public InsightDetail snapshot() {
+		return InsightDetail.builder()
+				.summary(summary)
+				.issueCategories(issueCategories)
+				.rootCauseInsights(rootCauseInsights)
+				.recommendedActions(recommendedActions)
+				.priorityScore(priorityScore)
+				.build();
+	}
+
+	public boolean isComplete() {
+		return rootClosed;
+	}
+
+	private int indexOfRootStart(CharSequence chunk) {
+		for (int i = 0; i < chunk.length(); i++) {
+			char ch = chunk.charAt(i);
+			if (ch == '{') {
+				return i;
+			}
+			if (!Character.isWhitespace(ch)) {
+				receivedText = true;
+			}
+		}
+		return -1;
+	}
+
+	private byte[] encode(CharSequence chunk, int start) {
+		StringBuilder text = new StringBuilder(chunk.length() - start + 1);
+		if (pendingHighSurrogate != 0) {
+			text.append(pendingHighSurrogate);
+			pendingHighSurrogate = 0;
+		}
+		text.append(chunk, start, chunk.length());
+
+		// 조각 경계에서 잘린 서로게이트 쌍은 다음 조각과 합쳐서 인코딩
+		int last = text.length() - 1;
+		if (last >= 0 && Character.isHighSurrogate(text.charAt(last))) {
+			pendingHighSurrogate = text.charAt(last);
+			text.setLength(last);
+		}
+		return text.toString().getBytes(StandardCharsets.UTF_8);
+	}
+
+	private void feedBytes(byte[] bytes) {
+		try {
+			feeder.feedInput(bytes, 0, bytes.length);
+		} catch (IOException e) {
+			throw new InsightException(InsightError.FAIL_JSON_PARSING, e);
+		}
+	}
+
+	private void drain() {
+		try {
+			JsonToken token;
+			while (!rootClosed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+				handle(token);
+			}
+		} catch (IOException e) {
+			throw new InsightException(InsightError.FAIL_JSON_PARSING, e);
+		}
+	}
+
+	private void handle(JsonToken token) throws IOException {
+		switch (token) {
+			case START_OBJECT -> {
+				depth++;
+				if (depth == 3 && ISSUE_CATEGORIES.equals(rootField)) {
+					categoryField = null;
+					category = null;
+					description = null;
+					severity = null;
+				}
+			}
+			case END_OBJECT -> {
+				if (depth == 3 && ISSUE_CATEGORIES.equals(rootField) && issueCategories != null) {
+					issueCategories.add(new IssueCategory(category, description, severity));
+				}
+				depth--;
+				if (depth == 0) {
+					rootClosed = true;
+				}
+			}
+			case START_ARRAY -> {
+				depth++;
+				if (depth == 2) {
+					startList();
+				}
+			}
+			case END_ARRAY -> depth--;
+			case FIELD_NAME -> {
+				if (depth == 1) {
+					rootField = parser.currentName();
+				} else if (depth == 3) {
+					categoryField = parser.currentName();
+				}
+			}
+			default -> handleValue(token);
+		}
+	}
+
+	private void startList() {
+		// 루트 필드 없이 열린 배열 등 예상하지 못한 구조는 무시
+		if (rootField == null) {
+			return;
+		}
+
+		switch (rootField) {
+			case ISSUE_CATEGORIES -> issueCategories = new ArrayList<>();
+			case ROOT_CAUSE_INSIGHTS -> rootCauseInsights = new ArrayList<>();
+			case RECOMMENDED_ACTIONS -> recommendedActions = new ArrayList<>();
+			default -> {
+				// 알 수 없는 필드는 무시
+			}
+		}
+	}
+
+	private void handleValue(JsonToken token) throws IOException {
+		if (depth == 1) {
+			if (SUMMARY.equals(rootField) && token == JsonToken.VALUE_STRING) {
+				summary = parser.getText();
+			} else if (PRIORITY_SCORE.equals(rootField)) {
+				priorityScore = toInt(token);
+			}
+			return;
+		}
+
+		if (depth == 2 && token == JsonToken.VALUE_STRING) {
+			// 배열이 아닌 값(중첩 객체 등)으로 온 필드는 목록이 없으므로 무시
+			if (ROOT_CAUSE_INSIGHTS.equals(rootField) && rootCauseInsights != null) {
+				rootCauseInsights.add(parser.getText());
+			} else if (RECOMMENDED_ACTIONS.equals(rootField) && recommendedActions != null) {
+				recommendedActions.add(parser.getText());
+			}
+			return;
+		}
+
+		if (depth == 3 && ISSUE_CATEGORIES.equals(rootField) && token == JsonToken.VALUE_STRING
+				&& categoryField != null) {
+			switch (categoryField) {
+				case "category" -> category = parser.getText();
+				case "description" -> description = parser.getText();
+				case "severity" -> severity = parser.getText();
+				default -> {
+					// 알 수 없는 필드는 무시
+				}
+			}
+		}
+	}
+
+	private int toInt(JsonToken token) throws IOException {
+		if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+			return parser.getValueAsInt();
+		}
+		if (token == JsonToken.VALUE_STRING) {
+			try {
+				return Integer.parseInt(parser.getText().trim());
+			} catch (NumberFormatException e) {
+				throw new InsightException(InsightError.FAIL_JSON_PARSING, e);
+			}
+		}
+		return 0;
+	}
+}
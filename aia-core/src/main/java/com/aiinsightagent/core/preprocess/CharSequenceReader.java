@@ -0,0 +1,46 @@
+package com.aiinsightagent.core.preprocess;
+
+import java.io.Reader;
+
+/**
+ * CharSequence 구간을 복사 없이 읽는 Reader (String 이면 getChars 로 일괄 복사)
+ */
+final class CharSequenceReader extends Reader {
+	private final CharSequence source;
+	private final int end;
+	private int position;
+
+	CharSequenceReader(CharSequence source, int start, int end) {
+		this.source = source;
+		this.position = start;
+		this.end = end;
+	}
+
+	@Override
+	public int read(char[] buffer, int offset, int length) {
+		if (position >= end) {
+			return -1;
+		}
+
+		int count = Math.min(length, end - position);
+		if (source instanceof String string) {
+			string.getChars(position, position + count, buffer, offset);
+		} else {
+			for (int i = 0; i < count; i++) {
+				buffer[offset + i] = source.charAt(position + i);
+			}
+		}
+		position += count;
+		return count;
+	}
+
+	@Override
+	public int read() {
+		return position < end ? source.charAt(position++) : -1;
+	}
+
+	@Override
+	public void close() {
+		position = end;
+	}
+}
@@ -0,0 +1,70 @@
+package com.aiinsightagent.core.preprocess;
+
+import java.io.Reader;
+
+/**
+ * LLM 응답 안의 JSON 루트 객체 위치 (원본을 복사하지 않는 뷰)
+ * - start: 첫 '{' 위치, end: 루트 객체를 닫는 '}' 다음 위치 (미완성이면 마지막 '}' 다음, '}' 가 없으면 끝)
+ * - complete: 문자열 내부를 제외한 괄호 균형으로 루트 객체가 닫혔는지 여부
+ */
+public final class JsonSpan {
+	private static final JsonSpan EMPTY = new JsonSpan("", -1, -1, false);
+
+	private final CharSequence source;
+	private final int start;
+	private final int end;
+	private final boolean complete;
+
+	JsonSpan(CharSequence source, int start, int end, boolean complete) {
+		this.source = source;
+		this.start = start;
+		this.end = end;
+		this.complete = complete;
+	}
+
+	static JsonSpan empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * '{' 가 없어 JSON 영역을 찾지 못함
+	 */
+	public boolean isEmpty() {
+		return start < 0;
+	}
+
+	public boolean isComplete() {
+		return complete;
+	}
+
+	/**
+	 * JSON 이 시작됐지만 루트 객체가 닫히지 않음 (응답 절단 가능성)
+	 */
+	public boolean isTruncated() {
+		return !isEmpty() && !complete;
+	}
+
+	public CharSequence getSource() {
+		return source;
+	}
+
+	public int getStart() {
+		return start;
+	}
+
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * 원본 구간을 복사 없이 읽는 Reader
+	 */
+	public Reader reader() {
+		return new CharSequenceReader(source, Math.max(start, 0), Math.max(end, 0));
+	}
+
+	@Override
+	public String toString() {
+		return isEmpty() ? "" : source.subSequence(start, end).toString();
+	}
+}
@@ -1,6 +1,9 @@
 package com.aiinsightagent.core.preprocess;
 
+import java.util.Arrays;
+
 public class LlmJsonPreprocessor {
+	private static final String FENCE = "```";
 
 	private LlmJsonPreprocessor() {
 	}
@@ -14,23 +17,222 @@ public class LlmJsonPreprocessor {
 			return text;
 		}
 
-		String cleaned = text.trim();
+		JsonSpan span = scan(text);
+		if (span.isEmpty()) {
+			return stripFences(text);
+		}
+		return span.isComplete() ? span.toString() : span.toString().trim();
+	}
 
-		// 1. Markdown 코드블록 제거 (```json, ``` 등)
-		if (cleaned.startsWith("```")) {
-			cleaned = cleaned.replace("```json", "")
-					.replace("```", "")
-					.trim();
+	/**
+	 * 응답을 한 번만 훑어 JSON 루트 객체 구간을 찾음
+	 * - 첫 '{' 이전의 코드블록/설명 문구는 건너뜀
+	 * - 문자열 내부(이스케이프 포함)의 괄호는 무시하고 {} / [] 균형 추적
+	 * - 루트 객체가 닫히는 즉시 종료 (뒤따르는 코드블록/설명 문구 무시)
+	 */
+	public static JsonSpan scan(CharSequence text) {
+		if (text == null) {
+			return JsonSpan.empty();
 		}
 
-		// 2. JSON 영역만 추출 (처음 '{' ~ 마지막 '}')
-		int start = cleaned.indexOf("{");
-		int end = cleaned.lastIndexOf("}");
+		int length = text.length();
+		int start = -1;
+		for (int i = 0; i < length; i++) {
+			if (text.charAt(i) == '{') {
+				start = i;
+				break;
+			}
+		}
+		if (start < 0) {
+			return JsonSpan.empty();
+		}
 
-		if (start >= 0 && end >= 0 && end > start) {
-			cleaned = cleaned.substring(start, end + 1);
+		int braces = 0;
+		int brackets = 0;
+		int lastClose = -1;
+		boolean inString = false;
+		boolean escaped = false;
+		for (int i = start; i < length; i++) {
+			char ch = text.charAt(i);
+			if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (ch == '\\') {
+					escaped = true;
+				} else if (ch == '"') {
+					inString = false;
+				}
+				continue;
+			}
+
+			switch (ch) {
+				case '"' -> inString = true;
+				case '{' -> braces++;
+				case '[' -> brackets++;
+				case ']' -> brackets--;
+				case '}' -> {
+					braces--;
+					lastClose = i;
+					if (braces == 0 && brackets == 0) {
+						return new JsonSpan(text, start, i + 1, true);
+					}
+				}
+				default -> {
+					// 값/공백은 건너뜀
+				}
+			}
 		}
 
-		return cleaned.trim();
+		// 미완성: 마지막 '}' 까지 ('}' 가 없으면 끝까지)
+		return new JsonSpan(text, start, lastClose >= 0 ? lastClose + 1 : length, false);
+	}
+
+	/**
+	 * 잘린 JSON 루트 객체를 파싱 가능한 형태로 복구
+	 * - 문자열 내부를 구분하는 괄호 스택으로 마지막 "완결 지점"(값 종료 직후 또는 여는 괄호 직후)을 추적
+	 * - 완결 지점 이후의 미완성 요소(잘린 배열 원소/중첩 객체/숫자/키)는 버리고 열린 괄호를 역순으로 닫음
+	 * - 루트 객체 필드의 문자열 값이 잘린 경우에만 문자열을 닫아 내용을 살림 (예: summary)
+	 *
+	 * @return 복구된 JSON, 이미 완결된 구간이면 구간 그대로, '{' 가 없거나 괄호 짝이 어긋나면 null
+	 */
+	public static String repair(JsonSpan span) {
+		if (span.isEmpty()) {
+			return null;
+		}
+		if (span.isComplete()) {
+			return span.toString();
+		}
+
+		CharSequence text = span.getSource();
+		int length = text.length();
+		char[] stack = new char[16];
+		int depth = 0;
+
+		int safeCut = -1;
+		String safeClosers = "";
+
+		boolean inString = false;
+		boolean keyString = false;
+		boolean escaped = false;
+		int stringStart = -1;
+		boolean expectKey = false;
+		boolean inPrimitive = false;
+
+		for (int i = span.getStart(); i < length; i++) {
+			char ch = text.charAt(i);
+			if (inString) {
+				if (escaped) {
+					escaped = false;
+				} else if (ch == '\\') {
+					escaped = true;
+				} else if (ch == '"') {
+					inString = false;
+					if (!keyString && isSafeContainer(stack, depth)) {
+						safeCut = i + 1;
+						safeClosers = closers(stack, depth);
+					}
+				}
+				continue;
+			}
+
+			if (inPrimitive) {
+				if (ch != ',' && ch != '}' && ch != ']' && !Character.isWhitespace(ch)) {
+					continue;
+				}
+				// 구분자가 나와야 숫자/리터럴이 끝난 것으로 확정
+				inPrimitive = false;
+				if (isSafeContainer(stack, depth)) {
+					safeCut = i;
+					safeClosers = closers(stack, depth);
+				}
+			}
+
+			switch (ch) {
+				case '"' -> {
+					inString = true;
+					keyString = depth > 0 && stack[depth - 1] == '{' && expectKey;
+					stringStart = i;
+				}
+				case '{', '[' -> {
+					if (depth == stack.length) {
+						stack = Arrays.copyOf(stack, depth * 2);
+					}
+					stack[depth++] = ch;
+					expectKey = ch == '{';
+					if (isSafeContainer(stack, depth)) {
+						safeCut = i + 1;
+						safeClosers = closers(stack, depth);
+					}
+				}
+				case '}', ']' -> {
+					// 여는 괄호 없이 닫거나 종류가 어긋나면 복구 대상 구조가 아님
+					if (depth == 0 || stack[depth - 1] != (ch == '}' ? '{' : '[')) {
+						return null;
+					}
+					depth--;
+					expectKey = false;
+					if (isSafeContainer(stack, depth)) {
+						safeCut = i + 1;
+						safeClosers = closers(stack, depth);
+					}
+				}
+				case ':' -> expectKey = false;
+				case ',' -> expectKey = depth > 0 && stack[depth - 1] == '{';
+				default -> inPrimitive = !Character.isWhitespace(ch);
+			}
+		}
+
+		// 루트 객체 필드 값 문자열이 잘렸으면 닫아서 살림 (미완성 이스케이프 시퀀스는 제외)
+		if (inString && !keyString && depth == 1) {
+			int end = trimIncompleteEscape(text, stringStart + 1, length);
+			return text.subSequence(span.getStart(), end) + "\"" + closers(stack, depth);
+		}
+
+		return text.subSequence(span.getStart(), safeCut) + safeClosers;
+	}
+
+	/**
+	 * 완결 지점으로 인정하는 위치 - 루트 객체 바로 아래 또는 배열 내부
+	 * (배열 원소인 중첩 객체 내부는 제외해 잘린 원소를 통째로 버림)
+	 */
+	private static boolean isSafeContainer(char[] stack, int depth) {
+		return depth > 0 && (depth == 1 || stack[depth - 1] == '[');
+	}
+
+	private static String closers(char[] stack, int depth) {
+		StringBuilder sb = new StringBuilder(depth);
+		for (int i = depth - 1; i >= 0; i--) {
+			sb.append(stack[i] == '{' ? '}' : ']');
+		}
+		return sb.toString();
+	}
+
+	private static int trimIncompleteEscape(CharSequence text, int from, int end) {
+		// 끝에서 가장 가까운 역슬래시가 불완전한 이스케이프(역슬래시 단독 또는 미완성 유니코드 이스케이프)인지 확인
+		for (int i = end - 1; i >= from && i >= end - 6; i--) {
+			if (text.charAt(i) != '\\') {
+				continue;
+			}
+			int backslashes = 1;
+			while (i - backslashes >= from && text.charAt(i - backslashes) == '\\') {
+				backslashes++;
+			}
+			if (backslashes % 2 == 0) {
+				return end;
+			}
+			boolean incomplete = i == end - 1 || (text.charAt(i + 1) == 'u' && end - i < 6);
+			return incomplete ? i : end;
+		}
+		return end;
+	}
+
+	private static String stripFences(String text) {
+		String cleaned = text.trim();
+		if (cleaned.startsWith(FENCE)) {
+			cleaned = cleaned.replace(FENCE + "json", "")
+					.replace(FENCE, "")
+					.trim();
+		}
+		return cleaned;
 	}
 }
@@ -1,9 +1,12 @@
 package com.aiinsightagent.core.queue;
 
 import com.aiinsightagent.common.filter.TraceIdHolder;
+import com.aiinsightagent.core.cache.GeminiContextCache;
 import com.aiinsightagent.core.config.GeminiProperties;
 import com.aiinsightagent.core.config.RequestQueueProperties;
+import com.aiinsightagent.core.context.GeminiContext;
 import com.google.genai.Models;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,9 @@ public class GeminiQueueManager {
 	private final List<Models> geminiModelsList;
 	private final GeminiProperties geminiProperties;
 	private final RequestQueueProperties queueProperties;
+	private final GeminiContextCache contextCache;
+	private final MeterRegistry meterRegistry;
+	private final List<TokenUsageRecorder> usageRecorders;
 
 	private BlockingQueue<GeminiRequest> requestQueue;
 	private ExecutorService workerExecutor;
@@ -42,6 +48,10 @@ public class GeminiQueueManager {
 
 		running.set(true);
 
+		TokenUsageRecorder usageRecorder = usageRecorders.isEmpty()
+				? TokenUsageRecorder.NOOP
+				: record -> usageRecorders.forEach(recorder -> recorder.record(record));
+
 		List<GeminiProperties.ModelConfig> validModels = geminiProperties.getValidModels();
 		int modelCount = validModels.size();
 		for (int i = 0; i < queueProperties.getWorkerCount(); i++) {
@@ -56,6 +66,9 @@ public class GeminiQueueManager {
 					requestQueue,
 					assignedModels,
 					geminiProperties,
+					contextCache,
+					meterRegistry,
+					usageRecorder,
 					running
 			);
 			workerFutures.add(workerExecutor.submit(worker));
@@ -70,6 +83,13 @@ public class GeminiQueueManager {
 	 * 요청을 큐에 제출하고 CompletableFuture 반환
 	 */
 	public CompletableFuture<GeminiResponse> submit(String prompt) {
+		return submit(prompt, GeminiRequestOptions.none());
+	}
+
+	/**
+	 * 프리픽스/목적 등 옵션과 함께 제출 (목적에 매핑된 생성 프로필로 호출)
+	 */
+	public CompletableFuture<GeminiResponse> submit(String prompt, GeminiRequestOptions options) {
 		if (!running.get()) {
 			CompletableFuture<GeminiResponse> future = new CompletableFuture<>();
 			future.completeExceptionally(
@@ -78,7 +98,8 @@ public class GeminiQueueManager {
 			return future;
 		}
 
-		GeminiRequest request = new GeminiRequest(prompt, TraceIdHolder.getTraceId());
+		GeminiRequest request = new GeminiRequest(prompt, options,
+				GeminiContext.getActorKey(), TraceIdHolder.getTraceId());
 
 		boolean offered = requestQueue.offer(request);
 		if (!offered) {
@@ -96,12 +117,40 @@ public class GeminiQueueManager {
 	 */
 	public GeminiResponse submitAndWait(String prompt)
 			throws ExecutionException, InterruptedException, TimeoutException {
-		return submit(prompt).get(
+		return submitAndWait(prompt, GeminiRequestOptions.none());
+	}
+
+	public GeminiResponse submitAndWait(String prompt, GeminiRequestOptions options)
+			throws ExecutionException, InterruptedException, TimeoutException {
+		return await(submit(prompt, options));
+	}
+
+	/**
+	 * 제출된 요청 결과 대기 (요청 타임아웃 적용)
+	 */
+	public GeminiResponse await(CompletableFuture<GeminiResponse> future)
+			throws ExecutionException, InterruptedException, TimeoutException {
+		return future.get(
 				queueProperties.getRequestTimeoutSeconds(),
 				TimeUnit.SECONDS
 		);
 	}
 
+	/**
+	 * 지금부터 요청 타임아웃이 지나는 시각 (System.nanoTime 기준) - 여러 요청을 한 타임아웃 안에서 기다릴 때 사용
+	 */
+	public long deadline() {
+		return System.nanoTime() + TimeUnit.SECONDS.toNanos(queueProperties.getRequestTimeoutSeconds());
+	}
+
+	/**
+	 * 제출된 요청 결과를 마감 시각까지 남은 시간만큼만 대기 (이미 지났으면 완료된 결과만 반환)
+	 */
+	public GeminiResponse await(CompletableFuture<GeminiResponse> future, long deadline)
+			throws ExecutionException, InterruptedException, TimeoutException {
+		return future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+	}
+
 	@PreDestroy
 	public void shutdown() {
 		log.info("Shutting down GeminiQueueManager...");
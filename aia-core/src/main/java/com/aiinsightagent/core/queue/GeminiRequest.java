@@ -1,5 +1,6 @@
 package com.aiinsightagent.core.queue;
 
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
 import lombok.Getter;
 
 import java.util.concurrent.CompletableFuture;
@@ -10,14 +11,30 @@ import java.util.concurrent.CompletableFuture;
 @Getter
 public class GeminiRequest {
 	private final String prompt;
+	private final PromptPrefix prefix;
+	/**
+	 * 요청 목적 (생성 프로필 선택 기준, null 이면 기본 프로필)
+	 */
+	private final String purpose;
+	/**
+	 * 요청 주체 키 (토큰 원장 기록용, 없으면 null)
+	 */
+	private final String actorKey;
 	private final String traceId;
 	private final CompletableFuture<GeminiResponse> future;
 	private final long createdAt;
 
 	public GeminiRequest(String prompt, String traceId) {
+		this(prompt, GeminiRequestOptions.none(), null, traceId);
+	}
+
+	public GeminiRequest(String prompt, GeminiRequestOptions options, String actorKey, String traceId) {
 		this.prompt = prompt;
+		this.prefix = options.getPrefix();
+		this.purpose = options.getPurpose();
+		this.actorKey = actorKey;
 		this.traceId = traceId;
 		this.future = new CompletableFuture<>();
 		this.createdAt = System.currentTimeMillis();
 	}
-}
\ No newline at end of file
+}
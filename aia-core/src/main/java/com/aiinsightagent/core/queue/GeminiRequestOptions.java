@@ -0,0 +1,31 @@
+package com.aiinsightagent.core.queue;
+
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Gemini 요청 부가 옵션 - 옵션이 늘어도 제출/응답 메서드 시그니처는 그대로 유지
+ */
+@Getter
+@Builder
+public class GeminiRequestOptions {
+	private static final GeminiRequestOptions NONE = GeminiRequestOptions.builder().build();
+
+	/**
+	 * 컨텍스트 캐시 대상 프리픽스 (null 이면 캐시 미사용)
+	 */
+	private final PromptPrefix prefix;
+
+	/**
+	 * 요청 목적 (생성 프로필 선택 기준, null 이면 기본 프로필)
+	 */
+	private final String purpose;
+
+	/**
+	 * 옵션 없는 요청 (기본 프로필, 캐시 미사용)
+	 */
+	public static GeminiRequestOptions none() {
+		return NONE;
+	}
+}
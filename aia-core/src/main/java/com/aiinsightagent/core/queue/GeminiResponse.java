@@ -1,16 +1,26 @@
 package com.aiinsightagent.core.queue;
 
+import com.aiinsightagent.core.model.InsightDetail;
 import com.google.genai.types.GenerateContentResponse;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 /**
  * Gemini API 응답과 처리한 워커의 모델 정보를 포함하는 래퍼 클래스
  */
 @Getter
-@RequiredArgsConstructor
+@AllArgsConstructor
 public class GeminiResponse {
     private final GenerateContentResponse response;
     private final String modelId;
     private final String modelName;
+
+    /**
+     * 스트리밍 수신 중 파싱이 끝난 결과 (스트리밍 미사용 시 null)
+     */
+    private final InsightDetail insight;
+
+    public GeminiResponse(GenerateContentResponse response, String modelId, String modelName) {
+        this(response, modelId, modelName, null);
+    }
 }
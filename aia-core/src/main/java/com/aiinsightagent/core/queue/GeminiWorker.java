@@ -1,30 +1,73 @@
 package com.aiinsightagent.core.queue;
 
 import com.aiinsightagent.common.filter.TraceIdFilter;
+import com.aiinsightagent.core.cache.GeminiContextCache;
 import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.config.GeminiProperties.GenerationProfile;
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.TokenUsage;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
+import com.aiinsightagent.core.model.prompt.SystemPrompt;
+import com.aiinsightagent.core.parser.GeminiResponseParser;
+import com.aiinsightagent.core.parser.StreamingInsightParser;
 import com.aiinsightagent.core.util.GeminiTokenExtractor;
+import com.aiinsightagent.core.util.ResponseSchemaGenerator;
 import com.google.genai.Models;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.Candidate;
+import com.google.genai.types.Content;
 import com.google.genai.types.GenerateContentConfig;
 import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import com.google.genai.types.Part;
+import com.google.genai.types.ThinkingConfig;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.MDC;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.aiinsightagent.core.config.GeminiProperties.DEFAULT_PROFILE;
+
 /**
  * 큐에서 요청을 꺼내 Gemini API를 호출하는 Worker
  */
 @Slf4j
 public class GeminiWorker implements Runnable {
+	public static final String LATENCY_METRIC_NAME = "aia.gemini.request.latency";
+	public static final String TOKENS_METRIC_NAME = "aia.gemini.request.tokens";
+
+	private static final String USER_ROLE = "user";
+	private static final String MODEL_ROLE = "model";
+	private static final String FENCE = "```";
+	private static final int MIN_OVERLAP = 16;
+	private static final int MAX_OVERLAP = 512;
+
 	private final String workerName;
 	private final GeminiProperties.ModelConfig modelConfig;
 	private final BlockingQueue<GeminiRequest> requestQueue;
 	private final Models models;
 	private final GeminiProperties geminiProperties;
+	private final GeminiContextCache contextCache;
+	private final MeterRegistry meterRegistry;
+	private final TokenUsageRecorder usageRecorder;
 	private final AtomicBoolean running;
+	// 프로필 이름 → 요청 설정/메트릭 (워커 스레드 전용, 프로필당 한 번만 구성해 재사용)
+	private final Map<String, ProfileSettings> profileSettings = new HashMap<>();
 
 	public GeminiWorker(
 			String workerName,
@@ -32,6 +75,9 @@ public class GeminiWorker implements Runnable {
 			BlockingQueue<GeminiRequest> requestQueue,
 			Models models,
 			GeminiProperties geminiProperties,
+			GeminiContextCache contextCache,
+			MeterRegistry meterRegistry,
+			TokenUsageRecorder usageRecorder,
 			AtomicBoolean running
 	) {
 		this.workerName = workerName;
@@ -39,6 +85,9 @@ public class GeminiWorker implements Runnable {
 		this.requestQueue = requestQueue;
 		this.models = models;
 		this.geminiProperties = geminiProperties;
+		this.contextCache = contextCache;
+		this.meterRegistry = meterRegistry;
+		this.usageRecorder = usageRecorder;
 		this.running = running;
 	}
 
@@ -62,32 +111,41 @@ public class GeminiWorker implements Runnable {
 		log.info("[{}] Worker stopped", workerName);
 	}
 
-	private void processRequest(GeminiRequest request) {
+	void processRequest(GeminiRequest request) {
+		// 대기 중 취소된 요청(예: 다른 청크 실패)은 API 를 호출하지 않고 건너뜀
+		if (request.getFuture().isDone()) {
+			log.debug("[{}] skipped cancelled request: traceId={}", workerName, request.getTraceId());
+			return;
+		}
+
 		MDC.put(TraceIdFilter.TRACE_ID_MDC_KEY, request.getTraceId());
 		try {
 			long waitTime = System.currentTimeMillis() - request.getCreatedAt();
 			long startTime = System.currentTimeMillis();
+			ProfileSettings settings = null;
 
 			try {
-				GenerateContentConfig config = buildConfig();
-
-				GenerateContentResponse response = models.generateContent(
-						modelConfig.getName(),
-						request.getPrompt(),
-						config
-				);
+				// 설정 구성 실패도 요청 실패로 전달 (워커 루프가 중단되지 않도록 try 안에서 처리)
+				settings = settingsFor(request.getPurpose());
+				GeminiResponse geminiResponse = generate(request, settings);
+				GenerateContentResponse response = geminiResponse.getResponse();
 
 				long duration = System.currentTimeMillis() - startTime;
 				TokenUsage tokenUsage = GeminiTokenExtractor.extract(response);
+				settings.record(duration, tokenUsage);
 
-				log.info("[{}] modelId={}, model={}, waitTime={}ms, apiTime={}ms",
-						workerName, modelConfig.getId(), modelConfig.getName(), waitTime, duration);
-				log.debug("[{}] tokens: prompt={}, completion={}, total={}",
-						workerName, tokenUsage.getPromptTokens(),
-						tokenUsage.getCompletionTokens(), tokenUsage.getTotalTokens());
+				log.info("[{}] modelId={}, model={}, profile={}, waitTime={}ms, apiTime={}ms",
+						workerName, modelConfig.getId(), modelConfig.getName(), settings.name, waitTime, duration);
+				log.debug("[{}] tokens: prompt={}, completion={}, thoughts={}, total={}",
+						workerName, tokenUsage.getPromptTokens(), tokenUsage.getCompletionTokens(),
+						tokenUsage.getThoughtsTokens(), tokenUsage.getTotalTokens());
 
-				request.getFuture().complete(new GeminiResponse(response, modelConfig.getId(), modelConfig.getName()));
+				request.getFuture().complete(geminiResponse);
+				recordUsage(request, settings, tokenUsage, waitTime, duration);
 			} catch (Exception e) {
+				if (settings != null) {
+					settings.recordFailure(System.currentTimeMillis() - startTime);
+				}
 				log.error("[{}] API call failed: {}", workerName, e.getMessage(), e);
 				request.getFuture().completeExceptionally(e);
 			}
@@ -96,17 +154,323 @@ public class GeminiWorker implements Runnable {
 		}
 	}
 
-	private GenerateContentConfig buildConfig() {
+	/**
+	 * 토큰 원장 기록 전달 - 기록 실패가 이미 완료된 요청에 영향을 주지 않도록 예외는 로그만 남김
+	 */
+	private void recordUsage(GeminiRequest request, ProfileSettings settings, TokenUsage tokenUsage,
+							 long waitTime, long duration) {
+		try {
+			usageRecorder.record(TokenUsageRecord.builder()
+					.traceId(request.getTraceId())
+					.actorKey(request.getActorKey())
+					.purpose(request.getPurpose())
+					.profile(settings.name)
+					.modelId(modelConfig.getId())
+					.modelName(modelConfig.getName())
+					.promptTokens(tokenUsage.getPromptTokens())
+					.completionTokens(tokenUsage.getCompletionTokens())
+					.thoughtsTokens(tokenUsage.getThoughtsTokens())
+					.totalTokens(tokenUsage.getTotalTokens())
+					.waitTimeMs(waitTime)
+					.apiTimeMs(duration)
+					.createdAt(LocalDateTime.now())
+					.build());
+		} catch (Exception e) {
+			log.warn("[{}] failed to record token usage: {}", workerName, e.getMessage());
+		}
+	}
+
+	/**
+	 * 컨텍스트 캐시가 있으면 캐시 콘텐츠 + body, 없으면 전체 프롬프트로 호출
+	 */
+	private GeminiResponse generate(GeminiRequest request, ProfileSettings settings) {
+		PromptPrefix prefix = request.getPrefix();
+		String cachedContent = prefix == null || contextCache == null ? null : contextCache.resolve(modelConfig, prefix);
+
+		if (cachedContent != null) {
+			try {
+				return call(prefix.getBody(), cachedContent, settings);
+			} catch (InsightException e) {
+				// 응답 내용 자체의 오류는 캐시와 무관하므로 재시도하지 않음
+				throw e;
+			} catch (Exception e) {
+				// Gemini 측에서 만료/삭제된 캐시일 수 있으므로 제거 후 전체 프롬프트로 재시도
+				log.warn("[{}] cached content call failed, retrying without cache: {}", workerName, e.getMessage());
+				contextCache.evict(modelConfig, prefix, cachedContent);
+			}
+		}
+
+		return call(request.getPrompt(), null, settings);
+	}
+
+	private GeminiResponse call(String contents, String cachedContent, ProfileSettings settings) {
+		GenerateContentConfig config = withCachedContent(settings.config, cachedContent);
+		GeminiResponse response = geminiProperties.isStreamResponse()
+				? stream(contents, config)
+				: new GeminiResponse(models.generateContent(modelConfig.getName(), contents, config),
+						modelConfig.getId(), modelConfig.getName());
+
+		return continueIfTruncated(contents, withCachedContent(settings.continuationConfig, cachedContent), response);
+	}
+
+	/**
+	 * 출력 토큰 한도로 잘린 응답은 같은 키로 이어 쓰기 턴을 보내 나머지만 받아 이어 붙임
+	 * - 지금까지의 출력을 모델 턴으로 넣어 처음부터 다시 생성하지 않도록 함 (추가 출력 비용은 잘린 뒷부분만)
+	 * - 스키마를 강제하면 새 JSON 객체를 처음부터 생성하므로 이어 쓰기 턴은 스키마 없이 요청
+	 * - 이어 쓰기 호출이 실패하거나 횟수를 모두 쓰면 지금까지의 결과 반환 (절단 처리는 GeminiResponseParser 에서 수행)
+	 */
+	private GeminiResponse continueIfTruncated(String contents, GenerateContentConfig config, GeminiResponse response) {
+		GenerateContentResponse last = response.getResponse();
+		if (geminiProperties.getMaxContinuations() <= 0 || last == null || !GeminiResponseParser.isTruncated(last)) {
+			return response;
+		}
+
+		StringBuilder text = new StringBuilder(Objects.toString(last.text(), ""));
+		List<GenerateContentResponse> pieces = new ArrayList<>();
+		pieces.add(last);
+
+		int continuations = 0;
+		while (continuations < geminiProperties.getMaxContinuations() && GeminiResponseParser.isTruncated(last)) {
+			try {
+				last = models.generateContent(modelConfig.getName(), List.of(
+						Content.builder().role(USER_ROLE).parts(Part.fromText(contents)).build(),
+						Content.builder().role(MODEL_ROLE).parts(Part.fromText(text.toString())).build(),
+						Content.builder().role(USER_ROLE).parts(Part.fromText(SystemPrompt.CONTINUATION)).build()
+				), config);
+			} catch (Exception e) {
+				log.warn("[{}] continuation call failed, using truncated response: {}", workerName, e.getMessage());
+				break;
+			}
+
+			continuations++;
+			pieces.add(last);
+			stitch(text, last.text());
+		}
+
+		log.info("[{}] truncated response continued: continuations={}, length={}",
+				workerName, continuations, text.length());
+
+		return new GeminiResponse(aggregate(last, text.toString(), sumUsage(pieces)),
+				modelConfig.getId(), modelConfig.getName());
+	}
+
+	/**
+	 * 이어 쓰기 조각을 붙임 - 앞에 붙은 코드블록 시작과 직전 출력과 겹치는 앞부분은 제거
+	 */
+	static void stitch(StringBuilder text, String piece) {
+		if (piece == null || piece.isEmpty()) {
+			return;
+		}
+
+		String tail = piece;
+		if (tail.stripLeading().startsWith(FENCE)) {
+			String stripped = tail.stripLeading().substring(FENCE.length());
+			tail = stripped.startsWith("json") ? stripped.substring("json".length()).stripLeading() : stripped.stripLeading();
+		}
+
+		text.append(tail, overlap(text, tail), tail.length());
+	}
+
+	/**
+	 * 직전 출력의 끝과 조각의 앞이 겹치는 길이 (짧은 우연한 일치는 무시)
+	 */
+	private static int overlap(StringBuilder text, String tail) {
+		int max = Math.min(Math.min(text.length(), tail.length()), MAX_OVERLAP);
+		for (int length = max; length >= MIN_OVERLAP; length--) {
+			if (text.indexOf(tail.substring(0, length), text.length() - length) >= 0) {
+				return length;
+			}
+		}
+		return 0;
+	}
+
+	/**
+	 * 원 호출과 이어 쓰기 호출의 토큰 사용량 합계
+	 */
+	private static GenerateContentResponseUsageMetadata sumUsage(List<GenerateContentResponse> pieces) {
+		int prompt = 0;
+		int candidates = 0;
+		int cached = 0;
+		int thoughts = 0;
+		int total = 0;
+		for (GenerateContentResponse piece : pieces) {
+			Optional<GenerateContentResponseUsageMetadata> usageOpt = piece.usageMetadata();
+			if (usageOpt.isEmpty()) {
+				continue;
+			}
+			GenerateContentResponseUsageMetadata usage = usageOpt.get();
+			prompt += usage.promptTokenCount().orElse(0);
+			candidates += usage.candidatesTokenCount().orElse(0);
+			cached += usage.cachedContentTokenCount().orElse(0);
+			thoughts += usage.thoughtsTokenCount().orElse(0);
+			total += usage.totalTokenCount().orElse(0);
+		}
+
+		return GenerateContentResponseUsageMetadata.builder()
+				.promptTokenCount(prompt)
+				.candidatesTokenCount(candidates)
+				.cachedContentTokenCount(cached)
+				.thoughtsTokenCount(thoughts)
+				.totalTokenCount(total)
+				.build();
+	}
+
+	/**
+	 * 스트리밍 호출 - 조각을 받는 즉시 파싱하여 잘못된 응답은 수신 도중 실패
+	 * - 루트 객체가 닫히지 않은 채 끝나면 파싱 결과 없이 반환 (절단 판정은 GeminiResponseParser 에서 수행)
+	 */
+	private GeminiResponse stream(String contents, GenerateContentConfig config) {
+		StreamingInsightParser parser = new StreamingInsightParser();
+		StringBuilder text = new StringBuilder();
+		GenerateContentResponse last = null;
+
+		try (ResponseStream<GenerateContentResponse> stream =
+					 models.generateContentStream(modelConfig.getName(), contents, config)) {
+			for (GenerateContentResponse chunk : stream) {
+				last = chunk;
+				String part = chunk.text();
+				if (part != null) {
+					text.append(part);
+					parser.feed(part);
+				}
+			}
+		}
+
+		if (last == null) {
+			throw new InsightException(InsightError.EMPTY_GEMINI_RESPONSE);
+		}
+
+		return new GeminiResponse(aggregate(last, text.toString()), modelConfig.getId(), modelConfig.getName(),
+				parser.isComplete() ? parser.finish() : null);
+	}
+
+	/**
+	 * 마지막 조각(사용량/finishReason 포함)에 전체 텍스트를 합친 응답 구성
+	 */
+	private static GenerateContentResponse aggregate(GenerateContentResponse last, String text) {
+		return aggregate(last, text, null);
+	}
+
+	/**
+	 * @param usage null 이면 마지막 조각의 사용량 유지
+	 */
+	private static GenerateContentResponse aggregate(GenerateContentResponse last, String text,
+			GenerateContentResponseUsageMetadata usage) {
+		Candidate candidate = last.candidates()
+				.filter(candidates -> !candidates.isEmpty())
+				.map(candidates -> candidates.get(0))
+				.orElseGet(() -> Candidate.builder().build());
+
+		GenerateContentResponse.Builder builder = last.toBuilder()
+				.candidates(candidate.toBuilder().content(Content.fromParts(Part.fromText(text))).build());
+		if (usage != null) {
+			builder.usageMetadata(usage);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * 목적에 매핑된 생성 프로필의 설정 (처음 사용할 때 한 번만 구성)
+	 */
+	private ProfileSettings settingsFor(String purpose) {
+		String profileName = Objects.requireNonNullElse(geminiProperties.getProfileName(purpose), DEFAULT_PROFILE);
+		return profileSettings.computeIfAbsent(profileName, name -> new ProfileSettings(name,
+				resolveProfile(name), modelConfig.getName(), meterRegistry));
+	}
+
+	/**
+	 * 이 워커 모델에 적용할 생성 프로필 (병합 규칙은 GeminiProperties.resolveProfile 참고)
+	 */
+	GenerationProfile resolveProfile(String profileName) {
+		return geminiProperties.resolveProfile(profileName, modelConfig);
+	}
+
+	private static GenerateContentConfig withCachedContent(GenerateContentConfig config, String cachedContent) {
+		return cachedContent == null ? config : config.toBuilder().cachedContent(cachedContent).build();
+	}
+
+	/**
+	 * @param responseSchema false 이면 MIME 타입/스키마 미지정 (이어 쓰기 턴)
+	 */
+	private static GenerateContentConfig buildConfig(GenerationProfile profile, boolean responseSchema) {
 		GenerateContentConfig.Builder builder = GenerateContentConfig.builder();
 
-		if (geminiProperties.getMaxOutputTokens() != null) {
-			builder.maxOutputTokens(geminiProperties.getMaxOutputTokens());
+		if (profile.getMaxOutputTokens() != null) {
+			builder.maxOutputTokens(profile.getMaxOutputTokens());
+		}
+
+		if (profile.getTemperature() != null) {
+			builder.temperature(profile.getTemperature().floatValue());
 		}
 
-		if (geminiProperties.getTemperature() > 0) {
-			builder.temperature((float) geminiProperties.getTemperature());
+		if (profile.getThinkingBudget() != null) {
+			builder.thinkingConfig(ThinkingConfig.builder().thinkingBudget(profile.getThinkingBudget()).build());
+		}
+
+		if (responseSchema && profile.getResponseMimeType() != null) {
+			builder.responseMimeType(profile.getResponseMimeType());
+			if (GeminiProperties.JSON_MIME_TYPE.equals(profile.getResponseMimeType())) {
+				builder.responseSchema(ResponseSchemaGenerator.of(InsightDetail.class));
+			}
 		}
 
 		return builder.build();
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 생성 프로필별 미리 구성한 요청 설정과 프로필 태그가 붙은 지연/토큰 메트릭
+	 */
+	private static final class ProfileSettings {
+		private final String name;
+		private final GenerateContentConfig config;
+		private final GenerateContentConfig continuationConfig;
+		private final Timer successLatency;
+		private final Timer failureLatency;
+		private final DistributionSummary promptTokens;
+		private final DistributionSummary completionTokens;
+		private final DistributionSummary thoughtsTokens;
+
+		private ProfileSettings(String name, GenerationProfile profile, String modelName,
+				MeterRegistry meterRegistry) {
+			this.name = name;
+			this.config = buildConfig(profile, true);
+			this.continuationConfig = buildConfig(profile, false);
+			this.successLatency = latencyTimer(meterRegistry, modelName, name, "success");
+			this.failureLatency = latencyTimer(meterRegistry, modelName, name, "failure");
+			this.promptTokens = tokenSummary(meterRegistry, modelName, name, "prompt");
+			this.completionTokens = tokenSummary(meterRegistry, modelName, name, "completion");
+			this.thoughtsTokens = tokenSummary(meterRegistry, modelName, name, "thoughts");
+		}
+
+		private void record(long durationMillis, TokenUsage tokenUsage) {
+			successLatency.record(durationMillis, TimeUnit.MILLISECONDS);
+			promptTokens.record(tokenUsage.getPromptTokens());
+			completionTokens.record(tokenUsage.getCompletionTokens());
+			thoughtsTokens.record(tokenUsage.getThoughtsTokens());
+		}
+
+		private void recordFailure(long durationMillis) {
+			failureLatency.record(durationMillis, TimeUnit.MILLISECONDS);
+		}
+
+		private static Timer latencyTimer(MeterRegistry meterRegistry, String modelName, String profile, String outcome) {
+			return Timer.builder(LATENCY_METRIC_NAME)
+					.description("Gemini API call latency per generation profile")
+					.tag("model", modelName)
+					.tag("profile", profile)
+					.tag("outcome", outcome)
+					.register(meterRegistry);
+		}
+
+		private static DistributionSummary tokenSummary(MeterRegistry meterRegistry, String modelName, String profile,
+				String type) {
+			return DistributionSummary.builder(TOKENS_METRIC_NAME)
+					.description("Gemini API token usage per generation profile")
+					.baseUnit("tokens")
+					.tag("model", modelName)
+					.tag("profile", profile)
+					.tag("type", type)
+					.register(meterRegistry);
+		}
+	}
+}
@@ -0,0 +1,15 @@
+package com.aiinsightagent.core.queue;
+
+import com.aiinsightagent.core.model.TokenUsageRecord;
+
+/**
+ * 워커가 호출 완료 시 토큰 사용 기록을 전달하는 확장 지점
+ * - 워커 스레드에서 호출되므로 구현체는 블로킹 없이 즉시 반환해야 함 (저장은 비동기로 처리)
+ */
+@FunctionalInterface
+public interface TokenUsageRecorder {
+	TokenUsageRecorder NOOP = record -> {
+	};
+
+	void record(TokenUsageRecord record);
+}
@@ -42,10 +42,14 @@ public final class GeminiTokenExtractor {
 						promptTokens + completionTokens
 				);
 
+		int thoughtsTokens =
+				usage.thoughtsTokenCount().orElse(0);
+
 		return new TokenUsage(
 				promptTokens,
 				completionTokens,
-				totalTokens
+				totalTokens,
+				thoughtsTokens
 		);
 	}
 }
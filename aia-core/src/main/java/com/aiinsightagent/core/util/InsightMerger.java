@@ -0,0 +1,115 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.IssueCategory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * 청크별 부분 분석 결과(InsightDetail) 병합
+ * - 추가 모델 호출 없이 결정적으로 병합 (같은 입력이면 항상 같은 결과)
+ * - summary: 청크 순서대로 연결
+ * - issueCategories: category 기준 중복 제거, 가장 높은 severity 유지, severity 내림차순 정렬
+ * - rootCauseInsights / recommendedActions: 등장 순서를 유지한 중복 제거
+ * - priorityScore: 청크 중 최대값 (한 청크라도 심각하면 전체 우선순위에 반영)
+ */
+public final class InsightMerger {
+	private static final String SUMMARY_DELIMITER = " ";
+
+	private InsightMerger() {
+	}
+
+	public static InsightDetail merge(List<InsightDetail> partials) {
+		if (partials.size() == 1) {
+			return partials.get(0);
+		}
+
+		StringBuilder summary = new StringBuilder();
+		Map<String, IssueCategory> categories = new LinkedHashMap<>();
+		Set<String> rootCauses = new LinkedHashSet<>();
+		Set<String> actions = new LinkedHashSet<>();
+		int priorityScore = 0;
+
+		for (InsightDetail partial : partials) {
+			if (partial == null) {
+				continue;
+			}
+
+			String partSummary = trim(partial.getSummary());
+			if (!partSummary.isEmpty()) {
+				if (!summary.isEmpty()) {
+					summary.append(SUMMARY_DELIMITER);
+				}
+				summary.append(partSummary);
+			}
+
+			if (partial.getIssueCategories() != null) {
+				for (IssueCategory category : partial.getIssueCategories()) {
+					mergeCategory(categories, category);
+				}
+			}
+
+			addDistinct(rootCauses, partial.getRootCauseInsights());
+			addDistinct(actions, partial.getRecommendedActions());
+			priorityScore = Math.max(priorityScore, partial.getPriorityScore());
+		}
+
+		// 안정 정렬이므로 같은 severity 내에서는 최초 등장 순서 유지
+		List<IssueCategory> sortedCategories = new ArrayList<>(categories.values());
+		sortedCategories.sort(Comparator.comparingInt((IssueCategory c) -> severityRank(c.getSeverity())).reversed());
+
+		return InsightDetail.builder()
+				.summary(summary.toString())
+				.issueCategories(sortedCategories)
+				.rootCauseInsights(new ArrayList<>(rootCauses))
+				.recommendedActions(new ArrayList<>(actions))
+				.priorityScore(priorityScore)
+				.build();
+	}
+
+	private static void mergeCategory(Map<String, IssueCategory> categories, IssueCategory category) {
+		if (category == null) {
+			return;
+		}
+
+		String key = trim(category.getCategory()).toLowerCase(Locale.ROOT);
+		categories.merge(key, category, (existing, incoming) ->
+				severityRank(incoming.getSeverity()) > severityRank(existing.getSeverity()) ? incoming : existing);
+	}
+
+	private static void addDistinct(Set<String> target, List<String> values) {
+		if (values == null) {
+			return;
+		}
+
+		values.stream()
+				.map(InsightMerger::trim)
+				.filter(Predicate.not(String::isEmpty))
+				.forEach(target::add);
+	}
+
+	static int severityRank(String severity) {
+		if (severity == null) {
+			return 0;
+		}
+
+		return switch (severity.trim().toUpperCase(Locale.ROOT)) {
+			case "HIGH" -> 3;
+			case "MEDIUM" -> 2;
+			case "LOW" -> 1;
+			default -> 0;
+		};
+	}
+
+	private static String trim(String value) {
+		return value == null ? "" : value.trim();
+	}
+}
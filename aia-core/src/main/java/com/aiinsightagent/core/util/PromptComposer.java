@@ -1,12 +1,14 @@
 package com.aiinsightagent.core.util;
 
+import com.aiinsightagent.core.config.PromptBudgetProperties;
+import com.aiinsightagent.core.config.PromptEncodingProperties;
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
-import com.aiinsightagent.core.model.prompt.FinalPrompt;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.aiinsightagent.core.model.prompt.UserPromptBlock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -15,28 +17,63 @@ import java.util.Map;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PromptComposer {
-	private final ObjectMapper objectMapper;
+	public static final String ESTIMATE_METRIC_NAME = "aia.prompt.input.tokens.estimated";
 
+	private final PromptBudgetProperties budgetProperties;
+	private final PromptEncodingProperties encodingProperties;
+	private final DistributionSummary acceptedEstimate;
+	private final DistributionSummary reducedEstimate;
+	private final DistributionSummary rejectedEstimate;
+
+	public PromptComposer(PromptBudgetProperties budgetProperties, PromptEncodingProperties encodingProperties,
+						  MeterRegistry meterRegistry) {
+		this.budgetProperties = budgetProperties;
+		this.encodingProperties = encodingProperties;
+		this.acceptedEstimate = estimateSummary(meterRegistry, "accepted");
+		this.reducedEstimate = estimateSummary(meterRegistry, "reduced");
+		this.rejectedEstimate = estimateSummary(meterRegistry, "rejected");
+	}
+
+	private static DistributionSummary estimateSummary(MeterRegistry meterRegistry, String outcome) {
+		return DistributionSummary.builder(ESTIMATE_METRIC_NAME)
+				.description("Estimated input tokens per analysis prompt")
+				.baseUnit("tokens")
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 목적/시스템 프롬프트(+컨텍스트)/유저 프롬프트를 FinalPrompt JSON 으로 결합
+	 * - 중간 문자열/POJO 없이 재사용 버퍼에 한 번만 이스케이프하여 기록
+	 */
 	public String getCombinedPrompt(String purpose, String systemPrompt, String context, String userPrompt) {
 		if (userPrompt == null) {
 			throw new InsightException(InsightError.EMPTY_USER_PROMPT);
 		}
 
-		String enhancedSystemPrompt = buildSystemPrompt(systemPrompt, context);
+		return PromptJsonWriter.write(purpose, systemPrompt, context, userPrompt);
+	}
 
-		FinalPrompt prompt = FinalPrompt.builder()
-				.purpose(purpose)
-				.systemPrompt(enhancedSystemPrompt)
-				.userPrompt(userPrompt)
-				.build();
+	/**
+	 * 컨텍스트 캐시용 프롬프트 분리 - 시스템 프롬프트/컨텍스트는 prefix, 목적/유저 프롬프트는 body
+	 */
+	public PromptPrefix getPromptPrefix(String prefixKey, String purpose, String systemPrompt, String context,
+										String userPrompt) {
+		return new PromptPrefix(prefixKey, buildSystemPrompt(systemPrompt, context),
+				PromptJsonWriter.write(purpose, null, null, userPrompt));
+	}
 
-		try {
-			return objectMapper.writeValueAsString(prompt);
-		} catch (JsonProcessingException e) {
-			throw new InsightException(InsightError.PROMPT_COMPOSITION_FAILURE);
+	/**
+	 * getPromptPrefix 가 만들 prefix 의 길이 (prefix 를 만들지 않고 컨텍스트 캐시 사용 여부 판단)
+	 */
+	public int getPromptPrefixLength(String systemPrompt, String context) {
+		int length = systemPrompt == null ? 0 : systemPrompt.length();
+		if (context == null || context.isBlank()) {
+			return length;
 		}
+
+		return length + PromptJsonWriter.CONTEXT_DELIMITER.length() + context.length();
 	}
 
 	private String buildSystemPrompt(String systemPrompt, String context) {
@@ -44,7 +81,7 @@ public class PromptComposer {
 			return systemPrompt;
 		}
 
-		return systemPrompt + "\n\n[CONTEXT]\n" + context;
+		return systemPrompt + PromptJsonWriter.CONTEXT_DELIMITER + context;
 	}
 
 	public String getCombinedUserPrompts(List<UserPrompt> userPrompts) {
@@ -62,6 +99,83 @@ public class PromptComposer {
 		return sb.toString();
 	}
 
+	/**
+	 * 목적별 입력 토큰 예산을 적용한 유저 프롬프트 결합
+	 * - 목적별 인코딩이 TABULAR 이고 모든 항목의 키가 같으면 헤더 한 줄 + 구분자 행으로 결합
+	 * - 시스템 프롬프트/컨텍스트를 포함한 추정 토큰 수가 예산을 넘으면 거절하거나,
+	 *   TRUNCATE 설정 시 예산 안에 들어가는 앞쪽 항목까지만 사용 (입력 순서 기준으로 결정적)
+	 */
+	public String getCombinedUserPrompts(String purpose, String systemPrompt, String context,
+										 List<UserPrompt> userPrompts) {
+		return getUserPromptBlock(purpose, systemPrompt, context, userPrompts, 1).getText();
+	}
+
+	/**
+	 * getCombinedUserPrompts 와 같은 규칙으로 결합하고 실제로 포함된 항목 수를 함께 반환
+	 * - TRUNCATE 로 빠진 항목이 있으면 호출 측에서 응답을 부분 결과로 표시
+	 *
+	 * @param startIndex 첫 항목의 순번 (청크 분할 시 원본 목록 기준 순번을 유지하도록 청크 시작 위치 + 1)
+	 */
+	public UserPromptBlock getUserPromptBlock(String purpose, String systemPrompt, String context,
+											  List<UserPrompt> userPrompts, int startIndex) {
+		if (userPrompts == null || userPrompts.isEmpty()) {
+			throw new InsightException(InsightError.EMPTY_USER_PROMPT);
+		}
+
+		List<String> columns = encodingProperties.getFormat(purpose) == PromptEncodingProperties.Format.TABULAR
+				? TabularPromptEncoder.sharedKeys(userPrompts)
+				: null;
+		String separator = columns == null ? "\n\n" : "\n";
+
+		StringBuilder sb = new StringBuilder();
+		int estimated = TokenEstimator.estimate(purpose)
+				+ TokenEstimator.estimate(systemPrompt)
+				+ TokenEstimator.estimate(context);
+		if (columns != null) {
+			String header = TabularPromptEncoder.header(columns);
+			sb.append(header);
+			estimated += TokenEstimator.estimate(header);
+		}
+
+		boolean budgetEnabled = budgetProperties.isEnabled();
+		int budget = budgetProperties.getMaxInputTokens(purpose);
+		int included = 0;
+		for (UserPrompt userPrompt : userPrompts) {
+			String formatted = columns == null
+					? formatUserPrompt(userPrompt, startIndex + included)
+					: TabularPromptEncoder.row(userPrompt, startIndex + included, columns);
+			int itemTokens = budgetEnabled ? TokenEstimator.estimate(formatted) : 0;
+
+			if (budgetEnabled && estimated + itemTokens > budget) {
+				if (budgetProperties.getOverflowPolicy() == PromptBudgetProperties.OverflowPolicy.REJECT
+						|| included == 0) {
+					rejectedEstimate.record(estimated + itemTokens);
+					log.warn("Prompt budget exceeded: purpose={}, budget={}, items={}/{}",
+							purpose, budget, included + 1, userPrompts.size());
+					throw new InsightException(InsightError.PROMPT_BUDGET_EXCEEDED,
+							"Estimated input tokens exceed budget " + budget + " for purpose " + purpose);
+				}
+
+				reducedEstimate.record(estimated);
+				log.warn("Prompt reduced to fit budget: purpose={}, budget={}, estimated={}, items={}/{}",
+						purpose, budget, estimated, included, userPrompts.size());
+				return new UserPromptBlock(sb.toString(), included, userPrompts.size());
+			}
+
+			if (!sb.isEmpty()) {
+				sb.append(separator);
+			}
+			sb.append(formatted);
+			estimated += itemTokens;
+			included++;
+		}
+
+		if (budgetEnabled) {
+			acceptedEstimate.record(estimated);
+		}
+		return new UserPromptBlock(sb.toString(), included, userPrompts.size());
+	}
+
 	private String formatUserPrompt(UserPrompt userPrompt, int index) {
 		StringBuilder sb = new StringBuilder();
 
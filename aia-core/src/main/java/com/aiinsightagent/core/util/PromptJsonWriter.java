@@ -0,0 +1,97 @@
+package com.aiinsightagent.core.util;
+
+/**
+ * FinalPrompt JSON 단일 패스 작성기
+ * - 시스템 프롬프트/컨텍스트/유저 프롬프트를 중간 문자열 없이 스레드별 재사용 버퍼에 바로 이스케이프하여 기록
+ * - 출력은 ObjectMapper 로 FinalPrompt(NON_NULL)를 직렬화한 결과와 동일 (필드 순서 purpose, systemPrompt, userPrompt)
+ */
+final class PromptJsonWriter {
+	static final String CONTEXT_DELIMITER = "\n\n[CONTEXT]\n";
+
+	private static final int INITIAL_CAPACITY = 8 * 1024;
+	// 이보다 커진 버퍼는 재사용하지 않음 (요청 스레드 수만큼 남으므로 대용량 요청 이후 메모리 점유 방지)
+	private static final int MAX_RETAINED_CAPACITY = 32 * 1024;
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+	private static final ThreadLocal<StringBuilder> BUFFER =
+			ThreadLocal.withInitial(() -> new StringBuilder(INITIAL_CAPACITY));
+
+	private PromptJsonWriter() {
+	}
+
+	/**
+	 * @param context null/blank 이면 시스템 프롬프트만 기록
+	 */
+	static String write(String purpose, String systemPrompt, String context, String userPrompt) {
+		StringBuilder sb = BUFFER.get();
+		sb.setLength(0);
+
+		sb.append('{');
+		boolean hasField = false;
+		if (purpose != null) {
+			hasField = openField(sb, "purpose", false);
+			appendEscaped(sb, purpose);
+			sb.append('"');
+		}
+
+		boolean hasContext = context != null && !context.isBlank();
+		if (systemPrompt != null || hasContext) {
+			hasField = openField(sb, "systemPrompt", hasField);
+			appendEscaped(sb, String.valueOf(systemPrompt));
+			if (hasContext) {
+				appendEscaped(sb, CONTEXT_DELIMITER);
+				appendEscaped(sb, context);
+			}
+			sb.append('"');
+		}
+
+		if (userPrompt != null) {
+			openField(sb, "userPrompt", hasField);
+			appendEscaped(sb, userPrompt);
+			sb.append('"');
+		}
+		sb.append('}');
+
+		String json = sb.toString();
+		if (sb.capacity() > MAX_RETAINED_CAPACITY) {
+			BUFFER.remove();
+		}
+		return json;
+	}
+
+	private static boolean openField(StringBuilder sb, String name, boolean hasField) {
+		if (hasField) {
+			sb.append(',');
+		}
+		sb.append('"').append(name).append("\":\"");
+		return true;
+	}
+
+	/**
+	 * Jackson 기본 이스케이프 규칙과 동일 (따옴표/역슬래시, 0x20 미만 제어문자)
+	 */
+	private static void appendEscaped(StringBuilder sb, String value) {
+		int length = value.length();
+		int start = 0;
+		for (int i = 0; i < length; i++) {
+			char ch = value.charAt(i);
+			if (ch >= 0x20 && ch != '"' && ch != '\\') {
+				continue;
+			}
+
+			// 이스케이프 대상이 없는 구간은 한 번에 복사
+			sb.append(value, start, i);
+			start = i + 1;
+			switch (ch) {
+				case '"' -> sb.append("\\\"");
+				case '\\' -> sb.append("\\\\");
+				case '\n' -> sb.append("\\n");
+				case '\r' -> sb.append("\\r");
+				case '\t' -> sb.append("\\t");
+				case '\b' -> sb.append("\\b");
+				case '\f' -> sb.append("\\f");
+				default -> sb.append("\\u00").append(HEX[ch >> 4]).append(HEX[ch & 0xF]);
+			}
+		}
+		sb.append(value, start, length);
+	}
+}
@@ -0,0 +1,107 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.config.FingerprintProperties;
+import com.aiinsightagent.core.model.InsightRequest;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 분석 요청의 정규화 지문(fingerprint) 생성
+ * - data 키 정렬, 숫자 표기 정규화 (10.50 → 10.5, 1e3 → 1000)
+ * - 설정 시 userPrompt 목록 순서 무시
+ * - dataKey는 프롬프트에 포함되지 않으므로 지문에서도 제외
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestFingerprinter {
+	private static final Pattern NUMBER = Pattern.compile("[+-]?(\\d+\\.?\\d*|\\.\\d+)([eE][+-]?\\d{1,3})?");
+	private static final int MAX_NUMBER_SCALE = 64;
+
+	private final FingerprintProperties fingerprintProperties;
+
+	public String fingerprint(InsightRequest request) {
+		return fingerprint(request.getPurpose(), request.getUserPrompt());
+	}
+
+	/**
+	 * 정규화된 요청 본문의 SHA-256 (hex 64자)
+	 */
+	public String fingerprint(String purpose, List<UserPrompt> userPrompts) {
+		return Hashing.sha256()
+				.hashString(canonicalize(purpose, userPrompts), StandardCharsets.UTF_8)
+				.toString();
+	}
+
+	String canonicalize(String purpose, List<UserPrompt> userPrompts) {
+		List<String> items = new ArrayList<>();
+		if (userPrompts != null) {
+			for (UserPrompt userPrompt : userPrompts) {
+				items.add(canonicalItem(userPrompt));
+			}
+		}
+
+		if (fingerprintProperties.isOrderInsensitive()) {
+			Collections.sort(items);
+		}
+
+		StringBuilder sb = new StringBuilder();
+		appendToken(sb, purpose);
+		sb.append(items.size()).append('[');
+		items.forEach(sb::append);
+		return sb.append(']').toString();
+	}
+
+	private String canonicalItem(UserPrompt userPrompt) {
+		StringBuilder sb = new StringBuilder("{");
+		Map<String, String> data = userPrompt == null ? null : userPrompt.getData();
+		if (data != null) {
+			for (Map.Entry<String, String> entry : new TreeMap<>(data).entrySet()) {
+				appendToken(sb, entry.getKey());
+				appendToken(sb, normalizeValue(entry.getValue()));
+			}
+		}
+		return sb.append('}').toString();
+	}
+
+	/**
+	 * 길이 접두어로 구분하여 값에 구분자가 포함되어도 모호하지 않도록 함
+	 */
+	private static void appendToken(StringBuilder sb, String value) {
+		if (value == null) {
+			sb.append('~');
+			return;
+		}
+		sb.append(value.length()).append(':').append(value);
+	}
+
+	static String normalizeValue(String value) {
+		if (value == null) {
+			return null;
+		}
+
+		String trimmed = value.trim();
+		if (!NUMBER.matcher(trimmed).matches()) {
+			return trimmed;
+		}
+
+		BigDecimal number = new BigDecimal(trimmed).stripTrailingZeros();
+		if (number.signum() == 0) {
+			return "0";
+		}
+		if (Math.abs(number.scale()) > MAX_NUMBER_SCALE) {
+			return number.toString();
+		}
+		return number.toPlainString();
+	}
+}
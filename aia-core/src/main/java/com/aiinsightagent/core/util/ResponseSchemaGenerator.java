@@ -0,0 +1,108 @@
+package com.aiinsightagent.core.util;
+
+import com.google.genai.types.Schema;
+import com.google.genai.types.Type;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 모델 클래스로부터 Gemini responseSchema 생성
+ * - 선언된 필드 순서대로 propertyOrdering 지정, 모든 필드 필수
+ * - OpenAPI 어노테이션(@Schema allowableValues/minimum/maximum, @ArraySchema minItems)을 제약 조건으로 반영
+ */
+public final class ResponseSchemaGenerator {
+	private static final Map<Class<?>, Schema> CACHE = new ConcurrentHashMap<>();
+
+	private ResponseSchemaGenerator() {
+	}
+
+	public static Schema of(Class<?> type) {
+		// 중첩 클래스 생성 시 재귀 호출되므로 computeIfAbsent 대신 조회 후 등록
+		Schema schema = CACHE.get(type);
+		if (schema == null) {
+			schema = objectSchema(type);
+			CACHE.putIfAbsent(type, schema);
+		}
+		return schema;
+	}
+
+	private static Schema objectSchema(Class<?> type) {
+		Map<String, Schema> properties = new LinkedHashMap<>();
+		List<String> ordering = new ArrayList<>();
+
+		for (Field field : type.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+				continue;
+			}
+			properties.put(field.getName(), fieldSchema(field));
+			ordering.add(field.getName());
+		}
+
+		return Schema.builder()
+				.type(Type.Known.OBJECT)
+				.properties(properties)
+				.propertyOrdering(ordering)
+				.required(ordering)
+				.build();
+	}
+
+	private static Schema fieldSchema(Field field) {
+		Class<?> type = field.getType();
+
+		if (List.class.isAssignableFrom(type)) {
+			Class<?> itemType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+			Schema.Builder builder = Schema.builder()
+					.type(Type.Known.ARRAY)
+					.items(valueSchema(itemType));
+
+			ArraySchema arraySchema = field.getAnnotation(ArraySchema.class);
+			if (arraySchema != null && arraySchema.minItems() != Integer.MAX_VALUE) {
+				builder.minItems((long) arraySchema.minItems());
+			}
+			return builder.build();
+		}
+
+		io.swagger.v3.oas.annotations.media.Schema constraint =
+				field.getAnnotation(io.swagger.v3.oas.annotations.media.Schema.class);
+		if (constraint == null) {
+			return valueSchema(type);
+		}
+
+		Schema.Builder builder = valueSchema(type).toBuilder();
+		if (constraint.allowableValues().length > 0) {
+			builder.enum_(Arrays.asList(constraint.allowableValues()));
+		}
+		if (!constraint.minimum().isEmpty()) {
+			builder.minimum(Double.valueOf(constraint.minimum()));
+		}
+		if (!constraint.maximum().isEmpty()) {
+			builder.maximum(Double.valueOf(constraint.maximum()));
+		}
+		return builder.build();
+	}
+
+	private static Schema valueSchema(Class<?> type) {
+		if (type == String.class) {
+			return Schema.builder().type(Type.Known.STRING).build();
+		}
+		if (type == int.class || type == Integer.class || type == long.class || type == Long.class) {
+			return Schema.builder().type(Type.Known.INTEGER).build();
+		}
+		if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+			return Schema.builder().type(Type.Known.NUMBER).build();
+		}
+		if (type == boolean.class || type == Boolean.class) {
+			return Schema.builder().type(Type.Known.BOOLEAN).build();
+		}
+		return of(type);
+	}
+}
@@ -0,0 +1,82 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 키 구성이 같은 유저 프롬프트 묶음을 헤더 한 줄 + 구분자 행으로 인코딩
+ * - 헤더: #|key1|key2|...
+ * - 행: 순번|value1|value2|... (순번은 key=value 형식의 #n 과 동일)
+ * - 값의 구분자/개행/역슬래시는 역슬래시로 이스케이프
+ */
+public final class TabularPromptEncoder {
+	static final char DELIMITER = '|';
+	private static final String INDEX_COLUMN = "#";
+
+	private TabularPromptEncoder() {
+	}
+
+	/**
+	 * 모든 항목이 같은 키 집합을 가지면 첫 항목 순서 기준 컬럼 목록, 아니면 null
+	 */
+	public static List<String> sharedKeys(List<UserPrompt> userPrompts) {
+		if (userPrompts == null || userPrompts.size() < 2) {
+			return null;
+		}
+
+		Map<String, String> first = userPrompts.get(0).getData();
+		if (first == null || first.isEmpty()) {
+			return null;
+		}
+
+		Set<String> keys = first.keySet();
+		for (int i = 1; i < userPrompts.size(); i++) {
+			Map<String, String> data = userPrompts.get(i).getData();
+			if (data == null || data.size() != keys.size() || !data.keySet().equals(keys)) {
+				return null;
+			}
+		}
+
+		return new ArrayList<>(keys);
+	}
+
+	public static String header(List<String> keys) {
+		StringBuilder sb = new StringBuilder(INDEX_COLUMN);
+		for (String key : keys) {
+			sb.append(DELIMITER);
+			appendEscaped(sb, key);
+		}
+		return sb.toString();
+	}
+
+	public static String row(UserPrompt userPrompt, int index, List<String> keys) {
+		Map<String, String> data = userPrompt.getData();
+		StringBuilder sb = new StringBuilder().append(index);
+		for (String key : keys) {
+			sb.append(DELIMITER);
+			appendEscaped(sb, data.get(key));
+		}
+		return sb.toString();
+	}
+
+	private static void appendEscaped(StringBuilder sb, String value) {
+		if (value == null) {
+			return;
+		}
+
+		for (int i = 0; i < value.length(); i++) {
+			char ch = value.charAt(i);
+			switch (ch) {
+				case '\\' -> sb.append("\\\\");
+				case DELIMITER -> sb.append("\\|");
+				case '\n' -> sb.append("\\n");
+				case '\r' -> sb.append("\\r");
+				default -> sb.append(ch);
+			}
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.aiinsightagent.core.util;
+
+/**
+ * 로컬 입력 토큰 수 추정 (API 호출 없이 한 번의 순회로 계산)
+ * - ASCII 문자: 약 4자당 1토큰
+ * - 한글 등 비 ASCII 문자: 1자당 1토큰 (보수적으로 추정)
+ */
+public final class TokenEstimator {
+	private static final int ASCII_CHARS_PER_TOKEN = 4;
+
+	private TokenEstimator() {}
+
+	public static int estimate(CharSequence text) {
+		if (text == null) {
+			return 0;
+		}
+
+		int ascii = 0;
+		int other = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				ascii++;
+			} else if (!Character.isLowSurrogate(c)) {
+				other++;
+			}
+		}
+
+		return (ascii + ASCII_CHARS_PER_TOKEN - 1) / ASCII_CHARS_PER_TOKEN + other;
+	}
+}
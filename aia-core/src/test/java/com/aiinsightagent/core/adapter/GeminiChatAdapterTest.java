@@ -94,4 +94,18 @@ class GeminiChatAdapterTest {
 		assertTrue(result.isDone());
 		Mockito.verify(queueManager).submit(prompt);
 	}
+
+	@Test
+	void await_timeout_throwsException() throws Exception {
+		// given
+		CompletableFuture<GeminiResponse> future = new CompletableFuture<>();
+		Mockito.when(queueManager.await(future))
+				.thenThrow(new TimeoutException("Timeout"));
+
+		// when & then
+		InsightException exception = assertThrows(InsightException.class,
+				() -> geminiChatAdapter.await(future));
+
+		assertEquals(InsightError.QUEUE_TIMEOUT, exception.getError());
+	}
 }
@@ -0,0 +1,215 @@
+package com.aiinsightagent.core.cache;
+
+import com.aiinsightagent.core.config.ContextCacheProperties;
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeminiContextCacheTest {
+	private static final String LONG_CONTEXT = "x".repeat(200);
+
+	private GeminiProperties.ModelConfig m00;
+	private GeminiProperties.ModelConfig m01;
+	private GeminiProperties geminiProperties;
+	private ContextCacheProperties cacheProperties;
+	private FakeCachedContentClient client0;
+	private FakeCachedContentClient client1;
+	private GeminiContextCache contextCache;
+
+	@BeforeEach
+	void setUp() {
+		m00 = model("m00");
+		m01 = model("m01");
+
+		geminiProperties = new GeminiProperties() {
+		};
+		geminiProperties.setModels(List.of(m00, m01));
+
+		cacheProperties = new ContextCacheProperties() {
+		};
+		cacheProperties.setMinPrefixLength(100);
+		cacheProperties.setTtl(Duration.ofMinutes(30));
+
+		client0 = new FakeCachedContentClient("k0");
+		client1 = new FakeCachedContentClient("k1");
+		contextCache = new GeminiContextCache(cacheProperties, geminiProperties, List.of(client0, client1));
+	}
+
+	private GeminiProperties.ModelConfig model(String id) {
+		GeminiProperties.ModelConfig model = new GeminiProperties.ModelConfig();
+		model.setId(id);
+		model.setName("gemini-2.5-flash");
+		model.setApiKey("key-" + id);
+		return model;
+	}
+
+	private PromptPrefix actorPrefix(String userId, String context) {
+		return new PromptPrefix(PromptPrefix.keyOf(userId, context), context, "{\"purpose\":\"p\"}");
+	}
+
+	@Test
+	@DisplayName("resolve - 같은 API 키/사용자는 한 번만 생성하고 재사용")
+	void resolve_reusesPerKeyAndActor() {
+		PromptPrefix prefix = actorPrefix("user-1", LONG_CONTEXT);
+
+		String first = contextCache.resolve(m00, prefix);
+		String second = contextCache.resolve(m00, prefix);
+
+		assertNotNull(first);
+		assertEquals(first, second);
+		assertEquals(1, client0.created.size());
+		assertEquals(LONG_CONTEXT, client0.created.get(0));
+	}
+
+	@Test
+	@DisplayName("resolve - API 키가 다르면 각 키에 별도 생성")
+	void resolve_separatePerApiKey() {
+		PromptPrefix prefix = actorPrefix("user-1", LONG_CONTEXT);
+
+		String onKey0 = contextCache.resolve(m00, prefix);
+		String onKey1 = contextCache.resolve(m01, prefix);
+
+		assertNotEquals(onKey0, onKey1);
+		assertEquals(1, client0.created.size());
+		assertEquals(1, client1.created.size());
+	}
+
+	@Test
+	@DisplayName("resolve - 프리픽스가 최소 길이 미만이면 캐시 미사용")
+	void resolve_shortPrefix_returnsNull() {
+		assertNull(contextCache.resolve(m00, actorPrefix("user-1", "short")));
+		assertTrue(client0.created.isEmpty());
+	}
+
+	@Test
+	@DisplayName("resolve - 프리픽스 내용이 바뀌면 재생성 (이전 캐시는 진행 중인 호출을 위해 TTL 까지 유지)")
+	void resolve_changedPrefix_recreates() {
+		String first = contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT));
+		String second = contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT + "changed"));
+
+		assertNotEquals(first, second);
+		assertEquals(2, client0.created.size());
+		assertEquals(1, contextCache.size());
+	}
+
+	@Test
+	@DisplayName("resolve - 생성 실패 시 null 반환 (전체 프롬프트로 진행)")
+	void resolve_createFails_returnsNull() {
+		client0.failOnCreate = true;
+
+		assertNull(contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT)));
+	}
+
+	@Test
+	@DisplayName("resolve - 생성 실패 후 대기 시간 동안 같은 프리픽스는 생성 재시도 없음, 프리픽스가 바뀌면 재시도")
+	void resolve_createFails_backsOff() {
+		client0.failOnCreate = true;
+		contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT));
+
+		// when - 대기 중 같은 프리픽스 요청
+		client0.failOnCreate = false;
+		assertNull(contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT)));
+		assertEquals(1, client0.createCalls);
+
+		// then - 다른 프리픽스는 바로 생성
+		assertNotNull(contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT + "changed")));
+		assertEquals(2, client0.createCalls);
+	}
+
+	@Test
+	@DisplayName("resolve - 대기 시간이 지나면 같은 프리픽스도 생성 재시도")
+	void resolve_backoffElapsed_retries() {
+		cacheProperties.setFailureBackoff(Duration.ZERO);
+		client0.failOnCreate = true;
+		contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT));
+
+		client0.failOnCreate = false;
+
+		assertNotNull(contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT)));
+		assertEquals(2, client0.createCalls);
+	}
+
+	@Test
+	@DisplayName("evict - 실패한 캐시 이름의 항목만 제거 (다른 워커가 새로 만든 항목은 유지)")
+	void evict_removesOnlyMatchingName() {
+		PromptPrefix prefix = actorPrefix("user-1", LONG_CONTEXT);
+		String stale = contextCache.resolve(m00, prefix);
+		contextCache.evict(m00, prefix, stale);
+		String fresh = contextCache.resolve(m00, prefix);
+
+		// when - 이전 캐시로 실패한 호출이 뒤늦게 제거 요청
+		contextCache.evict(m00, prefix, stale);
+
+		// then
+		assertEquals(fresh, contextCache.resolve(m00, prefix));
+		assertEquals(2, client0.created.size());
+	}
+
+	@Test
+	@DisplayName("resolve - 항목 수가 상한을 넘지 않음")
+	void resolve_boundedEntries() {
+		cacheProperties.setMaximumSize(3);
+		contextCache = new GeminiContextCache(cacheProperties, geminiProperties, List.of(client0, client1));
+
+		for (int i = 0; i < 20; i++) {
+			contextCache.resolve(m00, actorPrefix("user-" + i, LONG_CONTEXT));
+		}
+
+		assertTrue(contextCache.size() <= 3);
+	}
+
+	@Test
+	@DisplayName("invalidate - 해당 사용자의 모든 API 키 항목 제거, 다른 사용자는 유지")
+	void invalidate_removesOnlyActorEntries() {
+		String user1OnKey0 = contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT));
+		contextCache.resolve(m01, actorPrefix("user-1", LONG_CONTEXT));
+		contextCache.resolve(m00, actorPrefix("user-2", LONG_CONTEXT));
+
+		contextCache.invalidate("user-1");
+
+		assertEquals(1, contextCache.size());
+
+		// 다시 요청하면 새로 생성
+		assertNotEquals(user1OnKey0, contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT)));
+	}
+
+	@Test
+	@DisplayName("resolve - 사용 안 함 설정 시 항상 null")
+	void resolve_disabled_returnsNull() {
+		cacheProperties.setEnabled(false);
+
+		assertNull(contextCache.resolve(m00, actorPrefix("user-1", LONG_CONTEXT)));
+	}
+
+	/**
+	 * 로컬 Gemini cachedContents API 대체 구현
+	 */
+	private static class FakeCachedContentClient implements CachedContentClient {
+		private final String apiKey;
+		private final List<String> created = new ArrayList<>();
+		private int createCalls;
+		private boolean failOnCreate;
+
+		FakeCachedContentClient(String apiKey) {
+			this.apiKey = apiKey;
+		}
+
+		@Override
+		public String create(String model, String systemInstruction, Duration ttl) {
+			createCalls++;
+			if (failOnCreate) {
+				throw new IllegalStateException("Cached content is too small");
+			}
+			created.add(systemInstruction);
+			return "cachedContents/" + apiKey + "-" + created.size();
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.aiinsightagent.core.cache;
+
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.config.ResponseCacheProperties;
+import com.aiinsightagent.core.model.InsightDetail;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsightResponseCacheTest {
+	private GeminiProperties geminiProperties;
+	private ResponseCacheProperties cacheProperties;
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		GeminiProperties.ModelConfig model = new GeminiProperties.ModelConfig();
+		model.setId("m00");
+		model.setName("gemini-2.5-flash");
+		model.setApiKey("key");
+
+		geminiProperties = new GeminiProperties() {
+		};
+		geminiProperties.setModels(List.of(model));
+		geminiProperties.setTemperature(0.7);
+		geminiProperties.setMaxOutputTokens(8192);
+
+		cacheProperties = new ResponseCacheProperties() {
+		};
+		cacheProperties.setMaximumSize(2);
+		cacheProperties.setTtl(Duration.ofMinutes(5));
+
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	private CachedInsight cachedInsight(String summary) {
+		return new CachedInsight(InsightDetail.builder().summary(summary).build(), "m00", "gemini-2.5-flash");
+	}
+
+	@Test
+	@DisplayName("keyOf - 같은 프롬프트와 설정이면 같은 키, 설정이 바뀌면 다른 키")
+	void keyOf_dependsOnPromptAndGenerationSettings() {
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+
+		String key = cache.keyOf("analysis", "PROMPT");
+		assertEquals(key, cache.keyOf("analysis", "PROMPT"));
+		assertEquals(64, key.length());
+		assertNotEquals(key, cache.keyOf("analysis", "PROMPT2"));
+
+		geminiProperties.setTemperature(0.2);
+		assertNotEquals(key, cache.keyOf("analysis", "PROMPT"));
+	}
+
+	@Test
+	@DisplayName("keyOf - 목적에 매핑된 생성 프로필(공용/모델별)이 바뀌면 다른 키, 다른 목적의 프로필 변경은 무관")
+	void keyOf_dependsOnResolvedProfileForPurpose() {
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+		GeminiProperties.GenerationProfile deep = new GeminiProperties.GenerationProfile();
+		deep.setThinkingBudget(1024);
+		geminiProperties.setProfiles(new HashMap<>(Map.of("deep", deep)));
+		geminiProperties.setPurposeProfiles(Map.of("analysis", "deep"));
+		String key = cache.keyOf("analysis", "PROMPT");
+		String otherPurposeKey = cache.keyOf("summary", "PROMPT");
+
+		// 공용 프로필 변경
+		deep.setThinkingBudget(0);
+		String sharedChanged = cache.keyOf("analysis", "PROMPT");
+		assertNotEquals(key, sharedChanged);
+		assertEquals(otherPurposeKey, cache.keyOf("summary", "PROMPT"));
+
+		// 모델별 프로필 변경
+		GeminiProperties.GenerationProfile modelDeep = new GeminiProperties.GenerationProfile();
+		modelDeep.setMaxOutputTokens(2048);
+		geminiProperties.getModels().get(0).setProfiles(Map.of("deep", modelDeep));
+		assertNotEquals(sharedChanged, cache.keyOf("analysis", "PROMPT"));
+		assertEquals(otherPurposeKey, cache.keyOf("summary", "PROMPT"));
+
+		// 구조화 출력(응답 MIME 타입) 변경
+		String beforeStructured = cache.keyOf("analysis", "PROMPT");
+		geminiProperties.setStructuredOutput(false);
+		assertNotEquals(beforeStructured, cache.keyOf("analysis", "PROMPT"));
+	}
+
+	@Test
+	@DisplayName("get/put - 적중/미스가 통계와 메트릭에 기록됨")
+	void getAndPut_recordsHitAndMissMetrics() {
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+
+		assertNull(cache.get("k1"));
+		cache.put("k1", cachedInsight("s1"));
+		assertEquals("s1", cache.get("k1").getInsight().getSummary());
+
+		assertEquals(1, cache.stats().hitCount());
+		assertEquals(1, cache.stats().missCount());
+		assertEquals(1.0, meterRegistry.get("cache.gets")
+				.tag("cache", InsightResponseCache.METRIC_NAME).tag("result", "hit")
+				.functionCounter().count());
+	}
+
+	@Test
+	@DisplayName("maximumSize 초과 시 항목이 제거되고 제거 수가 기록됨")
+	void put_overMaximumSize_evicts() {
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+
+		cache.put("k1", cachedInsight("s1"));
+		cache.put("k2", cachedInsight("s2"));
+		cache.put("k3", cachedInsight("s3"));
+
+		assertTrue(cache.size() <= 2);
+		assertTrue(cache.stats().evictionCount() >= 1);
+	}
+
+	@Test
+	@DisplayName("비활성화 시 저장/조회하지 않음")
+	void disabled_neverStoresOrReturns() {
+		cacheProperties.setEnabled(false);
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+
+		cache.put("k1", cachedInsight("s1"));
+
+		assertNull(cache.get("k1"));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	@DisplayName("분석 결과가 없는 항목은 저장하지 않음")
+	void put_nullInsight_ignored() {
+		InsightResponseCache cache = new InsightResponseCache(geminiProperties, cacheProperties, meterRegistry);
+
+		cache.put("k1", new CachedInsight(null, "m00", "gemini-2.5-flash"));
+
+		assertNull(cache.get("k1"));
+	}
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -170,4 +171,18 @@ class GeminiPropertiesTest {
 		assertEquals("gemini-2.5-flash", config.getName());
 		assertEquals("test-api-key", config.getApiKey());
 	}
+
+	@Test
+	@DisplayName("getProfileName - 매핑 없는 목적은 default 프로필로 대체")
+	void getProfileName_unmappedPurposeFallsBackToDefault() throws Exception {
+
+		// given
+		GeminiProperties properties = createGeminiProperties();
+		properties.setPurposeProfiles(Map.of("running_style_analysis", "fast"));
+
+		// when & then
+		assertEquals("fast", properties.getProfileName("running_style_analysis"));
+		assertEquals(GeminiProperties.DEFAULT_PROFILE, properties.getProfileName("other"));
+		assertEquals(GeminiProperties.DEFAULT_PROFILE, properties.getProfileName(null));
+	}
 }
@@ -1,13 +1,26 @@
 package com.aiinsightagent.core.facade;
 
 import com.aiinsightagent.core.adapter.GeminiChatAdapter;
+import com.aiinsightagent.core.cache.CachedInsight;
+import com.aiinsightagent.core.cache.InsightResponseCache;
+import com.aiinsightagent.core.config.AnalysisChunkProperties;
+import com.aiinsightagent.core.config.ContextCacheProperties;
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.InsightRequest;
 import com.aiinsightagent.core.model.InsightResponse;
+import com.aiinsightagent.core.model.IssueCategory;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
 import com.aiinsightagent.core.model.prompt.SystemPrompt;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
+import com.aiinsightagent.core.model.prompt.UserPromptBlock;
 import com.aiinsightagent.core.parser.GeminiResponseParser;
+import com.aiinsightagent.core.queue.GeminiRequestOptions;
 import com.aiinsightagent.core.queue.GeminiResponse;
 import com.aiinsightagent.core.util.PromptComposer;
+import com.aiinsightagent.core.util.RequestFingerprinter;
 import com.google.genai.types.GenerateContentResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,11 +32,22 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,11 +58,34 @@ class InsightFacadeTest {
 	@Mock
 	private PromptComposer promptComposer;
 
+	@Mock
+	private InsightResponseCache responseCache;
+
+	@Mock
+	private RequestFingerprinter fingerprinter;
+
 	private InsightFacade insightFacade;
+	private AnalysisChunkProperties chunkProperties;
+	private GeminiProperties geminiProperties;
+	private ContextCacheProperties contextCacheProperties;
 
 	@BeforeEach
 	void setUp() {
-		insightFacade = new InsightFacade(geminiChatAdapter, promptComposer);
+		chunkProperties = new AnalysisChunkProperties() {
+		};
+		chunkProperties.setMinItems(4);
+		chunkProperties.setChunkSize(2);
+		geminiProperties = new GeminiProperties() {
+		};
+		geminiProperties.setStructuredOutput(false);
+		contextCacheProperties = new ContextCacheProperties() {
+		};
+		insightFacade = new InsightFacade(geminiChatAdapter, promptComposer, responseCache, fingerprinter,
+				chunkProperties, geminiProperties, contextCacheProperties);
+	}
+
+	private static GeminiRequestOptions withoutPrefix(String purpose) {
+		return argThat(options -> options.getPrefix() == null && purpose.equals(options.getPurpose()));
 	}
 
 	@Test
@@ -65,7 +112,7 @@ class InsightFacadeTest {
 				)
 		).thenReturn(finalPrompt);
 
-		when(geminiChatAdapter.getResponse(finalPrompt))
+		when(geminiChatAdapter.getResponse(eq(finalPrompt), withoutPrefix(purpose)))
 				.thenReturn(geminiResponse);
 
 		try (MockedStatic<GeminiResponseParser> mocked =
@@ -91,7 +138,7 @@ class InsightFacadeTest {
 					);
 
 			verify(geminiChatAdapter, times(1))
-					.getResponse(finalPrompt);
+					.getResponse(eq(finalPrompt), withoutPrefix(purpose));
 
 			mocked.verify(
 					() -> GeminiResponseParser.toInsightResponse(geminiResponse),
@@ -119,8 +166,8 @@ class InsightFacadeTest {
 		when(request.getUserPrompt()).thenReturn(userPrompts);
 
 		String combinedUserPrompt = "#1\ndata=value1\n\n#2\ndata=value2";
-		when(promptComposer.getCombinedUserPrompts(userPrompts))
-				.thenReturn(combinedUserPrompt);
+		when(promptComposer.getUserPromptBlock(purpose, SystemPrompt.MULTI_ITEM, null, userPrompts, 1))
+				.thenReturn(new UserPromptBlock(combinedUserPrompt, 2, 2));
 		String finalPrompt = "FINAL_ANALYSIS_PROMPT";
 
 		when(
@@ -137,7 +184,7 @@ class InsightFacadeTest {
 
 		InsightResponse expectedResponse = mock(InsightResponse.class);
 
-		when(geminiChatAdapter.getResponse(finalPrompt))
+		when(geminiChatAdapter.getResponse(eq(finalPrompt), withoutPrefix(purpose)))
 				.thenReturn(geminiResponse);
 
 		try (MockedStatic<GeminiResponseParser> mocked =
@@ -163,7 +210,7 @@ class InsightFacadeTest {
 					);
 
 			verify(geminiChatAdapter, times(1))
-					.getResponse(finalPrompt);
+					.getResponse(eq(finalPrompt), withoutPrefix(purpose));
 
 			mocked.verify(
 					() -> GeminiResponseParser.toInsightResponse(geminiResponse),
@@ -171,4 +218,489 @@ class InsightFacadeTest {
 			);
 		}
 	}
+
+	private InsightRequest stubCacheKey(boolean bypassCache) {
+		InsightRequest request = InsightRequest.builder()
+				.userId("user-1")
+				.purpose("분석")
+				.userPrompt(List.of(mock(UserPrompt.class)))
+				.bypassCache(bypassCache)
+				.build();
+
+		when(fingerprinter.fingerprint(request)).thenReturn("fingerprint");
+		when(responseCache.keyOf("분석", SystemPrompt.MULTI_ITEM, null, "fingerprint")).thenReturn("cache-key");
+		return request;
+	}
+
+	private void stubAnalysisPrompt(InsightRequest request) {
+		when(promptComposer.getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null, request.getUserPrompt(), 1))
+				.thenReturn(new UserPromptBlock("#1\ndata=value1", 1, 1));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.MULTI_ITEM, null, "#1\ndata=value1"))
+				.thenReturn("FINAL_ANALYSIS_PROMPT");
+	}
+
+	@Test
+	@DisplayName("analysis() 컨텍스트 캐시 최소 길이 이상이면 프리픽스를 만들어 요청 옵션에 포함")
+	void analysis_longPrefix_sendsPromptPrefix() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		stubAnalysisPrompt(request);
+		contextCacheProperties.setMinPrefixLength(100);
+		PromptPrefix prefix = new PromptPrefix("system", "PREFIX", "BODY");
+		when(promptComposer.getPromptPrefixLength(SystemPrompt.MULTI_ITEM, null)).thenReturn(100);
+		when(promptComposer.getPromptPrefix("system", "분석", SystemPrompt.MULTI_ITEM, null, "#1\ndata=value1"))
+				.thenReturn(prefix);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), argThat(options -> options.getPrefix() == prefix)))
+				.thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse))
+					.thenReturn(InsightResponse.builder().resultCode(200).build());
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertEquals(200, result.getResultCode());
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 컨텍스트 캐시가 꺼져 있거나 프리픽스가 짧으면 프리픽스를 만들지 않음")
+	void analysis_cacheUnusable_skipsPromptPrefix() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		stubAnalysisPrompt(request);
+		contextCacheProperties.setEnabled(false);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), withoutPrefix("분석"))).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse))
+					.thenReturn(InsightResponse.builder().resultCode(200).build());
+
+			// when
+			insightFacade.analysis(request, null);
+			contextCacheProperties.setEnabled(true);
+			insightFacade.analysis(request, null);
+
+			// then
+			verify(promptComposer, never()).getPromptPrefix(any(), any(), any(), any(), any());
+			verify(geminiChatAdapter, times(2)).getResponse(eq("FINAL_ANALYSIS_PROMPT"), withoutPrefix("분석"));
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 입력 토큰 예산으로 항목이 빠지면 부분 결과로 표시하고 응답 캐시에 저장하지 않음")
+	void analysis_truncatedInput_marksPartial() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		when(promptComposer.getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null, request.getUserPrompt(), 1))
+				.thenReturn(new UserPromptBlock("#1\ndata=value1", 1, 3));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.MULTI_ITEM, null, "#1\ndata=value1"))
+				.thenReturn("FINAL_ANALYSIS_PROMPT");
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightDetail detail = InsightDetail.builder().summary("앞쪽 항목만").build();
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse))
+					.thenReturn(InsightResponse.builder().resultCode(200).insight(detail).build());
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertTrue(result.isPartial());
+			assertEquals(2, result.getOmittedItems());
+			assertSame(detail, result.getInsight());
+			verify(responseCache, never()).put(anyString(), any());
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 캐시 적중 시 Gemini 호출 없이 캐시된 결과 반환")
+	void analysis_cacheHit_skipsGemini() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		InsightDetail cachedDetail = InsightDetail.builder().summary("cached").priorityScore(40).build();
+		when(responseCache.get("cache-key"))
+				.thenReturn(new CachedInsight(cachedDetail, "m03", "gemini-2.5-flash"));
+		Runnable onCacheMiss = mock(Runnable.class);
+
+		// when
+		InsightResponse result = insightFacade.analysis(request, null, onCacheMiss);
+
+		// then
+		assertEquals(200, result.getResultCode());
+		assertSame(cachedDetail, result.getInsight());
+		verifyNoInteractions(onCacheMiss);
+		verify(geminiChatAdapter, never()).getResponse(anyString(), any());
+		verify(promptComposer, never()).getUserPromptBlock(any(), any(), any(), any(), anyInt());
+		verify(responseCache, never()).put(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("analysis() 캐시 미스 콜백이 예외를 던지면 프롬프트 조립/Gemini 호출 없이 전파")
+	void analysis_cacheMissRejected_skipsGemini() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		when(responseCache.get("cache-key")).thenReturn(null);
+		Runnable onCacheMiss = () -> {
+			throw new InsightException(InsightError.QUEUE_FULL);
+		};
+
+		// when
+		InsightException exception = assertThrows(InsightException.class,
+				() -> insightFacade.analysis(request, null, onCacheMiss));
+
+		// then
+		assertEquals(InsightError.QUEUE_FULL, exception.getError());
+		verify(promptComposer, never()).getUserPromptBlock(any(), any(), any(), any(), anyInt());
+		verify(geminiChatAdapter, never()).getResponse(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("analysis() 캐시 미스 시 Gemini 호출 후 파싱 결과를 캐시에 저장")
+	void analysis_cacheMiss_storesParsedInsight() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		stubAnalysisPrompt(request);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightDetail detail = InsightDetail.builder().summary("fresh").priorityScore(60).build();
+		InsightResponse parsed = InsightResponse.builder().resultCode(200).insight(detail).build();
+
+		when(responseCache.get("cache-key")).thenReturn(null);
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse)).thenReturn(parsed);
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertSame(parsed, result);
+			verify(responseCache, times(1)).put(eq("cache-key"), any(CachedInsight.class));
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 잘린 응답은 복구한 부분 결과로 반환하고 캐시에 저장하지 않음")
+	void analysis_truncatedResponse_returnsPartialWithoutCaching() {
+
+		// given
+		InsightRequest request = stubCacheKey(false);
+		stubAnalysisPrompt(request);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightResponse partial = InsightResponse.builder()
+				.resultCode(200)
+				.insight(InsightDetail.builder().summary("partial").build())
+				.partial(true)
+				.build();
+
+		when(responseCache.get("cache-key")).thenReturn(null);
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse))
+					.thenThrow(new InsightException(InsightError.RESPONSE_TRUNCATED));
+			mocked.when(() -> GeminiResponseParser.toPartialInsightResponse(geminiResponse)).thenReturn(partial);
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertSame(partial, result);
+			assertTrue(result.isPartial());
+			verify(responseCache, never()).put(anyString(), any());
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 복구 비활성화 시 잘린 응답은 RESPONSE_TRUNCATED 그대로 전파")
+	void analysis_truncatedResponse_repairDisabled_throws() {
+
+		// given
+		geminiProperties.setRepairTruncated(false);
+		InsightRequest request = stubCacheKey(false);
+		stubAnalysisPrompt(request);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+
+		when(responseCache.get("cache-key")).thenReturn(null);
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse))
+					.thenThrow(new InsightException(InsightError.RESPONSE_TRUNCATED));
+
+			// when & then
+			InsightException exception = assertThrows(InsightException.class,
+					() -> insightFacade.analysis(request, null));
+			assertEquals(InsightError.RESPONSE_TRUNCATED, exception.getError());
+			mocked.verify(() -> GeminiResponseParser.toPartialInsightResponse(any()), never());
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() bypassCache 요청은 캐시를 조회하지 않고 새 결과로 갱신")
+	void analysis_bypassCache_refreshesCache() {
+
+		// given
+		InsightRequest request = stubCacheKey(true);
+		stubAnalysisPrompt(request);
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightResponse parsed = InsightResponse.builder()
+				.resultCode(200)
+				.insight(InsightDetail.builder().summary("fresh").build())
+				.build();
+
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse)).thenReturn(parsed);
+
+			// when
+			insightFacade.analysis(request, null);
+
+			// then
+			verify(responseCache, never()).get(anyString());
+			verify(responseCache, times(1)).put(eq("cache-key"), any(CachedInsight.class));
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 최소 항목 수 이상이면 청크별 병렬 요청 후 결과를 병합")
+	void analysis_largeInput_mergesChunkResults() {
+
+		// given
+		List<UserPrompt> userPrompts = IntStream.range(0, 5).mapToObj(i -> mock(UserPrompt.class)).toList();
+		InsightRequest request = InsightRequest.builder()
+				.userId("user-1")
+				.purpose("분석")
+				.userPrompt(userPrompts)
+				.build();
+		when(fingerprinter.fingerprint(request)).thenReturn("fingerprint");
+		when(responseCache.keyOf("분석", SystemPrompt.MULTI_ITEM, null, "fingerprint")).thenReturn("cache-key");
+
+		when(promptComposer.getUserPromptBlock(eq("분석"), eq(SystemPrompt.MULTI_ITEM), any(), any(), anyInt()))
+				.thenReturn(new UserPromptBlock("CHUNK", 2, 2));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.MULTI_ITEM, null, "CHUNK"))
+				.thenReturn("FINAL_CHUNK_PROMPT");
+
+		List<GeminiResponse> responses = IntStream.range(0, 3)
+				.mapToObj(i -> new GeminiResponse(mock(GenerateContentResponse.class), "m0" + i, "gemini-2.5-flash"))
+				.toList();
+		List<CompletableFuture<GeminiResponse>> futures = responses.stream()
+				.map(CompletableFuture::completedFuture)
+				.toList();
+		when(geminiChatAdapter.getResponseAsync(eq("FINAL_CHUNK_PROMPT"), any()))
+				.thenReturn(futures.get(0)).thenReturn(futures.get(1)).thenReturn(futures.get(2));
+		when(geminiChatAdapter.deadline()).thenReturn(42L);
+		futures.forEach(future -> when(geminiChatAdapter.await(future, 42L)).thenReturn(future.join()));
+
+		List<InsightDetail> partials = List.of(
+				InsightDetail.builder().summary("A").priorityScore(40)
+						.issueCategories(List.of(new IssueCategory("pace", "느림", "LOW")))
+						.rootCauseInsights(List.of("수면 부족")).build(),
+				InsightDetail.builder().summary("B").priorityScore(80)
+						.issueCategories(List.of(new IssueCategory("Pace", "급감", "HIGH")))
+						.rootCauseInsights(List.of("수면 부족", "과훈련")).build(),
+				InsightDetail.builder().summary("C").priorityScore(10).build());
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			for (int i = 0; i < responses.size(); i++) {
+				InsightResponse parsed = InsightResponse.builder().resultCode(200).insight(partials.get(i)).build();
+				GeminiResponse response = responses.get(i);
+				mocked.when(() -> GeminiResponseParser.toInsightResponse(response)).thenReturn(parsed);
+			}
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			InsightDetail merged = result.getInsight();
+			assertEquals(200, result.getResultCode());
+			assertEquals("A B C", merged.getSummary());
+			assertEquals(80, merged.getPriorityScore());
+			assertEquals(1, merged.getIssueCategories().size());
+			assertEquals("HIGH", merged.getIssueCategories().get(0).getSeverity());
+			assertEquals(List.of("수면 부족", "과훈련"), merged.getRootCauseInsights());
+
+			verify(promptComposer).getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null, userPrompts.subList(0, 2), 1);
+			verify(promptComposer).getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null, userPrompts.subList(2, 4), 3);
+			verify(promptComposer).getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null, userPrompts.subList(4, 5), 5);
+			verify(geminiChatAdapter, never()).getResponse(anyString(), any());
+			// 모든 청크가 같은 마감 시각까지만 대기
+			verify(geminiChatAdapter, times(1)).deadline();
+			futures.forEach(future -> verify(geminiChatAdapter).await(future, 42L));
+			verify(responseCache, times(1)).put(eq("cache-key"), any(CachedInsight.class));
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 한 청크가 실패하면 나머지 청크 요청을 취소하고 예외 전파")
+	void analysis_chunkFailure_cancelsSiblingChunks() {
+
+		// given
+		List<UserPrompt> userPrompts = IntStream.range(0, 5).mapToObj(i -> mock(UserPrompt.class)).toList();
+		InsightRequest request = InsightRequest.builder()
+				.userId("user-1")
+				.purpose("분석")
+				.userPrompt(userPrompts)
+				.build();
+		when(fingerprinter.fingerprint(request)).thenReturn("fingerprint");
+		when(responseCache.keyOf("분석", SystemPrompt.MULTI_ITEM, null, "fingerprint")).thenReturn("cache-key");
+		when(promptComposer.getUserPromptBlock(eq("분석"), eq(SystemPrompt.MULTI_ITEM), any(), any(), anyInt()))
+				.thenReturn(new UserPromptBlock("CHUNK", 2, 2));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.MULTI_ITEM, null, "CHUNK"))
+				.thenReturn("FINAL_CHUNK_PROMPT");
+
+		List<CompletableFuture<GeminiResponse>> futures = IntStream.range(0, 3)
+				.mapToObj(i -> new CompletableFuture<GeminiResponse>())
+				.toList();
+		when(geminiChatAdapter.getResponseAsync(eq("FINAL_CHUNK_PROMPT"), any()))
+				.thenReturn(futures.get(0)).thenReturn(futures.get(1)).thenReturn(futures.get(2));
+		when(geminiChatAdapter.await(eq(futures.get(0)), anyLong()))
+				.thenThrow(new InsightException(InsightError.QUEUE_TIMEOUT));
+
+		// when
+		InsightException exception = assertThrows(InsightException.class, () -> insightFacade.analysis(request, null));
+
+		// then
+		assertEquals(InsightError.QUEUE_TIMEOUT, exception.getError());
+		assertTrue(futures.get(1).isCancelled());
+		assertTrue(futures.get(2).isCancelled());
+		verify(responseCache, never()).put(any(), any());
+	}
+
+	@Test
+	@DisplayName("partition() 최대 청크 수를 넘으면 청크 크기를 늘려 맞춤")
+	void partition_capsChunkCount() {
+
+		// given
+		chunkProperties.setMaxChunks(3);
+		List<UserPrompt> userPrompts = IntStream.range(0, 10).mapToObj(i -> mock(UserPrompt.class)).toList();
+
+		// when
+		List<List<UserPrompt>> chunks = insightFacade.partition(userPrompts);
+
+		// then
+		assertEquals(3, chunks.size());
+		assertEquals(4, chunks.get(0).size());
+		assertEquals(2, chunks.get(2).size());
+	}
+
+	@Test
+	@DisplayName("partition() 최소 항목 수 미만이거나 비활성화 시 분할하지 않음")
+	void partition_belowThresholdOrDisabled_singleChunk() {
+
+		// given
+		List<UserPrompt> small = IntStream.range(0, 3).mapToObj(i -> mock(UserPrompt.class)).toList();
+		List<UserPrompt> large = IntStream.range(0, 6).mapToObj(i -> mock(UserPrompt.class)).toList();
+
+		// when
+		List<List<UserPrompt>> smallChunks = insightFacade.partition(small);
+		chunkProperties.setEnabled(false);
+		List<List<UserPrompt>> disabledChunks = insightFacade.partition(large);
+
+		// then
+		assertEquals(1, smallChunks.size());
+		assertEquals(1, disabledChunks.size());
+		assertSame(large, disabledChunks.get(0));
+	}
+
+	@Test
+	@DisplayName("analysis() 구조화 출력 사용 시 스키마 설명이 빠진 시스템 프롬프트로 조립")
+	void analysis_structuredOutput_usesStructuredSystemPrompt() {
+
+		// given
+		geminiProperties.setStructuredOutput(true);
+		InsightRequest request = InsightRequest.builder()
+				.userId("user-1")
+				.purpose("분석")
+				.userPrompt(List.of(mock(UserPrompt.class)))
+				.build();
+		when(fingerprinter.fingerprint(request)).thenReturn("fingerprint");
+		when(responseCache.keyOf("분석", SystemPrompt.STRUCTURED_MULTI_ITEM, null, "fingerprint")).thenReturn("cache-key");
+		when(promptComposer.getUserPromptBlock("분석", SystemPrompt.STRUCTURED_MULTI_ITEM, null,
+				request.getUserPrompt(), 1)).thenReturn(new UserPromptBlock("#1\ndata=value1", 1, 1));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.STRUCTURED_MULTI_ITEM, null, "#1\ndata=value1"))
+				.thenReturn("FINAL_ANALYSIS_PROMPT");
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightResponse parsed = InsightResponse.builder()
+				.resultCode(200)
+				.insight(InsightDetail.builder().summary("fresh").build())
+				.build();
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse)).thenReturn(parsed);
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertSame(parsed, result);
+			assertFalse(SystemPrompt.STRUCTURED_MULTI_ITEM.contains("\"summary\""));
+		}
+	}
+
+	@Test
+	@DisplayName("analysis() 목적별 프로필이 구조화 출력을 끄면 전역 설정과 무관하게 스키마 설명 포함 프롬프트로 조립")
+	void analysis_purposeProfileWithoutSchema_usesProseSystemPrompt() {
+
+		// given
+		geminiProperties.setStructuredOutput(true);
+		GeminiProperties.GenerationProfile prose = new GeminiProperties.GenerationProfile();
+		prose.setResponseMimeType("text/plain");
+		geminiProperties.setProfiles(Map.of("prose", prose));
+		geminiProperties.setPurposeProfiles(Map.of("분석", "prose"));
+		InsightRequest request = InsightRequest.builder()
+				.userId("user-1")
+				.purpose("분석")
+				.userPrompt(List.of(mock(UserPrompt.class)))
+				.build();
+		when(fingerprinter.fingerprint(request)).thenReturn("fingerprint");
+		when(responseCache.keyOf("분석", SystemPrompt.MULTI_ITEM, null, "fingerprint")).thenReturn("cache-key");
+		when(promptComposer.getUserPromptBlock("분석", SystemPrompt.MULTI_ITEM, null,
+				request.getUserPrompt(), 1)).thenReturn(new UserPromptBlock("#1\ndata=value1", 1, 1));
+		when(promptComposer.getCombinedPrompt("분석", SystemPrompt.MULTI_ITEM, null, "#1\ndata=value1"))
+				.thenReturn("FINAL_ANALYSIS_PROMPT");
+		GeminiResponse geminiResponse = new GeminiResponse(mock(GenerateContentResponse.class), "m01", "gemini-2.5-flash");
+		InsightResponse parsed = InsightResponse.builder()
+				.resultCode(200)
+				.insight(InsightDetail.builder().summary("fresh").build())
+				.build();
+		when(geminiChatAdapter.getResponse(eq("FINAL_ANALYSIS_PROMPT"), any())).thenReturn(geminiResponse);
+
+		try (MockedStatic<GeminiResponseParser> mocked =
+					 Mockito.mockStatic(GeminiResponseParser.class)) {
+			mocked.when(() -> GeminiResponseParser.toInsightResponse(geminiResponse)).thenReturn(parsed);
+
+			// when
+			InsightResponse result = insightFacade.analysis(request, null);
+
+			// then
+			assertSame(parsed, result);
+			assertFalse(geminiProperties.isStructuredOutput("분석"));
+			assertTrue(geminiProperties.isStructuredOutput("기타"));
+		}
+	}
 }
@@ -2,6 +2,7 @@ package com.aiinsightagent.core.parser;
 
 import com.aiinsightagent.core.exception.InsightError;
 import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
 import com.aiinsightagent.core.model.InsightResponse;
 import com.aiinsightagent.core.queue.GeminiResponse;
 import com.google.genai.types.Candidate;
@@ -19,6 +20,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -71,6 +73,88 @@ class GeminiResponseParserTest {
 		verify(contentResponse, times(1)).text();
 	}
 
+	@Test
+	@DisplayName("구조화 출력(JSON 본문만 있는 응답) 파싱 성공 테스트")
+	void toInsightResponse_bareJson_success() {
+
+		// given
+		GenerateContentResponse contentResponse = mock(GenerateContentResponse.class);
+		when(contentResponse.text()).thenReturn("""
+				{"summary":"요약","issueCategories":[],"rootCauseInsights":["원인"],"recommendedActions":["조치"],"priorityScore":42}
+				""");
+		GeminiResponse geminiResponse = new GeminiResponse(contentResponse, "m01", "gemini-2.5-flash");
+
+		// when
+		InsightResponse result = GeminiResponseParser.toInsightResponse(geminiResponse);
+
+		// then
+		assertEquals("요약", result.getInsight().getSummary());
+		assertEquals(42, result.getInsight().getPriorityScore());
+		assertEquals(List.of("원인"), result.getInsight().getRootCauseInsights());
+	}
+
+	@Test
+	@DisplayName("스트리밍 수신 중 파싱된 결과가 있으면 텍스트를 다시 파싱하지 않음")
+	void toInsightResponse_preParsedInsight_skipsTextParsing() {
+
+		// given
+		GenerateContentResponse contentResponse = mock(GenerateContentResponse.class);
+		InsightDetail insight = InsightDetail.builder().summary("스트리밍").priorityScore(10).build();
+		GeminiResponse geminiResponse = new GeminiResponse(contentResponse, "m01", "gemini-2.5-flash", insight);
+
+		// when
+		InsightResponse result = GeminiResponseParser.toInsightResponse(geminiResponse);
+
+		// then
+		assertSame(insight, result.getInsight());
+		verify(contentResponse, never()).text();
+	}
+
+	@Test
+	@DisplayName("잘린 응답 복구 - 완결된 항목만 남긴 부분 결과로 반환")
+	void toPartialInsightResponse_repairsTruncatedJson() {
+
+		// given
+		GenerateContentResponse contentResponse = mock(GenerateContentResponse.class);
+		String truncatedJson = """
+				```json
+				{
+				  "summary": "요약 내용",
+				  "issueCategories": [
+				    {"category": "성능", "description": "응답 지연", "severity": "HIGH"},
+				    {"category": "보안", "descri
+				""";
+		when(contentResponse.text()).thenReturn(truncatedJson);
+		GeminiResponse geminiResponse = new GeminiResponse(contentResponse, "m01", "gemini-2.5-flash");
+
+		// when
+		InsightResponse result = GeminiResponseParser.toPartialInsightResponse(geminiResponse);
+
+		// then
+		assertTrue(result.isPartial());
+		assertEquals(HttpStatus.OK.value(), result.getResultCode());
+		assertEquals("요약 내용", result.getInsight().getSummary());
+		assertEquals(1, result.getInsight().getIssueCategories().size());
+		assertEquals("성능", result.getInsight().getIssueCategories().get(0).getCategory());
+		assertNull(result.getInsight().getRootCauseInsights());
+	}
+
+	@Test
+	@DisplayName("잘린 응답 복구 - 살릴 내용이 없으면 RESPONSE_TRUNCATED")
+	void toPartialInsightResponse_nothingSalvaged_throwsResponseTruncated() {
+
+		// given
+		GenerateContentResponse contentResponse = mock(GenerateContentResponse.class);
+		when(contentResponse.text()).thenReturn("```json\n{\"issueCategories\": [{\"category\": \"성");
+		GeminiResponse geminiResponse = new GeminiResponse(contentResponse, "m01", "gemini-2.5-flash");
+
+		// when & then
+		InsightException exception = assertThrows(InsightException.class,
+				() -> GeminiResponseParser.toPartialInsightResponse(geminiResponse));
+
+		assertEquals(InsightError.RESPONSE_TRUNCATED.getCode(), exception.getError().getCode());
+	}
+
 	@Nested
 	@DisplayName("EMPTY_GEMINI_RESPONSE 에러 테스트")
 	class EmptyResponseTest {
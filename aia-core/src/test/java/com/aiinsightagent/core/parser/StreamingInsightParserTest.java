@@ -0,0 +1,117 @@
+package com.aiinsightagent.core.parser;
+
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.InsightDetail;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingInsightParserTest {
+	private static final String RESPONSE = """
+			```json
+			{"summary":"페이스 저하 \\"주의\\"","issueCategories":[{"category":"pace","description":"후반 급감","severity":"HIGH","extra":{"a":[1]}}],\
+			"rootCauseInsights":["수면 부족","과훈련"],"recommendedActions":["휴식 🏃"],"unknown":[{"x":1}],"priorityScore":72}
+			```
+			""";
+
+	private static InsightDetail parseInChunks(String text, int chunkSize) {
+		StreamingInsightParser parser = new StreamingInsightParser();
+		for (int i = 0; i < text.length(); i += chunkSize) {
+			parser.feed(text.substring(i, Math.min(text.length(), i + chunkSize)));
+		}
+		return parser.finish();
+	}
+
+	@Test
+	@DisplayName("feed/finish - 조각 크기와 무관하게 코드블록을 건너뛰고 모든 필드 파싱")
+	void feed_anyChunkSize_parsesAllFields() {
+		for (int chunkSize : new int[]{1, 2, 3, 7, 64, RESPONSE.length()}) {
+			// when
+			InsightDetail detail = parseInChunks(RESPONSE, chunkSize);
+
+			// then
+			assertEquals("페이스 저하 \"주의\"", detail.getSummary(), "chunkSize=" + chunkSize);
+			assertEquals(1, detail.getIssueCategories().size());
+			assertEquals("pace", detail.getIssueCategories().get(0).getCategory());
+			assertEquals("HIGH", detail.getIssueCategories().get(0).getSeverity());
+			assertEquals(List.of("수면 부족", "과훈련"), detail.getRootCauseInsights());
+			assertEquals(List.of("휴식 🏃"), detail.getRecommendedActions());
+			assertEquals(72, detail.getPriorityScore());
+		}
+	}
+
+	@Test
+	@DisplayName("snapshot - 수신한 필드까지 점진적으로 채워짐")
+	void snapshot_fillsProgressively() {
+		// given
+		StreamingInsightParser parser = new StreamingInsightParser();
+
+		// when
+		parser.feed("{\"summary\":\"요약\",\"rootCauseInsights\":[\"원인1\",");
+		InsightDetail partial = parser.snapshot();
+
+		// then
+		assertFalse(parser.isComplete());
+		assertEquals("요약", partial.getSummary());
+		assertEquals(List.of("원인1"), partial.getRootCauseInsights());
+	}
+
+	@Test
+	@DisplayName("feed/finish - 필드 이름 없는 배열/예상과 다른 값 구조는 무시하고 나머지 필드 파싱")
+	void feed_unexpectedStructure_skipped() {
+		// given
+		String text = "{\"summary\":\"요약\",\"issueCategories\":[[\"x\"],{\"severity\":\"LOW\"}],"
+				+ "\"rootCauseInsights\":{\"a\":\"b\"},\"recommendedActions\":[\"휴식\"],\"priorityScore\":5}";
+
+		// when
+		InsightDetail detail = parseInChunks(text, 3);
+
+		// then
+		assertEquals("요약", detail.getSummary());
+		assertEquals(1, detail.getIssueCategories().size());
+		assertEquals("LOW", detail.getIssueCategories().get(0).getSeverity());
+		assertEquals(List.of("휴식"), detail.getRecommendedActions());
+		assertEquals(5, detail.getPriorityScore());
+		assertDoesNotThrow(() -> new StreamingInsightParser().feed("[[\"a\"]]"));
+	}
+
+	@Test
+	@DisplayName("feed - 잘못된 JSON 은 해당 조각 입력 시점에 즉시 실패")
+	void feed_malformed_failsImmediately() {
+		// given
+		StreamingInsightParser parser = new StreamingInsightParser();
+		parser.feed("{\"summary\":\"요약\",");
+
+		// when & then
+		InsightException exception = assertThrows(InsightException.class, () -> parser.feed("\"priorityScore\" 10}"));
+		assertEquals(InsightError.FAIL_JSON_PARSING, exception.getError());
+	}
+
+	@Test
+	@DisplayName("finish - 루트 객체가 닫히지 않으면 RESPONSE_TRUNCATED")
+	void finish_unclosedRoot_truncated() {
+		// given
+		StreamingInsightParser parser = new StreamingInsightParser();
+		parser.feed("{\"summary\":\"요약\",\"rootCauseInsights\":[\"원");
+
+		// when & then
+		InsightException exception = assertThrows(InsightException.class, parser::finish);
+		assertEquals(InsightError.RESPONSE_TRUNCATED, exception.getError());
+	}
+
+	@Test
+	@DisplayName("finish - JSON 이 없으면 빈 응답은 EMPTY_GEMINI_RESPONSE, 텍스트만 있으면 FAIL_JSON_PARSING")
+	void finish_noJson() {
+		StreamingInsightParser empty = new StreamingInsightParser();
+		empty.feed("  \n");
+		assertEquals(InsightError.EMPTY_GEMINI_RESPONSE, assertThrows(InsightException.class, empty::finish).getError());
+
+		StreamingInsightParser textOnly = new StreamingInsightParser();
+		textOnly.feed("분석할 수 없습니다.");
+		assertEquals(InsightError.FAIL_JSON_PARSING, assertThrows(InsightException.class, textOnly::finish).getError());
+	}
+}
@@ -0,0 +1,125 @@
+package com.aiinsightagent.core.preprocess;
+
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.IssueCategory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LLM 응답 JSON 추출 + 파싱 비교 (기존 문자열 복사/4회 괄호 카운트 vs 단일 스캔 + Reader 뷰)
+ * - 기본 test 에서 제외되며 benchmark 태스크로 실행
+ */
+@Tag("benchmark")
+class JsonExtractionBenchmark {
+	private static final int WARMUP_ITERATIONS = 3_000;
+	private static final int MEASURE_ITERATIONS = 10_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("코드블록으로 감싼 실제 형태 응답 - 요청당 지연/할당 비교")
+	void compareExtraction() throws Exception {
+		com.sun.management.ThreadMXBean threadBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+		System.out.printf("%8s | %12s | %12s | %12s | %12s%n",
+				"chars", "legacy us", "scan us", "legacy B/op", "scan B/op");
+
+		for (int items : new int[]{5, 50, 300}) {
+			String raw = "```json\n" + objectMapper.writerWithDefaultPrettyPrinter()
+					.writeValueAsString(sampleInsight(items)) + "\n```\n";
+
+			assertEquals(legacy(raw).getSummary(), scanned(raw).getSummary());
+
+			long[] legacyResult = measure(threadBean, () -> legacy(raw));
+			long[] scanResult = measure(threadBean, () -> scanned(raw));
+
+			System.out.printf("%8d | %12.2f | %12.2f | %12d | %12d%n",
+					raw.length(), legacyResult[1] / 1_000.0, scanResult[1] / 1_000.0, legacyResult[0], scanResult[0]);
+
+			assertTrue(scanResult[0] < legacyResult[0]);
+		}
+	}
+
+	/**
+	 * 기존 방식 - trim/replace/substring 복사 후 readValue, 실패 대비 괄호 카운트 4회
+	 */
+	private InsightDetail legacy(String text) throws Exception {
+		String cleaned = text.trim();
+		if (cleaned.startsWith("```")) {
+			cleaned = cleaned.replace("```json", "").replace("```", "").trim();
+		}
+		int start = cleaned.indexOf("{");
+		int end = cleaned.lastIndexOf("}");
+		if (start >= 0 && end > start) {
+			cleaned = cleaned.substring(start, end + 1);
+		}
+		String pureJson = cleaned.trim();
+
+		String trimmed = text.trim();
+		long open = trimmed.chars().filter(ch -> ch == '{').count();
+		long close = trimmed.chars().filter(ch -> ch == '}').count();
+		long openBracket = trimmed.chars().filter(ch -> ch == '[').count();
+		long closeBracket = trimmed.chars().filter(ch -> ch == ']').count();
+		assertTrue(open >= close && openBracket >= closeBracket);
+
+		return objectMapper.readValue(pureJson, InsightDetail.class);
+	}
+
+	private InsightDetail scanned(String text) throws Exception {
+		JsonSpan span = LlmJsonPreprocessor.scan(text);
+		assertTrue(span.isComplete());
+		try (Reader reader = span.reader()) {
+			return objectMapper.readValue(reader, InsightDetail.class);
+		}
+	}
+
+	/**
+	 * @return [요청당 할당 바이트, 요청당 나노초]
+	 */
+	private static long[] measure(com.sun.management.ThreadMXBean threadBean, Extraction extraction) throws Exception {
+		long sink = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink += extraction.run().getPriorityScore();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+			sink += extraction.run().getPriorityScore();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		assertTrue(sink > 0);
+		return new long[]{allocated / MEASURE_ITERATIONS, elapsed / MEASURE_ITERATIONS};
+	}
+
+	private static InsightDetail sampleInsight(int items) {
+		List<IssueCategory> categories = new ArrayList<>();
+		List<String> insights = new ArrayList<>();
+		List<String> actions = new ArrayList<>();
+		for (int i = 0; i < items; i++) {
+			categories.add(new IssueCategory("페이스-" + i, "후반 " + i + "km 구간 페이스 {급감} 및 \"심박\" 상승", "HIGH"));
+			insights.add("세션 #" + i + " 에서 수면 부족과 누적 피로로 인한 [회복 지연]이 관찰됨");
+			actions.add("다음 " + i + "회 세션은 존2 강도로 유지하고 인터벌 횟수를 줄일 것");
+		}
+		return new InsightDetail("주간 러닝 데이터 요약 - 전반적으로 후반 페이스 저하가 반복됨",
+				categories, insights, actions, 72);
+	}
+
+	@FunctionalInterface
+	private interface Extraction {
+		InsightDetail run() throws Exception;
+	}
+}
@@ -3,6 +3,9 @@ package com.aiinsightagent.core.preprocess;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.Reader;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class LlmJsonPreprocessorTest {
@@ -82,4 +85,114 @@ class LlmJsonPreprocessorTest {
 		// then
 		assertEquals(raw.trim(), result);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("scan - 문자열 내부 괄호/이스케이프 따옴표는 무시하고 루트 객체 종료 위치에서 멈춤")
+	void scan_stringAware_stopsAtRootClose() {
+
+		// given
+		String json = "{\"summary\":\"괄호 } 와 \\\"따옴표{\\\" 포함\",\"items\":[{\"a\":\"]\"}]}";
+		String raw = "```json\n" + json + "\n```\n참고: {추가 설명}";
+
+		// when
+		JsonSpan span = LlmJsonPreprocessor.scan(raw);
+
+		// then
+		assertTrue(span.isComplete());
+		assertFalse(span.isTruncated());
+		assertEquals(json, span.toString());
+		assertEquals(json, LlmJsonPreprocessor.extractPureJson(raw));
+	}
+
+	@Test
+	@DisplayName("scan - 루트 객체가 닫히지 않으면 절단으로 판정")
+	void scan_unclosedRoot_truncated() {
+
+		// when
+		JsonSpan span = LlmJsonPreprocessor.scan("```json\n{\"issueCategories\":[{\"category\":\"성능\"},{\"category\":\"보");
+
+		// then
+		assertTrue(span.isTruncated());
+		assertFalse(span.isComplete());
+	}
+
+	@Test
+	@DisplayName("scan - '{' 가 없으면 빈 구간")
+	void scan_noBrace_empty() {
+		assertTrue(LlmJsonPreprocessor.scan("분석할 수 없습니다.").isEmpty());
+		assertTrue(LlmJsonPreprocessor.scan(null).isEmpty());
+		assertFalse(LlmJsonPreprocessor.scan(null).isTruncated());
+	}
+
+	@Test
+	@DisplayName("JsonSpan.reader - 원본 구간만 읽음")
+	void reader_readsSpanOnly() throws IOException {
+
+		// given
+		JsonSpan span = LlmJsonPreprocessor.scan(new StringBuilder("앞 {\"a\":1} 뒤"));
+		char[] buffer = new char[32];
+
+		// when
+		int read;
+		try (Reader reader = span.reader()) {
+			read = reader.read(buffer, 0, buffer.length);
+			assertEquals(-1, reader.read(buffer, 0, buffer.length));
+		}
+
+		// then
+		assertEquals("{\"a\":1}", new String(buffer, 0, read));
+	}
+
+	@Test
+	@DisplayName("repair - 잘린 배열 원소(중첩 객체)는 버리고 열린 배열/객체를 닫음")
+	void repair_dropsIncompleteArrayElement() {
+
+		// given
+		String raw = "```json\n{\"summary\":\"요약\",\"issueCategories\":[{\"category\":\"성능\",\"severity\":\"HIGH\"},"
+				+ "{\"category\":\"보안\",\"description\":\"토큰 {만료";
+
+		// when
+		String repaired = LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan(raw));
+
+		// then
+		assertEquals("{\"summary\":\"요약\",\"issueCategories\":[{\"category\":\"성능\",\"severity\":\"HIGH\"}]}", repaired);
+	}
+
+	@Test
+	@DisplayName("repair - 루트 필드 문자열 값이 잘리면 문자열을 닫아 내용 유지 (미완성 이스케이프 제외)")
+	void repair_closesRootStringValue() {
+		assertEquals("{\"rootCauseInsights\":[\"a\"],\"summary\":\"후반 페이스\"}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"rootCauseInsights\":[\"a\"],\"summary\":\"후반 페이스")));
+		assertEquals("{\"summary\":\"따옴표 \\\"\"}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"summary\":\"따옴표 \\\"\\")));
+		assertEquals("{\"summary\":\"코드 \"}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"summary\":\"코드 \\u00")));
+	}
+
+	@Test
+	@DisplayName("repair - 잘린 배열 문자열 원소/숫자/키는 버림")
+	void repair_dropsIncompleteTrailingValues() {
+		assertEquals("{\"recommendedActions\":[\"a\"]}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"recommendedActions\":[\"a\", \"b")));
+		assertEquals("{\"summary\":\"s\"}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"summary\":\"s\",\"priorityScore\": 7")));
+		assertEquals("{\"priorityScore\": 70}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"priorityScore\": 70,\n  \"recommended")));
+		assertEquals("{\"summary\":\"s\"}",
+				LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"summary\":\"s\",\"meta\":{\"a\":1,")));
+	}
+
+	@Test
+	@DisplayName("repair - 완결된 구간은 그대로, '{' 가 없으면 null")
+	void repair_completeOrEmpty() {
+		assertEquals("{\"a\":1}", LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("```json\n{\"a\":1}\n```")));
+		assertNull(LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("분석 불가")));
+	}
+
+	@Test
+	@DisplayName("repair - 괄호 짝이 어긋나거나 여는 괄호보다 많이 닫으면 null")
+	void repair_mismatchedClosers() {
+		assertNull(LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{]]{")));
+		assertNull(LlmJsonPreprocessor.repair(LlmJsonPreprocessor.scan("{\"a\":[1}, \"b\":")));
+	}
+}
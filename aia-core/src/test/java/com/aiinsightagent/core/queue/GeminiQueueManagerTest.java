@@ -1,8 +1,10 @@
 package com.aiinsightagent.core.queue;
 
+import com.aiinsightagent.core.cache.GeminiContextCache;
 import com.aiinsightagent.core.config.GeminiProperties;
 import com.aiinsightagent.core.config.RequestQueueProperties;
 import com.google.genai.Models;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,12 +39,17 @@ class GeminiQueueManagerTest {
 	@Mock
 	private RequestQueueProperties queueProperties;
 
+	@Mock
+	private GeminiContextCache contextCache;
+
 	private List<Models> geminiModelsList;
 	private GeminiQueueManager queueManager;
 
 	@BeforeEach
 	void setUp() {
 		geminiModelsList = new ArrayList<>();
+		lenient().when(geminiProperties.resolveProfile(any(), any()))
+				.thenReturn(new GeminiProperties.GenerationProfile());
 	}
 
 	@AfterEach
@@ -74,7 +82,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
 		// when
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// then
@@ -111,7 +120,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
 		// when
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// then
@@ -181,7 +191,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
 		// when
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// then
@@ -204,7 +215,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when
@@ -230,7 +242,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		String testPrompt = "테스트 프롬프트";
@@ -263,7 +276,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(100);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when
@@ -296,7 +310,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(1); // 최소 용량
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when - 빠르게 여러 요청을 보내서 큐 용량 초과 유도
@@ -340,7 +355,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 		queueManager.shutdown(); // 종료 상태로 전환
 
@@ -372,7 +388,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		String expectedPrompt = "이것은_테스트_프롬프트입니다_" + System.currentTimeMillis();
@@ -442,13 +459,12 @@ class GeminiQueueManagerTest {
 		}
 
 		when(geminiProperties.getValidModels()).thenReturn(modelConfigs);
-		when(geminiProperties.getMaxOutputTokens()).thenReturn(null);
-		when(geminiProperties.getTemperature()).thenReturn(0.0);
 		when(queueProperties.getWorkerCount()).thenReturn(workerCount);
 		when(queueProperties.getQueueCapacity()).thenReturn(100);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(10);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when - 요청 제출
@@ -499,14 +515,13 @@ class GeminiQueueManagerTest {
 		when(config.getId()).thenReturn("m01");
 		when(config.getName()).thenReturn("gemini-2.5-flash");
 		when(geminiProperties.getValidModels()).thenReturn(List.of(config));
-		when(geminiProperties.getMaxOutputTokens()).thenReturn(null);
-		when(geminiProperties.getTemperature()).thenReturn(0.0);
 
 		when(queueProperties.getWorkerCount()).thenReturn(1);
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(10); // 충분한 시간
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when - 요청 제출 후 바로 shutdown
@@ -540,14 +555,13 @@ class GeminiQueueManagerTest {
 		when(config.getId()).thenReturn("m01");
 		when(config.getName()).thenReturn("gemini-2.5-flash");
 		when(geminiProperties.getValidModels()).thenReturn(List.of(config));
-		when(geminiProperties.getMaxOutputTokens()).thenReturn(null);
-		when(geminiProperties.getTemperature()).thenReturn(0.0);
 
 		when(queueProperties.getWorkerCount()).thenReturn(1);
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(10); // 충분한 시간
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when - 여러 요청 제출 후 shutdown
@@ -586,14 +600,13 @@ class GeminiQueueManagerTest {
 		when(config.getId()).thenReturn("m01");
 		when(config.getName()).thenReturn("gemini-2.5-flash");
 		when(geminiProperties.getValidModels()).thenReturn(List.of(config));
-		when(geminiProperties.getMaxOutputTokens()).thenReturn(null);
-		when(geminiProperties.getTemperature()).thenReturn(0.0);
 
 		when(queueProperties.getWorkerCount()).thenReturn(1); // 워커 1개
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(1); // 짧은 타임아웃
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 
 		// when - 여러 요청 제출 (워커 1개이므로 첫 번째만 처리 중, 나머지는 큐 대기)
@@ -646,7 +659,8 @@ class GeminiQueueManagerTest {
 		when(queueProperties.getQueueCapacity()).thenReturn(10);
 		when(queueProperties.getShutdownTimeoutSeconds()).thenReturn(5);
 
-		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties);
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
 		queueManager.init();
 		queueManager.shutdown();
 
@@ -662,6 +676,23 @@ class GeminiQueueManagerTest {
 				"IllegalStateException이 발생해야 함");
 	}
 
+	@Test
+	@DisplayName("await(future, deadline) - 마감 시각이 지나면 추가 대기 없이 시간 초과, 완료된 결과는 반환")
+	void await_deadlinePassed_timesOutImmediately() throws Exception {
+
+		// given
+		queueManager = new GeminiQueueManager(geminiModelsList, geminiProperties, queueProperties, contextCache,
+				new SimpleMeterRegistry(), List.of());
+		long deadline = System.nanoTime() - 1;
+		GeminiResponse done = new GeminiResponse(null, "m01", "gemini-2.5-flash");
+
+		// when & then
+		long start = System.nanoTime();
+		assertThrows(TimeoutException.class, () -> queueManager.await(new CompletableFuture<>(), deadline));
+		assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+		assertSame(done, queueManager.await(CompletableFuture.completedFuture(done), deadline));
+	}
+
 	/**
 	 * 리플렉션으로 requestQueue 필드에 접근
 	 */
@@ -0,0 +1,529 @@
+package com.aiinsightagent.core.queue;
+
+import com.aiinsightagent.core.cache.GeminiContextCache;
+import com.aiinsightagent.core.config.GeminiProperties;
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.TokenUsageRecord;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
+import com.google.genai.Models;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.Candidate;
+import com.google.genai.types.Content;
+import com.google.genai.types.FinishReason;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+import com.google.genai.types.GenerateContentResponseUsageMetadata;
+import com.google.genai.types.Part;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GeminiWorkerTest {
+
+	@Mock
+	private Models models;
+
+	@Mock
+	private GeminiContextCache contextCache;
+
+	@Mock
+	private GenerateContentResponse contentResponse;
+
+	@Mock
+	private TokenUsageRecorder usageRecorder;
+
+	private GeminiProperties.ModelConfig modelConfig;
+	private GeminiProperties geminiProperties;
+	private SimpleMeterRegistry meterRegistry;
+	private GeminiWorker worker;
+
+	@BeforeEach
+	void setUp() {
+		modelConfig = new GeminiProperties.ModelConfig();
+		modelConfig.setId("m00");
+		modelConfig.setName("gemini-2.5-flash");
+		modelConfig.setApiKey("key");
+
+		geminiProperties = new GeminiProperties() {
+		};
+		geminiProperties.setMaxOutputTokens(1024);
+		meterRegistry = new SimpleMeterRegistry();
+
+		worker = new GeminiWorker("gemini-worker-0", modelConfig, new LinkedBlockingQueue<>(),
+				models, geminiProperties, contextCache, meterRegistry, usageRecorder, new AtomicBoolean(true));
+	}
+
+	@Test
+	@DisplayName("processRequest - 컨텍스트 캐시가 있으면 cachedContent 와 body 만 전송")
+	void processRequest_withCachedContent_sendsBodyOnly() throws Exception {
+		// given
+		PromptPrefix prefix = new PromptPrefix("actor:user-1", "SYSTEM+CONTEXT", "BODY");
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", prefixed(prefix), null, "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+
+		when(contextCache.resolve(modelConfig, prefix)).thenReturn("cachedContents/abc");
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("BODY"), configCaptor.capture()))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertSame(contentResponse, request.getFuture().get().getResponse());
+		assertEquals("cachedContents/abc", configCaptor.getValue().cachedContent().orElseThrow());
+		verify(models, never()).generateContent(anyString(), eq("FULL_PROMPT"), any(GenerateContentConfig.class));
+	}
+
+	@Test
+	@DisplayName("processRequest - 캐시 사용 호출 실패 시 캐시 제거 후 전체 프롬프트로 재시도")
+	void processRequest_cachedContentFails_retriesWithFullPrompt() throws Exception {
+		// given
+		PromptPrefix prefix = new PromptPrefix("actor:user-1", "SYSTEM+CONTEXT", "BODY");
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", prefixed(prefix), null, "trace-1");
+
+		when(contextCache.resolve(modelConfig, prefix)).thenReturn("cachedContents/expired");
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("BODY"), any(GenerateContentConfig.class)))
+				.thenThrow(new RuntimeException("CachedContent not found"));
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertSame(contentResponse, request.getFuture().get().getResponse());
+		verify(contextCache).evict(modelConfig, prefix, "cachedContents/expired");
+	}
+
+	@Test
+	@DisplayName("processRequest - 프리픽스가 없으면 캐시 조회 없이 전체 프롬프트 전송")
+	void processRequest_withoutPrefix_sendsFullPrompt() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), configCaptor.capture()))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertSame(contentResponse, request.getFuture().get().getResponse());
+		assertTrue(configCaptor.getValue().cachedContent().isEmpty());
+		verifyNoInteractions(contextCache);
+	}
+
+	@Test
+	@DisplayName("processRequest - 대기 중 취소된 요청은 API 호출 없이 건너뜀")
+	void processRequest_cancelled_skipsApiCall() {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		request.getFuture().cancel(false);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertTrue(request.getFuture().isCancelled());
+		verifyNoInteractions(models, contextCache, usageRecorder);
+	}
+
+	@Test
+	@DisplayName("processRequest - 구조화 출력 사용 시 JSON MIME 타입과 InsightDetail 스키마 요청")
+	void processRequest_structuredOutput_setsResponseSchema() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), configCaptor.capture()))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		GenerateContentConfig config = configCaptor.getValue();
+		assertEquals("application/json", config.responseMimeType().orElseThrow());
+		assertTrue(config.responseSchema().orElseThrow().properties().orElseThrow().containsKey("priorityScore"));
+	}
+
+	@Test
+	@DisplayName("processRequest - 구조화 출력 미사용 시 응답 스키마 미지정")
+	void processRequest_structuredOutputDisabled_noResponseSchema() throws Exception {
+		// given
+		geminiProperties.setStructuredOutput(false);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), configCaptor.capture()))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertTrue(configCaptor.getValue().responseMimeType().isEmpty());
+		assertTrue(configCaptor.getValue().responseSchema().isEmpty());
+	}
+
+	private static GenerateContentResponse chunk(String text) {
+		return GenerateContentResponse.builder()
+				.candidates(Candidate.builder().content(Content.fromParts(Part.fromText(text))).build())
+				.build();
+	}
+
+	@SuppressWarnings("unchecked")
+	private ResponseStream<GenerateContentResponse> streamOf(GenerateContentResponse... chunks) {
+		ResponseStream<GenerateContentResponse> stream = mock(ResponseStream.class);
+		when(stream.iterator()).thenReturn(List.of(chunks).iterator());
+		return stream;
+	}
+
+	@Test
+	@DisplayName("processRequest - 스트리밍 사용 시 조각을 이어 파싱한 결과와 전체 텍스트를 함께 반환")
+	void processRequest_streaming_parsesChunks() throws Exception {
+		// given
+		geminiProperties.setStreamResponse(true);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		GenerateContentResponse last = GenerateContentResponse.builder()
+				.candidates(Candidate.builder()
+						.content(Content.fromParts(Part.fromText("\"priorityScore\":30}")))
+						.finishReason(FinishReason.Known.STOP)
+						.build())
+				.build();
+		ResponseStream<GenerateContentResponse> stream = streamOf(
+				chunk("{\"summary\":\"요"), chunk("약\",\"rootCauseInsights\":[\"원인\"],"), last);
+
+		when(models.generateContentStream(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(stream);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		GeminiResponse response = request.getFuture().get();
+		assertEquals("요약", response.getInsight().getSummary());
+		assertEquals(30, response.getInsight().getPriorityScore());
+		assertEquals("{\"summary\":\"요약\",\"rootCauseInsights\":[\"원인\"],\"priorityScore\":30}",
+				response.getResponse().text());
+		assertEquals("STOP", response.getResponse().finishReason().toString());
+		verify(stream).close();
+		verify(models, never()).generateContent(anyString(), anyString(), any(GenerateContentConfig.class));
+	}
+
+	@Test
+	@DisplayName("processRequest - 스트리밍 중 잘못된 JSON 이면 나머지 조각을 읽지 않고 즉시 실패")
+	void processRequest_streamingMalformed_failsFast() {
+		// given
+		geminiProperties.setStreamResponse(true);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		GenerateContentResponse never = mock(GenerateContentResponse.class);
+		ResponseStream<GenerateContentResponse> stream = streamOf(chunk("{\"summary\" 1"), never);
+
+		when(models.generateContentStream(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(stream);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		ExecutionException exception = assertThrows(ExecutionException.class, () -> request.getFuture().get());
+		assertEquals(InsightError.FAIL_JSON_PARSING, ((InsightException) exception.getCause()).getError());
+		verifyNoInteractions(never);
+		verify(stream).close();
+	}
+
+	@Test
+	@DisplayName("processRequest - 스트림이 루트 객체를 닫지 못하고 끝나면 파싱 결과 없이 전체 텍스트만 반환")
+	void processRequest_streamingUnclosed_returnsTextOnly() throws Exception {
+		// given
+		geminiProperties.setStreamResponse(true);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ResponseStream<GenerateContentResponse> stream = streamOf(chunk("{\"summary\":\"요"));
+
+		when(models.generateContentStream(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(stream);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		GeminiResponse response = request.getFuture().get();
+		assertNull(response.getInsight());
+		assertEquals("{\"summary\":\"요", response.getResponse().text());
+	}
+
+	private static GenerateContentResponse finished(String text, FinishReason.Known reason, int candidateTokens) {
+		return GenerateContentResponse.builder()
+				.candidates(Candidate.builder()
+						.content(Content.fromParts(Part.fromText(text)))
+						.finishReason(reason)
+						.build())
+				.usageMetadata(GenerateContentResponseUsageMetadata.builder()
+						.promptTokenCount(100)
+						.candidatesTokenCount(candidateTokens)
+						.totalTokenCount(100 + candidateTokens)
+						.build())
+				.build();
+	}
+
+	@Test
+	@DisplayName("processRequest - MAX_TOKENS 로 잘리면 이어 쓰기 턴으로 나머지만 받아 이어 붙임")
+	@SuppressWarnings("unchecked")
+	void processRequest_truncated_continuesAndStitches() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ArgumentCaptor<List<Content>> contentsCaptor = ArgumentCaptor.forClass(List.class);
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(finished("{\"summary\":\"주간 후반 구간에서 페이스 저하가 반복", FinishReason.Known.MAX_TOKENS, 10));
+		when(models.generateContent(eq("gemini-2.5-flash"), contentsCaptor.capture(), configCaptor.capture()))
+				.thenReturn(finished("```json\n후반 구간에서 페이스 저하가 반복됨\",\"priorityScore\":70}", FinishReason.Known.STOP, 5));
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		GenerateContentResponse response = request.getFuture().get().getResponse();
+		assertEquals("{\"summary\":\"주간 후반 구간에서 페이스 저하가 반복됨\",\"priorityScore\":70}", response.text());
+		assertEquals("STOP", response.finishReason().toString());
+		assertEquals(15, response.usageMetadata().orElseThrow().candidatesTokenCount().orElseThrow());
+		assertEquals(200, response.usageMetadata().orElseThrow().promptTokenCount().orElseThrow());
+
+		List<Content> contents = contentsCaptor.getValue();
+		assertEquals(List.of("user", "model", "user"),
+				contents.stream().map(content -> content.role().orElseThrow()).toList());
+		assertEquals("{\"summary\":\"주간 후반 구간에서 페이스 저하가 반복", contents.get(1).text());
+		assertTrue(configCaptor.getValue().responseSchema().isEmpty());
+	}
+
+	@Test
+	@DisplayName("processRequest - 이어 쓰기 횟수를 모두 쓰면 잘린 결과 그대로 반환")
+	void processRequest_truncated_stopsAtMaxContinuations() throws Exception {
+		// given
+		geminiProperties.setMaxContinuations(1);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(finished("{\"summary\":\"a", FinishReason.Known.MAX_TOKENS, 10));
+		when(models.generateContent(eq("gemini-2.5-flash"), anyList(), any(GenerateContentConfig.class)))
+				.thenReturn(finished("b", FinishReason.Known.MAX_TOKENS, 10));
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		GenerateContentResponse response = request.getFuture().get().getResponse();
+		assertEquals("{\"summary\":\"ab", response.text());
+		assertEquals("MAX_TOKENS", response.finishReason().toString());
+		verify(models, times(1)).generateContent(eq("gemini-2.5-flash"), anyList(), any(GenerateContentConfig.class));
+	}
+
+	@Test
+	@DisplayName("processRequest - 이어 쓰기 비활성화 시 추가 호출 없음")
+	void processRequest_truncated_continuationDisabled() throws Exception {
+		// given
+		geminiProperties.setMaxContinuations(0);
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		GenerateContentResponse truncated = finished("{\"summary\":\"a", FinishReason.Known.MAX_TOKENS, 10);
+
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(truncated);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertSame(truncated, request.getFuture().get().getResponse());
+		verify(models, never()).generateContent(anyString(), anyList(), any(GenerateContentConfig.class));
+	}
+
+	@Test
+	@DisplayName("processRequest - 목적에 매핑된 생성 프로필로 호출하고 지연/토큰 메트릭에 프로필 태그 기록")
+	void processRequest_purposeProfile_appliesThinkingBudgetAndTagsMetrics() throws Exception {
+		// given
+		GeminiProperties.GenerationProfile fast = new GeminiProperties.GenerationProfile();
+		fast.setThinkingBudget(0);
+		fast.setMaxOutputTokens(2048);
+		geminiProperties.setProfiles(Map.of("fast", fast));
+		geminiProperties.setPurposeProfiles(Map.of("running_style_analysis", "fast"));
+
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", purpose("running_style_analysis"), null, "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), configCaptor.capture()))
+				.thenReturn(finished("{}", FinishReason.Known.STOP, 7));
+
+		// when
+		worker.processRequest(request);
+		worker.processRequest(new GeminiRequest("FULL_PROMPT", purpose("running_style_analysis"), null, "trace-2"));
+
+		// then
+		GenerateContentConfig config = configCaptor.getValue();
+		assertEquals(0, config.thinkingConfig().orElseThrow().thinkingBudget().orElseThrow());
+		assertEquals(2048, config.maxOutputTokens().orElseThrow());
+		assertEquals("application/json", config.responseMimeType().orElseThrow());
+		// 같은 프로필은 한 번 구성한 설정을 재사용
+		assertSame(configCaptor.getAllValues().get(0), configCaptor.getAllValues().get(1));
+
+		assertEquals(2, meterRegistry.get(GeminiWorker.LATENCY_METRIC_NAME)
+				.tags("model", "gemini-2.5-flash", "profile", "fast", "outcome", "success").timer().count());
+		assertEquals(14.0, meterRegistry.get(GeminiWorker.TOKENS_METRIC_NAME)
+				.tags("profile", "fast", "type", "completion").summary().totalAmount());
+	}
+
+	@Test
+	@DisplayName("processRequest - 목적이 없으면 전역 설정 기반 default 프로필 사용")
+	void processRequest_noPurpose_usesDefaultProfile() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		ArgumentCaptor<GenerateContentConfig> configCaptor = ArgumentCaptor.forClass(GenerateContentConfig.class);
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), configCaptor.capture()))
+				.thenReturn(contentResponse);
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		assertEquals(1024, configCaptor.getValue().maxOutputTokens().orElseThrow());
+		assertTrue(configCaptor.getValue().thinkingConfig().isEmpty());
+		assertEquals(1, meterRegistry.get(GeminiWorker.LATENCY_METRIC_NAME)
+				.tags("profile", GeminiProperties.DEFAULT_PROFILE).timer().count());
+	}
+
+	@Test
+	@DisplayName("processRequest - 성공 시 주체/목적/모델 키/토큰/지연을 토큰 원장으로 전달")
+	void processRequest_success_recordsTokenUsage() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", purpose("running_style_analysis"), "user-1", "trace-1");
+		ArgumentCaptor<TokenUsageRecord> recordCaptor = ArgumentCaptor.forClass(TokenUsageRecord.class);
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(finished("{}", FinishReason.Known.STOP, 7));
+
+		// when
+		worker.processRequest(request);
+
+		// then
+		verify(usageRecorder).record(recordCaptor.capture());
+		TokenUsageRecord record = recordCaptor.getValue();
+		assertEquals("trace-1", record.getTraceId());
+		assertEquals("user-1", record.getActorKey());
+		assertEquals("running_style_analysis", record.getPurpose());
+		assertEquals(GeminiProperties.DEFAULT_PROFILE, record.getProfile());
+		assertEquals("m00", record.getModelId());
+		assertEquals(100, record.getPromptTokens());
+		assertEquals(7, record.getCompletionTokens());
+		assertEquals(107, record.getTotalTokens());
+		assertTrue(record.getApiTimeMs() >= 0);
+		assertNotNull(record.getCreatedAt());
+	}
+
+	@Test
+	@DisplayName("processRequest - 토큰 원장 기록 실패는 응답에 영향 없음, 호출 실패는 기록하지 않음")
+	void processRequest_recorderFailure_doesNotAffectResponse() throws Exception {
+		// given
+		GeminiRequest request = new GeminiRequest("FULL_PROMPT", "trace-1");
+		GeminiRequest failing = new GeminiRequest("FAIL_PROMPT", "trace-2");
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FULL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenReturn(contentResponse);
+		when(models.generateContent(eq("gemini-2.5-flash"), eq("FAIL_PROMPT"), any(GenerateContentConfig.class)))
+				.thenThrow(new RuntimeException("quota"));
+		doThrow(new IllegalStateException("ledger down")).when(usageRecorder).record(any());
+
+		// when
+		worker.processRequest(request);
+		worker.processRequest(failing);
+
+		// then
+		assertSame(contentResponse, request.getFuture().get().getResponse());
+		assertTrue(failing.getFuture().isCompletedExceptionally());
+		verify(usageRecorder, times(1)).record(any());
+	}
+
+	@Test
+	@DisplayName("resolveProfile - 모델별 프로필 > 공용 프로필 > 전역 설정 순으로 병합")
+	void resolveProfile_mergesModelSharedAndGlobal() {
+		// given
+		geminiProperties.setTemperature(0.2);
+		geminiProperties.setProfiles(Map.of("fast", profile(2048, 0)));
+		modelConfig.setProfiles(Map.of("fast", profile(null, 128)));
+
+		// when
+		GeminiProperties.GenerationProfile resolved = worker.resolveProfile("fast");
+
+		// then
+		assertEquals(128, resolved.getThinkingBudget());
+		assertEquals(2048, resolved.getMaxOutputTokens());
+		assertEquals(0.2, resolved.getTemperature());
+		assertEquals(GeminiProperties.JSON_MIME_TYPE, resolved.getResponseMimeType());
+	}
+
+	@Test
+	@DisplayName("resolveProfile - 정의되지 않은 프로필은 default 프로필로 대체")
+	void resolveProfile_unknownFallsBackToDefault() {
+		// given
+		geminiProperties.setStructuredOutput(false);
+		geminiProperties.setProfiles(Map.of(GeminiProperties.DEFAULT_PROFILE, profile(4096, null)));
+
+		// when
+		GeminiProperties.GenerationProfile resolved = worker.resolveProfile("fast");
+
+		// then
+		assertEquals(4096, resolved.getMaxOutputTokens());
+		assertNull(resolved.getThinkingBudget());
+		assertNull(resolved.getResponseMimeType());
+	}
+
+	@Test
+	@DisplayName("resolveProfile - 모델별 프로필의 응답 MIME 타입은 무시하고 공용 프로필 기준 유지")
+	void resolveProfile_modelProfileCannotOverrideMimeType() {
+		// given
+		GeminiProperties.GenerationProfile plain = profile(null, null);
+		plain.setResponseMimeType("text/plain");
+		modelConfig.setProfiles(Map.of("fast", plain));
+		geminiProperties.setPurposeProfiles(Map.of("요약", "fast"));
+
+		// when
+		GeminiProperties.GenerationProfile resolved = worker.resolveProfile("fast");
+
+		// then
+		assertEquals(GeminiProperties.JSON_MIME_TYPE, resolved.getResponseMimeType());
+		assertTrue(geminiProperties.isStructuredOutput("요약"));
+	}
+
+	private static GeminiRequestOptions prefixed(PromptPrefix prefix) {
+		return GeminiRequestOptions.builder().prefix(prefix).build();
+	}
+
+	private static GeminiRequestOptions purpose(String purpose) {
+		return GeminiRequestOptions.builder().purpose(purpose).build();
+	}
+
+	private static GeminiProperties.GenerationProfile profile(Integer maxOutputTokens, Integer thinkingBudget) {
+		GeminiProperties.GenerationProfile profile = new GeminiProperties.GenerationProfile();
+		profile.setMaxOutputTokens(maxOutputTokens);
+		profile.setThinkingBudget(thinkingBudget);
+		return profile;
+	}
+}
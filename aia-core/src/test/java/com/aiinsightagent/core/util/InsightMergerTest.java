@@ -0,0 +1,74 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.model.InsightDetail;
+import com.aiinsightagent.core.model.IssueCategory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InsightMergerTest {
+
+	@Test
+	@DisplayName("merge - 단일 결과는 그대로 반환")
+	void merge_single_returnsSame() {
+		InsightDetail detail = InsightDetail.builder().summary("A").priorityScore(50).build();
+
+		assertSame(detail, InsightMerger.merge(List.of(detail)));
+	}
+
+	@Test
+	@DisplayName("merge - 카테고리는 최고 severity 유지 후 severity 내림차순, 목록은 순서 유지 중복 제거")
+	void merge_multiple_deterministic() {
+		// given
+		InsightDetail first = InsightDetail.builder()
+				.summary(" 전반 요약 ")
+				.issueCategories(List.of(
+						new IssueCategory("recovery", "회복 부족", "MEDIUM"),
+						new IssueCategory("pace", "페이스 저하", "LOW")))
+				.rootCauseInsights(List.of("수면 부족", " "))
+				.recommendedActions(List.of("휴식"))
+				.priorityScore(30)
+				.build();
+		InsightDetail second = InsightDetail.builder()
+				.summary("후반 요약")
+				.issueCategories(List.of(
+						new IssueCategory("PACE ", "페이스 급감", "HIGH"),
+						new IssueCategory("cadence", "케이던스", "LOW")))
+				.rootCauseInsights(List.of("과훈련", "수면 부족"))
+				.recommendedActions(List.of("휴식", "인터벌 축소"))
+				.priorityScore(70)
+				.build();
+
+		// when
+		InsightDetail merged = InsightMerger.merge(List.of(first, second));
+
+		// then
+		assertEquals("전반 요약 후반 요약", merged.getSummary());
+		assertEquals(List.of("PACE ", "recovery", "cadence"),
+				merged.getIssueCategories().stream().map(IssueCategory::getCategory).toList());
+		assertEquals("페이스 급감", merged.getIssueCategories().get(0).getDescription());
+		assertEquals(List.of("수면 부족", "과훈련"), merged.getRootCauseInsights());
+		assertEquals(List.of("휴식", "인터벌 축소"), merged.getRecommendedActions());
+		assertEquals(70, merged.getPriorityScore());
+	}
+
+	@Test
+	@DisplayName("merge - 입력 순서가 같으면 결과도 같음")
+	void merge_sameInput_sameOutput() {
+		List<InsightDetail> partials = List.of(
+				InsightDetail.builder().summary("A")
+						.issueCategories(List.of(new IssueCategory("x", "d1", "LOW"))).build(),
+				InsightDetail.builder().summary("B")
+						.issueCategories(List.of(new IssueCategory("x", "d2", "LOW"))).build());
+
+		InsightDetail first = InsightMerger.merge(partials);
+		InsightDetail second = InsightMerger.merge(partials);
+
+		assertEquals(first.getSummary(), second.getSummary());
+		assertEquals("d1", first.getIssueCategories().get(0).getDescription());
+		assertEquals("d1", second.getIssueCategories().get(0).getDescription());
+	}
+}
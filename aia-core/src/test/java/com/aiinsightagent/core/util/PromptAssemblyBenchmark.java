@@ -0,0 +1,104 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.config.PromptBudgetProperties;
+import com.aiinsightagent.core.config.PromptEncodingProperties;
+import com.aiinsightagent.core.model.prompt.FinalPrompt;
+import com.aiinsightagent.core.model.prompt.SystemPrompt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 최종 프롬프트 조립 요청당 할당량 비교 (ObjectMapper + FinalPrompt vs PromptJsonWriter)
+ * - 기본 test 에서 제외되며 benchmark 태스크로 실행
+ */
+@Tag("benchmark")
+class PromptAssemblyBenchmark {
+	private static final int WARMUP_ITERATIONS = 5_000;
+	private static final int MEASURE_ITERATIONS = 20_000;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("getCombinedPrompt - 요청당 할당 바이트/지연 비교")
+	void compareAllocationPerRequest() throws Exception {
+		com.sun.management.ThreadMXBean threadBean =
+				(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		assertTrue(threadBean.isThreadAllocatedMemorySupported());
+
+		PromptComposer composer = new PromptComposer(new PromptBudgetProperties() {
+		}, new PromptEncodingProperties() {
+		}, new SimpleMeterRegistry());
+
+		String context = "선호 페이스 5:30, 주 4회 러닝, 무릎 부상 이력\n".repeat(40);
+		System.out.printf("%8s | %14s | %14s | %10s | %10s%n",
+				"chars", "legacy B/op", "writer B/op", "legacy us", "writer us");
+
+		for (int items : new int[]{10, 100, 500}) {
+			StringBuilder userPrompt = new StringBuilder();
+			for (int i = 1; i <= items; i++) {
+				userPrompt.append("#").append(i).append("\nduration=").append(1800 + i)
+						.append("\nheartRate=").append(140 + i % 30).append("\n\n");
+			}
+			String user = userPrompt.toString();
+
+			// 두 방식의 결과가 같아야 비교 의미가 있음
+			assertEquals(legacy(SystemPrompt.MULTI_ITEM, context, user),
+					composer.getCombinedPrompt("analysis", SystemPrompt.MULTI_ITEM, context, user));
+
+			long[] legacyResult = measure(threadBean, () -> legacy(SystemPrompt.MULTI_ITEM, context, user));
+			long[] writerResult = measure(threadBean,
+					() -> composer.getCombinedPrompt("analysis", SystemPrompt.MULTI_ITEM, context, user));
+
+			System.out.printf("%8d | %14d | %14d | %10.2f | %10.2f%n",
+					user.length(), legacyResult[0], writerResult[0],
+					legacyResult[1] / 1_000.0, writerResult[1] / 1_000.0);
+
+			assertTrue(writerResult[0] < legacyResult[0]);
+		}
+	}
+
+	/**
+	 * 기존 조립 방식 - 시스템 프롬프트 문자열 결합 후 FinalPrompt 를 ObjectMapper 로 직렬화
+	 */
+	private String legacy(String systemPrompt, String context, String userPrompt) throws Exception {
+		return objectMapper.writeValueAsString(FinalPrompt.builder()
+				.purpose("analysis")
+				.systemPrompt(systemPrompt + "\n\n[CONTEXT]\n" + context)
+				.userPrompt(userPrompt)
+				.build());
+	}
+
+	/**
+	 * @return [요청당 할당 바이트, 요청당 나노초]
+	 */
+	private static long[] measure(com.sun.management.ThreadMXBean threadBean, Assembly assembly) throws Exception {
+		long sink = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink += assembly.run().length();
+		}
+
+		long threadId = Thread.currentThread().getId();
+		long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+			sink += assembly.run().length();
+		}
+		long elapsed = System.nanoTime() - start;
+		long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+		assertTrue(sink > 0);
+		return new long[]{allocated / MEASURE_ITERATIONS, elapsed / MEASURE_ITERATIONS};
+	}
+
+	@FunctionalInterface
+	private interface Assembly {
+		String run() throws Exception;
+	}
+}
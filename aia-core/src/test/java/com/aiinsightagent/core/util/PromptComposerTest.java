@@ -1,11 +1,20 @@
 package com.aiinsightagent.core.util;
 
+import com.aiinsightagent.core.config.PromptBudgetProperties;
+import com.aiinsightagent.core.config.PromptEncodingProperties;
+import com.aiinsightagent.core.exception.InsightError;
+import com.aiinsightagent.core.exception.InsightException;
+import com.aiinsightagent.core.model.prompt.PromptPrefix;
 import com.aiinsightagent.core.model.prompt.UserPrompt;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.aiinsightagent.core.model.prompt.UserPromptBlock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -14,11 +23,18 @@ import static org.junit.jupiter.api.Assertions.*;
 
 class PromptComposerTest {
 	private PromptComposer promptComposer;
+	private PromptBudgetProperties budgetProperties;
+	private PromptEncodingProperties encodingProperties;
+	private MeterRegistry meterRegistry;
 
 	@BeforeEach
 	void setUp() {
-		ObjectMapper objectMapper = new ObjectMapper();
-		promptComposer = new PromptComposer(objectMapper);
+		budgetProperties = new PromptBudgetProperties() {
+		};
+		encodingProperties = new PromptEncodingProperties() {
+		};
+		meterRegistry = new SimpleMeterRegistry();
+		promptComposer = new PromptComposer(budgetProperties, encodingProperties, meterRegistry);
 	}
 
 	@Test
@@ -102,4 +118,171 @@ class PromptComposerTest {
 		// then
 		assertEquals("#1\nvalue=100", result);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("getPromptPrefix - 시스템 프롬프트/컨텍스트는 prefix, 목적/유저 프롬프트는 body 로 분리")
+	void getPromptPrefix_splitsStablePrefix() {
+
+		// when
+		PromptPrefix result = promptComposer.getPromptPrefix(
+				"actor:user-1",
+				"INSIGHT_ANALYSIS",
+				"SYSTEM",
+				"CONTEXT",
+				"#1\nvalue=100"
+		);
+
+		// then
+		assertEquals("actor:user-1", result.getKey());
+		assertEquals("SYSTEM\n\n[CONTEXT]\nCONTEXT", result.getPrefix());
+		assertTrue(result.getBody().contains("\"purpose\":\"INSIGHT_ANALYSIS\""));
+		assertTrue(result.getBody().contains("\"userPrompt\":\"#1\\nvalue=100\""));
+		assertFalse(result.getBody().contains("systemPrompt"));
+		assertEquals(result.getPrefix().length(), promptComposer.getPromptPrefixLength("SYSTEM", "CONTEXT"));
+		assertEquals("SYSTEM".length(), promptComposer.getPromptPrefixLength("SYSTEM", " "));
+	}
+
+	private List<UserPrompt> runningPrompts(int count) {
+		List<UserPrompt> userPrompts = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Map<String, String> data = new LinkedHashMap<>();
+			data.put("distance", "5.0" + i);
+			data.put("heartRate", "150" + i);
+			userPrompts.add(UserPrompt.builder().dataKey("k" + i).data(data).build());
+		}
+		return userPrompts;
+	}
+
+	private DistributionSummary estimate(String outcome) {
+		return meterRegistry.get(PromptComposer.ESTIMATE_METRIC_NAME).tag("outcome", outcome).summary();
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts(purpose, ...) - 예산 이내면 전체 항목 결합 및 추정치 기록")
+	void getCombinedUserPrompts_withinBudget_combinesAll() {
+
+		// when
+		String result = promptComposer.getCombinedUserPrompts("running", "SYSTEM", null, runningPrompts(3));
+
+		// then
+		assertEquals(promptComposer.getCombinedUserPrompts(runningPrompts(3)), result);
+		assertEquals(1, estimate("accepted").count());
+		assertTrue(estimate("accepted").totalAmount() > 0);
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts(purpose, ...) - 목적별 예산 초과 시 PROMPT_BUDGET_EXCEEDED")
+	void getCombinedUserPrompts_overBudget_rejects() {
+
+		// given
+		budgetProperties.setPurposes(Map.of("running", 20));
+
+		// when & then
+		InsightException exception = assertThrows(InsightException.class,
+				() -> promptComposer.getCombinedUserPrompts("running", "SYSTEM", null, runningPrompts(5)));
+		assertEquals(InsightError.PROMPT_BUDGET_EXCEEDED, exception.getError());
+		assertEquals(1, estimate("rejected").count());
+
+		// 다른 목적은 기본 예산 적용
+		assertDoesNotThrow(() -> promptComposer.getCombinedUserPrompts("walking", "SYSTEM", null, runningPrompts(5)));
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts(purpose, ...) - TRUNCATE 설정 시 예산 안의 앞쪽 항목만 결정적으로 사용")
+	void getCombinedUserPrompts_overBudget_truncatesDeterministically() {
+
+		// given
+		budgetProperties.setPurposes(Map.of("running", 20));
+		budgetProperties.setOverflowPolicy(PromptBudgetProperties.OverflowPolicy.TRUNCATE);
+
+		// when
+		String first = promptComposer.getCombinedUserPrompts("running", "SYSTEM", null, runningPrompts(5));
+		String second = promptComposer.getCombinedUserPrompts("running", "SYSTEM", null, runningPrompts(5));
+
+		// then
+		assertEquals(first, second);
+		assertTrue(first.startsWith("#1\n"));
+		assertFalse(first.contains("#5"));
+		assertEquals(2, estimate("reduced").count());
+
+		UserPromptBlock block = promptComposer.getUserPromptBlock("running", "SYSTEM", null, runningPrompts(5), 1);
+		assertEquals(first, block.getText());
+		assertTrue(block.isTruncated());
+		assertEquals(5, block.getTotalItems());
+		assertEquals(5 - block.getIncludedItems(), block.getOmittedItems());
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts(purpose, ..., startIndex) - 청크 시작 위치부터 순번 부여")
+	void getCombinedUserPrompts_startIndex_numbersFromOffset() {
+
+		// when
+		String result = promptComposer.getUserPromptBlock("running", "SYSTEM", null, runningPrompts(2), 5).getText();
+
+		// then
+		assertTrue(result.startsWith("#5\n"));
+		assertTrue(result.contains("#6\n"));
+		assertFalse(result.contains("#1\n"));
+	}
+
+	private static UserPrompt session(String duration, String heartRate, String distance) {
+		Map<String, String> data = new LinkedHashMap<>();
+		data.put("duration", duration);
+		data.put("heartRate", heartRate);
+		data.put("distance", distance);
+		return UserPrompt.builder().data(data).build();
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts - TABULAR 목적은 헤더 한 줄 + 구분자 행으로 결합")
+	void getCombinedUserPrompts_tabular_sharedKeys() {
+
+		// given
+		encodingProperties.getPurposes().put("running", PromptEncodingProperties.Format.TABULAR);
+		List<UserPrompt> userPrompts = List.of(session("30", "150", "5.0"), session("45", "14|2", "7\n1"));
+
+		// when
+		String result = promptComposer.getCombinedUserPrompts("running", "system", null, userPrompts);
+
+		// then
+		assertEquals("#|duration|heartRate|distance\n1|30|150|5.0\n2|45|14\\|2|7\\n1", result);
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts - 키 구성이 다르거나 다른 목적이면 key=value 형식 유지")
+	void getCombinedUserPrompts_tabular_fallbackToKeyValue() {
+
+		// given
+		encodingProperties.getPurposes().put("running", PromptEncodingProperties.Format.TABULAR);
+		UserPrompt other = UserPrompt.builder().data(Map.of("pace", "5:30")).build();
+		List<UserPrompt> mixed = List.of(session("30", "150", "5.0"), other);
+		List<UserPrompt> shared = List.of(session("30", "150", "5.0"), session("45", "142", "7.1"));
+
+		// when
+		String mixedResult = promptComposer.getCombinedUserPrompts("running", "system", null, mixed);
+		String otherPurpose = promptComposer.getCombinedUserPrompts("report", "system", null, shared);
+
+		// then
+		assertEquals(promptComposer.getCombinedUserPrompts(mixed), mixedResult);
+		assertEquals(promptComposer.getCombinedUserPrompts(shared), otherPurpose);
+	}
+
+	@Test
+	@DisplayName("getCombinedUserPrompts - TABULAR 인코딩은 반복 키를 제거해 추정 토큰 수 감소")
+	void getCombinedUserPrompts_tabular_fewerTokens() {
+
+		// given
+		List<UserPrompt> userPrompts = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			userPrompts.add(session(String.valueOf(30 + i), String.valueOf(140 + i), "5." + i));
+		}
+		String keyValue = promptComposer.getCombinedUserPrompts("running", "system", null, userPrompts);
+		encodingProperties.setFormat(PromptEncodingProperties.Format.TABULAR);
+
+		// when
+		String tabular = promptComposer.getCombinedUserPrompts("running", "system", null, userPrompts);
+
+		// then
+		assertTrue(TokenEstimator.estimate(tabular) * 2 < TokenEstimator.estimate(keyValue));
+	}
+}
@@ -0,0 +1,88 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.config.PromptBudgetProperties;
+import com.aiinsightagent.core.config.PromptEncodingProperties;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KEY_VALUE / TABULAR 유저 프롬프트 인코딩 비교 (추정 토큰 수, 인코딩 지연)
+ * - 기본 test 에서 제외되며 benchmark 태스크로 실행
+ */
+@Tag("benchmark")
+class PromptEncodingBenchmark {
+	private static final String PURPOSE = "running_style_analysis";
+	private static final int WARMUP_ITERATIONS = 2_000;
+	private static final int MEASURE_ITERATIONS = 5_000;
+
+	@Test
+	@DisplayName("러닝 세션 데이터 - 항목 수별 KEY_VALUE 대비 TABULAR 토큰 수/지연 비교")
+	void compareEncodings() {
+		PromptEncodingProperties encodingProperties = new PromptEncodingProperties() {
+		};
+		PromptBudgetProperties budgetProperties = new PromptBudgetProperties() {
+		};
+		budgetProperties.setEnabled(false);
+		PromptComposer composer = new PromptComposer(budgetProperties, encodingProperties, new SimpleMeterRegistry());
+
+		System.out.printf("%6s | %10s | %10s | %6s | %12s | %12s%n",
+				"items", "kv tokens", "tab tokens", "ratio", "kv us/op", "tab us/op");
+
+		for (int items : new int[]{10, 50, 200}) {
+			List<UserPrompt> sessions = runningSessions(items);
+
+			encodingProperties.setFormat(PromptEncodingProperties.Format.KEY_VALUE);
+			int keyValueTokens = TokenEstimator.estimate(composer.getCombinedUserPrompts(PURPOSE, "", null, sessions));
+			double keyValueMicros = measure(composer, sessions);
+
+			encodingProperties.setFormat(PromptEncodingProperties.Format.TABULAR);
+			int tabularTokens = TokenEstimator.estimate(composer.getCombinedUserPrompts(PURPOSE, "", null, sessions));
+			double tabularMicros = measure(composer, sessions);
+
+			System.out.printf("%6d | %10d | %10d | %6.2f | %12.2f | %12.2f%n",
+					items, keyValueTokens, tabularTokens, (double) tabularTokens / keyValueTokens,
+					keyValueMicros, tabularMicros);
+
+			assertTrue(tabularTokens < keyValueTokens);
+		}
+	}
+
+	private static double measure(PromptComposer composer, List<UserPrompt> sessions) {
+		long sink = 0;
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			sink += composer.getCombinedUserPrompts(PURPOSE, "", null, sessions).length();
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+			sink += composer.getCombinedUserPrompts(PURPOSE, "", null, sessions).length();
+		}
+		long elapsed = System.nanoTime() - start;
+
+		assertTrue(sink > 0);
+		return elapsed / 1_000.0 / MEASURE_ITERATIONS;
+	}
+
+	private static List<UserPrompt> runningSessions(int count) {
+		List<UserPrompt> sessions = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			Map<String, String> data = new LinkedHashMap<>();
+			data.put("duration", String.valueOf(1800 + i * 7));
+			data.put("heartRate", String.valueOf(140 + i % 30));
+			data.put("distance", String.format("%.2f", 5.0 + (i % 10) * 0.37));
+			data.put("stepCount", String.valueOf(5200 + i * 13));
+			sessions.add(UserPrompt.builder().dataKey("session-" + i).data(data).build());
+		}
+		return sessions;
+	}
+}
@@ -0,0 +1,67 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.model.prompt.FinalPrompt;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PromptJsonWriterTest {
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private String jackson(String purpose, String systemPrompt, String userPrompt) throws Exception {
+		return objectMapper.writeValueAsString(FinalPrompt.builder()
+				.purpose(purpose)
+				.systemPrompt(systemPrompt)
+				.userPrompt(userPrompt)
+				.build());
+	}
+
+	@Test
+	@DisplayName("write - 따옴표/역슬래시/제어문자/한글 이스케이프가 ObjectMapper 결과와 동일")
+	void write_sameAsObjectMapper() throws Exception {
+		// given
+		String purpose = "running \"style\"";
+		String systemPrompt = "JSON만 반환.\n\t규칙: C:\\temp\r\n";
+		String userPrompt = "#1\nduration=30\u0001\b\f/\u2028끝";
+
+		// when
+		String written = PromptJsonWriter.write(purpose, systemPrompt, null, userPrompt);
+
+		// then
+		assertEquals(jackson(purpose, systemPrompt, userPrompt), written);
+	}
+
+	@Test
+	@DisplayName("write - 컨텍스트는 [CONTEXT] 구분자로 시스템 프롬프트에 이어서 기록")
+	void write_withContext() throws Exception {
+		// when
+		String written = PromptJsonWriter.write("p", "system", "선호 페이스 5:30", "#1\na=1");
+
+		// then
+		assertEquals(jackson("p", "system\n\n[CONTEXT]\n선호 페이스 5:30", "#1\na=1"), written);
+	}
+
+	@Test
+	@DisplayName("write - null 필드는 생략 (NON_NULL)")
+	void write_omitsNullFields() throws Exception {
+		assertEquals(jackson("p", null, "u"), PromptJsonWriter.write("p", null, " ", "u"));
+		assertEquals(jackson(null, "s", null), PromptJsonWriter.write(null, "s", null, null));
+		assertEquals("{}", PromptJsonWriter.write(null, null, null, null));
+	}
+
+	@Test
+	@DisplayName("write - 대용량 작성 이후에도 이전 내용이 남지 않음")
+	void write_reusesBufferWithoutLeftovers() {
+		// given
+		String large = "x".repeat(300 * 1024);
+
+		// when
+		PromptJsonWriter.write("p", "s", null, large);
+		String small = PromptJsonWriter.write("p", "s", null, "u");
+
+		// then
+		assertEquals("{\"purpose\":\"p\",\"systemPrompt\":\"s\",\"userPrompt\":\"u\"}", small);
+	}
+}
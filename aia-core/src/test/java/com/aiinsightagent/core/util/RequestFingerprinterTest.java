@@ -0,0 +1,100 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.config.FingerprintProperties;
+import com.aiinsightagent.core.model.prompt.UserPrompt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestFingerprinterTest {
+	private FingerprintProperties fingerprintProperties;
+	private RequestFingerprinter fingerprinter;
+
+	@BeforeEach
+	void setUp() {
+		fingerprintProperties = new FingerprintProperties() {
+		};
+		fingerprinter = new RequestFingerprinter(fingerprintProperties);
+	}
+
+	private UserPrompt prompt(String dataKey, String... keyValues) {
+		Map<String, String> data = new LinkedHashMap<>();
+		for (int i = 0; i < keyValues.length; i += 2) {
+			data.put(keyValues[i], keyValues[i + 1]);
+		}
+		return UserPrompt.builder().dataKey(dataKey).data(data).build();
+	}
+
+	@Test
+	@DisplayName("fingerprint - data 키 순서만 다른 요청은 같은 지문")
+	void fingerprint_keyOrderIgnored() {
+		String a = fingerprinter.fingerprint("running", List.of(prompt("k1", "distance", "5.0", "pace", "6:10")));
+		String b = fingerprinter.fingerprint("running", List.of(prompt("k1", "pace", "6:10", "distance", "5.0")));
+
+		assertEquals(a, b);
+		assertEquals(64, a.length());
+	}
+
+	@Test
+	@DisplayName("fingerprint - 숫자 표기만 다른 값은 같은 지문")
+	void fingerprint_numericNormalized() {
+		String a = fingerprinter.fingerprint("running", List.of(prompt("k1", "distance", "10.50", "steps", "1e3")));
+		String b = fingerprinter.fingerprint("running", List.of(prompt("k1", "distance", " 10.5", "steps", "1000")));
+
+		assertEquals(a, b);
+		assertEquals("0", RequestFingerprinter.normalizeValue("-0.00"));
+		assertEquals("6:10", RequestFingerprinter.normalizeValue("6:10"));
+	}
+
+	@Test
+	@DisplayName("fingerprint - 목적/값이 다르면 다른 지문")
+	void fingerprint_differentContent() {
+		List<UserPrompt> prompts = List.of(prompt("k1", "distance", "5"));
+
+		assertNotEquals(fingerprinter.fingerprint("running", prompts), fingerprinter.fingerprint("walking", prompts));
+		assertNotEquals(fingerprinter.fingerprint("running", prompts),
+				fingerprinter.fingerprint("running", List.of(prompt("k1", "distance", "5.1"))));
+	}
+
+	@Test
+	@DisplayName("fingerprint - 구분자가 포함된 값도 모호하지 않음")
+	void fingerprint_unambiguousTokens() {
+		String a = fingerprinter.fingerprint("p", List.of(prompt("k1", "a", "b", "c", "d")));
+		String b = fingerprinter.fingerprint("p", List.of(prompt("k1", "a", "b3:c1:d")));
+
+		assertNotEquals(a, b);
+	}
+
+	@Test
+	@DisplayName("fingerprint - dataKey는 프롬프트에 포함되지 않으므로 지문에서 제외")
+	void fingerprint_dataKeyIgnored() {
+		assertEquals(
+				fingerprinter.fingerprint("running", List.of(prompt("session-1", "distance", "5"))),
+				fingerprinter.fingerprint("running", List.of(prompt("session-2", "distance", "5"))));
+	}
+
+	@Test
+	@DisplayName("fingerprint - 목록 순서는 기본적으로 구분하고 설정 시 무시")
+	void fingerprint_orderInsensitiveOption() {
+		List<UserPrompt> forward = List.of(prompt("k1", "distance", "5"), prompt("k2", "distance", "7"));
+		List<UserPrompt> reversed = List.of(prompt("k2", "distance", "7"), prompt("k1", "distance", "5"));
+
+		assertNotEquals(fingerprinter.fingerprint("running", forward), fingerprinter.fingerprint("running", reversed));
+
+		fingerprintProperties.setOrderInsensitive(true);
+
+		assertEquals(fingerprinter.fingerprint("running", forward), fingerprinter.fingerprint("running", reversed));
+	}
+
+	@Test
+	@DisplayName("fingerprint - 지수가 매우 큰 숫자도 확장하지 않고 처리")
+	void fingerprint_hugeExponent() {
+		assertEquals("1E+999", RequestFingerprinter.normalizeValue("1e999"));
+	}
+}
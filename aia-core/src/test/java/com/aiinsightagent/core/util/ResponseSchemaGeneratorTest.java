@@ -0,0 +1,58 @@
+package com.aiinsightagent.core.util;
+
+import com.aiinsightagent.core.model.InsightDetail;
+import com.google.genai.types.Schema;
+import com.google.genai.types.Type;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResponseSchemaGeneratorTest {
+
+	@Test
+	@DisplayName("of - InsightDetail 필드 순서대로 모든 필드 필수 OBJECT 스키마 생성")
+	void of_insightDetail_objectSchema() {
+		// when
+		Schema schema = ResponseSchemaGenerator.of(InsightDetail.class);
+
+		// then
+		List<String> fields = List.of("summary", "issueCategories", "rootCauseInsights", "recommendedActions",
+				"priorityScore");
+		assertEquals(Type.Known.OBJECT, schema.type().orElseThrow().knownEnum());
+		assertEquals(fields, schema.propertyOrdering().orElseThrow());
+		assertEquals(fields, schema.required().orElseThrow());
+
+		Map<String, Schema> properties = schema.properties().orElseThrow();
+		assertEquals(Type.Known.STRING, properties.get("summary").type().orElseThrow().knownEnum());
+		assertEquals(Type.Known.INTEGER, properties.get("priorityScore").type().orElseThrow().knownEnum());
+		assertEquals(1.0, properties.get("priorityScore").minimum().orElseThrow());
+		assertEquals(100.0, properties.get("priorityScore").maximum().orElseThrow());
+		assertEquals(1L, properties.get("rootCauseInsights").minItems().orElseThrow());
+	}
+
+	@Test
+	@DisplayName("of - 중첩 IssueCategory 는 severity 허용값이 지정된 배열 항목 스키마로 생성")
+	void of_nestedIssueCategory_enumSeverity() {
+		// when
+		Schema issueCategories = ResponseSchemaGenerator.of(InsightDetail.class)
+				.properties().orElseThrow()
+				.get("issueCategories");
+
+		// then
+		assertEquals(Type.Known.ARRAY, issueCategories.type().orElseThrow().knownEnum());
+		Schema item = issueCategories.items().orElseThrow();
+		assertEquals(List.of("category", "description", "severity"), item.required().orElseThrow());
+		assertEquals(List.of("HIGH", "MEDIUM", "LOW"),
+				item.properties().orElseThrow().get("severity").enum_().orElseThrow());
+	}
+
+	@Test
+	@DisplayName("of - 같은 클래스는 캐시된 스키마 반환")
+	void of_cached() {
+		assertSame(ResponseSchemaGenerator.of(InsightDetail.class), ResponseSchemaGenerator.of(InsightDetail.class));
+	}
+}
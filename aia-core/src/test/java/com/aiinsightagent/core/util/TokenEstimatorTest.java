@@ -0,0 +1,26 @@
+package com.aiinsightagent.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenEstimatorTest {
+
+	@Test
+	@DisplayName("estimate - ASCII 4자당 1토큰 (올림)")
+	void estimate_ascii() {
+		assertEquals(0, TokenEstimator.estimate(null));
+		assertEquals(0, TokenEstimator.estimate(""));
+		assertEquals(1, TokenEstimator.estimate("abcd"));
+		assertEquals(2, TokenEstimator.estimate("abcde"));
+	}
+
+	@Test
+	@DisplayName("estimate - 한글/이모지 등 비 ASCII 문자는 1자당 1토큰")
+	void estimate_nonAscii() {
+		assertEquals(3, TokenEstimator.estimate("러닝머"));
+		assertEquals(1, TokenEstimator.estimate("\uD83C\uDFC3"));
+		assertEquals(4, TokenEstimator.estimate("러닝 pace"));
+	}
+}